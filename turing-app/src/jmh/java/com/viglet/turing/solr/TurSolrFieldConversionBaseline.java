@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.solr;
+
+import static com.viglet.turing.solr.TurSolrConstants.TURING_ENTITY;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.solr.common.SolrInputDocument;
+
+import com.viglet.turing.commons.se.field.TurSEFieldType;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteField;
+
+/**
+ * Conversion of a document as {@code TurSolrDocumentHandler} did it before
+ * {@link TurSolrFieldPlan}: the fields of the site are copied into a map for every
+ * document, as {@code TurSNSiteFieldService.toMap} did after reading them, and each
+ * attribute goes through the type switches, the decimal normalizer and the currency
+ * regex. Only the attribute types of {@link TurSolrFieldPlanBenchmark} are kept.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+class TurSolrFieldConversionBaseline {
+    private final List<TurSNSiteField> turSNSiteFields;
+    private final TurDecimalFieldNormalizer turDecimalFieldNormalizer;
+
+    TurSolrFieldConversionBaseline(List<TurSNSiteField> turSNSiteFields,
+            TurDecimalFieldNormalizer turDecimalFieldNormalizer) {
+        this.turSNSiteFields = turSNSiteFields;
+        this.turDecimalFieldNormalizer = turDecimalFieldNormalizer;
+    }
+
+    SolrInputDocument convert(Map<String, Object> attributes) {
+        Map<String, TurSNSiteField> turSNSiteFieldMap = toMap();
+        SolrInputDocument document = new SolrInputDocument();
+        attributes.forEach((key, value) -> processAttribute(turSNSiteFieldMap, document, key, value));
+        return document;
+    }
+
+    private Map<String, TurSNSiteField> toMap() {
+        Map<String, TurSNSiteField> turSNSiteFieldsMap = new HashMap<>();
+        for (TurSNSiteField turSNSiteField : turSNSiteFields)
+            turSNSiteFieldsMap.put(turSNSiteField.getName(), turSNSiteField);
+        return turSNSiteFieldsMap;
+    }
+
+    private void processAttribute(Map<String, TurSNSiteField> turSNSiteFieldMap,
+            SolrInputDocument document, String key, Object attribute) {
+        Optional.ofNullable(attribute).ifPresent(attr -> {
+            TurSNSiteField turSNSiteField = turSNSiteFieldMap.get(key);
+            TurSEFieldType fieldType = Optional.ofNullable(turSNSiteField)
+                    .map(TurSNSiteField::getType)
+                    .orElse(null);
+            if (turDecimalFieldNormalizer.isDecimalFieldType(fieldType)) {
+                addDecimalValue(document, key, attr, fieldType);
+                return;
+            }
+            switch (attr) {
+                case Integer integer -> document.addField(key, integer);
+                case ArrayList<?> arrayList -> processArrayList(turSNSiteFieldMap, document, key,
+                        arrayList);
+                default -> document.addField(key, TurSolrField.convertFieldToString(attribute));
+            }
+        });
+    }
+
+    private void addDecimalValue(SolrInputDocument document, String key, Object value,
+            TurSEFieldType fieldType) {
+        if (fieldType == TurSEFieldType.CURRENCY) {
+            String rawCurrency = TurSolrField.convertFieldToString(value);
+            document.addField(key.concat(TurSolrUtils.CURRENCY_TXT_SUFFIX), rawCurrency);
+            toSolrCurrencyValue(rawCurrency).ifPresent(currency -> document.addField(key, currency));
+            return;
+        }
+        turDecimalFieldNormalizer.normalizeNumericValue(fieldType, value)
+                .ifPresent(normalizedValue -> document.addField(key, normalizedValue));
+    }
+
+    private Optional<String> toSolrCurrencyValue(String rawCurrency) {
+        String normalizedCurrency = rawCurrency.trim();
+        int separatorIndex = normalizedCurrency.lastIndexOf(',');
+        if (separatorIndex <= 0 || separatorIndex == normalizedCurrency.length() - 1) {
+            return Optional.empty();
+        }
+        String amountPart = normalizedCurrency.substring(0, separatorIndex).trim();
+        String currencyCode = normalizedCurrency.substring(separatorIndex + 1).trim()
+                .toUpperCase(Locale.ROOT);
+        if (!currencyCode.matches("^[A-Z]{3}$")) {
+            return Optional.empty();
+        }
+        return turDecimalFieldNormalizer.normalizeCanonicalDecimal(amountPart)
+                .map(amount -> String.format("%s,%s", amount, currencyCode));
+    }
+
+    private void processArrayList(Map<String, TurSNSiteField> turSNSiteFieldMap,
+            SolrInputDocument document, String key, List<?> values) {
+        TurSNSiteField turSNSiteField = turSNSiteFieldMap.get(key);
+        if (key.startsWith(TURING_ENTITY)
+                || (turSNSiteField != null && turSNSiteField.getMultiValued() == 1)) {
+            for (Object valueItem : values) {
+                document.addField(key, TurSolrField.convertFieldToString(valueItem));
+            }
+        } else {
+            StringBuilder sb = new StringBuilder();
+            int i = 0;
+            for (Object valueItem : values) {
+                sb.append(TurSolrField.convertFieldToString(valueItem));
+                if (i++ != values.size() - 1)
+                    sb.append(System.lineSeparator());
+            }
+            document.addField(key, sb.toString().trim());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.solr;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.solr.common.SolrInputDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.viglet.turing.commons.se.field.TurSEFieldType;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteField;
+import com.viglet.turing.system.TurGlobalDecimalSeparator;
+import com.viglet.turing.system.TurGlobalSettingsService;
+
+/**
+ * Documents per second converted to Solr documents: with the type switches used before
+ * the field plans ({@link TurSolrFieldConversionBaseline}), compiling the field plan for
+ * every document, or reusing the compiled plan. None of them counts the repository read
+ * of the fields that the switches did for every document.
+ * <p>
+ * Run with the {@code benchmark} profile:
+ *
+ * <pre>
+ * mvn -P benchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args=TurSolrFieldPlanBenchmark
+ * </pre>
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TurSolrFieldPlanBenchmark {
+    private static final int FIELDS = 40;
+    private Map<String, TurSNSiteField> turSNSiteFields;
+    private Map<String, Object> attributes;
+    private TurDecimalFieldNormalizer turDecimalFieldNormalizer;
+    private TurSolrFieldPlan turSolrFieldPlan;
+    private TurSolrFieldConversionBaseline baseline;
+
+    @Setup
+    public void setUp() {
+        turDecimalFieldNormalizer = new TurDecimalFieldNormalizer(new TurGlobalSettingsService(null) {
+            @Override
+            public TurGlobalDecimalSeparator getDecimalSeparator() {
+                return TurGlobalDecimalSeparator.DOT;
+            }
+        });
+        turSNSiteFields = new HashMap<>();
+        attributes = new HashMap<>();
+        for (int i = 0; i < FIELDS; i++) {
+            String name = "field" + i;
+            switch (i % 4) {
+                case 0 -> {
+                    turSNSiteFields.put(name, field(name, TurSEFieldType.STRING, 0));
+                    attributes.put(name, "value " + i);
+                }
+                case 1 -> {
+                    turSNSiteFields.put(name, field(name, TurSEFieldType.STRING, 1));
+                    attributes.put(name, new ArrayList<>(List.of("a" + i, "b" + i, "c" + i)));
+                }
+                case 2 -> {
+                    turSNSiteFields.put(name, field(name, TurSEFieldType.FLOAT, 0));
+                    attributes.put(name, "1,234." + i);
+                }
+                default -> {
+                    turSNSiteFields.put(name, field(name, TurSEFieldType.CURRENCY, 0));
+                    attributes.put(name, i + ".50,USD");
+                }
+            }
+        }
+        turSolrFieldPlan = TurSolrFieldPlan.compile(1, turSNSiteFields, turDecimalFieldNormalizer);
+        baseline = new TurSolrFieldConversionBaseline(new ArrayList<>(turSNSiteFields.values()),
+                turDecimalFieldNormalizer);
+    }
+
+    @Benchmark
+    public SolrInputDocument toMapAndSwitch() {
+        return baseline.convert(attributes);
+    }
+
+    @Benchmark
+    public SolrInputDocument compiledPerDocument() {
+        return convert(TurSolrFieldPlan.compile(1, new HashMap<>(turSNSiteFields),
+                turDecimalFieldNormalizer));
+    }
+
+    @Benchmark
+    public SolrInputDocument cachedPlan() {
+        return convert(turSolrFieldPlan);
+    }
+
+    private SolrInputDocument convert(TurSolrFieldPlan plan) {
+        SolrInputDocument document = new SolrInputDocument();
+        attributes.forEach((key, value) -> plan.addField(document, key, value));
+        return document;
+    }
+
+    private static TurSNSiteField field(String name, TurSEFieldType type, int multiValued) {
+        return TurSNSiteField.builder().name(name).type(type).multiValued(multiValued).build();
+    }
+}
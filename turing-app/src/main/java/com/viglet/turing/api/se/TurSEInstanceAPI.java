@@ -18,6 +18,7 @@ package com.viglet.turing.api.se;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,6 +42,7 @@ import com.viglet.turing.persistence.repository.se.TurSEInstanceRepository;
 import com.viglet.turing.se.result.TurSEResults;
 import com.viglet.turing.solr.TurSolr;
 import com.viglet.turing.solr.TurSolrInstanceProcess;
+import com.viglet.turing.solr.TurSolrRoutingEvent;
 import com.viglet.turing.spring.utils.TurPersistenceUtils;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -54,14 +56,17 @@ public class TurSEInstanceAPI {
         private final TurSEInstanceMapper turSEInstanceMapper;
         private final TurSolrInstanceProcess turSolrInstanceProcess;
         private final TurSolr turSolr;
+        private final ApplicationEventPublisher applicationEventPublisher;
 
         public TurSEInstanceAPI(TurSEInstanceRepository turSEInstanceRepository,
                         TurSEInstanceMapper turSEInstanceMapper,
-                        TurSolrInstanceProcess turSolrInstanceProcess, TurSolr turSolr) {
+                        TurSolrInstanceProcess turSolrInstanceProcess, TurSolr turSolr,
+                        ApplicationEventPublisher applicationEventPublisher) {
                 this.turSEInstanceRepository = turSEInstanceRepository;
                 this.turSEInstanceMapper = turSEInstanceMapper;
                 this.turSolrInstanceProcess = turSolrInstanceProcess;
                 this.turSolr = turSolr;
+                this.applicationEventPublisher = applicationEventPublisher;
         }
 
         @Operation(summary = "Search Engine List")
@@ -101,6 +106,7 @@ public class TurSEInstanceAPI {
                         turSEInstanceEdit.setPort(turSEInstance.getPort());
                         turSEInstanceEdit.setEnabled(turSEInstance.getEnabled());
                         this.turSEInstanceRepository.save(turSEInstanceEdit);
+                        applicationEventPublisher.publishEvent(new TurSolrRoutingEvent("Search Engine " + id));
                         return turSEInstanceMapper.toDto(turSEInstanceEdit);
                 }).orElse(new TurSEInstanceDto());
 
@@ -111,6 +117,7 @@ public class TurSEInstanceAPI {
         @DeleteMapping("/{id}")
         public boolean turSEInstanceDelete(@PathVariable String id) {
                 this.turSEInstanceRepository.delete(id);
+                applicationEventPublisher.publishEvent(new TurSolrRoutingEvent("Search Engine " + id));
                 return true;
         }
 
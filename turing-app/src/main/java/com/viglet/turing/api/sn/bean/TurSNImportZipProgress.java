@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.bean;
+
+import com.viglet.turing.sn.extract.TurSNFileExtractionStatus;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Progress of a zip import: the text extraction of its files and, once it is done,
+ * whether the job items were sent to the indexing queue.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Getter
+public class TurSNImportZipProgress {
+    private final String jobId;
+    private final int files;
+    private int extracted;
+    private int cached;
+    private int skipped;
+    private int failed;
+    private int timedOut;
+    @Setter
+    private boolean done;
+    @Setter
+    private boolean sent;
+
+    public TurSNImportZipProgress(String jobId, int files) {
+        this.jobId = jobId;
+        this.files = files;
+    }
+
+    public int getCompleted() {
+        return extracted + cached + skipped + failed + timedOut;
+    }
+
+    public void add(TurSNFileExtractionStatus status) {
+        switch (status) {
+            case EXTRACTED -> extracted++;
+            case CACHED -> cached++;
+            case SKIPPED -> skipped++;
+            case FAILED -> failed++;
+            case TIMED_OUT -> timedOut++;
+        }
+    }
+}
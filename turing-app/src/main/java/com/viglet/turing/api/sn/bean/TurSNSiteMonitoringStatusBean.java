@@ -35,4 +35,5 @@ import lombok.Setter;
 public class TurSNSiteMonitoringStatusBean {
 	private int queue;
 	private int documents;
+	private double docsPerSecond;
 }
@@ -43,6 +43,8 @@ import com.viglet.turing.persistence.model.sn.ranking.TurSNRankingExpression;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingConditionRepository;
 import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingExpressionRepository;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfigRegistry;
+import com.viglet.turing.sn.search.TurSNSearchCache;
 import com.viglet.turing.spring.utils.TurPersistenceUtils;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -61,15 +63,21 @@ public class TurSNRankingExpressionAPI {
     private final TurSNRankingExpressionRepository turSNRankingExpressionRepository;
     private final TurSNRankingConditionRepository turSNRankingConditionRepository;
     private final TurSNRankingExpressionMapper turSNRankingExpressionMapper;
+    private final TurSNSiteSearchConfigRegistry turSNSiteSearchConfigRegistry;
+    private final TurSNSearchCache turSNSearchCache;
 
     public TurSNRankingExpressionAPI(TurSNSiteRepository turSNSiteRepository,
             TurSNRankingExpressionRepository turSNRankingExpressionRepository,
             TurSNRankingConditionRepository turSNRankingConditionRepository,
-            TurSNRankingExpressionMapper turSNRankingExpressionMapper) {
+            TurSNRankingExpressionMapper turSNRankingExpressionMapper,
+            TurSNSiteSearchConfigRegistry turSNSiteSearchConfigRegistry,
+            TurSNSearchCache turSNSearchCache) {
         this.turSNSiteRepository = turSNSiteRepository;
         this.turSNRankingExpressionRepository = turSNRankingExpressionRepository;
         this.turSNRankingConditionRepository = turSNRankingConditionRepository;
         this.turSNRankingExpressionMapper = turSNRankingExpressionMapper;
+        this.turSNSiteSearchConfigRegistry = turSNSiteSearchConfigRegistry;
+        this.turSNSearchCache = turSNSearchCache;
     }
 
     @Operation(summary = "Semantic Navigation Ranking Expression List")
@@ -126,6 +134,8 @@ public class TurSNRankingExpressionAPI {
         }
         turSNRankingExpressionEdit.setTurSNRankingConditions(set);
         turSNRankingExpressionRepository.save(turSNRankingExpressionEdit);
+        turSNSiteSearchConfigRegistry.invalidate(turSNRankingExpressionEdit.getTurSNSite());
+        turSNSearchCache.invalidate(turSNRankingExpressionEdit.getTurSNSite().getName());
         return turSNRankingExpressionEdit;
     }
 
@@ -137,6 +147,8 @@ public class TurSNRankingExpressionAPI {
     public boolean turSNRankingExpressionDelete(@PathVariable String id, @PathVariable String snSiteId) {
         return turSNSiteRepository.findById(snSiteId).map(site -> {
             turSNRankingExpressionRepository.deleteById(id);
+            turSNSiteSearchConfigRegistry.invalidate(site);
+            turSNSearchCache.invalidate(site.getName());
             return true;
         })
                 .orElse(false);
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.http.MediaType;
 import org.springframework.transaction.annotation.Transactional;
@@ -54,10 +55,13 @@ import com.viglet.turing.persistence.repository.sn.genai.TurSNSiteGenAiRepositor
 import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
 import com.viglet.turing.properties.TurConfigProperties;
 import com.viglet.turing.sn.TurSNQueue;
+import com.viglet.turing.sn.checksum.TurSNIndexChecksumService;
 import com.viglet.turing.sn.template.TurSNTemplate;
 import com.viglet.turing.solr.TurSolr;
 import com.viglet.turing.solr.TurSolrInstance;
 import com.viglet.turing.solr.TurSolrInstanceProcess;
+import com.viglet.turing.solr.TurSolrRoutingEvent;
+import com.viglet.turing.solr.TurSolrSpellChecker;
 import com.viglet.turing.solr.TurSolrUtils;
 import com.viglet.turing.spring.utils.TurPersistenceUtils;
 
@@ -84,6 +88,9 @@ public class TurSNSiteAPI {
     private final TurSolr turSolr;
     private final TurConfigProperties turConfigProperties;
     private final TurSNSiteMapper turSNSiteMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TurSNIndexChecksumService turSNIndexChecksumService;
+    private final TurSolrSpellChecker turSolrSpellChecker;
 
     @Operation(summary = "Semantic Navigation Site List")
     @GetMapping
@@ -120,6 +127,8 @@ public class TurSNSiteAPI {
     public TurSNSiteDto turSNSiteUpdate(@PathVariable String id, @RequestBody TurSNSiteDto turSNSiteDto) {
         TurSNSite turSNSite = turSNSiteMapper.toEntity(turSNSiteDto);
         return this.turSNSiteRepository.findById(id).map(turSNSiteEdit -> {
+            // The corrections are kept by site name, so a renamed site drops the old ones.
+            turSolrSpellChecker.invalidate(turSNSiteEdit.getName());
             turSNSiteEdit.setName(turSNSite.getName());
             turSNSiteEdit.setDescription(turSNSite.getDescription());
             turSNSiteEdit.setTurSEInstance(turSNSite.getTurSEInstance());
@@ -159,6 +168,7 @@ public class TurSNSiteAPI {
                 turSNSiteEdit.setTurSNSiteGenAi(turSNSiteGenAi);
             });
             turSNSiteRepository.save(turSNSiteEdit);
+            applicationEventPublisher.publishEvent(new TurSolrRoutingEvent("SN Site " + id));
             return turSNSiteMapper.toDto(turSNSiteEdit);
         }).orElse(new TurSNSiteDto());
 
@@ -182,6 +192,10 @@ public class TurSNSiteAPI {
             turSNSiteRepository.flush();
             turSNSiteRepository.delete(site);
             Optional.ofNullable(genAi).ifPresent(turSNSiteGenAiRepository::delete);
+            turSNIndexChecksumService.clear(site);
+            turSNQueue.removeSite(site.getName());
+            turSolrSpellChecker.invalidate(site.getName());
+            applicationEventPublisher.publishEvent(new TurSolrRoutingEvent("SN Site " + id));
         });
 
         return true;
@@ -228,6 +242,7 @@ public class TurSNSiteAPI {
         return this.turSNSiteRepository.findById(id).map(turSNSite -> {
             TurSNSiteMonitoringStatusBean turSNSiteMonitoringStatusBean = new TurSNSiteMonitoringStatusBean();
             turSNSiteMonitoringStatusBean.setQueue(turSNQueue.getQueueSize());
+            turSNSiteMonitoringStatusBean.setDocsPerSecond(turSNQueue.getDocsPerSecond(turSNSite.getName()));
             long documentTotal = 0L;
             for (TurSNSiteLocale turSNSiteLocale : turSNSiteLocaleRepository
                     .findByTurSNSite(TurPersistenceUtils.orderByLanguageIgnoreCase(), turSNSite)) {
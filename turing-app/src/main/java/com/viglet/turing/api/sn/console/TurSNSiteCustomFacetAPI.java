@@ -58,6 +58,8 @@ import com.viglet.turing.persistence.model.sn.field.TurSNSiteFacetFieldEnum;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfigRegistry;
+import com.viglet.turing.sn.search.TurSNSearchCache;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -75,11 +77,17 @@ public class TurSNSiteCustomFacetAPI {
 
     private final TurSNSiteRepository turSNSiteRepository;
     private final TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
+    private final TurSNSiteSearchConfigRegistry turSNSiteSearchConfigRegistry;
+    private final TurSNSearchCache turSNSearchCache;
 
     public TurSNSiteCustomFacetAPI(TurSNSiteRepository turSNSiteRepository,
-            TurSNSiteFieldExtRepository turSNSiteFieldExtRepository) {
+            TurSNSiteFieldExtRepository turSNSiteFieldExtRepository,
+            TurSNSiteSearchConfigRegistry turSNSiteSearchConfigRegistry,
+            TurSNSearchCache turSNSearchCache) {
         this.turSNSiteRepository = turSNSiteRepository;
         this.turSNSiteFieldExtRepository = turSNSiteFieldExtRepository;
+        this.turSNSiteSearchConfigRegistry = turSNSiteSearchConfigRegistry;
+        this.turSNSearchCache = turSNSearchCache;
     }
 
     @Operation(summary = "Semantic Navigation Site Custom Facet List")
@@ -118,6 +126,8 @@ public class TurSNSiteCustomFacetAPI {
         targetField.setCustomFacets(customFacets);
 
         TurSNSiteFieldExt savedField = turSNSiteFieldExtRepository.save(targetField);
+        turSNSiteSearchConfigRegistry.invalidate(turSNSite);
+        turSNSearchCache.invalidate(turSNSite.getName());
         TurSNSiteCustomFacet savedFacet = Optional.ofNullable(savedField.getCustomFacets())
                 .orElse(Set.of())
                 .stream()
@@ -156,6 +166,8 @@ public class TurSNSiteCustomFacetAPI {
             targetField.setCustomFacets(targetFacets);
 
             TurSNSiteFieldExt savedTargetField = turSNSiteFieldExtRepository.save(targetField);
+            turSNSiteSearchConfigRegistry.invalidate(turSNSite);
+            turSNSearchCache.invalidate(turSNSite.getName());
             return Optional.ofNullable(savedTargetField.getCustomFacets())
                     .orElse(Set.of())
                     .stream()
@@ -169,6 +181,8 @@ public class TurSNSiteCustomFacetAPI {
                 Optional.ofNullable(sourceField.getCustomFacets()).orElse(Set.of()));
         sourceField.setCustomFacets(sourceFacets);
         TurSNSiteFieldExt savedSourceField = turSNSiteFieldExtRepository.save(sourceField);
+        turSNSiteSearchConfigRegistry.invalidate(turSNSite);
+        turSNSearchCache.invalidate(turSNSite.getName());
 
         return Optional.ofNullable(savedSourceField.getCustomFacets())
                 .orElse(Set.of())
@@ -195,6 +209,8 @@ public class TurSNSiteCustomFacetAPI {
                 .collect(Collectors.toSet()));
 
         turSNSiteFieldExtRepository.save(fieldExt);
+        turSNSiteSearchConfigRegistry.invalidate(turSNSite);
+        turSNSearchCache.invalidate(turSNSite.getName());
         return true;
     }
 
@@ -43,7 +43,9 @@ import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
 import com.viglet.turing.sn.TurSNFieldProcess;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfigRegistry;
 import com.viglet.turing.sn.facet.TurSNFacetDefinition;
+import com.viglet.turing.sn.search.TurSNSearchCache;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -61,13 +63,19 @@ public class TurSNSiteFacetedFieldAPI {
         private final TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
         private final TurSNSiteRepository turSNSiteRepository;
         private final TurSNFieldProcess turSNFieldProcess;
+        private final TurSNSiteSearchConfigRegistry turSNSiteSearchConfigRegistry;
+        private final TurSNSearchCache turSNSearchCache;
 
         public TurSNSiteFacetedFieldAPI(TurSNSiteFieldExtRepository turSNSiteFieldExtRepository,
                         TurSNSiteRepository turSNSiteRepository,
-                        TurSNFieldProcess turSNFieldProcess) {
+                        TurSNFieldProcess turSNFieldProcess,
+                        TurSNSiteSearchConfigRegistry turSNSiteSearchConfigRegistry,
+                        TurSNSearchCache turSNSearchCache) {
                 this.turSNSiteFieldExtRepository = turSNSiteFieldExtRepository;
                 this.turSNSiteRepository = turSNSiteRepository;
                 this.turSNFieldProcess = turSNFieldProcess;
+                this.turSNSiteSearchConfigRegistry = turSNSiteSearchConfigRegistry;
+                this.turSNSearchCache = turSNSearchCache;
         }
 
         @Operation(summary = "Semantic Navigation Site Faceted Field List")
@@ -133,6 +141,8 @@ public class TurSNSiteFacetedFieldAPI {
 
                                         if (!fieldsToSave.isEmpty()) {
                                                 turSNSiteFieldExtRepository.saveAll(fieldsToSave);
+                                                turSNSiteSearchConfigRegistry.invalidate(turSNSite);
+                                                turSNSearchCache.invalidate(turSNSite.getName());
                                         }
 
                                         return getAllFacetEntries(snSiteId);
@@ -39,6 +39,7 @@ import com.viglet.turing.persistence.mapper.sn.field.TurSNSiteFieldMapper;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteField;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldRepository;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -50,13 +51,16 @@ public class TurSNSiteFieldAPI {
 	private final TurSNSiteRepository turSNSiteRepository;
 	private final TurSNSiteFieldRepository turSNSiteFieldRepository;
 	private final TurSNSiteFieldMapper turSNSiteFieldMapper;
+	private final TurSNSchemaRegistry turSNSchemaRegistry;
 
 	public TurSNSiteFieldAPI(TurSNSiteRepository turSNSiteRepository,
 			TurSNSiteFieldRepository turSNSiteFieldRepository,
-			TurSNSiteFieldMapper turSNSiteFieldMapper) {
+			TurSNSiteFieldMapper turSNSiteFieldMapper,
+			TurSNSchemaRegistry turSNSchemaRegistry) {
 		this.turSNSiteRepository = turSNSiteRepository;
 		this.turSNSiteFieldRepository = turSNSiteFieldRepository;
 		this.turSNSiteFieldMapper = turSNSiteFieldMapper;
+		this.turSNSchemaRegistry = turSNSchemaRegistry;
 	}
 
 	@Operation(summary = "Semantic Navigation Site Field List")
@@ -86,6 +90,7 @@ public class TurSNSiteFieldAPI {
 			turSNSiteFieldEdit.setName(turSNSiteField.getName());
 			turSNSiteFieldEdit.setType(turSNSiteField.getType());
 			this.turSNSiteFieldRepository.save(turSNSiteFieldEdit);
+			turSNSchemaRegistry.invalidate(snSiteId);
 			return turSNSiteFieldMapper.toDto(turSNSiteFieldEdit);
 		}).orElse(new TurSNSiteFieldDto());
 
@@ -96,6 +101,7 @@ public class TurSNSiteFieldAPI {
 	@DeleteMapping("/{id}")
 	public boolean turSNSiteFieldDelete(@PathVariable String snSiteId, @PathVariable String id) {
 		this.turSNSiteFieldRepository.delete(id);
+		turSNSchemaRegistry.invalidate(snSiteId);
 		return true;
 	}
 
@@ -107,6 +113,7 @@ public class TurSNSiteFieldAPI {
 		return turSNSiteRepository.findById(snSiteId).map(turSNSite -> {
 			turSNSiteField.setTurSNSite(turSNSite);
 			this.turSNSiteFieldRepository.save(turSNSiteField);
+			turSNSchemaRegistry.invalidate(turSNSite);
 			return turSNSiteFieldMapper.toDto(turSNSiteField);
 		}).orElse(new TurSNSiteFieldDto());
 	}
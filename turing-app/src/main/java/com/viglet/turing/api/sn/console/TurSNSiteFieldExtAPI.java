@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -56,6 +57,8 @@ import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtFacetR
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldRepository;
 import com.viglet.turing.sn.TurSNFieldType;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.sn.search.TurSNSearchCache;
 import com.viglet.turing.sn.template.TurSNTemplate;
 import com.viglet.turing.solr.TurSolrFieldAction;
 import com.viglet.turing.solr.TurSolrUtils;
@@ -92,6 +95,8 @@ public class TurSNSiteFieldExtAPI {
     private final TurSEInstanceRepository turSEInstanceRepository;
     private final TurSNTemplate turSNTemplate;
     private final TurSNSiteFieldExtMapper turSNSiteFieldExtMapper;
+    private final TurSNSchemaRegistry turSNSchemaRegistry;
+    private final TurSNSearchCache turSNSearchCache;
 
     public TurSNSiteFieldExtAPI(TurSNSiteRepository turSNSiteRepository,
             TurSNSiteFieldExtRepository turSNSiteFieldExtRepository,
@@ -99,7 +104,9 @@ public class TurSNSiteFieldExtAPI {
             TurSNSiteFieldRepository turSNSiteFieldRepository,
             TurSEInstanceRepository turSEInstanceRepository,
             TurSNTemplate turSNTemplate,
-            TurSNSiteFieldExtMapper turSNSiteFieldExtMapper) {
+            TurSNSiteFieldExtMapper turSNSiteFieldExtMapper,
+            TurSNSchemaRegistry turSNSchemaRegistry,
+            TurSNSearchCache turSNSearchCache) {
         this.turSNSiteRepository = turSNSiteRepository;
         this.turSNSiteFieldExtRepository = turSNSiteFieldExtRepository;
         this.turSNSiteFieldExtFacetRepository = turSNSiteFieldExtFacetRepository;
@@ -107,6 +114,8 @@ public class TurSNSiteFieldExtAPI {
         this.turSEInstanceRepository = turSEInstanceRepository;
         this.turSNTemplate = turSNTemplate;
         this.turSNSiteFieldExtMapper = turSNSiteFieldExtMapper;
+        this.turSNSchemaRegistry = turSNSchemaRegistry;
+        this.turSNSearchCache = turSNSearchCache;
     }
 
     @Operation(summary = "Semantic Navigation Site Field Ext List")
@@ -165,6 +174,8 @@ public class TurSNSiteFieldExtAPI {
                 existing.setFacetPosition(calculateFacetPositionForUpdate(payload, turSNSite));
                 this.turSNSiteFieldExtRepository.save(existing);
                 this.updateExternalField(payload, turSNSite);
+                turSNSchemaRegistry.invalidate(turSNSite);
+                turSNSearchCache.invalidate(turSNSite.getName());
             });
             return turSNSiteFieldExtMapper.toDto(existing);
         }).orElseGet(TurSNSiteFieldExtDto::new);
@@ -175,13 +186,14 @@ public class TurSNSiteFieldExtAPI {
     @DeleteMapping("/{id}")
     public boolean turSNSiteFieldExtDelete(@PathVariable String snSiteId, @PathVariable String id) {
         return this.turSNSiteFieldExtRepository.findById(id).map(turSNSiteFieldExt -> {
-            turSNSiteRepository.findById(snSiteId)
-                    .ifPresent(turSNSite -> turSNSiteFieldRepository.findById(turSNSiteFieldExt.getExternalId())
-                            .ifPresent(turSNSiteField -> this.deleteSolrSchema(turSNSite, turSNSiteField)));
+            Optional<TurSNSite> turSNSite = turSNSiteRepository.findById(snSiteId);
+            turSNSite.ifPresent(site -> turSNSiteFieldRepository.findById(turSNSiteFieldExt.getExternalId())
+                    .ifPresent(turSNSiteField -> this.deleteSolrSchema(site, turSNSiteField)));
             if (TurSNFieldType.SE.equals(turSNSiteFieldExt.getSnType())) {
                 this.turSNSiteFieldRepository.delete(turSNSiteFieldExt.getExternalId());
             }
             this.turSNSiteFieldExtRepository.delete(id);
+            turSNSite.ifPresent(turSNSchemaRegistry::invalidate);
             return true;
         }).orElse(false);
     }
@@ -334,6 +346,8 @@ public class TurSNSiteFieldExtAPI {
         TurSNSiteField field = buildAndSaveSiteField(turSNSite, fieldExt);
         TurSNSiteFieldExt savedFieldExt = buildAndSaveFieldExt(turSNSite, fieldExt, field);
         updateSolrSchema(turSNSite, field);
+        turSNSchemaRegistry.invalidate(turSNSite);
+        turSNSearchCache.invalidate(turSNSite.getName());
         return savedFieldExt;
     }
 
@@ -32,6 +32,7 @@ import com.viglet.turing.commons.se.field.TurSEFieldType;
 import com.viglet.turing.persistence.repository.se.TurSEInstanceRepository;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
 import com.viglet.turing.solr.TurSolrFieldAction;
 import com.viglet.turing.solr.TurSolrUtils;
 
@@ -47,13 +48,16 @@ public class TurSNSiteFieldRepairAPI {
     private final TurSNSiteRepository turSNSiteRepository;
     private final TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
     private final TurSEInstanceRepository turSEInstanceRepository;
+    private final TurSNSchemaRegistry turSNSchemaRegistry;
 
     public TurSNSiteFieldRepairAPI(TurSNSiteRepository turSNSiteRepository,
             TurSNSiteFieldExtRepository turSNSiteFieldExtRepository,
-            TurSEInstanceRepository turSEInstanceRepository) {
+            TurSEInstanceRepository turSEInstanceRepository,
+            TurSNSchemaRegistry turSNSchemaRegistry) {
         this.turSNSiteRepository = turSNSiteRepository;
         this.turSNSiteFieldExtRepository = turSNSiteFieldExtRepository;
         this.turSEInstanceRepository = turSEInstanceRepository;
+        this.turSNSchemaRegistry = turSNSchemaRegistry;
     }
 
     @Operation(summary = "Semantic Navigation Site Repair Field")
@@ -83,6 +87,7 @@ public class TurSNSiteFieldRepairAPI {
                                                 turSNSiteFieldExt.getMultiValued() == 1);
                                         case SN_CHANGE_TYPE -> turSNSiteFieldExt.setType(TurSEFieldType.STRING);
                                     }
+                                    turSNSchemaRegistry.invalidate(turSNSite);
                                 })));
         return "ok";
     }
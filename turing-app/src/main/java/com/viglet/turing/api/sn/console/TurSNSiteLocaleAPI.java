@@ -24,7 +24,9 @@ import java.security.Principal;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -42,7 +44,10 @@ import com.viglet.turing.persistence.mapper.sn.locale.TurSNSiteLocaleMapper;
 import com.viglet.turing.persistence.model.sn.locale.TurSNSiteLocale;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
+import com.viglet.turing.sn.checksum.TurSNIndexChecksumService;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
 import com.viglet.turing.sn.template.TurSNTemplate;
+import com.viglet.turing.solr.TurSolrRoutingEvent;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -61,15 +66,24 @@ public class TurSNSiteLocaleAPI {
 	private final TurSNSiteLocaleRepository turSNSiteLocaleRepository;
 	private final TurSNTemplate turSNTemplate;
 	private final TurSNSiteLocaleMapper turSNSiteLocaleMapper;
+	private final TurSNIndexChecksumService turSNIndexChecksumService;
+	private final TurSNSchemaRegistry turSNSchemaRegistry;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	public TurSNSiteLocaleAPI(TurSNSiteRepository turSNSiteRepository,
 			TurSNSiteLocaleRepository turSNSiteLocaleRepository,
 			TurSNTemplate turSNTemplate,
-			TurSNSiteLocaleMapper turSNSiteLocaleMapper) {
+			TurSNSiteLocaleMapper turSNSiteLocaleMapper,
+			TurSNIndexChecksumService turSNIndexChecksumService,
+			TurSNSchemaRegistry turSNSchemaRegistry,
+			ApplicationEventPublisher applicationEventPublisher) {
 		this.turSNSiteRepository = turSNSiteRepository;
 		this.turSNSiteLocaleRepository = turSNSiteLocaleRepository;
 		this.turSNTemplate = turSNTemplate;
 		this.turSNSiteLocaleMapper = turSNSiteLocaleMapper;
+		this.turSNIndexChecksumService = turSNIndexChecksumService;
+		this.turSNSchemaRegistry = turSNSchemaRegistry;
+		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
 	@Operation(summary = "Semantic Navigation Site Locale List")
@@ -94,11 +108,17 @@ public class TurSNSiteLocaleAPI {
 			@PathVariable String snSiteId) {
 		TurSNSiteLocale turSNSiteLocale = turSNSiteLocaleMapper.toEntity(turSNSiteLocaleDto);
 		return this.turSNSiteLocaleRepository.findById(id).map(turSNSiteLocaleEdit -> {
+			if (!Objects.equals(turSNSiteLocaleEdit.getCore(), turSNSiteLocale.getCore())) {
+				turSNIndexChecksumService.clear(turSNSiteLocaleEdit.getTurSNSite(),
+						turSNSiteLocaleEdit.getLanguage());
+				turSNSchemaRegistry.invalidate(turSNSiteLocaleEdit.getTurSNSite());
+			}
 			turSNSiteLocaleEdit.setCore(turSNSiteLocale.getCore());
 			turSNSiteLocaleEdit.setLanguage(turSNSiteLocale.getLanguage());
 			turSNSiteLocaleEdit.setTurSNSite(turSNSiteLocale.getTurSNSite());
 
 			turSNSiteLocaleRepository.save(turSNSiteLocaleEdit);
+			applicationEventPublisher.publishEvent(new TurSolrRoutingEvent("SN Site locale " + id));
 			return turSNSiteLocaleMapper.toDto(turSNSiteLocaleEdit);
 		}).orElse(new TurSNSiteLocaleDto());
 
@@ -109,7 +129,11 @@ public class TurSNSiteLocaleAPI {
 	@DeleteMapping("/{id}")
 	public boolean turSNSiteLocaleDelete(@PathVariable String id, @PathVariable String snSiteId) {
 		return turSNSiteRepository.findById(snSiteId).map(turSNSite -> {
+			turSNSiteLocaleRepository.findById(id).ifPresent(turSNSiteLocale -> turSNIndexChecksumService
+					.clear(turSNSite, turSNSiteLocale.getLanguage()));
 			turSNSiteLocaleRepository.deleteById(id);
+			turSNSchemaRegistry.invalidate(turSNSite);
+			applicationEventPublisher.publishEvent(new TurSolrRoutingEvent("SN Site locale " + id));
 			return true;
 		}).orElse(false);
 	}
@@ -128,6 +152,8 @@ public class TurSNSiteLocaleAPI {
 				turSNTemplate.createSolrCore(turSNSiteLocale, principal.getName());
 			}
 			turSNSiteLocaleRepository.save(turSNSiteLocale);
+			applicationEventPublisher.publishEvent(
+					new TurSolrRoutingEvent("SN Site locale " + turSNSiteLocale.getId()));
 			return turSNSiteLocaleMapper.toDto(turSNSiteLocale);
 		}).orElse(new TurSNSiteLocaleDto());
 	}
@@ -42,6 +42,7 @@ import com.viglet.turing.persistence.model.sn.merge.TurSNSiteMergeProviders;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.merge.TurSNSiteMergeProvidersFieldRepository;
 import com.viglet.turing.persistence.repository.sn.merge.TurSNSiteMergeProvidersRepository;
+import com.viglet.turing.sn.merge.TurSNMergeRelationIndex;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -60,15 +61,18 @@ public class TurSNSiteMergeProvidersAPI {
 	private final TurSNSiteMergeProvidersRepository turSNSiteMergeRepository;
 	private final TurSNSiteMergeProvidersFieldRepository turSNSiteMergeFieldRepository;
 	private final TurSNSiteMergeProvidersMapper turSNSiteMergeProvidersMapper;
+	private final TurSNMergeRelationIndex turSNMergeRelationIndex;
 
 	public TurSNSiteMergeProvidersAPI(TurSNSiteRepository turSNSiteRepository,
 			TurSNSiteMergeProvidersRepository turSNSiteMergeRepository,
 			TurSNSiteMergeProvidersFieldRepository turSNSiteMergeFieldRepository,
-			TurSNSiteMergeProvidersMapper turSNSiteMergeProvidersMapper) {
+			TurSNSiteMergeProvidersMapper turSNSiteMergeProvidersMapper,
+			TurSNMergeRelationIndex turSNMergeRelationIndex) {
 		this.turSNSiteRepository = turSNSiteRepository;
 		this.turSNSiteMergeRepository = turSNSiteMergeRepository;
 		this.turSNSiteMergeFieldRepository = turSNSiteMergeFieldRepository;
 		this.turSNSiteMergeProvidersMapper = turSNSiteMergeProvidersMapper;
+		this.turSNMergeRelationIndex = turSNMergeRelationIndex;
 	}
 
 	@Operation(summary = "Semantic Navigation Site Merge List")
@@ -116,6 +120,7 @@ public class TurSNSiteMergeProvidersAPI {
 				field.setTurSNSiteMergeProviders(turSNSiteMergeEdit);
 				turSNSiteMergeFieldRepository.save(field);
 			});
+			turSNMergeRelationIndex.invalidate(ignoredSnSiteId);
 			return turSNSiteMergeProvidersMapper.toDto(turSNSiteMergeEdit);
 		}).orElse(new TurSNSiteMergeProvidersDto());
 
@@ -126,6 +131,7 @@ public class TurSNSiteMergeProvidersAPI {
 	@DeleteMapping("/{id}")
 	public boolean turSNSiteMergeDelete(@PathVariable String id, @PathVariable String ignoredSnSiteId) {
 		turSNSiteMergeRepository.deleteById(id);
+		turSNMergeRelationIndex.invalidate(ignoredSnSiteId);
 		return true;
 	}
 
@@ -139,6 +145,7 @@ public class TurSNSiteMergeProvidersAPI {
 			field.setTurSNSiteMergeProviders(turSNSiteMerge);
 			turSNSiteMergeFieldRepository.save(field);
 		});
+		turSNMergeRelationIndex.invalidate(ignoredSnSiteId);
 		return turSNSiteMergeProvidersMapper.toDto(turSNSiteMerge);
 	}
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.console;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+import java.util.Optional;
+
+import org.apache.commons.lang3.LocaleUtils;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.viglet.turing.persistence.model.sn.locale.TurSNSiteLocale;
+import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
+import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
+import com.viglet.turing.sn.reindex.TurSNReindex;
+import com.viglet.turing.sn.reindex.TurSNReindexService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Blue/green reindex of a SN Site locale: the build of a shadow core, its swap with the
+ * live core and the rollback of the swap.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@RestController
+@RequestMapping("/api/sn/{snSiteId}/reindex/{locale}")
+@Tag(name = "Semantic Navigation Reindex", description = "Semantic Navigation Reindex API")
+public class TurSNSiteReindexAPI {
+    private static final String LOCALE_NOT_FOUND = "Semantic Navigation Site locale not found.";
+    private static final String REINDEX_NOT_FOUND = "Reindex not found.";
+    private final TurSNSiteRepository turSNSiteRepository;
+    private final TurSNSiteLocaleRepository turSNSiteLocaleRepository;
+    private final TurSNReindexService turSNReindexService;
+
+    public TurSNSiteReindexAPI(TurSNSiteRepository turSNSiteRepository,
+            TurSNSiteLocaleRepository turSNSiteLocaleRepository,
+            TurSNReindexService turSNReindexService) {
+        this.turSNSiteRepository = turSNSiteRepository;
+        this.turSNSiteLocaleRepository = turSNSiteLocaleRepository;
+        this.turSNReindexService = turSNReindexService;
+    }
+
+    @Operation(summary = "Semantic Navigation Site Reindex Status")
+    @GetMapping
+    public TurSNReindex status(@PathVariable String snSiteId, @PathVariable String locale) {
+        return turSNReindexService.get(getSiteLocale(snSiteId, locale))
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, REINDEX_NOT_FOUND));
+    }
+
+    @Operation(summary = "Start a Semantic Navigation Site Reindex into a shadow core")
+    @PostMapping
+    public TurSNReindex start(@PathVariable String snSiteId, @PathVariable String locale) {
+        return turSNReindexService.start(getSiteLocale(snSiteId, locale))
+                .orElseThrow(() -> new ResponseStatusException(CONFLICT,
+                        "Reindex already exists or the shadow core could not be created."));
+    }
+
+    @Operation(summary = "Swap the shadow core of a Semantic Navigation Site Reindex in")
+    @PostMapping("/swap")
+    public TurSNReindex swap(@PathVariable String snSiteId, @PathVariable String locale) {
+        return turSNReindexService.swap(getSiteLocale(snSiteId, locale))
+                .orElseThrow(() -> new ResponseStatusException(CONFLICT,
+                        "No reindex being built or the cores could not be swapped."));
+    }
+
+    @Operation(summary = "Roll back the swap of a Semantic Navigation Site Reindex")
+    @PostMapping("/rollback")
+    public TurSNReindex rollback(@PathVariable String snSiteId, @PathVariable String locale) {
+        return turSNReindexService.rollback(getSiteLocale(snSiteId, locale))
+                .orElseThrow(() -> new ResponseStatusException(CONFLICT,
+                        "No swapped reindex or the cores could not be swapped."));
+    }
+
+    @Operation(summary = "Discard a Semantic Navigation Site Reindex and delete its unused core")
+    @DeleteMapping
+    public TurSNReindex discard(@PathVariable String snSiteId, @PathVariable String locale) {
+        return turSNReindexService.discard(getSiteLocale(snSiteId, locale))
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, REINDEX_NOT_FOUND));
+    }
+
+    private TurSNSiteLocale getSiteLocale(String snSiteId, String locale) {
+        return turSNSiteRepository.findById(snSiteId)
+                .flatMap(turSNSite -> Optional.ofNullable(turSNSiteLocaleRepository
+                        .findByTurSNSiteAndLanguage(turSNSite, LocaleUtils.toLocale(locale))))
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, LOCALE_NOT_FOUND));
+    }
+}
@@ -20,13 +20,23 @@
  */
 package com.viglet.turing.api.sn.job;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+import java.util.List;
+
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.viglet.turing.api.sn.bean.TurSNDeIndexRequest;
+import com.viglet.turing.api.sn.bean.TurSNDeIndexResult;
 import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.sn.deindex.TurSNBulkDeIndexService;
 
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 @RestController
@@ -34,9 +44,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Semantic Navigation DeIndexing", description = "Semantic Navigation DeIndexing API")
 public class TurSNDeIndexingAPI {
 	private final TurSNImportAPI turSNImportAPI;
+	private final TurSNBulkDeIndexService turSNBulkDeIndexService;
 
-	public TurSNDeIndexingAPI(TurSNImportAPI turSNImportAPI) {
+	public TurSNDeIndexingAPI(TurSNImportAPI turSNImportAPI, TurSNBulkDeIndexService turSNBulkDeIndexService) {
 		this.turSNImportAPI = turSNImportAPI;
+		this.turSNBulkDeIndexService = turSNBulkDeIndexService;
 	}
 
 	@PostMapping
@@ -45,4 +57,16 @@ public class TurSNDeIndexingAPI {
 		return "Ok";
 
 	}
+
+	@Operation(summary = "Remove documents of a Semantic Navigation Site by ids, types and conditions")
+	@PostMapping("/bulk")
+	public List<TurSNDeIndexResult> turSNBulkDeIndex(@RequestBody TurSNDeIndexRequest turSNDeIndexRequest) {
+		try {
+			return turSNBulkDeIndexService.deIndex(turSNDeIndexRequest)
+					.orElseThrow(() -> new ResponseStatusException(NOT_FOUND,
+							"Semantic Navigation Site not found."));
+		} catch (IllegalArgumentException e) {
+			throw new ResponseStatusException(BAD_REQUEST, e.getMessage());
+		}
+	}
 }
@@ -24,33 +24,43 @@ package com.viglet.turing.api.sn.job;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.jms.core.JmsMessagingTemplate;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.viglet.turing.api.ocr.TurTikaFileAttributes;
+import com.viglet.turing.api.sn.bean.TurSNImportZipProgress;
+import com.viglet.turing.api.sn.queue.TurSNIndexingQueueSender;
 import com.viglet.turing.client.sn.job.TurSNJobAction;
 import com.viglet.turing.client.sn.job.TurSNJobItem;
 import com.viglet.turing.client.sn.job.TurSNJobItems;
 import com.viglet.turing.commons.indexing.TurIndexingStatus;
 import com.viglet.turing.commons.sn.field.TurSNFieldName;
 import com.viglet.turing.commons.utils.TurCommonsUtils;
-import com.viglet.turing.genai.TurGenAi;
 import com.viglet.turing.logging.TurLoggingUtils;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.sn.TurSNConstants;
+import com.viglet.turing.sn.extract.TurSNFileTextExtractor;
 import com.viglet.turing.spring.utils.TurSpringUtils;
-import com.viglet.turing.utils.TurFileUtils;
 
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import tools.jackson.databind.ObjectMapper;
@@ -61,23 +71,41 @@ import tools.jackson.databind.json.JsonMapper;
 @RequestMapping("/api/sn/import")
 @Tag(name = "Semantic Navigation Import", description = "Semantic Navigation Import API")
 public class TurSNImportAPI {
-    private final JmsMessagingTemplate jmsMessagingTemplate;
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private final TurSNIndexingQueueSender turSNIndexingQueueSender;
     private final TurSNSiteRepository turSNSiteRepository;
-    private final TurGenAi turGenAi;
+    private final TurSNFileTextExtractor turSNFileTextExtractor;
 
-    public TurSNImportAPI(JmsMessagingTemplate jmsMessagingTemplate, TurSNSiteRepository turSNSiteRepository,
-            TurGenAi turGenAi) {
-        this.jmsMessagingTemplate = jmsMessagingTemplate;
+    public TurSNImportAPI(TurSNIndexingQueueSender turSNIndexingQueueSender,
+            TurSNSiteRepository turSNSiteRepository,
+            TurSNFileTextExtractor turSNFileTextExtractor) {
+        this.turSNIndexingQueueSender = turSNIndexingQueueSender;
         this.turSNSiteRepository = turSNSiteRepository;
-        this.turGenAi = turGenAi;
+        this.turSNFileTextExtractor = turSNFileTextExtractor;
     }
 
+    /**
+     * Sends the job items to the indexing queue. With {@code force}, the checksums of the
+     * job items are ignored, so unchanged documents are indexed again.
+     */
     @PostMapping
-    public boolean turSNImportBroker(@RequestBody TurSNJobItems turSNJobItems) {
+    public boolean turSNImportBroker(@RequestBody TurSNJobItems turSNJobItems,
+            @RequestParam(defaultValue = "false") boolean force) {
+        if (force) {
+            forceIndexing(turSNJobItems);
+        }
         send(turSNJobItems);
         return true;
     }
 
+    public static void forceIndexing(TurSNJobItems turSNJobItems) {
+        turSNJobItems.forEach(turSNJobItem -> {
+            if (turSNJobItem != null) {
+                turSNJobItem.setChecksum(null);
+            }
+        });
+    }
+
     private void importUnsuccessful(String siteName, TurSNJobItems turSNJobItems) {
         turSNJobItems.forEach(turSNJobItem -> {
             if (turSNJobItem != null) {
@@ -89,6 +117,11 @@ public class TurSNImportAPI {
                                     : null,
                             siteName, turSNJobItem.getLocale(), siteName);
                     TurLoggingUtils.setErrorStatus(turSNJobItem, TurIndexingStatus.INDEXED, "Site doesn't exist");
+                } else if (turSNJobItem.getTurSNJobAction().equals(TurSNJobAction.UPDATE)) {
+                    log.error(
+                            "Update Object ID '{}' of '{}' SN Site ({}) was not processed. Because '{}' SN Site doesn't exist",
+                            turSNJobItem.getId(), siteName, turSNJobItem.getLocale(), siteName);
+                    TurLoggingUtils.setErrorStatus(turSNJobItem, TurIndexingStatus.INDEXED, "Site doesn't exist");
                 } else if (turSNJobItem.getTurSNJobAction().equals(TurSNJobAction.DELETE)) {
                     log.error(
                             "Delete Object ID '{}' of '{}' SN Site ({}) was not processed. Because '{}' SN Site doesn't exist",
@@ -106,56 +139,91 @@ public class TurSNImportAPI {
 
     @PostMapping("zip")
     public boolean turSNImportZipFileBroker(@RequestParam("file") MultipartFile multipartFile) {
-        File extractFolder = TurSpringUtils.extractZipFile(multipartFile);
+        return importZipFile(TurSpringUtils.extractZipFile(multipartFile), UUID.randomUUID().toString(),
+                progress -> {
+                }).isSent();
+    }
 
-        ObjectMapper mapper = JsonMapper.builder().build();
+    @Operation(summary = "Semantic Navigation zip import with the progress streamed as NDJSON")
+    @PostMapping(value = "zip/stream", produces = TurSNImportStreamAPI.NDJSON)
+    public StreamingResponseBody turSNImportZipFileStream(@RequestParam("file") MultipartFile multipartFile) {
+        File extractFolder = TurSpringUtils.extractZipFile(multipartFile);
+        String jobId = UUID.randomUUID().toString();
+        return outputStream -> importZipFile(extractFolder, jobId,
+                progress -> writeProgress(outputStream, progress));
+    }
 
+    private TurSNImportZipProgress importZipFile(File extractFolder, String jobId,
+            Consumer<TurSNImportZipProgress> listener) {
         try (FileInputStream fileInputStream = new FileInputStream(
                 extractFolder.getAbsolutePath().concat(File.separator).concat(TurSNConstants.EXPORT_FILE))) {
-            TurSNJobItems turSNJobItems = mapper.readValue(fileInputStream, TurSNJobItems.class);
-
+            TurSNJobItems turSNJobItems = MAPPER.readValue(fileInputStream, TurSNJobItems.class);
+            List<FileAttribute> fileAttributes = new ArrayList<>();
             turSNJobItems.forEach(turSNJobItem -> turSNJobItem.getAttributes().entrySet()
-                    .forEach(attribute -> extractTextOfFileAttribute(extractFolder, attribute)));
-
-            FileUtils.deleteDirectory(extractFolder);
-            return turSNImportBroker(turSNJobItems);
-
+                    .forEach(attribute -> fileOfAttribute(extractFolder, attribute)
+                            .ifPresent(file -> fileAttributes.add(new FileAttribute(attribute, file)))));
+            Set<File> files = fileAttributes.stream().map(FileAttribute::file)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            TurSNImportZipProgress progress = new TurSNImportZipProgress(jobId, files.size());
+            listener.accept(progress);
+            Map<File, String> texts = turSNFileTextExtractor.extract(files, (file, status) -> {
+                progress.add(status);
+                log.debug("Import {}: {} of {} files done, {} is {}", jobId, progress.getCompleted(),
+                        progress.getFiles(), file.getName(), status);
+                listener.accept(progress);
+            });
+            fileAttributes.forEach(fileAttribute -> Optional.ofNullable(texts.get(fileAttribute.file()))
+                    .ifPresent(text -> fileAttribute.attribute().setValue(TurCommonsUtils.cleanTextContent(text))));
+            log.info("Import {}: {} files, {} extracted, {} cached, {} skipped, {} failed, {} timed out", jobId,
+                    progress.getFiles(), progress.getExtracted(), progress.getCached(), progress.getSkipped(),
+                    progress.getFailed(), progress.getTimedOut());
+            progress.setSent(turSNImportBroker(turSNJobItems, false));
+            progress.setDone(true);
+            listener.accept(progress);
+            return progress;
         } catch (IOException e) {
             log.error(e.getMessage(), e);
+        } finally {
+            FileUtils.deleteQuietly(extractFolder);
         }
-        return false;
+        TurSNImportZipProgress progress = new TurSNImportZipProgress(jobId, 0);
+        progress.setDone(true);
+        listener.accept(progress);
+        return progress;
     }
 
-    private void extractTextOfFileAttribute(File extractFolder, Map.Entry<String, Object> attribute) {
-        if (attribute.getValue().toString().startsWith(TurSNConstants.FILE_PROTOCOL)) {
-            String fileName = attribute.getValue().toString().replace(TurSNConstants.FILE_PROTOCOL, "");
-            File file = new File(extractFolder.getAbsolutePath().concat(File.separator).concat(fileName));
-            TurTikaFileAttributes turTikaFileAttributes = TurFileUtils.parseFile(file);
-            Optional.ofNullable(turTikaFileAttributes)
-                    .map(TurTikaFileAttributes::getContent)
-                    .ifPresent(content -> attribute.setValue(TurCommonsUtils.cleanTextContent(content)));
+    private static Optional<File> fileOfAttribute(File extractFolder, Map.Entry<String, Object> attribute) {
+        if (attribute.getValue() == null || !attribute.getValue().toString().startsWith(TurSNConstants.FILE_PROTOCOL)) {
+            return Optional.empty();
+        }
+        String fileName = attribute.getValue().toString().replace(TurSNConstants.FILE_PROTOCOL, "");
+        Path folder = extractFolder.toPath().toAbsolutePath().normalize();
+        Path file = folder.resolve(fileName).normalize();
+        if (!file.startsWith(folder)) {
+            log.warn("File '{}' of '{}' attribute is outside of the import", fileName, attribute.getKey());
+            return Optional.empty();
+        }
+        return Optional.of(file.toFile());
+    }
+
+    private static void writeProgress(OutputStream outputStream, TurSNImportZipProgress progress) {
+        try {
+            outputStream.write(MAPPER.writeValueAsBytes(progress));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            // The import goes on when the client stops reading the progress.
+            log.debug("Import {}: progress could not be written: {}", progress.getJobId(), e.getMessage());
         }
     }
 
     public void send(TurSNJobItems turSNJobItems) {
-        sendToGenAi(turSNJobItems);
         sentQueueInfo(turSNJobItems);
         if (log.isDebugEnabled()) {
             log.debug("Sent job - {}", TurSNConstants.INDEXING_QUEUE);
             log.debug("turSNJob: {}", turSNJobItems);
         }
-        this.jmsMessagingTemplate.convertAndSend(TurSNConstants.INDEXING_QUEUE, turSNJobItems);
-    }
-
-    private void sendToGenAi(TurSNJobItems turSNJobItems) {
-        turSNJobItems.forEach(turJobItem -> {
-            if (isValidJobItem(turJobItem)) {
-                turJobItem.getSiteNames().forEach(siteName -> turSNSiteRepository.findByName(siteName)
-                        .filter(turSNSite -> turSNSite.getTurSNSiteGenAi() != null
-                                && turSNSite.getTurSNSiteGenAi().isEnabled())
-                        .ifPresent(turSNSite -> turGenAi.addDocuments(turSNJobItems)));
-            }
-        });
+        turSNIndexingQueueSender.send(turSNJobItems);
     }
 
     private void sentQueueInfo(TurSNJobItems turSNJobItems) {
@@ -186,6 +254,10 @@ public class TurSNImportAPI {
             case CREATE -> "index";
             case DELETE -> "deIndex";
             case COMMIT -> "commit";
+            case UPDATE -> "update";
         };
     }
+
+    private record FileAttribute(Map.Entry<String, Object> attribute, File file) {
+    }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.job;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.viglet.turing.api.sn.bean.TurSNImportStreamResult;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Imports job items sent as NDJSON, one {@link TurSNJobItem} per line, optionally gzip
+ * encoded. The body is read line by line and sent to the indexing queue in messages of
+ * at most {@code turing.import.stream.batch-size} items, so memory does not grow with the
+ * size of the upload. At most {@code turing.import.stream.max-line-length} characters of
+ * a line are kept in memory: a longer line is dropped as soon as it reaches the limit,
+ * read to its end and rejected.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/sn/import")
+@Tag(name = "Semantic Navigation Import", description = "Semantic Navigation Import API")
+public class TurSNImportStreamAPI {
+    public static final String NDJSON = "application/x-ndjson";
+    private static final String GZIP = "gzip";
+    private final TurSNImportAPI turSNImportAPI;
+    private final TurSNSiteRepository turSNSiteRepository;
+    private final int batchSize;
+    private final int maxLineLength;
+    private final ObjectReader jobItemReader = JsonMapper.builder().build()
+            .readerFor(TurSNJobItem.class);
+
+    public TurSNImportStreamAPI(TurSNImportAPI turSNImportAPI,
+            TurSNSiteRepository turSNSiteRepository,
+            @Value("${turing.import.stream.batch-size:500}") int batchSize,
+            @Value("${turing.import.stream.max-line-length:16777216}") int maxLineLength) {
+        this.turSNImportAPI = turSNImportAPI;
+        this.turSNSiteRepository = turSNSiteRepository;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxLineLength = Math.max(1, maxLineLength);
+    }
+
+    @Operation(summary = "Semantic Navigation NDJSON streaming import")
+    @PostMapping(value = "stream", consumes = { NDJSON, "application/json", "text/plain" })
+    public TurSNImportStreamResult turSNImportStream(HttpServletRequest request,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            @RequestParam(defaultValue = "false") boolean force)
+            throws IOException {
+        String jobId = UUID.randomUUID().toString();
+        Map<String, Boolean> knownSites = new HashMap<>();
+        TurSNJobItems turSNJobItems = new TurSNJobItems();
+        long accepted = 0;
+        long rejected = 0;
+        int messages = 0;
+        long lineNumber = 0;
+        try (LineReader reader = new LineReader(new InputStreamReader(
+                decode(request.getInputStream(), contentEncoding), StandardCharsets.UTF_8), maxLineLength)) {
+            while (reader.next()) {
+                lineNumber++;
+                if (reader.isTooLong()) {
+                    log.warn("Import {}: line {} is longer than {} characters", jobId, lineNumber,
+                            maxLineLength);
+                    rejected++;
+                    continue;
+                }
+                String line = reader.getLine();
+                if (StringUtils.isBlank(line)) {
+                    continue;
+                }
+                TurSNJobItem turSNJobItem = parse(jobId, lineNumber, line);
+                if (isAccepted(turSNJobItem, knownSites)) {
+                    turSNJobItems.add(turSNJobItem);
+                    accepted++;
+                } else {
+                    log.warn("Import {}: line {} was rejected", jobId, lineNumber);
+                    rejected++;
+                }
+                if (turSNJobItems.getTuringDocuments().size() >= batchSize) {
+                    send(turSNJobItems, force);
+                    messages++;
+                    turSNJobItems = new TurSNJobItems();
+                }
+            }
+        }
+        if (!turSNJobItems.getTuringDocuments().isEmpty()) {
+            send(turSNJobItems, force);
+            messages++;
+        }
+        log.info("Import {}: {} job items accepted, {} rejected, {} queue messages", jobId,
+                accepted, rejected, messages);
+        return TurSNImportStreamResult.builder()
+                .jobId(jobId)
+                .accepted(accepted)
+                .rejected(rejected)
+                .messages(messages)
+                .build();
+    }
+
+    private static InputStream decode(InputStream inputStream, String contentEncoding)
+            throws IOException {
+        return StringUtils.containsIgnoreCase(contentEncoding, GZIP)
+                ? new GZIPInputStream(inputStream)
+                : inputStream;
+    }
+
+    private void send(TurSNJobItems turSNJobItems, boolean force) {
+        if (force) {
+            TurSNImportAPI.forceIndexing(turSNJobItems);
+        }
+        turSNImportAPI.send(turSNJobItems);
+    }
+
+    private TurSNJobItem parse(String jobId, long lineNumber, String line) {
+        try {
+            return jobItemReader.readValue(line);
+        } catch (JacksonException e) {
+            log.debug("Import {}: line {} is not a valid job item: {}", jobId, lineNumber,
+                    e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    private boolean isAccepted(TurSNJobItem turSNJobItem, Map<String, Boolean> knownSites) {
+        return turSNJobItem != null
+                && turSNJobItem.getTurSNJobAction() != null
+                && turSNJobItem.getSiteNames() != null
+                && !turSNJobItem.getSiteNames().isEmpty()
+                && turSNJobItem.getSiteNames().stream()
+                        .allMatch(siteName -> knownSites.computeIfAbsent(siteName,
+                                name -> turSNSiteRepository.findByName(name).isPresent()));
+    }
+
+    /**
+     * Reads the lines of the body, keeping at most {@code maxLength} characters of each
+     * one; the characters of a longer line are dropped.
+     */
+    private static final class LineReader implements AutoCloseable {
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean tooLong;
+
+        private LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * @return {@code false} at the end of the body.
+         */
+        private boolean next() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            boolean read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(0, reader.read(buffer, 0, buffer.length));
+                    position = 0;
+                    if (limit == 0) {
+                        return read;
+                    }
+                }
+                read = true;
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                append(start, position);
+                if (position < limit) {
+                    position++;
+                    return true;
+                }
+            }
+        }
+
+        private void append(int start, int end) {
+            if (tooLong) {
+                return;
+            }
+            if (line.length() + end - start > maxLength) {
+                tooLong = true;
+                line.setLength(0);
+                line.trimToSize();
+                return;
+            }
+            line.append(buffer, start, end - start);
+        }
+
+        private boolean isTooLong() {
+            return tooLong;
+        }
+
+        private String getLine() {
+            return line.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.viglet.turing.sn.TurSNConstants;
+import com.viglet.turing.sn.TurSNQueue;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Changes the consumers of the indexing queue listener by its backlog and by the
+ * latency of the Solr writes.
+ * <p>
+ * Every {@code turing.jms.autoscaler.interval} milliseconds the average time of the
+ * {@link TurSNIndexingStage#SOLR_ADD} and {@link TurSNIndexingStage#SOLR_DELETE}
+ * calls of the interval is compared with {@code turing.jms.autoscaler.max-latency}:
+ * <ul>
+ * <li>above it, the consumers are halved, so Solr recovers quickly;</li>
+ * <li>below half of it, one consumer is added while the backlog is larger than
+ * {@code turing.jms.autoscaler.backlog-per-consumer} messages per consumer;</li>
+ * <li>one consumer is removed when the queue is empty.</li>
+ * </ul>
+ * The consumers stay between {@code turing.jms.autoscaler.min} and
+ * {@code turing.jms.autoscaler.max}. A suspended listener is not changed.
+ * <p>
+ * More than one consumer keeps the order of the CREATE and DELETE operations, because
+ * {@link TurSNIndexingQueueSender} sends the messages of the same sites in one JMS
+ * message group, which the broker delivers to a single consumer in order. Extra
+ * consumers index different sites in parallel.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSNIndexingAutoscaler {
+    public static final String CONSUMERS = "turing.jms.autoscaler.consumers";
+    public static final String LATENCY = "turing.jms.autoscaler.latency";
+    private final TurSNQueueControlService turSNQueueControlService;
+    private final TurSNQueue turSNQueue;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int min;
+    private final int max;
+    private final int backlogPerConsumer;
+    private final double maxLatencyMillis;
+    private final AtomicInteger consumers = new AtomicInteger();
+    private volatile double latencyMillis;
+    private long lastCount;
+    private double lastTotalMillis;
+
+    public TurSNIndexingAutoscaler(TurSNQueueControlService turSNQueueControlService, TurSNQueue turSNQueue,
+            MeterRegistry meterRegistry,
+            @Value("${turing.jms.autoscaler.enabled:false}") boolean enabled,
+            @Value("${turing.jms.autoscaler.min:1}") int min,
+            @Value("${turing.jms.autoscaler.max:4}") int max,
+            @Value("${turing.jms.autoscaler.backlog-per-consumer:50}") int backlogPerConsumer,
+            @Value("${turing.jms.autoscaler.max-latency:2000}") long maxLatencyMillis) {
+        this.turSNQueueControlService = turSNQueueControlService;
+        this.turSNQueue = turSNQueue;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.min = Math.max(1, min);
+        this.max = Math.max(this.min, max);
+        this.backlogPerConsumer = Math.max(1, backlogPerConsumer);
+        this.maxLatencyMillis = maxLatencyMillis;
+        Gauge.builder(CONSUMERS, consumers, AtomicInteger::get)
+                .description("Consumers of the indexing queue set by the autoscaler")
+                .register(meterRegistry);
+        Gauge.builder(LATENCY, this, autoscaler -> autoscaler.latencyMillis)
+                .description("Average Solr write latency, in milliseconds, seen by the autoscaler")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${turing.jms.autoscaler.interval:10000}",
+            initialDelayString = "${turing.jms.autoscaler.interval:10000}")
+    public synchronized void adjust() {
+        if (!enabled) {
+            return;
+        }
+        Optional<Integer> current = turSNQueueControlService
+                .getConcurrency(TurSNConstants.INDEXING_QUEUE_LISTENER);
+        if (current.isEmpty()) {
+            return;
+        }
+        double latency = sampleLatency();
+        int backlog = turSNQueue.getQueueSize();
+        int target = target(current.get(), backlog, latency);
+        if (target != current.get() && turSNQueueControlService
+                .setConcurrency(TurSNConstants.INDEXING_QUEUE_LISTENER, target)) {
+            log.info("Indexing queue consumers changed from {} to {} (backlog: {} messages, Solr latency: {} ms)",
+                    current.get(), target, backlog, Math.round(latency));
+            consumers.set(target);
+        } else {
+            consumers.set(current.get());
+        }
+    }
+
+    int target(int current, int backlog, double latency) {
+        int bounded = Math.clamp(current, min, max);
+        if (latency > maxLatencyMillis) {
+            return Math.max(min, bounded / 2);
+        }
+        if (latency <= maxLatencyMillis / 2 && backlog > (long) bounded * backlogPerConsumer) {
+            return Math.min(max, bounded + 1);
+        }
+        if (backlog == 0) {
+            return Math.max(min, bounded - 1);
+        }
+        return bounded;
+    }
+
+    /**
+     * Average latency of the Solr writes since the previous sample. Without writes in
+     * the interval the previous average is kept.
+     */
+    private double sampleLatency() {
+        long count = 0;
+        double totalMillis = 0;
+        for (Timer timer : Stream.of(TurSNIndexingStage.SOLR_ADD, TurSNIndexingStage.SOLR_DELETE)
+                .flatMap(stage -> meterRegistry.find(TurSNIndexingMetrics.STAGE)
+                        .tag(TurSNIndexingMetrics.STAGE_TAG, stage.getTag())
+                        .timers().stream())
+                .toList()) {
+            count += timer.count();
+            totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+        }
+        if (count > lastCount) {
+            latencyMillis = (totalMillis - lastTotalMillis) / (count - lastCount);
+        }
+        lastCount = count;
+        lastTotalMillis = totalMillis;
+        return latencyMillis;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+
+import lombok.Getter;
+
+/**
+ * Pending operations of one indexing message that target the same core (site and
+ * locale) with the same action, so they can be sent to the search engine in a single
+ * request.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Getter
+public class TurSNIndexingBatch {
+    private final TurSNSite turSNSite;
+    private final Locale locale;
+    private final TurSNJobAction action;
+    private final List<TurSNJobItem> jobItems = new ArrayList<>();
+    private final List<Map<String, Object>> documents = new ArrayList<>();
+
+    public TurSNIndexingBatch(TurSNSite turSNSite, Locale locale, TurSNJobAction action) {
+        this.turSNSite = turSNSite;
+        this.locale = locale;
+        this.action = action;
+    }
+
+    public static String key(TurSNSite turSNSite, Locale locale) {
+        return "%s_%s".formatted(turSNSite.getName(), locale);
+    }
+
+    public void addDocument(TurSNJobItem turSNJobItem, Map<String, Object> attributes) {
+        jobItems.add(turSNJobItem);
+        documents.add(attributes);
+    }
+
+    public void addId(TurSNJobItem turSNJobItem) {
+        jobItems.add(turSNJobItem);
+    }
+
+    public List<String> getIds() {
+        return jobItems.stream().map(TurSNJobItem::getId).toList();
+    }
+
+    public boolean isEmpty() {
+        return jobItems.isEmpty();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Measures how long the indexing queue consumer holds database connections.
+ * <p>
+ * The data sources of the application are wrapped, and a connection borrowed while a
+ * {@link TurSNIndexingContext} is current is accounted to its message from the moment it
+ * leaves the pool until it is closed, whatever borrowed it: the short transactions of
+ * {@link TurSNIndexingTransactions}, the repository reads outside them or Hibernate.
+ * Connections borrowed outside a message are returned as they are.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Component
+public class TurSNIndexingConnections implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TrackingDataSource)) {
+            return new TrackingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    private static Connection track(Connection connection) {
+        return TurSNIndexingContext.current()
+                .map(context -> tracked(connection, context.getMessage()))
+                .orElse(connection);
+    }
+
+    private static Connection tracked(Connection connection, TurSNIndexingTransactions.Message message) {
+        long borrowed = System.nanoTime();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        message.addConnectionHold(System.nanoTime() - borrowed);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    static class TrackingDataSource extends DelegatingDataSource {
+
+        TrackingDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(obtainTargetDataSource().getConnection(username, password));
+        }
+    }
+}
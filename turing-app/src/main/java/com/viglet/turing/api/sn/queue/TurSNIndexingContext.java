@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * State of the JMS message processed by the indexing queue consumer: its
+ * {@link TurSNIndexingMetrics.Trace} and its {@link TurSNIndexingTransactions.Message}.
+ * <p>
+ * The context is current on the thread that received the message, and on the lane
+ * threads that run a consumer returned by {@link #bind(Consumer)}, so the stages and the
+ * database connections of those threads are accounted to the message.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+public final class TurSNIndexingContext implements AutoCloseable {
+    private static final ThreadLocal<TurSNIndexingContext> CURRENT = new ThreadLocal<>();
+    private final TurSNIndexingMetrics.Trace trace;
+    private final TurSNIndexingTransactions.Message message;
+
+    private TurSNIndexingContext(TurSNIndexingMetrics.Trace trace, TurSNIndexingTransactions.Message message) {
+        this.trace = trace;
+        this.message = message;
+    }
+
+    /**
+     * Makes a new context current on this thread. Closing it closes the trace and the
+     * message.
+     */
+    public static TurSNIndexingContext start(TurSNIndexingMetrics.Trace trace,
+            TurSNIndexingTransactions.Message message) {
+        TurSNIndexingContext context = new TurSNIndexingContext(trace, message);
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static Optional<TurSNIndexingContext> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public TurSNIndexingMetrics.Trace getTrace() {
+        return trace;
+    }
+
+    public TurSNIndexingTransactions.Message getMessage() {
+        return message;
+    }
+
+    /**
+     * Makes this context current while the consumer runs, on any thread.
+     */
+    public <T> Consumer<T> bind(Consumer<T> consumer) {
+        return value -> {
+            TurSNIndexingContext previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                consumer.accept(value);
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        CURRENT.remove();
+        try {
+            message.close();
+        } finally {
+            trace.close();
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.commons.exception.TurRuntimeException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ordered lanes of the indexing queue consumer. Each job item is routed by the hash of
+ * its sites, locale and id, so updates of the same document always run in the same
+ * lane, in arrival order, while different documents are indexed in parallel.
+ * <p>
+ * Lanes are shared by all consumers of the queue, so items of the same document never
+ * run at the same time, and run in the order their messages were dispatched. Messages
+ * of the same sites are received in the order of the queue by one consumer, because
+ * {@link TurSNIndexingQueueSender} sends them in one JMS message group.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSNIndexingLanes {
+    public static final String LANE_DEPTH = "turing.indexing.lane.depth";
+    public static final String LANE_LAG = "turing.indexing.lane.lag";
+    public static final String LANE = "lane";
+    private final List<Lane> lanes;
+    private final Object barrierLock = new Object();
+
+    public TurSNIndexingLanes(@Value("${turing.indexing.lanes:0}") int laneCount,
+            MeterRegistry meterRegistry) {
+        int size = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        this.lanes = IntStream.range(0, size).mapToObj(Lane::new).toList();
+        lanes.forEach(lane -> {
+            Gauge.builder(LANE_DEPTH, lane, Lane::getDepth)
+                    .tag(LANE, String.valueOf(lane.getIndex()))
+                    .description("Indexing operations waiting in the lane")
+                    .register(meterRegistry);
+            TimeGauge.builder(LANE_LAG, lane, TimeUnit.MILLISECONDS, Lane::getLagMillis)
+                    .tag(LANE, String.valueOf(lane.getIndex()))
+                    .description("Age of the oldest operation waiting in the lane")
+                    .register(meterRegistry);
+        });
+        log.info("Indexing queue consumer uses {} lanes", size);
+    }
+
+    public int size() {
+        return lanes.size();
+    }
+
+    public int laneOf(TurSNJobItem turSNJobItem) {
+        return Math.floorMod(Objects.hash(turSNJobItem.getSiteNames(), turSNJobItem.getLocale(),
+                turSNJobItem.getId()), lanes.size());
+    }
+
+    /**
+     * Splits the job items by lane and waits until every lane has processed its part.
+     * The JMS message is only acknowledged after all of its items were indexed.
+     */
+    public void dispatch(List<TurSNJobItem> jobItems, Consumer<List<TurSNJobItem>> processor) {
+        if (jobItems.isEmpty()) {
+            return;
+        }
+        if (lanes.size() == 1 || jobItems.size() == 1) {
+            runHolding(List.of(lanes.get(laneOf(jobItems.getFirst()))), () -> processor.accept(jobItems));
+            return;
+        }
+        List<List<TurSNJobItem>> partitions = IntStream.range(0, lanes.size())
+                .<List<TurSNJobItem>>mapToObj(i -> new ArrayList<>()).toList();
+        jobItems.forEach(jobItem -> partitions.get(laneOf(jobItem)).add(jobItem));
+        List<CompletableFuture<Void>> futures = IntStream.range(0, lanes.size())
+                .filter(i -> !partitions.get(i).isEmpty())
+                .mapToObj(i -> lanes.get(i).submit(() -> processor.accept(partitions.get(i))))
+                .toList();
+        join(futures);
+    }
+
+    /**
+     * Processes a job item that affects the whole core, like a COMMIT or a DELETE by
+     * type, after every operation already waiting in the lanes. The lanes are held
+     * until it is done, so operations dispatched later run after it.
+     */
+    public void dispatchExclusive(TurSNJobItem jobItem, Consumer<List<TurSNJobItem>> processor) {
+        runHolding(lanes, () -> processor.accept(List.of(jobItem)));
+    }
+
+    /**
+     * Runs in the caller thread once the operations waiting in the lanes are done,
+     * holding the lanes meanwhile, so it takes their place in the order.
+     */
+    private void runHolding(List<Lane> held, Runnable runnable) {
+        CountDownLatch arrived = new CountDownLatch(held.size());
+        CountDownLatch done = new CountDownLatch(1);
+        List<CompletableFuture<Void>> futures;
+        // Barriers of concurrent consumers are queued in the same order in every lane.
+        synchronized (barrierLock) {
+            futures = held.stream().map(lane -> lane.submit(() -> {
+                arrived.countDown();
+                await(done);
+            })).toList();
+        }
+        try {
+            await(arrived);
+            runnable.run();
+        } finally {
+            done.countDown();
+        }
+        join(futures);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TurRuntimeException(e);
+        }
+    }
+
+    private static void join(List<CompletableFuture<Void>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new TurRuntimeException(e.getCause());
+        }
+    }
+
+    public void pause() {
+        lanes.forEach(Lane::pause);
+        log.warn("Indexing lanes PAUSED.");
+    }
+
+    public void resume() {
+        lanes.forEach(Lane::resume);
+        log.info("Indexing lanes RESUMED.");
+    }
+
+    public List<Integer> getDepths() {
+        return lanes.stream().map(Lane::getDepth).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.forEach(Lane::shutdown);
+    }
+
+    private static final class LaneTask implements Runnable {
+        private final Runnable runnable;
+        private final long enqueuedAt = System.currentTimeMillis();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private LaneTask(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            try {
+                runnable.run();
+                completion.complete(null);
+            } catch (RuntimeException | Error e) {
+                completion.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class Lane {
+        private final int index;
+        private final LinkedBlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+        private final ThreadPoolExecutor executor;
+        private final ReentrantLock pauseLock = new ReentrantLock();
+        private final Condition unpaused = pauseLock.newCondition();
+        private volatile boolean paused;
+
+        private Lane(int index) {
+            this.index = index;
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, queue,
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "tur-indexing-lane-" + index);
+                        thread.setDaemon(true);
+                        return thread;
+                    }) {
+                @Override
+                protected void beforeExecute(Thread thread, Runnable runnable) {
+                    super.beforeExecute(thread, runnable);
+                    awaitResumed();
+                }
+            };
+        }
+
+        private CompletableFuture<Void> submit(Runnable runnable) {
+            LaneTask laneTask = new LaneTask(runnable);
+            executor.execute(laneTask);
+            return laneTask.completion;
+        }
+
+        private void awaitResumed() {
+            pauseLock.lock();
+            try {
+                while (paused) {
+                    unpaused.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                pauseLock.unlock();
+            }
+        }
+
+        private void pause() {
+            pauseLock.lock();
+            try {
+                paused = true;
+            } finally {
+                pauseLock.unlock();
+            }
+        }
+
+        private void resume() {
+            pauseLock.lock();
+            try {
+                paused = false;
+                unpaused.signalAll();
+            } finally {
+                pauseLock.unlock();
+            }
+        }
+
+        private int getIndex() {
+            return index;
+        }
+
+        private int getDepth() {
+            return queue.size();
+        }
+
+        private long getLagMillis() {
+            return queue.peek() instanceof LaneTask laneTask
+                    ? System.currentTimeMillis() - laneTask.enqueuedAt
+                    : 0L;
+        }
+
+        private void shutdown() {
+            resume();
+            executor.shutdownNow();
+        }
+    }
+}
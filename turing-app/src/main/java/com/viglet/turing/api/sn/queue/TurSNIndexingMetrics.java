@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Time and number of items of each {@link TurSNIndexingStage} of the indexing queue
+ * consumer, tagged by site and locale and published as {@value #STAGE} and
+ * {@value #STAGE_ITEMS}.
+ * <p>
+ * The stages of a JMS message are also added up in the {@link Trace} of its
+ * {@link TurSNIndexingContext}, which is logged
+ * when the message takes longer than {@code turing.indexing.trace.slow-threshold}
+ * milliseconds; zero disables the log.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSNIndexingMetrics {
+    public static final String STAGE = "turing.indexing.stage";
+    public static final String STAGE_ITEMS = "turing.indexing.stage.items";
+    public static final String STAGE_TAG = "stage";
+    public static final String SITE_TAG = "site";
+    public static final String LOCALE_TAG = "locale";
+    public static final String MIXED = "mixed";
+    private final Map<Key, Meters> meters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+
+    public TurSNIndexingMetrics(MeterRegistry meterRegistry,
+            @Value("${turing.indexing.trace.slow-threshold:5000}") long slowThresholdMillis) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    /**
+     * Starts the trace of a JMS message, to be made current with a
+     * {@link TurSNIndexingContext}. Closing it records the {@link TurSNIndexingStage#RECEIVE}
+     * stage and logs the trace of a slow message.
+     */
+    public Trace start(Collection<TurSNJobItem> jobItems) {
+        return new Trace(tag(jobItems.stream()
+                .filter(Objects::nonNull)
+                .flatMap(turSNJobItem -> turSNJobItem.getSiteNames() == null
+                        ? Stream.<String>empty()
+                        : turSNJobItem.getSiteNames().stream())
+                .collect(Collectors.toSet())),
+                tag(jobItems.stream()
+                        .filter(Objects::nonNull)
+                        .map(turSNJobItem -> String.valueOf(turSNJobItem.getLocale()))
+                        .collect(Collectors.toSet())),
+                jobItems.size());
+    }
+
+    public <T> T record(TurSNIndexingStage stage, String siteName, Locale locale, int items,
+            Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(stage, siteName, String.valueOf(locale), items, System.nanoTime() - start);
+        }
+    }
+
+    public void record(TurSNIndexingStage stage, String siteName, Locale locale, int items,
+            Runnable action) {
+        record(stage, siteName, locale, items, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void record(TurSNIndexingStage stage, String siteName, String locale, int items,
+            long nanos) {
+        Meters stageMeters = meters.computeIfAbsent(new Key(stage, siteName, locale), this::register);
+        stageMeters.timer().record(nanos, TimeUnit.NANOSECONDS);
+        stageMeters.items().increment(items);
+        TurSNIndexingContext.current().ifPresent(context -> context.getTrace().add(stage, items, nanos));
+    }
+
+    private Meters register(Key key) {
+        return new Meters(Timer.builder(STAGE)
+                .description("Time spent in a stage of the indexing queue consumer")
+                .tag(STAGE_TAG, key.stage().getTag())
+                .tag(SITE_TAG, key.siteName())
+                .tag(LOCALE_TAG, key.locale())
+                .register(meterRegistry),
+                Counter.builder(STAGE_ITEMS)
+                        .description("Job items processed by a stage of the indexing queue consumer")
+                        .tag(STAGE_TAG, key.stage().getTag())
+                        .tag(SITE_TAG, key.siteName())
+                        .tag(LOCALE_TAG, key.locale())
+                        .register(meterRegistry));
+    }
+
+    private static String tag(Collection<String> values) {
+        return switch (values.size()) {
+            case 0 -> "none";
+            case 1 -> values.iterator().next();
+            default -> MIXED;
+        };
+    }
+
+    private record Key(TurSNIndexingStage stage, String siteName, String locale) {
+    }
+
+    private record Meters(Timer timer, Counter items) {
+    }
+
+    public class Trace implements AutoCloseable {
+        private final long start = System.nanoTime();
+        private final String siteName;
+        private final String locale;
+        private final int items;
+        private final Map<TurSNIndexingStage, LongAdder> nanos = new EnumMap<>(TurSNIndexingStage.class);
+        private final Map<TurSNIndexingStage, LongAdder> counts = new EnumMap<>(TurSNIndexingStage.class);
+
+        private Trace(String siteName, String locale, int items) {
+            this.siteName = siteName;
+            this.locale = locale;
+            this.items = items;
+            // All the stages are created here, so lanes on other threads only read the maps.
+            for (TurSNIndexingStage stage : TurSNIndexingStage.values()) {
+                nanos.put(stage, new LongAdder());
+                counts.put(stage, new LongAdder());
+            }
+        }
+
+        public long getNanos(TurSNIndexingStage stage) {
+            return nanos.get(stage).sum();
+        }
+
+        void add(TurSNIndexingStage stage, int count, long elapsed) {
+            nanos.get(stage).add(elapsed);
+            counts.get(stage).add(count);
+        }
+
+        @Override
+        public void close() {
+            long elapsed = System.nanoTime() - start;
+            record(TurSNIndexingStage.RECEIVE, siteName, locale, items, elapsed);
+            if (slowThresholdNanos > 0 && elapsed >= slowThresholdNanos) {
+                log.warn("Slow indexing message of '{}' SN Site ({}): {} items in {} ms [{}]", siteName, locale,
+                        items, TimeUnit.NANOSECONDS.toMillis(elapsed), summary());
+            }
+        }
+
+        private String summary() {
+            return nanos.entrySet().stream()
+                    .filter(entry -> entry.getKey() != TurSNIndexingStage.RECEIVE
+                            && counts.get(entry.getKey()).sum() > 0)
+                    .map(entry -> String.format("%s=%d ms/%d", entry.getKey().getTag(),
+                            TimeUnit.NANOSECONDS.toMillis(entry.getValue().sum()),
+                            counts.get(entry.getKey()).sum()))
+                    .collect(Collectors.joining(", "));
+        }
+    }
+}
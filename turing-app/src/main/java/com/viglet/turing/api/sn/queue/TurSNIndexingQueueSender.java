@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.jms.core.JmsMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.sn.TurSNConstants;
+
+/**
+ * Sends job items to the indexing queue in JMS message groups. Items are split by their
+ * site names, and each message has the sites as its {@value #GROUP_ID}, so the broker
+ * delivers the messages of the same sites to one consumer, in order, even when the
+ * listener has more than one consumer.
+ * <p>
+ * Only the messages sent by {@link #sendBulkDeIndex(TurSNJobItems)} have the
+ * {@value #BULK_DEINDEX} property, which allows the delete-by-query of their job items.
+ * The property is set by the server alone, so a client of the import endpoints can't
+ * send a query of its own.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Component
+public class TurSNIndexingQueueSender {
+    public static final String GROUP_ID = "JMSXGroupID";
+    public static final String BULK_DEINDEX = "turingBulkDeIndex";
+    private final JmsMessagingTemplate jmsMessagingTemplate;
+
+    public TurSNIndexingQueueSender(JmsMessagingTemplate jmsMessagingTemplate) {
+        this.jmsMessagingTemplate = jmsMessagingTemplate;
+    }
+
+    public void send(TurSNJobItems turSNJobItems) {
+        send(turSNJobItems, Map.of());
+    }
+
+    /**
+     * Sends the DELETE job items of a bulk deindex, whose delete-by-query attributes were
+     * built by the server.
+     */
+    public void sendBulkDeIndex(TurSNJobItems turSNJobItems) {
+        send(turSNJobItems, Map.of(BULK_DEINDEX, true));
+    }
+
+    private void send(TurSNJobItems turSNJobItems, Map<String, Object> headers) {
+        Map<String, List<TurSNJobItem>> groups = new LinkedHashMap<>();
+        turSNJobItems.forEach(turSNJobItem -> groups
+                .computeIfAbsent(groupId(turSNJobItem), key -> new ArrayList<>()).add(turSNJobItem));
+        groups.forEach((groupId, jobItems) -> {
+            Map<String, Object> messageHeaders = new LinkedHashMap<>(headers);
+            messageHeaders.put(GROUP_ID, groupId);
+            jmsMessagingTemplate.convertAndSend(TurSNConstants.INDEXING_QUEUE, new TurSNJobItems(jobItems),
+                    messageHeaders);
+        });
+    }
+
+    static String groupId(TurSNJobItem turSNJobItem) {
+        return Optional.ofNullable(turSNJobItem.getSiteNames()).orElse(List.of()).stream()
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+}
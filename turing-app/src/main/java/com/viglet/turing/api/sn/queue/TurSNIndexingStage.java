@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+/**
+ * Stages of the indexing queue consumer measured by {@link TurSNIndexingMetrics}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+public enum TurSNIndexingStage {
+    /** Whole JMS message, from its receipt to the end of its processing. */
+    RECEIVE("receive"),
+    /** Merge of the document with the documents of its merge providers. */
+    MERGE("merge"),
+    /** Creation of the fields of the job item that the site does not have yet. */
+    CREATE_MISSING_FIELDS("createMissingFields"),
+    /** Normalization of the attributes of the job item before they are sent. */
+    CONVERT("convert"),
+    /** Documents added or updated in the search engine. */
+    SOLR_ADD("solrAdd"),
+    /** Documents removed from the search engine. */
+    SOLR_DELETE("solrDelete"),
+    /** Commit requests. */
+    COMMIT("commit"),
+    /** Spotlights created or removed by job items. */
+    SPOTLIGHT("spotlight");
+
+    private final String tag;
+
+    TurSNIndexingStage(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Short database transactions of the indexing queue consumer.
+ * <p>
+ * The consumer does not hold a transaction while it talks to the search engine; only
+ * the database work runs in a transaction, and each transaction keeps a connection of
+ * the pool until it is committed. The time the connections borrowed for a JMS message
+ * are held, in these transactions or anywhere else, is measured by
+ * {@link TurSNIndexingConnections}, added up in the {@link Message} of its
+ * {@link TurSNIndexingContext} and recorded in {@value #CONNECTION_HOLD}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Component
+public class TurSNIndexingTransactions {
+    public static final String CONNECTION_HOLD = "turing.indexing.connection.hold";
+    private final TransactionTemplate transactionTemplate;
+    private final Timer connectionHold;
+
+    public TurSNIndexingTransactions(PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.connectionHold = Timer.builder(CONNECTION_HOLD)
+                .description("Time a database connection was held to process an indexing message")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the accounting of a JMS message, to be made current with a
+     * {@link TurSNIndexingContext}. Closing it records the connection hold time of the
+     * message.
+     */
+    public Message start() {
+        return new Message();
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    public class Message implements AutoCloseable {
+        private final LongAdder nanos = new LongAdder();
+
+        void addConnectionHold(long elapsed) {
+            nanos.add(elapsed);
+        }
+
+        public long getNanos() {
+            return nanos.sum();
+        }
+
+        @Override
+        public void close() {
+            connectionHold.record(nanos.sum(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.commons.indexing.TurIndexingStatus;
+import com.viglet.turing.logging.TurLoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalescing stage of the indexing queue consumer. The job items with an id are held for
+ * {@code turing.indexing.coalesce.window} milliseconds after they were received, and of
+ * the items held for the same site, locale and id only the latest operation is
+ * processed, so a save-then-publish burst of the same content, sent in several imports,
+ * is indexed once and a CREATE followed by a DELETE collapses to the DELETE. An UPDATE
+ * never supersedes the previous item of the same id, because it only has some
+ * attributes. Items without id and COMMIT items affect the whole core, so they release
+ * all held items before them and are never held.
+ * <p>
+ * Items are released in the order they were received, once the window of every item
+ * before them is over, and at most {@code turing.indexing.coalesce.max-items} items are
+ * held, the oldest ones being released first. The broker has already acknowledged the
+ * held items, so the ones still held when the server stops abruptly are lost, which is
+ * why the window is short. A window of 0 disables the stage.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSNJobCoalescer {
+    private final long windowMillis;
+    private final int maxItems;
+    private final LongSupplier clock;
+    private final LinkedHashMap<Object, Held> held = new LinkedHashMap<>();
+
+    @Autowired
+    public TurSNJobCoalescer(@Value("${turing.indexing.coalesce.window:2000}") long windowMillis,
+            @Value("${turing.indexing.coalesce.max-items:10000}") int maxItems) {
+        this(windowMillis, maxItems, System::currentTimeMillis);
+    }
+
+    TurSNJobCoalescer(long windowMillis, int maxItems, LongSupplier clock) {
+        this.windowMillis = windowMillis;
+        this.maxItems = Math.max(1, maxItems);
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return windowMillis > 0;
+    }
+
+    /**
+     * Holds the received job items.
+     *
+     * @return the job items to process now, in the order they were received.
+     */
+    public synchronized List<TurSNJobItem> hold(List<TurSNJobItem> jobItems) {
+        if (!isEnabled()) {
+            return jobItems;
+        }
+        List<TurSNJobItem> released = new ArrayList<>();
+        long dueAt = clock.getAsLong() + windowMillis;
+        jobItems.forEach(turSNJobItem -> {
+            if (isCoalescable(turSNJobItem)) {
+                Key key = new Key(turSNJobItem.getSiteNames(), turSNJobItem.getLocale(),
+                        turSNJobItem.getId());
+                if (turSNJobItem.getTurSNJobAction() == TurSNJobAction.UPDATE) {
+                    // Processed after the previous item of the id, which a later CREATE or DELETE supersedes.
+                    held.put(held.containsKey(key) ? new Object() : key, new Held(turSNJobItem, dueAt));
+                    return;
+                }
+                Held superseded = held.remove(key);
+                if (superseded != null) {
+                    supersededInfo(superseded.turSNJobItem(), turSNJobItem);
+                }
+                // The window starts with the first item of the id, so a document saved over and over is still indexed.
+                held.put(key, new Held(turSNJobItem, superseded != null ? superseded.dueAt() : dueAt));
+            } else {
+                released.addAll(releaseAll());
+                released.add(turSNJobItem);
+            }
+        });
+        Iterator<Held> oldest = held.values().iterator();
+        while (held.size() > maxItems) {
+            released.add(oldest.next().turSNJobItem());
+            oldest.remove();
+        }
+        return released;
+    }
+
+    /**
+     * @return the held job items whose window is over, in the order they were received.
+     */
+    public synchronized List<TurSNJobItem> release() {
+        List<TurSNJobItem> released = new ArrayList<>();
+        long now = clock.getAsLong();
+        Iterator<Held> iterator = held.values().iterator();
+        while (iterator.hasNext()) {
+            Held next = iterator.next();
+            if (next.dueAt() > now) {
+                break;
+            }
+            released.add(next.turSNJobItem());
+            iterator.remove();
+        }
+        logReleased(released);
+        return released;
+    }
+
+    /**
+     * @return all held job items, in the order they were received.
+     */
+    public synchronized List<TurSNJobItem> releaseAll() {
+        List<TurSNJobItem> released = held.values().stream().map(Held::turSNJobItem).toList();
+        held.clear();
+        return released;
+    }
+
+    private static void logReleased(List<TurSNJobItem> released) {
+        if (!released.isEmpty()) {
+            log.debug("{} coalesced job items released", released.size());
+        }
+    }
+
+    private static boolean isCoalescable(TurSNJobItem turSNJobItem) {
+        return turSNJobItem.getTurSNJobAction() != TurSNJobAction.COMMIT
+                && turSNJobItem.getId() != null;
+    }
+
+    private static void supersededInfo(TurSNJobItem superseded, TurSNJobItem turSNJobItem) {
+        log.debug("{} of Object ID '{}' ({}) was superseded by {}", superseded.getTurSNJobAction(),
+                superseded.getId(), superseded.getLocale(), turSNJobItem.getTurSNJobAction());
+        TurLoggingUtils.setSuccessStatus(superseded, TurIndexingStatus.SUPERSEDED);
+        TurLoggingUtils.setSuccessStatus(superseded, TurIndexingStatus.FINISHED);
+    }
+
+    private record Key(List<String> siteNames, Locale locale, String id) {
+    }
+
+    private record Held(TurSNJobItem turSNJobItem, long dueAt) {
+    }
+}
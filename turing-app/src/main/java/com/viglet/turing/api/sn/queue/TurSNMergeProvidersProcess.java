@@ -25,13 +25,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrDocumentList;
 import org.springframework.stereotype.Component;
 
+import com.viglet.turing.client.sn.job.TurSNJobItem;
 import com.viglet.turing.commons.sn.field.TurSNFieldName;
 import com.viglet.turing.commons.utils.TurCommonsUtils;
 import com.viglet.turing.persistence.model.sn.TurSNSite;
@@ -39,6 +42,8 @@ import com.viglet.turing.persistence.model.sn.merge.TurSNSiteMergeProviders;
 import com.viglet.turing.persistence.model.sn.merge.TurSNSiteMergeProvidersField;
 import com.viglet.turing.persistence.repository.sn.merge.TurSNSiteMergeProvidersRepository;
 import com.viglet.turing.se.result.TurSEResult;
+import com.viglet.turing.sn.merge.TurSNMergeRelationIndex;
+import com.viglet.turing.sn.merge.TurSNMergeRelations;
 import com.viglet.turing.solr.TurSolr;
 import com.viglet.turing.solr.TurSolrInstanceProcess;
 import com.viglet.turing.solr.TurSolrUtils;
@@ -55,19 +60,21 @@ public class TurSNMergeProvidersProcess {
     private final TurSolrInstanceProcess turSolrInstanceProcess;
     private final TurSolr turSolr;
     private final TurSNSiteMergeProvidersRepository turSNSiteMergeProvidersRepository;
+    private final TurSNMergeRelationIndex turSNMergeRelationIndex;
 
     public TurSNMergeProvidersProcess(TurSolrInstanceProcess turSolrInstanceProcess,
             TurSolr turSolr,
-            TurSNSiteMergeProvidersRepository turSNSiteMergeProvidersRepository) {
+            TurSNSiteMergeProvidersRepository turSNSiteMergeProvidersRepository,
+            TurSNMergeRelationIndex turSNMergeRelationIndex) {
         this.turSolrInstanceProcess = turSolrInstanceProcess;
         this.turSolr = turSolr;
         this.turSNSiteMergeProvidersRepository = turSNSiteMergeProvidersRepository;
+        this.turSNMergeRelationIndex = turSNMergeRelationIndex;
     }
 
     public Map<String, Object> mergeDocuments(TurSNSite turSNSite,
             Map<String, Object> queueDocumentAttrs, Locale locale) {
-        List<TurSNSiteMergeProviders> turSNSiteMergeProvidersList = turSNSiteMergeProvidersRepository
-                .findByTurSNSite(turSNSite);
+        List<TurSNSiteMergeProviders> turSNSiteMergeProvidersList = getMergeProviders(turSNSite);
 
         if (!turSNSiteMergeProvidersList.isEmpty()) {
             TurSNSiteMergeProviders turSNSiteMergeProviders = turSNSiteMergeProvidersList.getFirst();
@@ -95,8 +102,82 @@ public class TurSNMergeProvidersProcess {
         return queueDocumentAttrs;
     }
 
+    /**
+     * Whether documents of the site are merged from more than one provider, so they
+     * can't be changed by atomic updates.
+     */
+    public boolean hasMergeProviders(TurSNSite turSNSite) {
+        return !getMergeProviders(turSNSite).isEmpty();
+    }
+
+    /**
+     * Updates the relation index with the documents written to the core.
+     */
+    public void indexed(TurSNSite turSNSite, Locale locale, List<TurSNJobItem> turSNJobItems) {
+        findRelations(turSNSite, locale).ifPresent(relations -> deIndex(turSNSite,
+                locale, relations.indexed(ids(turSNJobItems))));
+    }
+
+    /**
+     * Updates the relation index with the documents removed from the core.
+     */
+    public void deIndexed(TurSNSite turSNSite, Locale locale, List<TurSNJobItem> turSNJobItems) {
+        findRelations(turSNSite, locale).ifPresent(relations -> relations.deIndexed(ids(turSNJobItems)));
+    }
+
+    /**
+     * Discards the relation index of the core, after documents were removed without
+     * knowing their ids.
+     */
+    public void clear(TurSNSite turSNSite, Locale locale) {
+        turSNMergeRelationIndex.invalidate(turSNSite, effectiveLocale(turSNSite, locale));
+    }
+
+    private List<TurSNSiteMergeProviders> getMergeProviders(TurSNSite turSNSite) {
+        return turSNMergeRelationIndex.isEnabled()
+                ? turSNMergeRelationIndex.getMergeProviders(turSNSite)
+                : turSNSiteMergeProvidersRepository.findByTurSNSite(turSNSite);
+    }
+
+    private Optional<TurSNMergeRelations> findRelations(TurSNSite turSNSite, Locale locale) {
+        if (!turSNMergeRelationIndex.isEnabled()) {
+            return Optional.empty();
+        }
+        return turSNMergeRelationIndex.findRelations(turSNSite, effectiveLocale(turSNSite, locale));
+    }
+
+    private Optional<TurSNMergeRelations> getRelations(TurSNSiteMergeProviders turSNSiteMergeProviders,
+            Locale locale) {
+        if (!turSNMergeRelationIndex.isEnabled()) {
+            return Optional.empty();
+        }
+        return turSNMergeRelationIndex.getRelations(turSNSiteMergeProviders,
+                Optional.ofNullable(locale).orElse(turSNSiteMergeProviders.getLocale()));
+    }
+
+    private Locale effectiveLocale(TurSNSite turSNSite, Locale locale) {
+        return Optional.ofNullable(locale).orElseGet(() -> getMergeProviders(turSNSite).stream()
+                .findFirst().map(TurSNSiteMergeProviders::getLocale).orElse(null));
+    }
+
+    private static List<String> ids(List<TurSNJobItem> turSNJobItems) {
+        return turSNJobItems.stream().map(TurSNJobItem::getId).filter(Objects::nonNull).toList();
+    }
+
+    private void deIndex(TurSNSite turSNSite, Locale locale, List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        turSolrInstanceProcess.initIngestInstance(turSNSite.getName(), effectiveLocale(turSNSite, locale))
+                .ifPresent(turSolrInstance -> ids.forEach(id -> turSolr.deIndexing(turSolrInstance, id)));
+    }
+
     private Map<String, Object> mergeFrom(Map<String, Object> queueDocumentAttrs,
             TurSNSiteMergeProviders turSNSiteMergeProviders, Locale locale) {
+        Optional<TurSNMergeRelations> relations = getRelations(turSNSiteMergeProviders, locale);
+        if (relations.isPresent()) {
+            return mergeFrom(queueDocumentAttrs, turSNSiteMergeProviders, locale, relations.get());
+        }
         String relationValue = (String) queueDocumentAttrs.get(turSNSiteMergeProviders.getRelationFrom());
         List<SolrDocument> resultsFrom = solrDocumentsFrom(turSNSiteMergeProviders, relationValue, locale);
         List<SolrDocument> resultsTo = solrDocumentsTo(turSNSiteMergeProviders, relationValue, locale);
@@ -119,8 +200,38 @@ public class TurSNMergeProvidersProcess {
         return queueDocumentAttrs;
     }
 
+    private Map<String, Object> mergeFrom(Map<String, Object> queueDocumentAttrs,
+            TurSNSiteMergeProviders turSNSiteMergeProviders, Locale locale,
+            TurSNMergeRelations relations) {
+        String relationValue = TurSNMergeRelationIndex
+                .relationValue(queueDocumentAttrs.get(turSNSiteMergeProviders.getRelationFrom()));
+        String idValue = TurSNMergeRelationIndex.relationValue(queueDocumentAttrs.get(TurSNFieldName.ID));
+        if (relationValue == null || idValue == null) {
+            return queueDocumentAttrs;
+        }
+        TurSNMergeRelations.FromMatch fromMatch = relations.from(relationValue, idValue,
+                TurSNMergeRelationIndex.overwrittenValues(queueDocumentAttrs, turSNSiteMergeProviders));
+        deIndex(turSNSiteMergeProviders.getTurSNSite(), locale,
+                Stream.ofNullable(fromMatch.deIndexId()).toList());
+        if (fromMatch.toId() != null) {
+            // Only the partner is read, the relation itself comes from the index.
+            List<SolrDocument> resultsTo = solrResultAnd(turSNSiteMergeProviders,
+                    Map.of(TurSNFieldName.ID, fromMatch.toId()), locale);
+            if (hasSolrDocuments(resultsTo)) {
+                TurSEResult turSEResultTo = TurSolrUtils.createTurSEResultFromDocument(resultsTo.getFirst());
+                return doMergeContent(queueDocumentAttrs, turSEResultTo.getFields(), turSNSiteMergeProviders);
+            }
+            relations.standalone(relationValue, idValue);
+        }
+        return queueDocumentAttrs;
+    }
+
     private Map<String, Object> mergeTo(Map<String, Object> queueDocumentAttrs,
             TurSNSiteMergeProviders turSNSiteMergeProviders, Locale locale) {
+        Optional<TurSNMergeRelations> relations = getRelations(turSNSiteMergeProviders, locale);
+        if (relations.isPresent()) {
+            return mergeTo(queueDocumentAttrs, turSNSiteMergeProviders, locale, relations.get());
+        }
         String relationValue = (String) queueDocumentAttrs.get(turSNSiteMergeProviders.getRelationTo());
         List<SolrDocument> resultsFrom = solrDocumentsFrom(turSNSiteMergeProviders, relationValue, locale);
         String idValue = (String) queueDocumentAttrs.get(TurSNFieldName.ID);
@@ -141,6 +252,26 @@ public class TurSNMergeProvidersProcess {
         return queueDocumentAttrs;
     }
 
+    private Map<String, Object> mergeTo(Map<String, Object> queueDocumentAttrs,
+            TurSNSiteMergeProviders turSNSiteMergeProviders, Locale locale,
+            TurSNMergeRelations relations) {
+        String relationValue = TurSNMergeRelationIndex
+                .relationValue(queueDocumentAttrs.get(turSNSiteMergeProviders.getRelationTo()));
+        String idValue = TurSNMergeRelationIndex.relationValue(queueDocumentAttrs.get(TurSNFieldName.ID));
+        if (relationValue == null || idValue == null) {
+            return queueDocumentAttrs;
+        }
+        TurSNMergeRelations.ToMatch toMatch = relations.to(relationValue, idValue);
+        if (toMatch == null) {
+            return queueDocumentAttrs;
+        }
+        Map<String, Object> mergedDocumentAttributes = doMergeContent(toMatch.values(),
+                queueDocumentAttrs, turSNSiteMergeProviders);
+        deIndex(turSNSiteMergeProviders.getTurSNSite(), locale,
+                Stream.ofNullable(toMatch.deIndexId()).toList());
+        return mergedDocumentAttributes;
+    }
+
     private Map<String, Object> doMergeContent(Map<String, Object> attributesFrom, Map<String, Object> attributesTo,
             TurSNSiteMergeProviders turSNSiteMergeProviders) {
         addProviderToSEDocument(attributesTo, turSNSiteMergeProviders.getProviderFrom());
@@ -182,7 +313,7 @@ public class TurSNMergeProvidersProcess {
 
     private void deIndexSolrDocuments(TurSNSiteMergeProviders turSNSiteMergeProviders, List<SolrDocument> results) {
         turSolrInstanceProcess
-                .initSolrInstance(turSNSiteMergeProviders.getTurSNSite().getName(), turSNSiteMergeProviders.getLocale())
+                .initIngestInstance(turSNSiteMergeProviders.getTurSNSite().getName(), turSNSiteMergeProviders.getLocale())
                 .ifPresent(turSolrInstance -> results
                         .forEach(result -> turSolr.deIndexing(turSolrInstance,
                                 result.get(TurSNFieldName.ID).toString())));
@@ -191,7 +322,7 @@ public class TurSNMergeProvidersProcess {
     private SolrDocumentList solrResultAnd(TurSNSiteMergeProviders turSNSiteMergeProviders,
             Map<String, Object> attributes, Locale locale) {
         return turSolrInstanceProcess
-                .initSolrInstance(turSNSiteMergeProviders.getTurSNSite().getName(),
+                .initIngestInstance(turSNSiteMergeProviders.getTurSNSite().getName(),
                         Optional.ofNullable(locale).orElse(turSNSiteMergeProviders.getLocale()))
                 .map(turSolrInstance -> turSolr.solrResultAnd(turSolrInstance, attributes))
                 .orElse(new SolrDocumentList());
@@ -24,6 +24,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.viglet.turing.api.sn.bean.TurSNQueueStatisticsBean;
 import com.viglet.turing.sn.TurSNQueue;
 
 @RestController
@@ -39,4 +40,9 @@ public class TurSNMonitoringQueue {
 	public String turMonitoringQueue() {
 		return String.format("Total %d elements waiting in queue", turSNQueue.getQueueSize());
 	}
+
+	@GetMapping("statistics")
+	public TurSNQueueStatisticsBean turMonitoringQueueStatistics() {
+		return turSNQueue.getStatistics();
+	}
 }
@@ -18,21 +18,27 @@
 package com.viglet.turing.api.sn.queue;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.LocaleUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.jms.annotation.JmsListener;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.viglet.turing.client.sn.job.TurSNJobAction;
 import com.viglet.turing.client.sn.job.TurSNJobAttributeSpec;
@@ -41,6 +47,7 @@ import com.viglet.turing.client.sn.job.TurSNJobItems;
 import com.viglet.turing.commons.indexing.TurIndexingStatus;
 import com.viglet.turing.commons.sn.field.TurSNFieldName;
 import com.viglet.turing.commons.utils.TurCommonsUtils;
+import com.viglet.turing.genai.TurGenAiEmbeddingQueue;
 import com.viglet.turing.logging.TurLoggingUtils;
 import com.viglet.turing.persistence.model.sn.TurSNSite;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteField;
@@ -54,12 +61,21 @@ import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldRepositor
 import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
 import com.viglet.turing.sn.TurSNConstants;
 import com.viglet.turing.sn.TurSNFieldType;
+import com.viglet.turing.sn.TurSNQueue;
+import com.viglet.turing.sn.checksum.TurSNIndexChecksumService;
+import com.viglet.turing.sn.deindex.TurSNBulkDeIndexService;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.sn.search.TurSNSearchCache;
 import com.viglet.turing.sn.spotlight.TurSNSpotlightProcess;
 import com.viglet.turing.solr.TurSolr;
+import com.viglet.turing.solr.TurSolrCommitCoordinator;
+import com.viglet.turing.solr.TurSolrCommitStatus;
 import com.viglet.turing.solr.TurSolrFieldAction;
+import com.viglet.turing.solr.TurSolrInstance;
 import com.viglet.turing.solr.TurSolrInstanceProcess;
 import com.viglet.turing.solr.TurSolrUtils;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -69,6 +85,7 @@ public class TurSNProcessQueue {
     public static final String DEFAULT = "default";
     public static final String INDEXED = "Indexed";
     public static final String DEINDEXED = "Deindexed";
+    public static final String UPDATED = "Updated";
     private final TurSolr turSolr;
     private final TurSNSiteRepository turSNSiteRepository;
     private final TurSNSiteLocaleRepository turSNSiteLocaleRepository;
@@ -79,6 +96,18 @@ public class TurSNProcessQueue {
     private final TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
     private final TurSNSiteFieldExtFacetRepository turSNSiteFieldExtFacetRepository;
     private final TurSEInstanceRepository turSEInstanceRepository;
+    private final TurSNIndexingLanes turSNIndexingLanes;
+    private final TurSNIndexChecksumService turSNIndexChecksumService;
+    private final TurSNSchemaRegistry turSNSchemaRegistry;
+    private final TurSNQueue turSNQueue;
+    private final TurSNIndexingTransactions turSNIndexingTransactions;
+    private final TurSolrCommitCoordinator turSolrCommitCoordinator;
+    private final TurSNIndexingMetrics turSNIndexingMetrics;
+    private final TurSNSearchCache turSNSearchCache;
+    private final TurSNJobCoalescer turSNJobCoalescer;
+    private final TurGenAiEmbeddingQueue turGenAiEmbeddingQueue;
+    private final Object fieldLock = new Object();
+    private final Object coalesceLock = new Object();
 
     public TurSNProcessQueue(TurSolr turSolr, TurSNSiteRepository turSNSiteRepository,
             TurSNSiteLocaleRepository turSNSiteLocaleRepository,
@@ -88,7 +117,17 @@ public class TurSNProcessQueue {
             TurSNSiteFieldRepository turSNSiteFieldRepository,
             TurSNSiteFieldExtRepository turSNSiteFieldExtRepository,
             TurSNSiteFieldExtFacetRepository turSNSiteFieldExtFacetRepository,
-            TurSEInstanceRepository turSEInstanceRepository) {
+            TurSEInstanceRepository turSEInstanceRepository,
+            TurSNIndexingLanes turSNIndexingLanes,
+            TurSNIndexChecksumService turSNIndexChecksumService,
+            TurSNSchemaRegistry turSNSchemaRegistry,
+            TurSNQueue turSNQueue,
+            TurSNIndexingTransactions turSNIndexingTransactions,
+            TurSolrCommitCoordinator turSolrCommitCoordinator,
+            TurSNIndexingMetrics turSNIndexingMetrics,
+            TurSNSearchCache turSNSearchCache,
+            TurSNJobCoalescer turSNJobCoalescer,
+            TurGenAiEmbeddingQueue turGenAiEmbeddingQueue) {
         this.turSolr = turSolr;
         this.turSNSiteRepository = turSNSiteRepository;
         this.turSNSiteLocaleRepository = turSNSiteLocaleRepository;
@@ -99,24 +138,285 @@ public class TurSNProcessQueue {
         this.turSNSiteFieldExtRepository = turSNSiteFieldExtRepository;
         this.turSNSiteFieldExtFacetRepository = turSNSiteFieldExtFacetRepository;
         this.turSEInstanceRepository = turSEInstanceRepository;
+        this.turSNIndexingLanes = turSNIndexingLanes;
+        this.turSNIndexChecksumService = turSNIndexChecksumService;
+        this.turSNSchemaRegistry = turSNSchemaRegistry;
+        this.turSNQueue = turSNQueue;
+        this.turSNIndexingTransactions = turSNIndexingTransactions;
+        this.turSolrCommitCoordinator = turSolrCommitCoordinator;
+        this.turSNIndexingMetrics = turSNIndexingMetrics;
+        this.turSNSearchCache = turSNSearchCache;
+        this.turSNJobCoalescer = turSNJobCoalescer;
+        this.turGenAiEmbeddingQueue = turGenAiEmbeddingQueue;
     }
 
     @JmsListener(destination = TurSNConstants.INDEXING_QUEUE, id = TurSNConstants.INDEXING_QUEUE_LISTENER, concurrency = "${turing.jms.concurrency:1-1}")
-    @Transactional
-    public void receiveIndexingQueue(TurSNJobItems turSNJobItems) {
+    public void receiveIndexingQueue(TurSNJobItems turSNJobItems,
+            @Header(name = TurSNIndexingQueueSender.BULK_DEINDEX, required = false) Boolean bulkDeIndex) {
+        if (!Boolean.TRUE.equals(bulkDeIndex)) {
+            removeDeIndexQueries(turSNJobItems);
+        }
         receiveQueueLog(turSNJobItems);
-        Optional.of(turSNJobItems).ifPresentOrElse(jobItems -> jobItems.forEach(
-                turSNJobItem -> turSNJobItem.getSiteNames().forEach(siteName -> turSNSiteRepository
-                        .findByName(siteName).ifPresent(turSNSite -> {
-                            if (processJob(turSNSite, turSNJobItem)) {
-                                processQueueInfo(turSNSite, turSNJobItem);
+        turSNQueue.received();
+        try {
+            if (turSNJobCoalescer.isEnabled()) {
+                synchronized (coalesceLock) {
+                    dispatch(turSNJobCoalescer.hold(turSNJobItems.getTuringDocuments()));
+                }
+            } else {
+                dispatch(turSNJobItems.getTuringDocuments());
+            }
+        } finally {
+            turSNQueue.completed();
+        }
+    }
+
+    /**
+     * Processes the held job items whose coalescing window is over. The lock keeps the
+     * items released here and by the listener in the order they were received.
+     */
+    @Scheduled(fixedDelayString = "${turing.indexing.coalesce.interval:500}",
+            initialDelayString = "${turing.indexing.coalesce.interval:500}")
+    public void releaseCoalesced() {
+        if (turSNJobCoalescer.isEnabled()) {
+            synchronized (coalesceLock) {
+                dispatch(turSNJobCoalescer.release());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void releaseAllCoalesced() {
+        synchronized (coalesceLock) {
+            dispatch(turSNJobCoalescer.releaseAll());
+        }
+    }
+
+    private void dispatch(List<TurSNJobItem> jobItems) {
+        if (jobItems.isEmpty()) {
+            log.debug("turSNJob empty");
+            return;
+        }
+        // No transaction for the whole message: the database work runs in short
+        // transactions, so the search engine calls do not hold a pool connection.
+        try (TurSNIndexingContext context = TurSNIndexingContext.start(
+                turSNIndexingMetrics.start(jobItems), turSNIndexingTransactions.start())) {
+            Consumer<List<TurSNJobItem>> processor = context.bind(this::processJobItems);
+            List<TurSNJobItem> segment = new ArrayList<>();
+            jobItems.forEach(turSNJobItem -> {
+                if (isLaneJob(turSNJobItem)) {
+                    segment.add(turSNJobItem);
+                } else {
+                    // COMMIT and DELETE by type or query affect the whole core, so previous items must be done.
+                    turSNIndexingLanes.dispatch(segment, processor);
+                    segment.clear();
+                    turSNIndexingLanes.dispatchExclusive(turSNJobItem, processor);
+                }
+            });
+            turSNIndexingLanes.dispatch(segment, processor);
+        }
+    }
+
+    /**
+     * Delete-by-query is only allowed in the messages of a bulk deindex, so the attribute
+     * sent by a client of the import endpoints is dropped.
+     */
+    private static void removeDeIndexQueries(TurSNJobItems turSNJobItems) {
+        turSNJobItems.forEach(turSNJobItem -> {
+            if (turSNJobItem.getAttributes() != null
+                    && turSNJobItem.getAttributes().containsKey(TurSNBulkDeIndexService.QUERY)) {
+                log.warn("Attribute '{}' of a {} job item of {} was ignored, as it is only allowed in a bulk deindex",
+                        TurSNBulkDeIndexService.QUERY, turSNJobItem.getTurSNJobAction(),
+                        turSNJobItem.getSiteNames());
+                Map<String, Object> attributes = new HashMap<>(turSNJobItem.getAttributes());
+                attributes.remove(TurSNBulkDeIndexService.QUERY);
+                turSNJobItem.setAttributes(attributes);
+            }
+        });
+    }
+
+    private static boolean isLaneJob(TurSNJobItem turSNJobItem) {
+        return turSNJobItem.getTurSNJobAction() != TurSNJobAction.COMMIT
+                && turSNJobItem.getId() != null;
+    }
+
+    private void processJobItems(List<TurSNJobItem> jobItems) {
+        Map<String, TurSNIndexingBatch> batches = new LinkedHashMap<>();
+        jobItems.forEach(turSNJobItem -> turSNJobItem.getSiteNames()
+                .forEach(siteName -> turSNSiteRepository.findByName(siteName)
+                        .ifPresent(turSNSite -> {
+                            if (isBatchJob(turSNJobItem)) {
+                                addToBatch(batches, turSNSite, turSNJobItem);
                             } else {
-                                noProcessedWarning(turSNSite, turSNJobItem);
+                                flushBatches(batches);
+                                processJobItem(turSNSite, turSNJobItem);
                             }
-                            TurLoggingUtils.setSuccessStatus(turSNJobItem,
-                                    TurIndexingStatus.FINISHED);
-                        }))),
-                () -> log.debug("turSNJob empty or siteId empty"));
+                        })));
+        flushBatches(batches);
+    }
+
+    private void processJobItem(TurSNSite turSNSite, TurSNJobItem turSNJobItem) {
+        if (processJob(turSNSite, turSNJobItem)) {
+            turSNSearchCache.changed(turSNSite.getName(), turSNJobItem.getLocale());
+            processQueueInfo(turSNSite, turSNJobItem);
+        } else {
+            noProcessedWarning(turSNSite, turSNJobItem);
+        }
+        TurLoggingUtils.setSuccessStatus(turSNJobItem, TurIndexingStatus.FINISHED);
+    }
+
+    private boolean isBatchJob(TurSNJobItem turSNJobItem) {
+        return switch (turSNJobItem.getTurSNJobAction()) {
+            case CREATE -> !turSNSpotlightProcess.isSpotlightJob(turSNJobItem);
+            case DELETE -> !turSNSpotlightProcess.isSpotlightJob(turSNJobItem)
+                    && turSNJobItem.getAttributes().containsKey(TurSNFieldName.ID);
+            case UPDATE -> !turSNSpotlightProcess.isSpotlightJob(turSNJobItem)
+                    && turSNJobItem.getId() != null;
+            case COMMIT -> false;
+        };
+    }
+
+    private void addToBatch(Map<String, TurSNIndexingBatch> batches, TurSNSite turSNSite,
+            TurSNJobItem turSNJobItem) {
+        String key = TurSNIndexingBatch.key(turSNSite, turSNJobItem.getLocale());
+        TurSNIndexingBatch current = batches.get(key);
+        if (current != null && current.getAction() != turSNJobItem.getTurSNJobAction()) {
+            // Keeps the order of CREATE and DELETE operations sent to the same core.
+            flushBatch(batches.remove(key));
+        }
+        if (turSNJobItem.getTurSNJobAction() == TurSNJobAction.CREATE
+                && turSNIndexChecksumService.isUnchanged(turSNSite, turSNJobItem)) {
+            unchangedInfo(turSNSite, turSNJobItem);
+            return;
+        }
+        if (turSNJobItem.getTurSNJobAction() == TurSNJobAction.UPDATE
+                && turSNMergeProvidersProcess.hasMergeProviders(turSNSite)) {
+            mergedUpdateWarning(turSNSite, turSNJobItem);
+            return;
+        }
+        TurSNIndexingBatch batch = batches.computeIfAbsent(key,
+                k -> new TurSNIndexingBatch(turSNSite, turSNJobItem.getLocale(),
+                        turSNJobItem.getTurSNJobAction()));
+        if (turSNJobItem.getTurSNJobAction() == TurSNJobAction.CREATE) {
+            batch.addDocument(turSNJobItem, prepareDocument(turSNJobItem, turSNSite));
+        } else if (turSNJobItem.getTurSNJobAction() == TurSNJobAction.UPDATE) {
+            batch.addDocument(turSNJobItem, prepareUpdate(turSNJobItem, turSNSite));
+        } else {
+            batch.addId(turSNJobItem);
+        }
+    }
+
+    private void flushBatches(Map<String, TurSNIndexingBatch> batches) {
+        batches.values().forEach(this::flushBatch);
+        batches.clear();
+    }
+
+    private void flushBatch(TurSNIndexingBatch batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        TurSNSite turSNSite = batch.getTurSNSite();
+        turSolrInstanceProcess.initIngestInstance(turSNSite.getName(), batch.getLocale())
+                .map(turSolrInstance -> sendBatch(turSolrInstance, batch))
+                .ifPresentOrElse(status -> {
+                    List<TurSNJobItem> processed = new ArrayList<>();
+                    for (int i = 0; i < batch.getJobItems().size(); i++) {
+                        TurSNJobItem turSNJobItem = batch.getJobItems().get(i);
+                        if (i < status.size() && Boolean.TRUE.equals(status.get(i))) {
+                            processQueueInfo(turSNSite, turSNJobItem);
+                            processed.add(turSNJobItem);
+                        } else {
+                            searchEngineErrorWarning(turSNSite, turSNJobItem);
+                        }
+                    }
+                    if (!processed.isEmpty()) {
+                        turSNSearchCache.changed(turSNSite.getName(), batch.getLocale());
+                    }
+                    updateChecksums(batch, processed);
+                }, () -> batch.getJobItems()
+                        .forEach(turSNJobItem -> noProcessedWarning(turSNSite, turSNJobItem)));
+        batch.getJobItems().forEach(turSNJobItem -> TurLoggingUtils.setSuccessStatus(turSNJobItem,
+                TurIndexingStatus.FINISHED));
+    }
+
+    private void updateChecksums(TurSNIndexingBatch batch, List<TurSNJobItem> processed) {
+        if (batch.getAction() == TurSNJobAction.DELETE) {
+            turSNIndexChecksumService.deIndexed(batch.getTurSNSite(), processed);
+            turSNMergeProvidersProcess.deIndexed(batch.getTurSNSite(), batch.getLocale(), processed);
+        } else if (batch.getAction() == TurSNJobAction.UPDATE) {
+            // The checksum is of the whole document, so the next CREATE must be indexed again.
+            turSNIndexChecksumService.deIndexed(batch.getTurSNSite(), processed);
+        } else {
+            turSNIndexChecksumService.indexed(batch.getTurSNSite(), processed);
+            turSNMergeProvidersProcess.indexed(batch.getTurSNSite(), batch.getLocale(), processed);
+            sendToGenAi(batch.getTurSNSite(), processed);
+        }
+    }
+
+    /**
+     * Only the CREATE items written to the core are embedded, as unchanged documents were
+     * skipped and only CREATE has the whole text of the document.
+     */
+    private void sendToGenAi(TurSNSite turSNSite, List<TurSNJobItem> processed) {
+        if (turSNSite.getTurSNSiteGenAi() == null || !turSNSite.getTurSNSiteGenAi().isEnabled()) {
+            return;
+        }
+        List<TurSNJobItem> genAiJobItems = processed.stream()
+                .filter(turSNJobItem -> turSNJobItem.getAttributes().containsKey(TurSNFieldName.ID))
+                .toList();
+        if (!genAiJobItems.isEmpty()) {
+            turGenAiEmbeddingQueue.submit(turSNSite.getName(), genAiJobItems);
+        }
+    }
+
+    private void unchangedInfo(TurSNSite turSNSite, TurSNJobItem turSNJobItem) {
+        log.debug("Object ID '{}' of '{}' SN Site ({}) is unchanged, skipped", turSNJobItem.getId(),
+                turSNSite.getName(), turSNJobItem.getLocale());
+        turSNQueue.processed(turSNSite.getName());
+        TurLoggingUtils.setSuccessStatus(turSNJobItem, TurIndexingStatus.UNCHANGED);
+        TurLoggingUtils.setSuccessStatus(turSNJobItem, TurIndexingStatus.FINISHED);
+    }
+
+    private void mergedUpdateWarning(TurSNSite turSNSite, TurSNJobItem turSNJobItem) {
+        log.warn("Object ID '{}' of '{}' SN Site ({}) was not updated, because the site merges providers "
+                + "and requires the whole document", turSNJobItem.getId(), turSNSite.getName(),
+                turSNJobItem.getLocale());
+        turSNQueue.failed();
+        TurLoggingUtils.setErrorStatus(turSNJobItem, TurIndexingStatus.INDEXED,
+                "Partial update is not supported by sites with merge providers");
+        TurLoggingUtils.setSuccessStatus(turSNJobItem, TurIndexingStatus.FINISHED);
+    }
+
+    private List<Boolean> sendBatch(TurSolrInstance turSolrInstance, TurSNIndexingBatch batch) {
+        log.debug("Sending {} {} operations to {} core", batch.getJobItems().size(),
+                batch.getAction(), turSolrInstance.getCore());
+        TurSNSite turSNSite = batch.getTurSNSite();
+        int items = batch.getJobItems().size();
+        if (batch.getAction() == TurSNJobAction.DELETE) {
+            return turSNIndexingMetrics.record(TurSNIndexingStage.SOLR_DELETE, turSNSite.getName(),
+                    batch.getLocale(), items, () -> turSolr.deIndexing(turSolrInstance, batch.getIds()));
+        }
+        if (batch.getAction() == TurSNJobAction.UPDATE) {
+            return turSNIndexingMetrics.record(TurSNIndexingStage.SOLR_ADD, turSNSite.getName(),
+                    batch.getLocale(), items,
+                    () -> turSolr.update(turSolrInstance, turSNSite, batch.getDocuments()));
+        }
+        return turSEInstanceRepository.findById(turSNSite.getTurSEInstance().getId())
+                .map(seInstance -> turSNIndexingMetrics.record(TurSNIndexingStage.SOLR_ADD,
+                        turSNSite.getName(), batch.getLocale(), items,
+                        () -> turSolr.indexing(turSolrInstance, turSNSite, batch.getDocuments())))
+                .orElse(Collections.emptyList());
+    }
+
+    private void searchEngineErrorWarning(TurSNSite turSNSite, TurSNJobItem turSNJobItem) {
+        log.error("Object ID '{}' of '{}' SN Site ({}) was rejected by the search engine",
+                turSNJobItem.getId(), turSNSite.getName(), turSNJobItem.getLocale());
+        turSNQueue.failed();
+        TurLoggingUtils.setErrorStatus(turSNJobItem,
+                turSNJobItem.getTurSNJobAction() == TurSNJobAction.DELETE
+                        ? TurIndexingStatus.DEINDEXED
+                        : TurIndexingStatus.INDEXED,
+                "Search engine update failed");
     }
 
     private static void receiveQueueLog(TurSNJobItems turSNJobItems) {
@@ -136,6 +436,7 @@ public class TurSNProcessQueue {
         log.warn("Object ID '{}' of '{}' SN Site ({}) was not processed",
                 turSNJobItem.getAttributes().get(TurSNFieldName.ID), turSNSite.getName(),
                 turSNJobItem.getLocale());
+        turSNQueue.failed();
         TurLoggingUtils.setSuccessStatus(turSNJobItem, TurIndexingStatus.NOT_PROCESSED);
     }
 
@@ -145,33 +446,44 @@ public class TurSNProcessQueue {
             case CREATE -> createJob(turSNSite, turSNJobItem);
             case DELETE -> deleteJob(turSNSite, turSNJobItem);
             case COMMIT -> commitJob(turSNSite, turSNJobItem);
+            // Updates with id are sent in batches; spotlights and items without id can't be updated.
+            case UPDATE -> false;
         };
     }
 
     private boolean commitJob(TurSNSite turSNSite, TurSNJobItem turSNJobItem) {
-        return turSolrInstanceProcess
-                .initSolrInstance(turSNSite.getName(), turSNJobItem.getLocale())
-                .map(turSolr::commit).orElse(false);
+        return turSNIndexingMetrics.record(TurSNIndexingStage.COMMIT, turSNSite.getName(),
+                turSNJobItem.getLocale(), 1, () -> turSolrInstanceProcess
+                        .initIngestInstance(turSNSite.getName(), turSNJobItem.getLocale())
+                        .map(turSolrCommitCoordinator::commit)
+                        .map(TurSolrCommitStatus::isAccepted).orElse(false));
     }
 
     private boolean deleteJob(TurSNSite turSNSite, TurSNJobItem turSNJobItem) {
         return (turSNSpotlightProcess.isSpotlightJob(turSNJobItem))
-                ? turSNSpotlightProcess.deleteUnmanagedSpotlight(turSNJobItem, turSNSite)
-                : deIndex(turSNJobItem, turSNSite);
+                ? turSNIndexingMetrics.record(TurSNIndexingStage.SPOTLIGHT, turSNSite.getName(),
+                        turSNJobItem.getLocale(), 1, () -> turSNIndexingTransactions.execute(
+                                () -> turSNSpotlightProcess.deleteUnmanagedSpotlight(turSNJobItem, turSNSite)))
+                : turSNIndexingMetrics.record(TurSNIndexingStage.SOLR_DELETE, turSNSite.getName(),
+                        turSNJobItem.getLocale(), 1, () -> deIndex(turSNJobItem, turSNSite));
     }
 
     private boolean createJob(TurSNSite turSNSite, TurSNJobItem turSNJobItem) {
-        return turSNSpotlightProcess.isSpotlightJob(turSNJobItem)
-                ? turSNSpotlightProcess.createUnmanagedSpotlight(turSNJobItem, turSNSite)
-                : index(turSNJobItem, turSNSite);
+        return turSNIndexingMetrics.record(TurSNIndexingStage.SPOTLIGHT, turSNSite.getName(),
+                turSNJobItem.getLocale(), 1, () -> turSNIndexingTransactions.execute(
+                        () -> turSNSpotlightProcess.createUnmanagedSpotlight(turSNJobItem, turSNSite)));
     }
 
     private void processQueueInfo(TurSNSite turSNSite, TurSNJobItem turSNJobItem) {
+        turSNQueue.processed(turSNSite.getName());
         if (ObjectUtils.allNotNull(turSNSite, turSNJobItem)
                 && turSNJobItem.getAttributes() != null) {
             if (Objects.requireNonNull(turSNJobItem.getTurSNJobAction()) == TurSNJobAction.CREATE) {
                 logCrudObject(turSNSite, turSNJobItem, INDEXED);
                 TurLoggingUtils.setSuccessStatus(turSNJobItem, TurIndexingStatus.INDEXED);
+            } else if (turSNJobItem.getTurSNJobAction() == TurSNJobAction.UPDATE) {
+                logCrudObject(turSNSite, turSNJobItem, UPDATED);
+                TurLoggingUtils.setSuccessStatus(turSNJobItem, TurIndexingStatus.INDEXED);
             } else if (turSNJobItem.getTurSNJobAction() == TurSNJobAction.DELETE) {
                 logCrudObject(turSNSite, turSNJobItem, DEINDEXED);
                 TurLoggingUtils.setSuccessStatus(turSNJobItem, TurIndexingStatus.DEINDEXED);
@@ -185,6 +497,8 @@ public class TurSNProcessQueue {
             logCrudObjectMessage(turSNSite, turSNJobItem, action, TurSNFieldName.ID);
         else if (turSNJobItem.getAttributes().containsKey(TurSNFieldName.TYPE))
             logCrudObjectMessage(turSNSite, turSNJobItem, action, TurSNFieldName.TYPE);
+        else if (turSNJobItem.getAttributes().containsKey(TurSNBulkDeIndexService.QUERY))
+            logCrudObjectMessage(turSNSite, turSNJobItem, action, TurSNBulkDeIndexService.QUERY);
     }
 
     private static void logCrudObjectMessage(TurSNSite turSNSite, TurSNJobItem turSNJobItem,
@@ -197,46 +511,84 @@ public class TurSNProcessQueue {
     public boolean deIndex(TurSNJobItem turSNJobItem, TurSNSite turSNSite) {
         log.debug("DeIndex");
         return turSolrInstanceProcess
-                .initSolrInstance(turSNSite.getName(), turSNJobItem.getLocale())
+                .initIngestInstance(turSNSite.getName(), turSNJobItem.getLocale())
                 .map(turSolrInstance -> {
                     if (turSNJobItem.getAttributes().containsKey(TurSNFieldName.ID)) {
                         turSolr.deIndexing(turSolrInstance, turSNJobItem.getId());
+                        turSNMergeProvidersProcess.deIndexed(turSNSite, turSNJobItem.getLocale(),
+                                List.of(turSNJobItem));
                     } else if (turSNJobItem.getAttributes().containsKey(TurSNFieldName.TYPE)) {
                         turSolr.deIndexingByType(turSolrInstance,
                                 (String) turSNJobItem.getAttributes().get(TurSNFieldName.TYPE));
+                        // Ids removed by type are unknown, so the core has to be compared again.
+                        turSNIndexChecksumService.clear(turSNSite, turSNJobItem.getLocale());
+                        turSNMergeProvidersProcess.clear(turSNSite, turSNJobItem.getLocale());
+                    } else if (turSNJobItem.getAttributes().containsKey(TurSNBulkDeIndexService.QUERY)) {
+                        boolean deleted = turSolr.deIndexingByQuery(turSolrInstance,
+                                (String) turSNJobItem.getAttributes().get(TurSNBulkDeIndexService.QUERY));
+                        turSNIndexChecksumService.clear(turSNSite, turSNJobItem.getLocale());
+                        turSNMergeProvidersProcess.clear(turSNSite, turSNJobItem.getLocale());
+                        return deleted;
                     }
                     return true;
                 }).orElse(false);
     }
 
-    private boolean index(TurSNJobItem turSNJobItem, TurSNSite turSNSite) {
-        Map<String, Object> attributes = this.removeDuplicateTerms(turSNMergeProvidersProcess.mergeDocuments(turSNSite,
-                getConsolidateResults(turSNJobItem), turSNJobItem.getLocale()));
-        createMissingFields(turSNSite, turSNJobItem.getSpecs());
-        return turSolrInstanceProcess
-                .initSolrInstance(turSNSite.getName(), turSNJobItem.getLocale())
-                .map(turSolrInstance -> {
-                    turSEInstanceRepository.findById(turSNSite.getTurSEInstance().getId())
-                            .ifPresent(seInstance -> turSolr.indexing(turSolrInstance, turSNSite,
-                                    attributes));
-                    return true;
-                }).orElse(false);
+    private Map<String, Object> prepareDocument(TurSNJobItem turSNJobItem, TurSNSite turSNSite) {
+        String siteName = turSNSite.getName();
+        Locale locale = turSNJobItem.getLocale();
+        Map<String, Object> consolidated = turSNIndexingMetrics.record(TurSNIndexingStage.CONVERT, siteName,
+                locale, 0, () -> getConsolidateResults(turSNJobItem));
+        Map<String, Object> merged = turSNIndexingMetrics.record(TurSNIndexingStage.MERGE, siteName, locale, 1,
+                () -> turSNMergeProvidersProcess.mergeDocuments(turSNSite, consolidated, locale));
+        Map<String, Object> attributes = turSNIndexingMetrics.record(TurSNIndexingStage.CONVERT, siteName,
+                locale, 1, () -> this.removeDuplicateTerms(merged));
+        createMissingFields(turSNSite, turSNJobItem.getSpecs(), locale);
+        return attributes;
+    }
 
+    /**
+     * Attributes of an UPDATE are sent as they are, because they are only the changed
+     * attributes and their update operations. Sites with merge providers reject updates,
+     * since the merged document can only be built from the whole document.
+     */
+    private Map<String, Object> prepareUpdate(TurSNJobItem turSNJobItem, TurSNSite turSNSite) {
+        Optional.ofNullable(turSNJobItem.getSpecs())
+                .ifPresent(specs -> createMissingFields(turSNSite, specs, turSNJobItem.getLocale()));
+        return new HashMap<>(turSNJobItem.getAttributes());
     }
 
     private void createMissingFields(TurSNSite turSNSite,
-            List<TurSNJobAttributeSpec> turSNAttributeSpecs) {
-        turSNAttributeSpecs.forEach(spec -> {
-            if (!turSNSiteFieldExtRepository.existsByTurSNSiteAndName(turSNSite, spec.getName())) {
-                final TurSNSiteField turSNSiteField = saveSiteField(turSNSite, spec);
-                saveFaceLocales(spec, saveSiteFieldExt(turSNSite, spec, turSNSiteField));
-                turSNSiteLocaleRepository.findByTurSNSite(turSNSite).stream()
-                        .filter(turSNSiteLocale -> !existsFieldInSearchEngine(turSNSite,
-                                turSNSiteLocale.getCore(), spec.getName()))
-                        .forEach(turSNSiteLocale -> createFieldInSearchEngine(turSNSite,
-                                turSNSiteLocale.getCore(), turSNSiteField));
+            List<TurSNJobAttributeSpec> turSNAttributeSpecs, Locale locale) {
+        turSNIndexingMetrics.record(TurSNIndexingStage.CREATE_MISSING_FIELDS, turSNSite.getName(), locale, 1,
+                () -> turSNAttributeSpecs.stream()
+                        .filter(spec -> !turSNSchemaRegistry.existsInSite(turSNSite, spec.getName()))
+                        .forEach(spec -> createMissingField(turSNSite, spec)));
+    }
+
+    private void createMissingField(TurSNSite turSNSite, TurSNJobAttributeSpec spec) {
+        // Lanes run in parallel, so only one of them may create a new field.
+        synchronized (fieldLock) {
+            if (turSNSchemaRegistry.existsInSite(turSNSite, spec.getName())) {
+                return;
             }
-        });
+            final TurSNSiteField turSNSiteField = turSNIndexingTransactions.execute(() -> {
+                TurSNSiteField siteField = saveSiteField(turSNSite, spec);
+                saveFaceLocales(spec, saveSiteFieldExt(turSNSite, spec, siteField));
+                return siteField;
+            });
+            turSNSchemaRegistry.addToSite(turSNSite, spec.getName());
+            // The schema API is called after the commit, outside the transaction.
+            // A core being rebuilt by a reindex needs the new field too.
+            turSNSiteLocaleRepository.findByTurSNSite(turSNSite).stream()
+                    .flatMap(turSNSiteLocale -> Stream.concat(Stream.of(turSNSiteLocale.getCore()),
+                            turSolrInstanceProcess.getIngestRoute(turSNSiteLocale).stream()))
+                    .filter(core -> !turSNSchemaRegistry.existsInCore(turSNSite, core, spec.getName()))
+                    .forEach(core -> {
+                        createFieldInSearchEngine(turSNSite, core, turSNSiteField);
+                        turSNSchemaRegistry.addToCore(turSNSite, core, spec.getName());
+                    });
+        }
     }
 
     private void saveFaceLocales(TurSNJobAttributeSpec spec, TurSNSiteFieldExt turSNSiteFieldExt) {
@@ -284,10 +636,6 @@ public class TurSNProcessQueue {
 
     }
 
-    private boolean existsFieldInSearchEngine(TurSNSite turSNSite, String coreName, String name) {
-        return TurSolrUtils.existsField(turSNSite.getTurSEInstance(), coreName, name);
-    }
-
     private Map<String, Object> getConsolidateResults(TurSNJobItem turSNJobItem) {
         Map<String, Object> consolidateResults = new HashMap<>();
         Optional.ofNullable(turSNJobItem.getAttributes())
@@ -1,6 +1,9 @@
 package com.viglet.turing.api.sn.queue;
 
+import java.util.Optional;
+
 import org.springframework.jms.config.JmsListenerEndpointRegistry;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
 import org.springframework.jms.listener.MessageListenerContainer;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -11,10 +14,13 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class TurSNQueueControlService {
     private final JmsListenerEndpointRegistry registry;
+    private final TurSNIndexingLanes turSNIndexingLanes;
     private boolean suspendedQueue = false;
 
-    public TurSNQueueControlService(JmsListenerEndpointRegistry registry) {
+    public TurSNQueueControlService(JmsListenerEndpointRegistry registry,
+            TurSNIndexingLanes turSNIndexingLanes) {
         this.registry = registry;
+        this.turSNIndexingLanes = turSNIndexingLanes;
     }
 
     public void suspendQueue(String listenerId) {
@@ -22,12 +28,18 @@ public class TurSNQueueControlService {
         MessageListenerContainer container = registry.getListenerContainer(listenerId);
         if (container != null && container.isRunning()) {
             container.stop();
+            if (isIndexingQueue(listenerId)) {
+                turSNIndexingLanes.pause();
+            }
             log.error("Queue listener '{}' SUSPENDED.", listenerId);
             startMonitoring();
         }
     }
 
     public void startQueue(String listenerId) {
+        if (isIndexingQueue(listenerId)) {
+            turSNIndexingLanes.resume();
+        }
         MessageListenerContainer container = registry.getListenerContainer(listenerId);
         if (container != null && !container.isRunning()) {
             container.start();
@@ -35,6 +47,42 @@ public class TurSNQueueControlService {
         }
     }
 
+    /**
+     * Consumers of a running listener whose concurrency can be changed.
+     */
+    public Optional<Integer> getConcurrency(String listenerId) {
+        return resizableContainer(listenerId).map(DefaultMessageListenerContainer::getConcurrentConsumers);
+    }
+
+    /**
+     * Changes the consumers of a running listener, replacing the range of
+     * {@code turing.jms.concurrency} with a fixed number.
+     *
+     * @return {@code false} when the listener is stopped or can not be resized
+     */
+    public boolean setConcurrency(String listenerId, int consumers) {
+        return resizableContainer(listenerId).map(container -> {
+            // The maximum can not be lower than the current consumers, so the order depends on the direction.
+            if (consumers > container.getConcurrentConsumers()) {
+                container.setMaxConcurrentConsumers(consumers);
+                container.setConcurrentConsumers(consumers);
+            } else {
+                container.setConcurrentConsumers(consumers);
+                container.setMaxConcurrentConsumers(consumers);
+            }
+            return true;
+        }).orElse(false);
+    }
+
+    private Optional<DefaultMessageListenerContainer> resizableContainer(String listenerId) {
+        return registry.getListenerContainer(listenerId) instanceof DefaultMessageListenerContainer container
+                && container.isRunning() ? Optional.of(container) : Optional.empty();
+    }
+
+    private static boolean isIndexingQueue(String listenerId) {
+        return TurSNConstants.INDEXING_QUEUE_LISTENER.equals(listenerId);
+    }
+
     public void startMonitoring() {
         this.suspendedQueue = true;
     }
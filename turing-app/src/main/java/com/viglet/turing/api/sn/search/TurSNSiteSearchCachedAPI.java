@@ -26,7 +26,6 @@ import org.bson.conversions.Bson;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -37,6 +36,7 @@ import com.mongodb.client.model.Filters;
 import com.viglet.turing.commons.sn.bean.TurSNSiteSearchBean;
 import com.viglet.turing.commons.sn.search.TurSNSiteSearchContext;
 import com.viglet.turing.sn.TurSNSearchProcess;
+import com.viglet.turing.sn.search.TurSNSearchCache;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,6 +45,7 @@ import lombok.extern.slf4j.Slf4j;
 public class TurSNSiteSearchCachedAPI {
     public static final String TIMESTAMP = "timestamp";
     private final TurSNSearchProcess turSNSearchProcess;
+    private final TurSNSearchCache turSNSearchCache;
     private final boolean enabled;
     private final String connectionString;
     private final String databaseName;
@@ -60,8 +61,10 @@ public class TurSNSiteSearchCachedAPI {
             @Value("${turing.mongodb.logging.collection.server:'server'}") String serverCollectionName,
             @Value("${turing.mongodb.logging.collection.indexing:'indexing'}") String indexingCollectionName,
             @Value("${turing.mongodb.logging.collection.aem:'aem'}") String aemCollectionName,
-            @Value("${turing.mongodb.logging.purge.days:30}") int purgeDays) {
+            @Value("${turing.mongodb.logging.purge.days:30}") int purgeDays,
+            TurSNSearchCache turSNSearchCache) {
         this.turSNSearchProcess = turSNSearchProcess;
+        this.turSNSearchCache = turSNSearchCache;
         this.enabled = enabled;
         this.connectionString = connectionString;
         this.databaseName = databaseName;
@@ -71,17 +74,16 @@ public class TurSNSiteSearchCachedAPI {
         this.purgeDays = purgeDays;
     }
 
-    @CacheEvict(value = "searchAPI", allEntries = true)
+    @CacheEvict(value = TurSNSearchCache.SEARCH_API, allEntries = true)
     @Scheduled(fixedRateString = "${turing.search.cache.ttl.seconds:86400000}")
     public void cleanSearchCache() {
         log.info("Cleaning Search API");
     }
 
-    @Cacheable(value = "searchAPI", key = "#cacheKey")
     public TurSNSiteSearchBean searchCached(String cacheKey,
             TurSNSiteSearchContext turSNSiteSearchContext) {
-        log.info("Search cache key: {}", cacheKey);
-        return turSNSearchProcess.search(turSNSiteSearchContext);
+        return turSNSearchCache.get(cacheKey, turSNSiteSearchContext,
+                () -> turSNSearchProcess.search(turSNSiteSearchContext));
     }
 
     @Scheduled(cron = "0 0 0 * * *")
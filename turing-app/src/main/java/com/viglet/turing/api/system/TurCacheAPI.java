@@ -6,6 +6,7 @@ import java.util.Map;
 
 import org.springframework.cache.CacheManager;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,15 +14,19 @@ import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.viglet.turing.sn.search.TurSNSearchCache;
+
 @RestController
 @RequestMapping("/api/system/cache")
 @Tag(name = "Cache", description = "Application Cache API")
 public class TurCacheAPI {
 
     private final CacheManager cacheManager;
+    private final TurSNSearchCache turSNSearchCache;
 
-    public TurCacheAPI(CacheManager cacheManager) {
+    public TurCacheAPI(CacheManager cacheManager, TurSNSearchCache turSNSearchCache) {
         this.cacheManager = cacheManager;
+        this.turSNSearchCache = turSNSearchCache;
     }
 
     @Operation(summary = "List all application caches")
@@ -52,4 +57,28 @@ public class TurCacheAPI {
         result.put("cacheNames", cacheNames);
         return result;
     }
+
+    @Operation(summary = "Search cache statistics of a SN Site")
+    @GetMapping("/search/{siteName}")
+    public Map<String, Object> searchCacheStatistics(@PathVariable String siteName) {
+        long hits = turSNSearchCache.count(siteName, TurSNSearchCache.HIT);
+        long misses = turSNSearchCache.count(siteName, TurSNSearchCache.MISS);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", true);
+        result.put("siteName", siteName);
+        result.put("hits", hits);
+        result.put("misses", misses);
+        result.put("hitRatio", hits + misses > 0 ? (double) hits / (hits + misses) : 0d);
+        return result;
+    }
+
+    @Operation(summary = "Clear the search cache of a SN Site")
+    @PostMapping("/search/{siteName}/clear")
+    public Map<String, Object> clearSearchCache(@PathVariable String siteName) {
+        turSNSearchCache.invalidate(siteName);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", true);
+        result.put("siteName", siteName);
+        return result;
+    }
 }
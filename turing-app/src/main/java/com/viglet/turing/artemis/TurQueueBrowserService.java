@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import javax.management.MBeanServer;
 import javax.management.MBeanServerInvocationHandler;
@@ -16,8 +17,10 @@ import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.api.core.management.ActiveMQServerControl;
 import org.apache.activemq.artemis.api.core.management.ObjectNameBuilder;
 import org.apache.activemq.artemis.api.core.management.QueueControl;
-import org.apache.activemq.artemis.jms.client.ActiveMQObjectMessage;
 import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.SimpleMessageConverter;
 import org.springframework.stereotype.Service;
 
 import com.viglet.turing.client.sn.job.TurSNJobItems;
@@ -95,18 +98,21 @@ public class TurQueueBrowserService {
 
     private void processMessage(Message message, List<String> contents) {
         try {
-            if (message instanceof ActiveMQObjectMessage activeMQMsg &&
-                    activeMQMsg.getObject() instanceof TurSNJobItems jobItems) {
-
+            if (messageConverter().fromMessage(message) instanceof TurSNJobItems jobItems) {
                 jobItems.getTuringDocuments().forEach(doc -> contents.add(doc.getId()));
             } else {
                 contents.add("Unsupported or empty message type: " + message.getClass().getSimpleName());
             }
-        } catch (JMSException e) {
+        } catch (JMSException | MessageConversionException e) {
             contents.add("Error reading message: " + e.getMessage());
         }
     }
 
+    private MessageConverter messageConverter() {
+        return Optional.ofNullable(jmsTemplate.getMessageConverter())
+                .orElseGet(SimpleMessageConverter::new);
+    }
+
     private <T> T createProxy(ObjectName objectName, Class<T> interfaceClass) {
         return MBeanServerInvocationHandler.newProxyInstance(mbeanServer, objectName, interfaceClass, false);
     }
@@ -22,6 +22,7 @@
 package com.viglet.turing.exchange.sn;
 
 import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -59,6 +60,7 @@ import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingExpressio
 import com.viglet.turing.persistence.repository.sn.spotlight.TurSNSiteSpotlightRepository;
 import com.viglet.turing.persistence.repository.store.TurStoreInstanceRepository;
 import com.viglet.turing.persistence.repository.store.TurStoreVendorRepository;
+import com.viglet.turing.solr.TurSolrRoutingEvent;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -81,6 +83,7 @@ public class TurSNSiteImport {
 	private final TurStoreVendorRepository turStoreVendorRepository;
 	private final TurSNSiteMergeProvidersRepository turSNSiteMergeProvidersRepository;
 	private final CacheManager cacheManager;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	public TurSNSiteImport(TurSNSiteRepository turSNSiteRepository,
 			TurSEInstanceRepository turSEInstanceRepository,
@@ -97,7 +100,8 @@ public class TurSNSiteImport {
 			TurStoreInstanceRepository turStoreInstanceRepository,
 			TurStoreVendorRepository turStoreVendorRepository,
 			TurSNSiteMergeProvidersRepository turSNSiteMergeProvidersRepository,
-			CacheManager cacheManager) {
+			CacheManager cacheManager,
+			ApplicationEventPublisher applicationEventPublisher) {
 		this.turSNSiteRepository = turSNSiteRepository;
 		this.turSEInstanceRepository = turSEInstanceRepository;
 		this.turSEVendorRepository = turSEVendorRepository;
@@ -114,6 +118,7 @@ public class TurSNSiteImport {
 		this.turStoreVendorRepository = turStoreVendorRepository;
 		this.turSNSiteMergeProvidersRepository = turSNSiteMergeProvidersRepository;
 		this.cacheManager = cacheManager;
+		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
 	@Transactional
@@ -168,6 +173,7 @@ public class TurSNSiteImport {
 			log.info("Imported SN Site: {} ({})", savedSite.getName(), savedSite.getId());
 		}
 		clearSemanticNavigationCaches();
+		applicationEventPublisher.publishEvent(new TurSolrRoutingEvent("SN Site import"));
 	}
 
 	private void importReferencedInstances(TurExchange turExchange) {
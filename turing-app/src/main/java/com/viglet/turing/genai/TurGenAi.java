@@ -25,12 +25,16 @@ import static com.viglet.turing.commons.sn.field.TurSNFieldName.PUBLICATION_DATE
 import static com.viglet.turing.commons.sn.field.TurSNFieldName.SOURCE_APPS;
 import static com.viglet.turing.commons.sn.field.TurSNFieldName.TEXT;
 import static com.viglet.turing.commons.sn.field.TurSNFieldName.TITLE;
+import static com.viglet.turing.commons.sn.field.TurSNFieldName.TYPE;
 import static com.viglet.turing.commons.sn.field.TurSNFieldName.URL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.stream.Collectors;
@@ -40,10 +44,12 @@ import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
 import org.springframework.stereotype.Component;
 
+import com.google.common.collect.Lists;
 import com.viglet.turing.client.sn.job.TurSNJobItem;
-import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
 import com.viglet.turing.sn.TurSNSearchProcess;
 
 import lombok.extern.slf4j.Slf4j;
@@ -109,24 +115,74 @@ public class TurGenAi {
                 .build();
     }
 
-    public void addDocuments(TurSNJobItems turSNJobItems) {
-        turSNJobItems.getTuringDocuments().forEach(jobItem -> jobItem.getSiteNames()
-                .forEach(siteName -> turSNSearchProcess.getSNSite(siteName).ifPresent(turSNSite -> {
-                    TurGenAiContext context = turGenAiContextFactory.build(turSNSite.getTurSNSiteGenAi());
-                    if (context.isEnabled()) {
-                        StringBuilder sb = new StringBuilder();
-                        addAttributes(context, jobItem, sb);
-                        addDocument(context, sb.toString(), setMetadata(jobItem));
-                    }
-                })));
+    /**
+     * Embeds the job items of the site, building the GenAI context once and sending the
+     * chunks of all documents to the vector store in batches of {@code batchSize} chunks.
+     * The chunks a document already had are removed first, so a document indexed again
+     * is not found twice.
+     */
+    public void addDocuments(String siteName, List<TurSNJobItem> jobItems, int batchSize) {
+        turSNSearchProcess.getSNSite(siteName).ifPresent(turSNSite -> {
+            TurGenAiContext context = turGenAiContextFactory.build(turSNSite.getTurSNSiteGenAi());
+            if (context.isEnabled()) {
+                Map<Locale, List<String>> idsByLocale = new LinkedHashMap<>();
+                jobItems.forEach(jobItem -> idsByLocale
+                        .computeIfAbsent(jobItem.getLocale(), key -> new ArrayList<>()).add(jobItem.getId()));
+                idsByLocale.forEach((locale, ids) -> delete(context, siteName, locale, ID, ids, batchSize));
+                List<Document> documents = jobItems.stream()
+                        .flatMap(jobItem -> toDocuments(context, siteName, jobItem).stream())
+                        .toList();
+                Lists.partition(documents, Math.max(1, batchSize))
+                        .forEach(batch -> context.getVectorStore().add(batch));
+                log.info("added {} documents ({} chunks) of '{}' site to embedding store",
+                        jobItems.size(), documents.size(), siteName);
+            }
+        });
+    }
+
+    /**
+     * Removes the chunks of the site locale whose {@code field} metadata is one of the
+     * values, with at most {@code batchSize} values in each delete.
+     *
+     * @return the number of deletes sent to the vector store, none when GenAI is not
+     *         enabled for the site
+     */
+    public int deleteDocuments(TurSNSite turSNSite, Locale locale, String field, List<String> values,
+            int batchSize) {
+        if (values.isEmpty() || turSNSite.getTurSNSiteGenAi() == null
+                || !turSNSite.getTurSNSiteGenAi().isEnabled()) {
+            return 0;
+        }
+        TurGenAiContext context = turGenAiContextFactory.build(turSNSite.getTurSNSiteGenAi());
+        if (!context.isEnabled()) {
+            return 0;
+        }
+        int requests = delete(context, turSNSite.getName(), locale, field, values, batchSize);
+        log.info("removed chunks of {} '{}' values of '{}' site ({}) from embedding store", values.size(),
+                field, turSNSite.getName(), locale);
+        return requests;
     }
 
-    private void addDocument(TurGenAiContext context, String text, Map<String, Object> metadata) {
-        List<Document> documents = splitText(text, CHUNK_SIZE).stream()
+    private static int delete(TurGenAiContext context, String siteName, Locale locale, String field,
+            List<String> values, int batchSize) {
+        FilterExpressionBuilder builder = new FilterExpressionBuilder();
+        int requests = 0;
+        for (List<String> batch : Lists.partition(values, Math.max(1, batchSize))) {
+            context.getVectorStore().delete(builder.and(
+                    builder.and(builder.eq(SITES, siteName), builder.eq(LOCALE, locale.toString())),
+                    builder.in(field, new ArrayList<Object>(batch))).build());
+            requests++;
+        }
+        return requests;
+    }
+
+    private List<Document> toDocuments(TurGenAiContext context, String siteName, TurSNJobItem jobItem) {
+        StringBuilder sb = new StringBuilder();
+        addAttributes(context, jobItem, sb);
+        Map<String, Object> metadata = setMetadata(siteName, jobItem);
+        return splitText(sb.toString(), CHUNK_SIZE).stream()
                 .map(chunk -> new Document(chunk, metadata))
                 .toList();
-        context.getVectorStore().add(documents);
-        log.info("added document to embedding store: {}", metadata.get(ID));
     }
 
     private void addAttributes(TurGenAiContext context, TurSNJobItem jobItem, StringBuilder sb) {
@@ -140,18 +196,21 @@ public class TurGenAi {
     }
 
     @NotNull
-    private Map<String, Object> setMetadata(TurSNJobItem jobItem) {
+    private Map<String, Object> setMetadata(String siteName, TurSNJobItem jobItem) {
         Map<String, Object> metadata = new HashMap<>();
         metadata.put(ID, jobItem.getId());
         metadata.put(LOCALE, jobItem.getLocale().toString());
         metadata.put(SOURCE_APPS, jobItem.getProviderName());
-        metadata.put(SITES, jobItem.getSiteNames().getFirst());
+        metadata.put(SITES, siteName);
         if (jobItem.getAttributes().containsKey(MODIFICATION_DATE)) {
             metadata.put(MODIFICATION_DATE, jobItem.getAttributes().get(MODIFICATION_DATE));
         }
         if (jobItem.getAttributes().containsKey(PUBLICATION_DATE)) {
             metadata.put(PUBLICATION_DATE, jobItem.getAttributes().get(PUBLICATION_DATE));
         }
+        if (jobItem.getAttributes().containsKey(TYPE)) {
+            metadata.put(TYPE, jobItem.getAttributes().get(TYPE));
+        }
         if (jobItem.getAttributes().containsKey(URL)) {
             metadata.put(URL, jobItem.getAttributes().get(URL));
         }
@@ -170,7 +229,7 @@ public class TurGenAi {
             return List.of(text);
         }
         int chunks = (int) Math.ceil((double) text.length() / chunkSize);
-        List<String> result = new java.util.ArrayList<>(chunks);
+        List<String> result = new ArrayList<>(chunks);
         for (int start = 0; start < text.length(); start += chunkSize) {
             int end = Math.min(text.length(), start + chunkSize);
             result.add(text.substring(start, end));
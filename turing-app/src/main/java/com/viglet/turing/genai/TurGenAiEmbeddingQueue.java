@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.genai;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embedding queue of the GenAI sites. The indexing queue consumer only enqueues the job
+ * items of a site that were written to its core, while a bounded pool of workers drains
+ * them, grouping the documents of several messages into one
+ * {@link TurGenAi#addDocuments(String, List, int)} call for each site. When the
+ * queue is full, the producer waits until the offer timeout of the whole submit is over,
+ * and the items that still don't fit are dropped and counted in {@value #EMBEDDING_DROPPED}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurGenAiEmbeddingQueue {
+    public static final String EMBEDDING_PENDING = "turing.genai.embedding.pending";
+    public static final String EMBEDDING_LAG = "turing.genai.embedding.lag";
+    public static final String EMBEDDING_DROPPED = "turing.genai.embedding.dropped";
+    public static final String SITE = "site";
+    private final TurGenAi turGenAi;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final BlockingQueue<Task> queue;
+    private final ExecutorService workers;
+    private final Map<String, SiteStats> siteStats = new ConcurrentHashMap<>();
+    private final Counter dropped;
+    private volatile boolean running = true;
+
+    public TurGenAiEmbeddingQueue(TurGenAi turGenAi, MeterRegistry meterRegistry,
+            @Value("${turing.genai.embedding.workers:2}") int workerCount,
+            @Value("${turing.genai.embedding.batch-size:64}") int batchSize,
+            @Value("${turing.genai.embedding.queue-capacity:10000}") int queueCapacity,
+            @Value("${turing.genai.embedding.offer-timeout:30000}") long offerTimeoutMillis) {
+        this.turGenAi = turGenAi;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.max(1, batchSize);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.dropped = Counter.builder(EMBEDDING_DROPPED)
+                .description("Documents not embedded because the embedding queue was full")
+                .register(meterRegistry);
+        int size = Math.max(1, workerCount);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "turing-genai-embedding-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        IntStream.range(0, size).forEach(i -> workers.execute(this::work));
+    }
+
+    /**
+     * Enqueues the job items of the site, blocking while the queue is full, up to the
+     * offer timeout for all of them.
+     *
+     * @return the number of job items that were accepted.
+     */
+    public int submit(String siteName, List<TurSNJobItem> turSNJobItems) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+        int accepted = 0;
+        List<String> droppedIds = new ArrayList<>();
+        SiteStats siteStats = stats(siteName);
+        for (TurSNJobItem turSNJobItem : turSNJobItems) {
+            Task task = new Task(siteName, turSNJobItem, System.nanoTime());
+            siteStats.pending.incrementAndGet();
+            if (offer(task, deadline)) {
+                accepted++;
+            } else {
+                siteStats.pending.decrementAndGet();
+                dropped.increment();
+                droppedIds.add(turSNJobItem.getId());
+            }
+        }
+        if (!droppedIds.isEmpty()) {
+            log.error("Embedding queue is full, {} documents of '{}' site were not embedded: {}", droppedIds.size(),
+                    siteName, droppedIds);
+        }
+        return accepted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.shutdownNow();
+    }
+
+    private boolean offer(Task task, long deadline) {
+        try {
+            return queue.offer(task, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                List<Task> tasks = new ArrayList<>();
+                tasks.add(queue.take());
+                queue.drainTo(tasks, batchSize - 1);
+                embed(tasks);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void embed(List<Task> tasks) {
+        Map<String, List<Task>> tasksBySite = new LinkedHashMap<>();
+        tasks.forEach(task -> tasksBySite.computeIfAbsent(task.siteName(), key -> new ArrayList<>()).add(task));
+        tasksBySite.forEach((siteName, siteTasks) -> {
+            try {
+                turGenAi.addDocuments(siteName, siteTasks.stream().map(Task::turSNJobItem).toList(), batchSize);
+            } catch (RuntimeException e) {
+                log.error("Embedding of {} documents of '{}' site failed: {}", siteTasks.size(), siteName,
+                        e.getMessage(), e);
+            } finally {
+                long now = System.nanoTime();
+                SiteStats stats = stats(siteName);
+                siteTasks.forEach(task -> {
+                    stats.pending.decrementAndGet();
+                    stats.lagMillis.set(TimeUnit.NANOSECONDS.toMillis(now - task.enqueuedAt()));
+                });
+            }
+        });
+    }
+
+    private SiteStats stats(String siteName) {
+        return siteStats.computeIfAbsent(siteName, name -> {
+            SiteStats stats = new SiteStats();
+            Gauge.builder(EMBEDDING_PENDING, stats.pending, AtomicInteger::get)
+                    .tag(SITE, name)
+                    .description("Documents waiting to be embedded")
+                    .register(meterRegistry);
+            TimeGauge.builder(EMBEDDING_LAG, stats.lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                    .tag(SITE, name)
+                    .description("Time the last embedded document waited in the queue")
+                    .register(meterRegistry);
+            return stats;
+        });
+    }
+
+    private record Task(String siteName, TurSNJobItem turSNJobItem, long enqueuedAt) {
+    }
+
+    private static class SiteStats {
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicLong lagMillis = new AtomicLong();
+    }
+}
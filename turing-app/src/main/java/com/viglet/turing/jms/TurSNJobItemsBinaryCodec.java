@@ -0,0 +1,506 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.jms;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.lang3.LocaleUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobAttributeSpec;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.commons.exception.TurRuntimeException;
+import com.viglet.turing.commons.se.field.TurSEFieldType;
+
+/**
+ * Compact binary format of the indexing messages. A four byte header (magic, schema
+ * version and flags) is followed by the job items, optionally Deflate compressed.
+ * Lengths and integers are varints, and attribute names, site names and locales are
+ * written once per message and then referenced by their index in a dictionary built
+ * while writing. Values of unknown types fall back to Java serialization, and only
+ * JDK value and collection types and the job item classes are read back.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Component
+public class TurSNJobItemsBinaryCodec implements TurSNJobItemsCodec {
+    public static final String NAME = "binary";
+    public static final int VERSION = 1;
+    private static final int MAGIC = 0x544A;
+    private static final int FLAG_DEFLATE = 1;
+    private static final int NULL_ACTION = 0xFF;
+    private static final int NULL = 0;
+    private static final int STRING = 1;
+    private static final int INTEGER = 2;
+    private static final int LONG = 3;
+    private static final int DOUBLE = 4;
+    private static final int TRUE = 5;
+    private static final int FALSE = 6;
+    private static final int DATE = 7;
+    private static final int LIST = 8;
+    private static final int MAP = 9;
+    private static final int FLOAT = 10;
+    private static final int SERIALIZED = 11;
+    private static final ObjectInputFilter SERIALIZED_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=20;maxrefs=10000;maxarray=100000;"
+                    + "java.lang.*;java.math.*;java.time.*;java.util.*;java.sql.Date;java.sql.Timestamp;"
+                    + "com.viglet.turing.client.sn.job.TurSNJobItems;"
+                    + "com.viglet.turing.client.sn.job.TurSNJobItem;"
+                    + "com.viglet.turing.client.sn.job.TurSNJobAction;"
+                    + "com.viglet.turing.client.sn.job.TurSNJobAttributeSpec;"
+                    + "com.viglet.turing.client.sn.job.TurSNAttributeSpec;"
+                    + "com.viglet.turing.commons.se.field.TurSEFieldType;!*");
+    private final boolean compression;
+    private final int compressionThreshold;
+
+    public TurSNJobItemsBinaryCodec(@Value("${turing.jms.compression:deflate}") String compression,
+            @Value("${turing.jms.compression-threshold:1024}") int compressionThreshold) {
+        this.compression = "deflate".equalsIgnoreCase(compression);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(TurSNJobItems turSNJobItems) {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            Writer writer = new Writer(new DataOutputStream(body));
+            writer.writeJobItems(turSNJobItems);
+            boolean deflate = compression && body.size() >= compressionThreshold;
+            ByteArrayOutputStream message = new ByteArrayOutputStream(body.size() / (deflate ? 3 : 1) + 4);
+            message.write(MAGIC >> 8);
+            message.write(MAGIC & 0xFF);
+            message.write(VERSION);
+            message.write(deflate ? FLAG_DEFLATE : 0);
+            if (deflate) {
+                // A Deflater passed to the stream is not ended by it, so its native memory is freed here.
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (OutputStream out = new DeflaterOutputStream(message, deflater)) {
+                    body.writeTo(out);
+                } finally {
+                    deflater.end();
+                }
+            } else {
+                body.writeTo(message);
+            }
+            return message.toByteArray();
+        } catch (IOException e) {
+            throw new TurRuntimeException("Error encoding job items", e);
+        }
+    }
+
+    @Override
+    public TurSNJobItems decode(byte[] data) {
+        if (data.length < 4 || ((data[0] & 0xFF) << 8 | data[1] & 0xFF) != MAGIC) {
+            throw new TurRuntimeException("Message is not a binary job items message");
+        }
+        if (data[2] != VERSION) {
+            throw new TurRuntimeException("Unsupported job items message version: " + data[2]);
+        }
+        InputStream body = new ByteArrayInputStream(data, 4, data.length - 4);
+        if ((data[3] & FLAG_DEFLATE) != 0) {
+            body = new InflaterInputStream(body);
+        }
+        try (DataInputStream in = new DataInputStream(body)) {
+            return new Reader(in).readJobItems();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new TurRuntimeException("Error decoding job items", e);
+        }
+    }
+
+    private static final class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> dictionary = new HashMap<>();
+
+        private Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        private void writeJobItems(TurSNJobItems turSNJobItems) throws IOException {
+            List<TurSNJobItem> jobItems = turSNJobItems.getTuringDocuments();
+            writeVarInt(jobItems.size());
+            for (TurSNJobItem jobItem : jobItems) {
+                writeJobItem(jobItem);
+            }
+            out.flush();
+        }
+
+        private void writeJobItem(TurSNJobItem jobItem) throws IOException {
+            out.writeByte(jobItem.getTurSNJobAction() == null ? NULL_ACTION
+                    : jobItem.getTurSNJobAction().ordinal());
+            writeName(jobItem.getLocale() == null ? null : jobItem.getLocale().toString());
+            writeNames(jobItem.getSiteNames());
+            writeString(jobItem.getChecksum());
+            writeString(jobItem.getEnvironment());
+            writeSpecs(jobItem.getSpecs());
+            writeMap(jobItem.getAttributes());
+        }
+
+        private void writeSpecs(List<TurSNJobAttributeSpec> specs) throws IOException {
+            if (specs == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(specs.size() + 1);
+            for (TurSNJobAttributeSpec spec : specs) {
+                if (spec == null || spec.getClass() != TurSNJobAttributeSpec.class) {
+                    out.writeBoolean(false);
+                    writeValue(spec);
+                    continue;
+                }
+                out.writeBoolean(true);
+                writeName(spec.getName());
+                writeName(spec.getType() == null ? null : spec.getType().name());
+                out.writeByte((spec.isMandatory() ? 1 : 0) | (spec.isMultiValued() ? 2 : 0)
+                        | (spec.isFacet() ? 4 : 0));
+                writeString(spec.getDescription());
+                if (spec.getFacetName() == null) {
+                    writeVarInt(0);
+                } else {
+                    writeVarInt(spec.getFacetName().size() + 1);
+                    for (Map.Entry<String, String> entry : spec.getFacetName().entrySet()) {
+                        writeName(entry.getKey());
+                        writeString(entry.getValue());
+                    }
+                }
+            }
+        }
+
+        private void writeMap(Map<String, Object> map) throws IOException {
+            if (map == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(map.size() + 1);
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                writeName(entry.getKey());
+                writeValue(entry.getValue());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void writeValue(Object value) throws IOException {
+            switch (value) {
+                case null -> out.writeByte(NULL);
+                case String string -> {
+                    out.writeByte(STRING);
+                    writeString(string);
+                }
+                case Integer integer -> {
+                    out.writeByte(INTEGER);
+                    writeVarLong(zigZag(integer));
+                }
+                case Long number -> {
+                    out.writeByte(LONG);
+                    writeVarLong(zigZag(number));
+                }
+                case Double number -> {
+                    out.writeByte(DOUBLE);
+                    out.writeDouble(number);
+                }
+                case Float number -> {
+                    out.writeByte(FLOAT);
+                    out.writeFloat(number);
+                }
+                case Boolean bool -> out.writeByte(bool ? TRUE : FALSE);
+                case Date date when date.getClass() == Date.class -> {
+                    out.writeByte(DATE);
+                    writeVarLong(zigZag(date.getTime()));
+                }
+                case List<?> list -> {
+                    out.writeByte(LIST);
+                    writeVarInt(list.size());
+                    for (Object item : list) {
+                        writeValue(item);
+                    }
+                }
+                case Map<?, ?> map when map.keySet().stream().allMatch(String.class::isInstance) -> {
+                    out.writeByte(MAP);
+                    writeMap((Map<String, Object>) map);
+                }
+                default -> writeSerialized(value);
+            }
+        }
+
+        private void writeSerialized(Object value) throws IOException {
+            if (!(value instanceof Serializable)) {
+                throw new TurRuntimeException(
+                        "Attribute value of type " + value.getClass().getName() + " is not serializable");
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(bytes)) {
+                objectOutputStream.writeObject(value);
+            }
+            out.writeByte(SERIALIZED);
+            writeVarInt(bytes.size());
+            bytes.writeTo(out);
+        }
+
+        private void writeNames(List<String> names) throws IOException {
+            if (names == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(names.size() + 1);
+            for (String name : names) {
+                writeName(name);
+            }
+        }
+
+        /**
+         * Writes 0 for null, 1 followed by the string for its first occurrence and the
+         * dictionary index plus 2 for the next ones.
+         */
+        private void writeName(String name) throws IOException {
+            if (name == null) {
+                writeVarInt(0);
+                return;
+            }
+            Integer index = dictionary.get(name);
+            if (index != null) {
+                writeVarInt(index + 2);
+                return;
+            }
+            dictionary.put(name, dictionary.size());
+            writeVarInt(1);
+            writeString(name);
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            out.write(bytes);
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte((int) value);
+        }
+
+        private static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    private static final class Reader {
+        private final DataInputStream in;
+        private final List<String> dictionary = new ArrayList<>();
+
+        private Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        private TurSNJobItems readJobItems() throws IOException, ClassNotFoundException {
+            int size = readVarInt();
+            List<TurSNJobItem> jobItems = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                jobItems.add(readJobItem());
+            }
+            TurSNJobItems turSNJobItems = new TurSNJobItems();
+            turSNJobItems.setTuringDocuments(jobItems);
+            return turSNJobItems;
+        }
+
+        private TurSNJobItem readJobItem() throws IOException, ClassNotFoundException {
+            TurSNJobItem jobItem = new TurSNJobItem();
+            int action = in.readUnsignedByte();
+            jobItem.setTurSNJobAction(action == NULL_ACTION ? null : TurSNJobAction.values()[action]);
+            String locale = readName();
+            jobItem.setLocale(locale == null ? null : LocaleUtils.toLocale(locale));
+            jobItem.setSiteNames(readNames());
+            jobItem.setChecksum(readString());
+            jobItem.setEnvironment(readString());
+            jobItem.setSpecs(readSpecs());
+            Map<String, Object> attributes = readMap(new HashMap<>());
+            jobItem.setAttributes(attributes);
+            return jobItem;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<TurSNJobAttributeSpec> readSpecs() throws IOException, ClassNotFoundException {
+            int size = readVarInt();
+            if (size == 0) {
+                return null;
+            }
+            List<TurSNJobAttributeSpec> specs = new ArrayList<>(size - 1);
+            for (int i = 1; i < size; i++) {
+                if (!in.readBoolean()) {
+                    specs.add((TurSNJobAttributeSpec) readValue());
+                    continue;
+                }
+                TurSNJobAttributeSpec spec = new TurSNJobAttributeSpec();
+                spec.setName(readName());
+                String type = readName();
+                spec.setType(type == null ? null : TurSEFieldType.valueOf(type));
+                int flags = in.readUnsignedByte();
+                spec.setMandatory((flags & 1) != 0);
+                spec.setMultiValued((flags & 2) != 0);
+                spec.setFacet((flags & 4) != 0);
+                spec.setDescription(readString());
+                int facetNames = readVarInt();
+                if (facetNames > 0) {
+                    Map<String, String> facetName = new HashMap<>();
+                    for (int j = 1; j < facetNames; j++) {
+                        facetName.put(readName(), readString());
+                    }
+                    spec.setFacetName(facetName);
+                }
+                specs.add(spec);
+            }
+            return specs;
+        }
+
+        private Map<String, Object> readMap(Map<String, Object> map)
+                throws IOException, ClassNotFoundException {
+            int size = readVarInt();
+            if (size == 0) {
+                return null;
+            }
+            for (int i = 1; i < size; i++) {
+                String key = readName();
+                map.put(key, readValue());
+            }
+            return map;
+        }
+
+        private Object readValue() throws IOException, ClassNotFoundException {
+            int type = in.readUnsignedByte();
+            return switch (type) {
+                case NULL -> null;
+                case STRING -> readString();
+                case INTEGER -> (int) unZigZag(readVarLong());
+                case LONG -> unZigZag(readVarLong());
+                case DOUBLE -> in.readDouble();
+                case FLOAT -> in.readFloat();
+                case TRUE -> Boolean.TRUE;
+                case FALSE -> Boolean.FALSE;
+                case DATE -> new Date(unZigZag(readVarLong()));
+                case LIST -> {
+                    int size = readVarInt();
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(readValue());
+                    }
+                    yield list;
+                }
+                case MAP -> readMap(new LinkedHashMap<>());
+                case SERIALIZED -> {
+                    byte[] bytes = in.readNBytes(readVarInt());
+                    try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                            new ByteArrayInputStream(bytes))) {
+                        objectInputStream.setObjectInputFilter(SERIALIZED_FILTER);
+                        yield objectInputStream.readObject();
+                    }
+                }
+                default -> throw new IOException("Unknown value type: " + type);
+            };
+        }
+
+        private List<String> readNames() throws IOException {
+            int size = readVarInt();
+            if (size == 0) {
+                return null;
+            }
+            List<String> names = new ArrayList<>(size - 1);
+            for (int i = 1; i < size; i++) {
+                names.add(readName());
+            }
+            return names;
+        }
+
+        private String readName() throws IOException {
+            int index = readVarInt();
+            if (index == 0) {
+                return null;
+            }
+            if (index == 1) {
+                String name = readString();
+                dictionary.add(name);
+                return name;
+            }
+            return dictionary.get(index - 2);
+        }
+
+        private String readString() throws IOException {
+            int length = readVarInt();
+            if (length == 0) {
+                return null;
+            }
+            return new String(in.readNBytes(length - 1), StandardCharsets.UTF_8);
+        }
+
+        private int readVarInt() throws IOException {
+            return (int) readVarLong();
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        private static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.jms;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.SimpleMessageConverter;
+import org.springframework.stereotype.Component;
+
+import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.commons.exception.TurRuntimeException;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JMS message converter of the application, used by the templates and by the
+ * listeners. {@link TurSNJobItems} are written as bytes messages with the configured
+ * codec, whose name is kept in the {@value #CODEC_PROPERTY} property. Other payloads,
+ * and the object messages queued before the codec was enabled, are handled as before.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSNJobItemsMessageConverter implements MessageConverter {
+    public static final String CODEC_PROPERTY = "turCodec";
+    private final SimpleMessageConverter simpleMessageConverter = new SimpleMessageConverter();
+    private final Map<String, TurSNJobItemsCodec> codecs;
+    private final TurSNJobItemsCodec codec;
+
+    public TurSNJobItemsMessageConverter(List<TurSNJobItemsCodec> codecs,
+            @Value("${turing.jms.codec:binary}") String codecName) {
+        this.codecs = codecs.stream()
+                .collect(Collectors.toMap(TurSNJobItemsCodec::getName, Function.identity()));
+        this.codec = this.codecs.get(codecName);
+        if (codec == null) {
+            log.info("Indexing queue messages use Java serialization");
+        }
+    }
+
+    @Override
+    public Message toMessage(Object object, Session session) throws JMSException {
+        if (codec != null && object instanceof TurSNJobItems turSNJobItems) {
+            BytesMessage message = session.createBytesMessage();
+            message.writeBytes(codec.encode(turSNJobItems));
+            message.setStringProperty(CODEC_PROPERTY, codec.getName());
+            return message;
+        }
+        return simpleMessageConverter.toMessage(object, session);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws JMSException {
+        if (message instanceof BytesMessage bytesMessage
+                && bytesMessage.propertyExists(CODEC_PROPERTY)) {
+            String codecName = bytesMessage.getStringProperty(CODEC_PROPERTY);
+            TurSNJobItemsCodec messageCodec = codecs.get(codecName);
+            if (messageCodec == null) {
+                throw new MessageConversionException("Unknown job items codec: " + codecName);
+            }
+            bytesMessage.reset();
+            byte[] data = new byte[(int) bytesMessage.getBodyLength()];
+            bytesMessage.readBytes(data);
+            try {
+                return messageCodec.decode(data);
+            } catch (TurRuntimeException e) {
+                throw new MessageConversionException(e.getMessage(), e);
+            }
+        }
+        return simpleMessageConverter.fromMessage(message);
+    }
+}
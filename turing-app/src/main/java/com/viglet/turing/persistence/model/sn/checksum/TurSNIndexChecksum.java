@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.persistence.model.sn.checksum;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Locale;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Checksum of the last version of a document that was indexed in a SN Site core. The
+ * key is a hash of site, locale and document id, so it has a fixed length.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "sn_index_checksum")
+public class TurSNIndexChecksum implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "doc_key", length = 64, updatable = false, nullable = false)
+    private String docKey;
+
+    @Column(name = "sn_site_id", length = 50, nullable = false)
+    private String snSiteId;
+
+    @Column(name = "locale", length = 20, nullable = false)
+    private Locale locale;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "indexed_at", nullable = false)
+    private Instant indexedAt;
+
+    public TurSNIndexChecksum(String docKey, String snSiteId, Locale locale, String checksum) {
+        this.docKey = docKey;
+        this.snSiteId = snSiteId;
+        this.locale = locale;
+        this.checksum = checksum;
+        this.indexedAt = Instant.now();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.persistence.model.sn.reindex;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Locale;
+
+import com.viglet.turing.sn.reindex.TurSNReindexStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * State of the blue/green reindex of a SN Site locale, so a restarted node knows the
+ * cores of the reindex and where the ingest of the locale goes.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "sn_reindex_state")
+public class TurSNReindexState implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "sn_site_locale_id", length = 50, updatable = false, nullable = false)
+    private String snSiteLocaleId;
+
+    @Column(name = "site_name", nullable = false)
+    private String siteName;
+
+    @Column(name = "locale", length = 20, nullable = false)
+    private Locale locale;
+
+    @Column(name = "live_core", nullable = false)
+    private String liveCore;
+
+    @Column(name = "shadow_core", nullable = false)
+    private String shadowCore;
+
+    @Column(name = "cloud", nullable = false)
+    private boolean cloud;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private TurSNReindexStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "swapped_at")
+    private Instant swappedAt;
+
+    @Column(name = "live_documents", nullable = false)
+    private long liveDocuments;
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.persistence.repository.sn.checksum;
+
+import java.util.Locale;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.viglet.turing.persistence.model.sn.checksum.TurSNIndexChecksum;
+
+/**
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+public interface TurSNIndexChecksumRepository extends JpaRepository<TurSNIndexChecksum, String> {
+    @Transactional
+    @Modifying
+    @Query("delete from TurSNIndexChecksum c where c.snSiteId = ?1 and c.locale = ?2")
+    void deleteBySnSiteIdAndLocale(String snSiteId, Locale locale);
+
+    @Transactional
+    @Modifying
+    @Query("delete from TurSNIndexChecksum c where c.snSiteId = ?1")
+    void deleteBySnSiteId(String snSiteId);
+}
@@ -26,6 +26,7 @@ import com.viglet.turing.persistence.model.sn.merge.TurSNSiteMergeProviders;
 
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
@@ -34,4 +35,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface TurSNSiteMergeProvidersRepository extends JpaRepository<TurSNSiteMergeProviders, String> {
 	List<TurSNSiteMergeProviders> findByTurSNSite(TurSNSite turSNSite);
+
+	@EntityGraph(attributePaths = "overwrittenFields")
+	List<TurSNSiteMergeProviders> findWithOverwrittenFieldsByTurSNSite(TurSNSite turSNSite);
 }
@@ -32,6 +32,8 @@ public class TurSEFacetResult {
 	private String facet;
 	private int facetPosition;
 	private Map<String, TurSEFacetResultAttr> turSEFacetResultAttr = new LinkedHashMap<>();
+	/** The counts already ignore the filter query of this facet. */
+	private boolean ownFilterExcluded;
 
 	public void add(String attribute, TurSEFacetResultAttr turSEFacetResultAttr) {
 		this.turSEFacetResultAttr.put(attribute, turSEFacetResultAttr);
@@ -43,6 +45,7 @@ public class TurSEFacetResult {
 				"facet='" + facet + '\'' +
 				", facetPosition=" + facetPosition +
 				", turSEFacetResultAttr=" + turSEFacetResultAttr +
+				", ownFilterExcluded=" + ownFilterExcluded +
 				'}';
 	}
 }
@@ -21,19 +21,177 @@
 package com.viglet.turing.sn;
 
 import java.util.Enumeration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 
+import javax.management.MBeanServer;
+import javax.management.MBeanServerInvocationHandler;
+import javax.management.ObjectName;
+
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.management.ObjectNameBuilder;
+import org.apache.activemq.artemis.api.core.management.QueueControl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.stereotype.Component;
 
+import com.viglet.turing.api.sn.bean.TurSNQueueStatisticsBean;
+import com.viglet.turing.commons.exception.TurRuntimeException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Statistics of the indexing queue. The depth and the number of enqueued and in flight
+ * messages are read from the JMX counters of the broker, without browsing the queue;
+ * the processed and failed documents and the throughput of each site are counted by the
+ * queue listener. The throughput of a site is removed with {@link #removeSite(String)}
+ * when the site is deleted.
+ *
+ * @author Alexandre Oliveira
+ */
 @Component
 public class TurSNQueue {
+	public static final String QUEUE_MESSAGES = "turing.indexing.queue.messages";
+	public static final String QUEUE_ENQUEUED = "turing.indexing.queue.enqueued";
+	public static final String QUEUE_IN_FLIGHT = "turing.indexing.queue.in-flight";
+	public static final String PROCESSED = "turing.indexing.processed";
+	public static final String FAILED = "turing.indexing.failed";
+	public static final String THROUGHPUT = "turing.indexing.throughput";
+	public static final String SITE = "site";
 	private final JmsTemplate jmsTemplate;
+	private final MBeanServer mbeanServer;
+	private final ObjectName queueObjectName;
+	private final QueueControl queueControl;
+	private final MeterRegistry meterRegistry;
+	private final int window;
+	private final LongAdder processed = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final AtomicInteger receiving = new AtomicInteger();
+	private final Map<String, Throughput> throughput = new ConcurrentHashMap<>();
 
-	public TurSNQueue(JmsTemplate jmsTemplate) {
+	public TurSNQueue(JmsTemplate jmsTemplate, MBeanServer mbeanServer, MeterRegistry meterRegistry,
+			@Value("${turing.indexing.stats.window:60}") int window) {
 		this.jmsTemplate = jmsTemplate;
+		this.mbeanServer = mbeanServer;
+		this.queueObjectName = queueObjectName();
+		this.queueControl = MBeanServerInvocationHandler.newProxyInstance(mbeanServer, queueObjectName,
+				QueueControl.class, false);
+		this.meterRegistry = meterRegistry;
+		this.window = Math.max(1, window);
+		gauge(QUEUE_MESSAGES, "Messages waiting in the indexing queue", QueueControl::getMessageCount);
+		gauge(QUEUE_IN_FLIGHT, "Messages of the indexing queue delivered and not acknowledged",
+				QueueControl::getDeliveringCount);
+		FunctionCounter.builder(QUEUE_ENQUEUED, this,
+				queue -> queue.getQueueControl().map(QueueControl::getMessagesAdded).orElse(0L))
+				.description("Messages sent to the indexing queue").register(meterRegistry);
+		FunctionCounter.builder(PROCESSED, processed, LongAdder::sum)
+				.description("Job items processed by the indexing queue").register(meterRegistry);
+		FunctionCounter.builder(FAILED, failed, LongAdder::sum)
+				.description("Job items that the indexing queue could not process").register(meterRegistry);
 	}
 
+	/**
+	 * Number of messages waiting in the queue. Only browses the queue when the broker is
+	 * not embedded.
+	 */
 	public Integer getQueueSize() {
+		return getQueueControl().map(queueControl -> (int) Math.min(queueControl.getMessageCount(),
+				Integer.MAX_VALUE)).orElseGet(this::browseQueueSize);
+	}
+
+	public TurSNQueueStatisticsBean getStatistics() {
+		TurSNQueueStatisticsBean turSNQueueStatisticsBean = new TurSNQueueStatisticsBean();
+		getQueueControl().ifPresentOrElse(queueControl -> {
+			turSNQueueStatisticsBean.setMessages(queueControl.getMessageCount());
+			turSNQueueStatisticsBean.setEnqueued(queueControl.getMessagesAdded());
+			turSNQueueStatisticsBean.setInFlight(queueControl.getDeliveringCount());
+			turSNQueueStatisticsBean.setConsumers(queueControl.getConsumerCount());
+		}, () -> {
+			turSNQueueStatisticsBean.setMessages(browseQueueSize());
+			turSNQueueStatisticsBean.setInFlight(receiving.get());
+		});
+		turSNQueueStatisticsBean.setProcessed(processed.sum());
+		turSNQueueStatisticsBean.setFailed(failed.sum());
+		turSNQueueStatisticsBean.setDocsPerSecond(throughput.entrySet().stream()
+				.collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().rate())));
+		return turSNQueueStatisticsBean;
+	}
+
+	/**
+	 * Documents per second indexed in the site over the statistics window.
+	 */
+	public double getDocsPerSecond(String siteName) {
+		return Optional.ofNullable(throughput.get(siteName)).map(Throughput::rate).orElse(0D);
+	}
+
+	public void received() {
+		receiving.incrementAndGet();
+	}
+
+	public void completed() {
+		receiving.decrementAndGet();
+	}
+
+	public void processed(String siteName) {
+		processed.increment();
+		throughput.computeIfAbsent(siteName, this::registerThroughput).add(1);
+	}
+
+	public void failed() {
+		failed.increment();
+	}
+
+	/**
+	 * Forgets the throughput of a deleted site.
+	 */
+	public void removeSite(String siteName) {
+		if (throughput.remove(siteName) != null) {
+			Optional.ofNullable(meterRegistry.find(THROUGHPUT).tag(SITE, siteName).gauge())
+					.ifPresent(meterRegistry::remove);
+		}
+	}
+
+	private Throughput registerThroughput(String siteName) {
+		Throughput siteThroughput = new Throughput(window);
+		Gauge.builder(THROUGHPUT, siteThroughput, Throughput::rate)
+				.tag(SITE, siteName)
+				.baseUnit("documents/s")
+				.description("Documents indexed per second over the statistics window")
+				.register(meterRegistry);
+		return siteThroughput;
+	}
+
+	private void gauge(String name, String description, ToDoubleFunction<QueueControl> value) {
+		// Without the queue MBean the queue would have to be browsed at every scrape.
+		Gauge.builder(name, this, queue -> queue.getQueueControl().map(value::applyAsDouble).orElse(Double.NaN))
+				.description(description).register(meterRegistry);
+	}
+
+	/**
+	 * Control of the queue, while the broker has registered it.
+	 */
+	private Optional<QueueControl> getQueueControl() {
+		return mbeanServer.isRegistered(queueObjectName) ? Optional.of(queueControl) : Optional.empty();
+	}
+
+	private static ObjectName queueObjectName() {
+		try {
+			return ObjectNameBuilder.DEFAULT.getQueueObjectName(SimpleString.of(TurSNConstants.INDEXING_QUEUE),
+					SimpleString.of(TurSNConstants.INDEXING_QUEUE), RoutingType.ANYCAST);
+		} catch (Exception e) {
+			throw new TurRuntimeException("Invalid name of the indexing queue MBean", e);
+		}
+	}
+
+	private int browseQueueSize() {
 		return jmsTemplate.browse(TurSNConstants.INDEXING_QUEUE, (session, browser) -> {
 			Enumeration<?> messages = browser.getEnumeration();
 			int total = 0;
@@ -44,4 +202,38 @@ public class TurSNQueue {
 			return total;
 		});
 	}
+
+	/**
+	 * Documents counted in one-second buckets over a rolling window.
+	 */
+	private static final class Throughput {
+		private final long[] seconds;
+		private final long[] counts;
+
+		private Throughput(int window) {
+			this.seconds = new long[window];
+			this.counts = new long[window];
+		}
+
+		private synchronized void add(int count) {
+			long now = System.currentTimeMillis() / 1000;
+			int bucket = (int) (now % seconds.length);
+			if (seconds[bucket] != now) {
+				seconds[bucket] = now;
+				counts[bucket] = 0;
+			}
+			counts[bucket] += count;
+		}
+
+		private synchronized double rate() {
+			long now = System.currentTimeMillis() / 1000;
+			long total = 0;
+			for (int i = 0; i < seconds.length; i++) {
+				if (now - seconds[i] < seconds.length) {
+					total += counts[i];
+				}
+			}
+			return (double) total / seconds.length;
+		}
+	}
 }
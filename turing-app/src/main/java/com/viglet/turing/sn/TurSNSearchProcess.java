@@ -35,7 +35,6 @@ import org.apache.commons.lang3.SerializationUtils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import com.viglet.turing.api.sn.bean.TurSNSiteFilterQueryBean;
@@ -70,9 +69,6 @@ import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExtFacet;
 import com.viglet.turing.persistence.model.sn.metric.TurSNSiteMetricAccess;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
-import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtFacetRepository;
-import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
-import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
 import com.viglet.turing.persistence.repository.sn.metric.TurSNSiteMetricAccessRepository;
 import com.viglet.turing.persistence.repository.sn.metric.TurSNSiteMetricAccessTerm;
 import com.viglet.turing.plugins.se.TurSearchEnginePlugin;
@@ -81,9 +77,13 @@ import com.viglet.turing.se.facet.TurSEFacetResult;
 import com.viglet.turing.se.result.TurSEGenericResults;
 import com.viglet.turing.se.result.TurSEResult;
 import com.viglet.turing.se.result.TurSEResults;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfig;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfigRegistry;
 import com.viglet.turing.sn.facet.TurSNFacetDefinition;
 import com.viglet.turing.sn.facet.TurSNFacetDefinitionFactory;
 import com.viglet.turing.sn.facet.TurSNFacetTypeContext;
+import com.viglet.turing.sn.search.TurSNSearchFanOut;
+import com.viglet.turing.sn.search.TurSNSearchStage;
 import com.viglet.turing.sn.spotlight.TurSNSpotlightProcess;
 import com.viglet.turing.solr.TurSolrInstance;
 import com.viglet.turing.solr.TurSolrInstanceProcess;
@@ -104,10 +104,8 @@ public class TurSNSearchProcess {
         public static final String FACETS_TO_REMOVE = "Facets To Remove";
         public static final String AND_OR = "AND-OR";
         public static final String FACET_ITEM_AND = "-AND";
-        private final TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
-        private final TurSNSiteFieldExtFacetRepository turSNSiteFieldExtFacetRepository;
+        private final TurSNSiteSearchConfigRegistry turSNSiteSearchConfigRegistry;
         private final TurSNSiteRepository turSNSiteRepository;
-        private final TurSNSiteLocaleRepository turSNSiteLocaleRepository;
         private final TurSolrInstanceProcess turSolrInstanceProcess;
         private final TurSNSpotlightProcess turSNSpotlightProcess;
         private final TurSNSiteMetricAccessRepository turSNSiteMetricAccessRepository;
@@ -115,22 +113,20 @@ public class TurSNSearchProcess {
         private final TurSearchEnginePluginFactory searchEnginePluginFactory;
         private final TurSolrQueryBuilder turSolrQueryBuilder;
         private final TurSNFacetDefinitionFactory turSNFacetDefinitionFactory;
+        private final TurSNSearchFanOut turSNSearchFanOut;
 
-        public TurSNSearchProcess(TurSNSiteFieldExtRepository turSNSiteFieldExtRepository,
-                        TurSNSiteFieldExtFacetRepository turSNSiteFieldExtFacetRepository,
+        public TurSNSearchProcess(TurSNSiteSearchConfigRegistry turSNSiteSearchConfigRegistry,
                         TurSNSiteRepository turSNSiteRepository,
-                        TurSNSiteLocaleRepository turSNSiteLocaleRepository,
                         TurSolrInstanceProcess turSolrInstanceProcess,
                         TurSNSpotlightProcess turSNSpotlightProcess,
                         TurSNSiteMetricAccessRepository turSNSiteMetricAccessRepository,
                         @Value("${turing.search.metrics.enabled:false}") boolean metricsEnabled,
                         TurSearchEnginePluginFactory searchEnginePluginFactory,
                         TurSolrQueryBuilder turSolrQueryBuilder,
-                        TurSNFacetDefinitionFactory turSNFacetDefinitionFactory) {
-                this.turSNSiteFieldExtRepository = turSNSiteFieldExtRepository;
-                this.turSNSiteFieldExtFacetRepository = turSNSiteFieldExtFacetRepository;
+                        TurSNFacetDefinitionFactory turSNFacetDefinitionFactory,
+                        TurSNSearchFanOut turSNSearchFanOut) {
+                this.turSNSiteSearchConfigRegistry = turSNSiteSearchConfigRegistry;
                 this.turSNSiteRepository = turSNSiteRepository;
-                this.turSNSiteLocaleRepository = turSNSiteLocaleRepository;
                 this.turSolrInstanceProcess = turSolrInstanceProcess;
                 this.turSNSpotlightProcess = turSNSpotlightProcess;
                 this.turSNSiteMetricAccessRepository = turSNSiteMetricAccessRepository;
@@ -138,6 +134,7 @@ public class TurSNSearchProcess {
                 this.searchEnginePluginFactory = searchEnginePluginFactory;
                 this.turSolrQueryBuilder = turSolrQueryBuilder;
                 this.turSNFacetDefinitionFactory = turSNFacetDefinitionFactory;
+                this.turSNSearchFanOut = turSNSearchFanOut;
         }
 
         public Optional<TurSNSite> getSNSite(String siteName) {
@@ -146,9 +143,8 @@ public class TurSNSearchProcess {
         }
 
         public boolean existsByTurSNSiteAndLanguage(String siteName, Locale locale) {
-                return turSNSiteRepository.findByName(siteName)
-                                .map(turSNSite -> turSNSiteLocaleRepository
-                                                .existsByTurSNSiteAndLanguage(turSNSite, locale))
+                return turSNSiteSearchConfigRegistry.find(siteName)
+                                .map(config -> config.hasLocale(locale))
                                 .orElse(false);
         }
 
@@ -282,24 +278,20 @@ public class TurSNSearchProcess {
         }
 
         private List<Object> searchResponseList(TurSNSiteSearchContext context, TurSEResults turSEResults) {
-                return turSNSiteRepository.findByName(context.getSiteName()).map(turSNSite -> {
-                        populateMetrics(turSNSite, context, turSEResults.getNumFound());
+                return turSNSiteSearchConfigRegistry.find(context.getSiteName()).map(config -> {
+                        populateMetrics(config.getTurSNSite(), context, turSEResults.getNumFound());
                         return responseList(context, turSEResults.getResults());
                 }).orElse(Collections.emptyList());
         }
 
         private TurSNSiteSearchBean searchResponse(TurSNSiteSearchContext context,
                         TurSolrInstance turSolrInstance, TurSEResults turSEResults) {
-                return turSNSiteRepository.findByName(context.getSiteName()).map(turSNSite -> {
-                        populateMetrics(turSNSite, context, turSEResults.getNumFound());
-                        List<TurSNFacetDefinition> facetDefinitions = turSNSiteFieldExtRepository
-                                        .findByTurSNSiteAndEnabled(turSNSite, 1)
+                return turSNSiteSearchConfigRegistry.find(context.getSiteName()).map(config -> {
+                        TurSNSite turSNSite = config.getTurSNSite();
+                        List<TurSNFacetDefinition> facetDefinitions = config.getFacetFields()
                                         .stream()
-                                        .filter(turSNSiteFieldExt -> turSNSiteFieldExt.getFacet() == 1
-                                                        || !CollectionUtils.isEmpty(turSNSiteFieldExt
-                                                                        .getCustomFacets()))
                                         .flatMap(turSNSiteFieldExt -> getFacetDefinitions(
-                                                        context, turSNSiteFieldExt)
+                                                        context, config, turSNSiteFieldExt)
                                                         .stream())
                                         .toList();
 
@@ -307,55 +299,99 @@ public class TurSNSearchProcess {
                                         .map(TurSNFacetDefinition::toFacetFieldExtDto)
                                         .toList();
                         Map<String, TurSNSiteFieldExtDto> facetMap = setFacetMap(turSNSiteFieldExtDtoList);
-                        if (turSolrQueryBuilder.hasGroup(context.getTurSEParameters())) {
-                                return getSearchBeanForGroup(context, turSolrInstance, turSEResults,
-                                                turSNSite, facetMap);
-                        } else {
-                                return getSearchBeanForResults(context, turSolrInstance,
-                                                turSEResults, turSNSite, facetMap);
+                        try (TurSNSearchFanOut.Scope scope = turSNSearchFanOut.open(turSNSite.getName())) {
+                                SubRequests subRequests = forkSubRequests(scope, context, turSNSite, facetMap,
+                                                turSEResults);
+                                TurSNSiteSearchBean turSNSiteSearchBean = turSolrQueryBuilder
+                                                .hasGroup(context.getTurSEParameters())
+                                                                ? getSearchBeanForGroup(context, turSolrInstance,
+                                                                                turSEResults, turSNSite, facetMap,
+                                                                                subRequests)
+                                                                : getSearchBeanForResults(context, turSolrInstance,
+                                                                                turSEResults, turSNSite, facetMap,
+                                                                                subRequests);
+                                // The metrics are not part of the response, but must not be cancelled.
+                                scope.join();
+                                return turSNSiteSearchBean;
                         }
                 }).orElse(new TurSNSiteSearchBean());
         }
 
+        /**
+         * Starts the metrics, the spotlights and the queries of the AND-OR facets, which
+         * do not depend on each other, before the response is built.
+         */
+        private SubRequests forkSubRequests(TurSNSearchFanOut.Scope scope, TurSNSiteSearchContext context,
+                        TurSNSite turSNSite, Map<String, TurSNSiteFieldExtDto> facetMap,
+                        TurSEResults turSEResults) {
+                scope.fork(TurSNSearchStage.METRICS, () -> {
+                        populateMetrics(turSNSite, context, turSEResults.getNumFound());
+                        return null;
+                });
+                TurSNSearchFanOut.Subtask<List<TurSNSiteSpotlightDocumentBean>> spotlights = scope.fork(
+                                TurSNSearchStage.SPOTLIGHT, () -> responseSpotlights(context, turSNSite));
+                Map<String, TurSNSearchFanOut.Subtask<TurSEFacetResult>> facetQueries = new HashMap<>();
+                if (facetIsEnabled(turSNSite, turSEResults)) {
+                        List<String> facetsInFilterQueries = requestFilterQuery(context.getTurSEParameters()
+                                        .getTurSNFilterParams().getDefaultValues()).getFacetsInFilterQueries();
+                        turSEResults.getFacetResults().stream()
+                                        .filter(facet -> showFacet(facetsInFilterQueries, facetMap, facet,
+                                                        turSNSite))
+                                        .filter(facet -> !facet.isOwnFilterExcluded())
+                                        .map(facet -> new TurSNFacetTypeContext(facetMap.get(facet.getFacet()),
+                                                        turSNSite,
+                                                        context.getTurSEParameters().getTurSNFilterParams()))
+                                        .filter(this::hasFacetQuery)
+                                        .forEach(turSNFacetTypeContext -> {
+                                                String facetName = turSNFacetTypeContext
+                                                                .getTurSNSiteFacetFieldExtDto().getName();
+                                                TurSNSiteSearchContext contextSearchFacet = getContextSearchFacet(
+                                                                context, facetName);
+                                                facetQueries.put(facetName, scope.fork(TurSNSearchStage.FACET,
+                                                                () -> retrieveFacetResult(contextSearchFacet,
+                                                                                turSEResults, facetName)));
+                                        });
+                }
+                return new SubRequests(spotlights, facetQueries);
+        }
+
         @NotNull
         private HashSet<TurSNSiteFieldExtFacet> getFacetLocales(TurSNSiteSearchContext context,
-                        TurSNSiteFieldExt turSNSiteFieldExt) {
-                return new HashSet<>(Collections.singletonList(turSNSiteFieldExtFacetRepository
-                                .findByTurSNSiteFieldExtAndLocale(turSNSiteFieldExt,
-                                                context.getLocale())
-                                .stream().findFirst()
-                                .orElse(TurSNSiteFieldExtFacet.builder().locale(context.getLocale())
-                                                .label(turSNSiteFieldExt.getFacetName()).build())));
+                        TurSNSiteSearchConfig config, TurSNSiteFieldExt turSNSiteFieldExt) {
+                return new HashSet<>(Collections.singletonList(
+                                config.getFacetLabel(turSNSiteFieldExt, context.getLocale())));
         }
 
         private List<TurSNFacetDefinition> getFacetDefinitions(TurSNSiteSearchContext context,
-                        TurSNSiteFieldExt turSNSiteFieldExt) {
+                        TurSNSiteSearchConfig config, TurSNSiteFieldExt turSNSiteFieldExt) {
                 return turSNFacetDefinitionFactory.fromField(turSNSiteFieldExt,
                                 context.getLocale(),
-                                getFacetLocales(context, turSNSiteFieldExt));
+                                getFacetLocales(context, config, turSNSiteFieldExt));
         }
 
         private TurSNSiteSearchBean getSearchBeanForResults(TurSNSiteSearchContext context,
                         TurSolrInstance turSolrInstance, TurSEResults turSEResults,
-                        TurSNSite turSNSite, Map<String, TurSNSiteFieldExtDto> facetMap) {
+                        TurSNSite turSNSite, Map<String, TurSNSiteFieldExtDto> facetMap,
+                        SubRequests subRequests) {
                 return new TurSNSiteSearchBean()
                                 .setResults(responseDocuments(context, turSolrInstance, turSNSite,
                                                 facetMap, turSEResults.getResults()))
                                 .setPagination(responsePagination(context.getUri(), turSEResults))
                                 .setWidget(responseWidget(context, turSNSite,
-                                                facetMap, turSEResults))
+                                                facetMap, turSEResults, subRequests))
                                 .setQueryContext(responseQueryContext(turSNSite, turSEResults,
                                                 context.getLocale()));
         }
 
         private TurSNSiteSearchBean getSearchBeanForGroup(TurSNSiteSearchContext context,
                         TurSolrInstance turSolrInstance, TurSEResults turSEResults,
-                        TurSNSite turSNSite, Map<String, TurSNSiteFieldExtDto> facetMap) {
+                        TurSNSite turSNSite, Map<String, TurSNSiteFieldExtDto> facetMap,
+                        SubRequests subRequests) {
                 return new TurSNSiteSearchBean()
                                 .setGroups(responseGroups(context, turSolrInstance, turSNSite,
                                                 facetMap, turSEResults))
                                 .setWidget(responseWidget(context, turSNSite,
-                                                facetMap, turSEResults))
+                                                facetMap, turSEResults, subRequests))
                                 .setQueryContext(responseQueryContext(turSNSite, turSEResults,
                                                 context.getLocale()));
         }
@@ -523,12 +559,8 @@ public class TurSNSearchProcess {
         private TurSNSiteSearchResultsBean responseDocuments(TurSNSiteSearchContext context,
                         TurSolrInstance turSolrInstance, TurSNSite turSNSite,
                         Map<String, TurSNSiteFieldExtDto> facetMap, List<TurSEResult> seResults) {
-                Map<String, TurSNSiteFieldExtDto> fieldExtMap = new HashMap<>();
-                turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(turSNSite, 1).stream()
-                                .map(TurSNSiteFieldExtDto::new).toList()
-                                .forEach(turSNSiteFieldExtDto -> fieldExtMap.put(
-                                                turSNSiteFieldExtDto.getName(),
-                                                turSNSiteFieldExtDto));
+                Map<String, TurSNSiteFieldExtDto> fieldExtMap = turSNSiteSearchConfigRegistry
+                                .get(turSNSite).getFieldExtDtoMap();
                 List<TurSNSiteSearchDocumentBean> turSNSiteSearchDocumentsBean = new ArrayList<>();
                 seResults.forEach(result -> TurSNUtils.addSNDocument(context.getUri(), fieldExtMap,
                                 facetMap, turSNSiteSearchDocumentsBean, result, false));
@@ -542,26 +574,27 @@ public class TurSNSearchProcess {
 
         private TurSNSiteSearchWidgetBean responseWidget(TurSNSiteSearchContext context,
                         TurSNSite turSNSite,
-                        Map<String, TurSNSiteFieldExtDto> facetMap, TurSEResults turSEResults) {
+                        Map<String, TurSNSiteFieldExtDto> facetMap, TurSEResults turSEResults,
+                        SubRequests subRequests) {
                 return new TurSNSiteSearchWidgetBean().setFacet(responseFacet(context,
                                 turSNSite,
                                 requestFilterQuery(context.getTurSEParameters()
                                                 .getTurSNFilterParams().getDefaultValues())
                                                 .getFacetsInFilterQueries(),
-                                facetMap, turSEResults))
+                                facetMap, turSEResults, subRequests))
                                 .setSecondaryFacet(responseSecondaryFacet(context,
                                                 turSNSite,
                                                 requestFilterQuery(context.getTurSEParameters()
                                                                 .getTurSNFilterParams()
                                                                 .getDefaultValues())
                                                                 .getFacetsInFilterQueries(),
-                                                facetMap, turSEResults))
+                                                facetMap, turSEResults, subRequests))
                                 .setFacetToRemove(responseFacetToRemove(context, turSNSite))
                                 .setSimilar(responseMLT(turSNSite, turSEResults))
                                 .setSpellCheck(new TurSNSiteSpellCheckBean(context,
                                                 turSEResults.getSpellCheck()))
                                 .setLocales(responseLocales(turSNSite, context.getUri()))
-                                .setSpotlights(responseSpotlights(context, turSNSite))
+                                .setSpotlights(subRequests.spotlights().resultOr(Collections::emptyList))
                                 .setCleanUpFacets(responseCleanUpFacet(context, turSNSite))
                                 .setSelectedFilterQueries(
                                                 responseFieldQueriesFromFacets(context, turSNSite));
@@ -588,9 +621,7 @@ public class TurSNSearchProcess {
 
         public List<TurSNSiteLocaleBean> responseLocales(TurSNSite turSNSite, URI uri) {
                 List<TurSNSiteLocaleBean> turSNSiteLocaleBeans = new ArrayList<>();
-                turSNSiteLocaleRepository
-                                .findByTurSNSite(Sort.by(Sort.Order.asc(LANGUAGE).ignoreCase()),
-                                                turSNSite)
+                turSNSiteSearchConfigRegistry.get(turSNSite).getLocales()
                                 .forEach(turSNSiteLocale -> turSNSiteLocaleBeans
                                                 .add(new TurSNSiteLocaleBean()
                                                                 .setLocale(turSNSiteLocale
@@ -658,16 +689,14 @@ public class TurSNSearchProcess {
                         TurSNSite turSNSite) {
                 if (!CollectionUtils.isEmpty(context.getTurSEParameters().getTurSNFilterParams()
                                 .getDefaultValues())) {
-                        TurSNFacetTypeContext turSNFacetTypeContext = new TurSNFacetTypeContext(
-                                        null, turSNSite,
-                                        context.getTurSEParameters().getTurSNFilterParams());
+                        List<String> facetFieldsInFilterQuery = getFacetFieldsInFilterQuery(context,
+                                        turSNSite);
                         List<TurSNSiteSearchFacetItemBean> turSNSiteSearchFacetToRemoveItemBeans = new ArrayList<>();
                         context.getTurSEParameters().getTurSNFilterParams().getDefaultValues()
                                         .forEach(facetToRemove -> TurCommonsUtils
                                                         .getKeyValueFromColon(facetToRemove)
                                                         .ifPresent(f -> {
-                                                                if (turSolrQueryBuilder.getFacetFieldsInFilterQuery(
-                                                                                turSNFacetTypeContext)
+                                                                if (facetFieldsInFilterQuery
                                                                                 .contains(f.getKey())) {
                                                                         turSNSiteSearchFacetToRemoveItemBeans
                                                                                         .add(new TurSNSiteSearchFacetItemBean()
@@ -699,8 +728,9 @@ public class TurSNSearchProcess {
 
         private List<String> getFacetFieldsInFilterQuery(TurSNSiteSearchContext context,
                         TurSNSite turSNSite) {
-                return turSolrQueryBuilder.getFacetFieldsInFilterQuery(new TurSNFacetTypeContext(null,
-                                turSNSite, context.getTurSEParameters().getTurSNFilterParams()));
+                return turSolrQueryBuilder.getFacetFieldsInFilterQuery(
+                                turSNSiteSearchConfigRegistry.get(turSNSite),
+                                context.getTurSEParameters().getTurSNFilterParams());
         }
 
         private List<String> responseFieldQueriesFromFacets(TurSNSiteSearchContext context,
@@ -712,7 +742,8 @@ public class TurSNSearchProcess {
         private List<TurSNSiteSearchFacetBean> responseFacet(TurSNSiteSearchContext context,
                         TurSNSite turSNSite,
                         List<String> facetsInFilterQueries,
-                        Map<String, TurSNSiteFieldExtDto> facetMap, TurSEResults turSEResults) {
+                        Map<String, TurSNSiteFieldExtDto> facetMap, TurSEResults turSEResults,
+                        SubRequests subRequests) {
                 if (facetIsEnabled(turSNSite, turSEResults)) {
                         List<TurSNSiteSearchFacetBean> turSNSiteSearchFacetBeans = new ArrayList<>();
                         turSEResults.getFacetResults().stream()
@@ -729,7 +760,8 @@ public class TurSNSearchProcess {
                                                         getFacetResponse(context, facetMap,
                                                                         getFacetResult(context,
                                                                                         turSEResults,
-                                                                                        turSNFacetTypeContext),
+                                                                                        turSNFacetTypeContext,
+                                                                                        subRequests),
                                                                         turSNSiteSearchFacetBeans);
                                                 }
                                         });
@@ -747,7 +779,8 @@ public class TurSNSearchProcess {
         private List<TurSNSiteSearchFacetBean> responseSecondaryFacet(
                         TurSNSiteSearchContext context,
                         TurSNSite turSNSite, List<String> facetsInFilterQueries,
-                        Map<String, TurSNSiteFieldExtDto> facetMap, TurSEResults turSEResults) {
+                        Map<String, TurSNSiteFieldExtDto> facetMap, TurSEResults turSEResults,
+                        SubRequests subRequests) {
                 if (facetIsEnabled(turSNSite, turSEResults)) {
                         List<TurSNSiteSearchFacetBean> turSNSiteSearchFacetBeans = new ArrayList<>();
                         turSEResults.getFacetResults().stream()
@@ -764,7 +797,8 @@ public class TurSNSearchProcess {
                                                         getFacetResponse(context, facetMap,
                                                                         getFacetResult(context,
                                                                                         turSEResults,
-                                                                                        turSNFacetTypeContext),
+                                                                                        turSNFacetTypeContext,
+                                                                                        subRequests),
                                                                         turSNSiteSearchFacetBeans);
                                                 }
                                         });
@@ -775,34 +809,54 @@ public class TurSNSearchProcess {
 
         @NotNull
         private FacetResult getFacetResult(TurSNSiteSearchContext context, TurSEResults turSEResults,
-                        TurSNFacetTypeContext turSNFacetTypeContext) {
+                        TurSNFacetTypeContext turSNFacetTypeContext, SubRequests subRequests) {
                 String facetName = turSNFacetTypeContext.getTurSNSiteFacetFieldExtDto().getName();
                 String facetTypeAndFacetItemTypeValues = TurSolrQueryBuilder
                                 .getFacetTypeAndFacetItemTypeValues(turSNFacetTypeContext);
                 List<String> usedFacetItems = getUsedFacetItems(context);
-                if (facetTypeAndFacetItemTypeValues.equals(AND_OR)
-                                && turSolrQueryBuilder.getFqFields(turSNFacetTypeContext.getTurSNFilterParams())
-                                                .contains(facetName)) {
-                        TurSearchEnginePlugin plugin = searchEnginePluginFactory.getDefaultPlugin();
-                        TurSEFacetResult turSEFacetResult = plugin
-                                        .retrieveFacetResults(getContextSearchFacet(context, facetName),
-                                                        facetName)
-                                        .map(turSEFacetResults -> turSEFacetResults
-                                                        .getFacetResults().stream()
-                                                        .filter(ff -> ff.getFacet()
-                                                                        .equals(facetName))
-                                                        .findFirst()
-                                                        .orElseGet(() -> getTurSEFacetResultDefault(
-                                                                        turSEResults, facetName)))
-                                        .orElseGet(() -> getTurSEFacetResultDefault(turSEResults,
-                                                        facetName));
+                TurSEFacetResult turSEFacetResultDefault = getTurSEFacetResultDefault(turSEResults, facetName);
+                if (!turSEFacetResultDefault.isOwnFilterExcluded() && hasFacetQuery(turSNFacetTypeContext)) {
+                        TurSEFacetResult turSEFacetResult = Optional
+                                        .ofNullable(subRequests.facetQueries().get(facetName))
+                                        .map(facetQuery -> facetQuery.resultOr(
+                                                        () -> getTurSEFacetResultDefault(turSEResults,
+                                                                        facetName)))
+                                        .orElseGet(() -> retrieveFacetResult(
+                                                        getContextSearchFacet(context, facetName),
+                                                        turSEResults, facetName));
                         return new FacetResult(usedFacetItems, facetTypeAndFacetItemTypeValues,
                                         turSEFacetResult);
                 }
-                TurSEFacetResult turSEFacetResult = getTurSEFacetResultDefault(turSEResults, facetName);
                 return new FacetResult(usedFacetItems, facetTypeAndFacetItemTypeValues,
-                                turSEFacetResult);
+                                turSEFacetResultDefault);
+
+        }
 
+        /**
+         * An AND-OR facet with a selected item is counted again without its own filter
+         * query, so its other items keep their counts.
+         */
+        private boolean hasFacetQuery(TurSNFacetTypeContext turSNFacetTypeContext) {
+                return TurSolrQueryBuilder.getFacetTypeAndFacetItemTypeValues(turSNFacetTypeContext)
+                                .equals(AND_OR)
+                                && turSolrQueryBuilder.getFqFields(turSNFacetTypeContext.getTurSNFilterParams())
+                                                .contains(turSNFacetTypeContext.getTurSNSiteFacetFieldExtDto()
+                                                                .getName());
+        }
+
+        private TurSEFacetResult retrieveFacetResult(TurSNSiteSearchContext contextSearchFacet,
+                        TurSEResults turSEResults, String facetName) {
+                TurSearchEnginePlugin plugin = searchEnginePluginFactory.getDefaultPlugin();
+                return plugin.retrieveFacetResults(contextSearchFacet, facetName)
+                                .map(turSEFacetResults -> turSEFacetResults
+                                                .getFacetResults().stream()
+                                                .filter(ff -> ff.getFacet()
+                                                                .equals(facetName))
+                                                .findFirst()
+                                                .orElseGet(() -> getTurSEFacetResultDefault(
+                                                                turSEResults, facetName)))
+                                .orElseGet(() -> getTurSEFacetResultDefault(turSEResults,
+                                                facetName));
         }
 
         @NotNull
@@ -837,6 +891,10 @@ public class TurSNSearchProcess {
                         String facetTypeAndFacetItemTypeValues, TurSEFacetResult turSEFacetResult) {
         }
 
+        private record SubRequests(TurSNSearchFanOut.Subtask<List<TurSNSiteSpotlightDocumentBean>> spotlights,
+                        Map<String, TurSNSearchFanOut.Subtask<TurSEFacetResult>> facetQueries) {
+        }
+
         private static void getFacetResponse(TurSNSiteSearchContext context,
                         Map<String, TurSNSiteFieldExtDto> facetMap, FacetResult facetResult,
                         List<TurSNSiteSearchFacetBean> turSNSiteSearchFacetBeans) {
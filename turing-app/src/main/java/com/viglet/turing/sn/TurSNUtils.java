@@ -18,8 +18,10 @@ package com.viglet.turing.sn;
 
 import java.net.URI;
 import java.net.URLDecoder;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -27,6 +29,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.net.URIBuilder;
@@ -56,6 +59,14 @@ public class TurSNUtils {
     public static final String TURING_ENTITY = "turing_entity";
     public static final String DEFAULT_LANGUAGE = "en";
     public static final String URL = "url";
+    private static final Map<String, String> DEFAULT_PARAMS = Map.of(
+            TurSNParamType.QUERY, "*",
+            TurSNParamType.PAGE, "1",
+            TurSNParamType.FILTER_QUERY_OPERATOR, "NONE",
+            TurSNParamType.FILTER_QUERY_ITEM_OPERATOR, "NONE",
+            TurSNParamType.SORT, "relevance",
+            TurSNParamType.ROWS, "-1",
+            TurSNParamType.AUTO_CORRECTION_DISABLED, "1");
 
     private TurSNUtils() {
         throw new IllegalStateException("SN Utility class");
@@ -65,9 +76,37 @@ public class TurSNUtils {
         return Integer.valueOf(1).equals(value);
     }
 
+    /**
+     * Site name and query string of the request, with the parameters sorted by name and
+     * the ones with default values removed, so equivalent requests share the cache entry.
+     */
     @NotNull
     public static String getCacheKey(String siteName, HttpServletRequest request) {
-        return "%s_%s".formatted(siteName, request.getQueryString());
+        return "%s_%s".formatted(siteName, normalizeQueryString(request.getQueryString()));
+    }
+
+    public static String normalizeQueryString(String queryString) {
+        if (!StringUtils.hasText(queryString)) {
+            return "";
+        }
+        return Arrays.stream(queryString.split("&"))
+                .filter(StringUtils::hasText)
+                .map(param -> {
+                    int separator = param.indexOf('=');
+                    return separator < 0
+                            ? Map.entry(decode(param), "")
+                            : Map.entry(decode(param.substring(0, separator)),
+                                    decode(param.substring(separator + 1)));
+                })
+                .filter(param -> !param.getValue().equals(DEFAULT_PARAMS.get(param.getKey())))
+                .sorted(Map.Entry.comparingByKey())
+                .map(param -> URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(param.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
     }
 
     @NotNull
@@ -95,7 +134,12 @@ public class TurSNUtils {
             TurSNSite turSNSite) {
         return context.getTurSEParameters().getAutoCorrectionDisabled() != 1
                 && context.getTurSEParameters().getCurrentPage() == 1
-                && turSNSite.getSpellCheck() == 1 && turSNSite.getSpellCheckFixes() == 1;
+                && isSpellCheckEnabled(turSNSite)
+                && Integer.valueOf(1).equals(turSNSite.getSpellCheckFixes());
+    }
+
+    public static boolean isSpellCheckEnabled(TurSNSite turSNSite) {
+        return Integer.valueOf(1).equals(turSNSite.getSpellCheck());
     }
 
     public static URI requestToURI(HttpServletRequest request) {
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.checksum;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hashing;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.checksum.TurSNIndexChecksum;
+import com.viglet.turing.persistence.repository.sn.checksum.TurSNIndexChecksumRepository;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.sn.TurSNFieldType;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.spring.utils.TurPersistenceUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Remembers the checksum of the last indexed version of each document, so unchanged
+ * documents can be skipped at ingest. A bloom filter of key and checksum stays in front
+ * of the database: a document that was never indexed with the same checksum is detected
+ * without a query. The filter is loaded in the background when the application starts,
+ * and the database is queried directly until it is ready.
+ * <p>
+ * The stored checksum includes a version of the search engine fields of the site, so a
+ * document is indexed again after the type of a field changes, even with the same
+ * content. When the version of a site changes, its checksums are forgotten.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Service
+public class TurSNIndexChecksumService {
+    private static final int LOAD_PAGE_SIZE = 5000;
+    private final TurSNIndexChecksumRepository turSNIndexChecksumRepository;
+    private final TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
+    private final TurSNSchemaRegistry turSNSchemaRegistry;
+    private final boolean enabled;
+    private final BloomFilter<CharSequence> bloomFilter;
+    private final Map<String, ConfigVersion> configVersions = new ConcurrentHashMap<>();
+    private volatile boolean bloomFilterLoaded;
+
+    public TurSNIndexChecksumService(TurSNIndexChecksumRepository turSNIndexChecksumRepository,
+            TurSNSiteFieldExtRepository turSNSiteFieldExtRepository,
+            TurSNSchemaRegistry turSNSchemaRegistry,
+            @Value("${turing.indexing.checksum.enabled:true}") boolean enabled,
+            @Value("${turing.indexing.checksum.expected-insertions:1000000}") int expectedInsertions) {
+        this.turSNIndexChecksumRepository = turSNIndexChecksumRepository;
+        this.turSNSiteFieldExtRepository = turSNSiteFieldExtRepository;
+        this.turSNSchemaRegistry = turSNSchemaRegistry;
+        this.enabled = enabled;
+        this.bloomFilter = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                expectedInsertions, 0.01);
+    }
+
+    /**
+     * Loads the bloom filter from the stored checksums, without holding the startup or
+     * the indexing queue consumer.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadBloomFilterAsync() {
+        if (enabled) {
+            Thread.ofVirtual().name("turing-checksum-bloom-filter").start(this::loadBloomFilter);
+        }
+    }
+
+    public boolean isUnchanged(TurSNSite turSNSite, TurSNJobItem turSNJobItem) {
+        if (!enabled || StringUtils.isBlank(turSNJobItem.getChecksum())) {
+            return false;
+        }
+        String docKey = docKey(turSNSite, turSNJobItem.getLocale(), turSNJobItem.getId());
+        String checksum = checksum(turSNSite, turSNJobItem);
+        if (bloomFilterLoaded && !bloomFilter.mightContain(filterKey(docKey, checksum))) {
+            return false;
+        }
+        return turSNIndexChecksumRepository.findById(docKey)
+                .map(indexChecksum -> checksum.equals(indexChecksum.getChecksum()))
+                .orElse(false);
+    }
+
+    public void indexed(TurSNSite turSNSite, List<TurSNJobItem> jobItems) {
+        if (!enabled) {
+            return;
+        }
+        List<TurSNIndexChecksum> checksums = jobItems.stream()
+                .filter(turSNJobItem -> StringUtils.isNotBlank(turSNJobItem.getChecksum()))
+                .map(turSNJobItem -> new TurSNIndexChecksum(
+                        docKey(turSNSite, turSNJobItem.getLocale(), turSNJobItem.getId()),
+                        turSNSite.getId(), turSNJobItem.getLocale(), checksum(turSNSite, turSNJobItem)))
+                .toList();
+        if (checksums.isEmpty()) {
+            return;
+        }
+        turSNIndexChecksumRepository.saveAll(checksums);
+        checksums.forEach(checksum -> bloomFilter
+                .put(filterKey(checksum.getDocKey(), checksum.getChecksum())));
+    }
+
+    public void deIndexed(TurSNSite turSNSite, List<TurSNJobItem> jobItems) {
+        if (!enabled || jobItems.isEmpty()) {
+            return;
+        }
+        turSNIndexChecksumRepository.deleteAllByIdInBatch(jobItems.stream()
+                .map(turSNJobItem -> docKey(turSNSite, turSNJobItem.getLocale(),
+                        turSNJobItem.getId()))
+                .toList());
+    }
+
+    /**
+     * Forgets all checksums of a core, used when documents are removed without their ids
+     * being known, like a delete by type.
+     */
+    public void clear(TurSNSite turSNSite, Locale locale) {
+        if (enabled) {
+            turSNIndexChecksumRepository.deleteBySnSiteIdAndLocale(turSNSite.getId(), locale);
+        }
+    }
+
+    /**
+     * Forgets all checksums of a site, used when the site is deleted or its fields change.
+     */
+    public void clear(TurSNSite turSNSite) {
+        if (enabled) {
+            turSNIndexChecksumRepository.deleteBySnSiteId(turSNSite.getId());
+        }
+    }
+
+    /**
+     * Checksum of the content of the job item and of the fields of the site.
+     */
+    private String checksum(TurSNSite turSNSite, TurSNJobItem turSNJobItem) {
+        return turSNJobItem.getChecksum() + "|" + getConfigVersion(turSNSite);
+    }
+
+    /**
+     * Version of the search engine fields of the site, computed again when the schema
+     * registry reports a change. The version is a hash of the fields, so it is the same
+     * after a restart and in every node.
+     */
+    String getConfigVersion(TurSNSite turSNSite) {
+        long registryVersion = turSNSchemaRegistry.getVersion(turSNSite);
+        ConfigVersion current = configVersions.get(turSNSite.getId());
+        if (current != null && current.registryVersion() == registryVersion) {
+            return current.hash();
+        }
+        ConfigVersion computed = new ConfigVersion(registryVersion, fieldsHash(turSNSite));
+        configVersions.put(turSNSite.getId(), computed);
+        if (current != null && !current.hash().equals(computed.hash())) {
+            log.info("Fields of {} SN Site changed, its document checksums were cleared", turSNSite.getName());
+            clear(turSNSite);
+        }
+        return computed.hash();
+    }
+
+    private String fieldsHash(TurSNSite turSNSite) {
+        String fields = turSNSiteFieldExtRepository
+                .findByTurSNSite(TurPersistenceUtils.orderByNameIgnoreCase(), turSNSite).stream()
+                .filter(turSNSiteFieldExt -> turSNSiteFieldExt.getSnType() == TurSNFieldType.SE)
+                .map(turSNSiteFieldExt -> "%s:%s:%s".formatted(turSNSiteFieldExt.getName(),
+                        turSNSiteFieldExt.getType(), turSNSiteFieldExt.getMultiValued()))
+                .sorted()
+                .reduce("", (fieldsHash, field) -> fieldsHash + field + ";");
+        return Hashing.murmur3_128().hashString(fields, StandardCharsets.UTF_8).toString().substring(0, 16);
+    }
+
+    static String docKey(TurSNSite turSNSite, Locale locale, String id) {
+        return Hashing.sha256()
+                .hashString("%s|%s|%s".formatted(turSNSite.getId(), locale, id),
+                        StandardCharsets.UTF_8)
+                .toString();
+    }
+
+    private static String filterKey(String docKey, String checksum) {
+        return docKey + "|" + checksum;
+    }
+
+    /**
+     * Adds the stored checksums to the bloom filter, which already has the ones indexed
+     * while it is loaded.
+     */
+    void loadBloomFilter() {
+        try {
+            Page<TurSNIndexChecksum> page;
+            int pageNumber = 0;
+            do {
+                page = turSNIndexChecksumRepository.findAll(PageRequest.of(pageNumber++, LOAD_PAGE_SIZE));
+                page.getContent().stream().filter(Objects::nonNull)
+                        .forEach(checksum -> bloomFilter
+                                .put(filterKey(checksum.getDocKey(), checksum.getChecksum())));
+            } while (page.hasNext());
+            bloomFilterLoaded = true;
+            log.info("Loaded {} indexed document checksums", page.getTotalElements());
+        } catch (RuntimeException e) {
+            log.error("Indexed document checksums could not be loaded, the database is queried instead: {}",
+                    e.getMessage(), e);
+        }
+    }
+
+    private record ConfigVersion(long registryVersion, String hash) {
+    }
+}
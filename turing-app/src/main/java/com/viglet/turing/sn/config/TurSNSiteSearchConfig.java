@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.config;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.viglet.turing.persistence.dto.sn.field.TurSNSiteFieldExtDto;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExtFacet;
+import com.viglet.turing.persistence.model.sn.locale.TurSNSiteLocale;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Search configuration of an SN Site, resolved once from the database: the enabled
+ * fields and the ones used by facets, highlighting, more like this and required
+ * values, the facet labels of each locale of the site and the ranking boosts.
+ * <p>
+ * The site, its locales and its fields are copies that are not attached to a
+ * persistence context, made by {@link TurSNSiteSearchConfigCopies} with their custom
+ * facets already loaded, so a search never reads the database through them.
+ * <p>
+ * A snapshot is never changed after it is built. When the configuration of the site
+ * changes, {@link TurSNSiteSearchConfigRegistry} builds a new snapshot with a higher
+ * version and replaces the previous one, so a search keeps using the snapshot it
+ * started with.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Getter
+@Builder
+public class TurSNSiteSearchConfig {
+    private final long version;
+    private final long schemaVersion;
+    private final TurSNSite turSNSite;
+    private final List<TurSNSiteLocale> locales;
+    private final List<TurSNSiteFieldExt> enabledFields;
+    private final List<TurSNSiteFieldExt> facetFields;
+    private final List<TurSNSiteFieldExt> dateFacetFields;
+    private final List<TurSNSiteFieldExt> hlFields;
+    private final List<TurSNSiteFieldExt> mltFields;
+    private final List<TurSNSiteFieldExt> facetOrdering;
+    private final Map<String, TurSNSiteFieldExt> fieldExtMap;
+    private final Map<String, TurSNSiteFieldExtDto> fieldExtDtoMap;
+    private final Map<String, Object> requiredFields;
+    private final Map<Locale, Map<String, TurSNSiteFieldExtFacet>> facetLabels;
+    private final List<String> boostQueries;
+
+    public boolean hasLocale(Locale locale) {
+        return locales.stream().anyMatch(turSNSiteLocale -> turSNSiteLocale.getLanguage().equals(locale));
+    }
+
+    /**
+     * Label of the facet of the field in the locale, or its facet name when the locale
+     * has no label.
+     */
+    public TurSNSiteFieldExtFacet getFacetLabel(TurSNSiteFieldExt turSNSiteFieldExt, Locale locale) {
+        Map<String, TurSNSiteFieldExtFacet> labels = facetLabels.get(locale);
+        TurSNSiteFieldExtFacet label = labels == null ? null : labels.get(turSNSiteFieldExt.getName());
+        return label != null ? label
+                : TurSNSiteFieldExtFacet.builder().locale(locale).label(turSNSiteFieldExt.getFacetName()).build();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.config;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteCustomFacet;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteCustomFacetItem;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExtFacet;
+import com.viglet.turing.persistence.model.sn.locale.TurSNSiteLocale;
+
+/**
+ * Copies of the SN Site configuration that are not attached to a persistence context,
+ * for the {@link TurSNSiteSearchConfig} snapshots.
+ * <p>
+ * Every lazy collection the search path reads, the custom facets of a field and the
+ * items of a custom facet, is loaded while the copy is made, so the threads that share
+ * a snapshot never load or change a collection of the database. The collections of the
+ * site that searches do not read are left empty, and the references from a custom facet
+ * or a facet label back to its field are not kept.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+final class TurSNSiteSearchConfigCopies {
+    private TurSNSiteSearchConfigCopies() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static TurSNSite site(TurSNSite turSNSite) {
+        TurSNSite copy = new TurSNSite();
+        copy.setId(turSNSite.getId());
+        copy.setName(turSNSite.getName());
+        copy.setDescription(turSNSite.getDescription());
+        copy.setRowsPerPage(turSNSite.getRowsPerPage());
+        copy.setWildcardNoResults(turSNSite.getWildcardNoResults());
+        copy.setWildcardAlways(turSNSite.getWildcardAlways());
+        copy.setExactMatch(turSNSite.getExactMatch());
+        copy.setFacet(turSNSite.getFacet());
+        copy.setItemsPerFacet(turSNSite.getItemsPerFacet());
+        copy.setHl(turSNSite.getHl());
+        copy.setHlPre(turSNSite.getHlPre());
+        copy.setHlPost(turSNSite.getHlPost());
+        copy.setMlt(turSNSite.getMlt());
+        copy.setFacetType(turSNSite.getFacetType());
+        copy.setFacetItemType(turSNSite.getFacetItemType());
+        copy.setFacetSort(turSNSite.getFacetSort());
+        copy.setThesaurus(turSNSite.getThesaurus());
+        copy.setDefaultField(turSNSite.getDefaultField());
+        copy.setExactMatchField(turSNSite.getExactMatchField());
+        copy.setDefaultTitleField(turSNSite.getDefaultTitleField());
+        copy.setDefaultTextField(turSNSite.getDefaultTextField());
+        copy.setDefaultDescriptionField(turSNSite.getDefaultDescriptionField());
+        copy.setDefaultDateField(turSNSite.getDefaultDateField());
+        copy.setDefaultImageField(turSNSite.getDefaultImageField());
+        copy.setDefaultURLField(turSNSite.getDefaultURLField());
+        copy.setSpellCheck(turSNSite.getSpellCheck());
+        copy.setSpellCheckFixes(turSNSite.getSpellCheckFixes());
+        copy.setSpotlightWithResults(turSNSite.getSpotlightWithResults());
+        // Loaded with the site, and only read by the search path.
+        copy.setTurSEInstance(turSNSite.getTurSEInstance());
+        copy.setTurSNSiteGenAi(turSNSite.getTurSNSiteGenAi());
+        return copy;
+    }
+
+    static TurSNSiteLocale locale(TurSNSiteLocale turSNSiteLocale, TurSNSite site) {
+        TurSNSiteLocale copy = new TurSNSiteLocale();
+        copy.setId(turSNSiteLocale.getId());
+        copy.setLanguage(turSNSiteLocale.getLanguage());
+        copy.setCore(turSNSiteLocale.getCore());
+        copy.setTurSNSite(site);
+        return copy;
+    }
+
+    static TurSNSiteFieldExt field(TurSNSiteFieldExt turSNSiteFieldExt, TurSNSite site) {
+        return turSNSiteFieldExt.toBuilder()
+                .turSNSite(site)
+                .facetLocales(copyAll(turSNSiteFieldExt.getFacetLocales(),
+                        TurSNSiteSearchConfigCopies::facetLabel))
+                .customFacets(copyAll(turSNSiteFieldExt.getCustomFacets(),
+                        TurSNSiteSearchConfigCopies::customFacet))
+                .build();
+    }
+
+    /**
+     * Copy of the facet label, without the reference back to its field.
+     */
+    static TurSNSiteFieldExtFacet facetLabel(TurSNSiteFieldExtFacet turSNSiteFieldExtFacet) {
+        return TurSNSiteFieldExtFacet.builder()
+                .id(turSNSiteFieldExtFacet.getId())
+                .locale(turSNSiteFieldExtFacet.getLocale())
+                .label(turSNSiteFieldExtFacet.getLabel())
+                .build();
+    }
+
+    private static TurSNSiteCustomFacet customFacet(TurSNSiteCustomFacet turSNSiteCustomFacet) {
+        return turSNSiteCustomFacet.toBuilder()
+                .label(Collections.unmodifiableMap(new HashMap<>(Optional
+                        .ofNullable(turSNSiteCustomFacet.getLabel()).orElse(Collections.emptyMap()))))
+                .items(copyAll(turSNSiteCustomFacet.getItems(),
+                        item -> item.toBuilder().turSNSiteCustomFacet(null).build()))
+                .turSNSiteFieldExt(null)
+                .build();
+    }
+
+    private static <T> Set<T> copyAll(Collection<T> collection, UnaryOperator<T> copy) {
+        if (collection == null) {
+            return Collections.emptySet();
+        }
+        Set<T> copies = collection.stream().map(copy).collect(Collectors.toCollection(LinkedHashSet::new));
+        return Collections.unmodifiableSet(copies);
+    }
+}
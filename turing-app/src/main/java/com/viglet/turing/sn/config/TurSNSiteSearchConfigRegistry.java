@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.config;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.viglet.turing.commons.se.field.TurSEFieldType;
+import com.viglet.turing.persistence.dto.sn.field.TurSNSiteFieldExtDto;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExtFacet;
+import com.viglet.turing.persistence.model.sn.locale.TurSNSiteLocale;
+import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtFacetRepository;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
+import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingConditionRepository;
+import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingExpressionRepository;
+import com.viglet.turing.sn.facet.TurSNFacetDefinition;
+import com.viglet.turing.sn.facet.TurSNFacetDefinitionFactory;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.solr.TurSolrQueryBuilder;
+import com.viglet.turing.solr.TurSolrRoutingEvent;
+import com.viglet.turing.spring.utils.TurPersistenceUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a {@link TurSNSiteSearchConfig} snapshot of each SN Site, so the search path
+ * reads its configuration without querying the database.
+ * <p>
+ * A snapshot is built the first time the site is searched. It is replaced by a new one
+ * when the field configuration version of the site in {@link TurSNSchemaRegistry}
+ * changes, and dropped when a {@link TurSolrRoutingEvent} is published for a change of a
+ * site or of its locales. Changes of the ranking expressions or of the custom facets,
+ * which are not tracked by the schema registry, must call {@link #invalidate(String)}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSNSiteSearchConfigRegistry {
+    private static final String LANGUAGE = "language";
+    private final TurSNSiteRepository turSNSiteRepository;
+    private final TurSNSiteLocaleRepository turSNSiteLocaleRepository;
+    private final TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
+    private final TurSNSiteFieldExtFacetRepository turSNSiteFieldExtFacetRepository;
+    private final TurSNRankingExpressionRepository turSNRankingExpressionRepository;
+    private final TurSNRankingConditionRepository turSNRankingConditionRepository;
+    private final TurSNSchemaRegistry turSNSchemaRegistry;
+    private final TurSNFacetDefinitionFactory turSNFacetDefinitionFactory;
+    private final Map<String, TurSNSiteSearchConfig> configs = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    public TurSNSiteSearchConfigRegistry(TurSNSiteRepository turSNSiteRepository,
+            TurSNSiteLocaleRepository turSNSiteLocaleRepository,
+            TurSNSiteFieldExtRepository turSNSiteFieldExtRepository,
+            TurSNSiteFieldExtFacetRepository turSNSiteFieldExtFacetRepository,
+            TurSNRankingExpressionRepository turSNRankingExpressionRepository,
+            TurSNRankingConditionRepository turSNRankingConditionRepository,
+            TurSNSchemaRegistry turSNSchemaRegistry,
+            TurSNFacetDefinitionFactory turSNFacetDefinitionFactory) {
+        this.turSNSiteRepository = turSNSiteRepository;
+        this.turSNSiteLocaleRepository = turSNSiteLocaleRepository;
+        this.turSNSiteFieldExtRepository = turSNSiteFieldExtRepository;
+        this.turSNSiteFieldExtFacetRepository = turSNSiteFieldExtFacetRepository;
+        this.turSNRankingExpressionRepository = turSNRankingExpressionRepository;
+        this.turSNRankingConditionRepository = turSNRankingConditionRepository;
+        this.turSNSchemaRegistry = turSNSchemaRegistry;
+        this.turSNFacetDefinitionFactory = turSNFacetDefinitionFactory;
+    }
+
+    /**
+     * Snapshot of the site. Only a site that is not in the registry yet is read from the
+     * database.
+     */
+    public Optional<TurSNSiteSearchConfig> find(String siteName) {
+        TurSNSiteSearchConfig config = configs.get(siteName);
+        if (config != null) {
+            return Optional.of(current(config));
+        }
+        return turSNSiteRepository.findByName(siteName).map(this::load);
+    }
+
+    public TurSNSiteSearchConfig get(TurSNSite turSNSite) {
+        TurSNSiteSearchConfig config = configs.get(turSNSite.getName());
+        return config != null ? current(config) : load(turSNSite);
+    }
+
+    public void invalidate(TurSNSite turSNSite) {
+        if (turSNSite.getId() != null) {
+            invalidate(turSNSite.getId());
+        }
+    }
+
+    public void invalidate(String snSiteId) {
+        remove(snSiteId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A search that runs before the commit still reads the previous configuration.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(snSiteId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Drops all snapshots after a site or a site locale has changed. When the change
+     * happens in a transaction, they are dropped after it is committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoutingChanged(TurSolrRoutingEvent event) {
+        generation.incrementAndGet();
+        configs.clear();
+        log.debug("Search configurations dropped by {}", event.source());
+    }
+
+    private void remove(String snSiteId) {
+        generation.incrementAndGet();
+        configs.values().removeIf(config -> snSiteId.equals(config.getTurSNSite().getId()));
+    }
+
+    /**
+     * The snapshot, or a new one that replaces it when the fields of the site changed.
+     */
+    private TurSNSiteSearchConfig current(TurSNSiteSearchConfig config) {
+        TurSNSite turSNSite = config.getTurSNSite();
+        if (config.getSchemaVersion() == schemaVersion(turSNSite)) {
+            return config;
+        }
+        long current = generation.get();
+        TurSNSiteSearchConfig updated = build(turSNSite);
+        if (generation.get() == current) {
+            configs.replace(turSNSite.getName(), config, updated);
+        }
+        return updated;
+    }
+
+    private TurSNSiteSearchConfig load(TurSNSite turSNSite) {
+        long current = generation.get();
+        TurSNSiteSearchConfig config = build(turSNSite);
+        if (generation.get() == current) {
+            TurSNSiteSearchConfig previous = configs.putIfAbsent(turSNSite.getName(), config);
+            if (previous != null) {
+                return previous;
+            }
+        }
+        return config;
+    }
+
+    private TurSNSiteSearchConfig build(TurSNSite turSNSite) {
+        // Read first, so a change made while the snapshot is built makes it stale.
+        long schemaVersion = schemaVersion(turSNSite);
+        TurSNSite site = TurSNSiteSearchConfigCopies.site(turSNSite);
+        List<TurSNSiteLocale> locales = turSNSiteLocaleRepository
+                .findByTurSNSite(Sort.by(Sort.Order.asc(LANGUAGE).ignoreCase()), turSNSite).stream()
+                .map(turSNSiteLocale -> TurSNSiteSearchConfigCopies.locale(turSNSiteLocale, site))
+                .toList();
+        List<TurSNSiteFieldExt> fields = turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(turSNSite, 1);
+        List<TurSNSiteFieldExt> enabledFields = copies(site, fields);
+        List<TurSNSiteFieldExt> facetFields = enabledFields.stream()
+                .filter(TurSNSiteSearchConfigRegistry::isFacet)
+                .toList();
+        Map<String, TurSNSiteFieldExt> fieldExtMap = new LinkedHashMap<>();
+        Map<String, TurSNSiteFieldExtDto> fieldExtDtoMap = new LinkedHashMap<>();
+        enabledFields.forEach(field -> {
+            fieldExtMap.put(field.getName(), field);
+            fieldExtDtoMap.put(field.getName(), new TurSNSiteFieldExtDto(field));
+        });
+        Map<String, Object> requiredFields = new HashMap<>();
+        turSNSiteFieldExtRepository.findByTurSNSiteAndRequiredAndEnabled(turSNSite, 1, 1)
+                .forEach(field -> requiredFields.put(field.getName(), field.getDefaultValue()));
+        TurSNSiteSearchConfig config = TurSNSiteSearchConfig.builder()
+                .version(version.incrementAndGet())
+                .schemaVersion(schemaVersion)
+                .turSNSite(site)
+                .locales(locales)
+                .enabledFields(enabledFields)
+                .facetFields(facetFields)
+                .dateFacetFields(copies(site, turSNSiteFieldExtRepository
+                        .findByTurSNSiteAndFacetAndEnabledAndType(turSNSite, 1, 1, TurSEFieldType.DATE)))
+                .hlFields(copies(site, turSNSiteFieldExtRepository.findByTurSNSiteAndHlAndEnabled(turSNSite, 1, 1)))
+                .mltFields(copies(site, turSNSiteFieldExtRepository.findByTurSNSiteAndMltAndEnabled(turSNSite, 1, 1)))
+                .facetOrdering(facetOrdering(enabledFields))
+                .fieldExtMap(Collections.unmodifiableMap(fieldExtMap))
+                .fieldExtDtoMap(Collections.unmodifiableMap(fieldExtDtoMap))
+                .requiredFields(Collections.unmodifiableMap(requiredFields))
+                .facetLabels(facetLabels(locales,
+                        fields.stream().filter(TurSNSiteSearchConfigRegistry::isFacet).toList()))
+                .boostQueries(TurSolrQueryBuilder.boostQueries(
+                        turSNRankingExpressionRepository.findByTurSNSite(TurPersistenceUtils.orderByNameIgnoreCase(),
+                                turSNSite),
+                        turSNRankingConditionRepository::findByTurSNRankingExpression,
+                        turSNSiteFieldExtRepository.findByTurSNSite(TurPersistenceUtils.orderByNameIgnoreCase(),
+                                turSNSite)))
+                .build();
+        log.debug("Search configuration of '{}' SN Site built, version {}", turSNSite.getName(),
+                config.getVersion());
+        return config;
+    }
+
+    private static boolean isFacet(TurSNSiteFieldExt field) {
+        return field.getFacet() == 1 || !CollectionUtils.isEmpty(field.getCustomFacets());
+    }
+
+    private static List<TurSNSiteFieldExt> copies(TurSNSite site, List<TurSNSiteFieldExt> fields) {
+        return fields.stream().map(field -> TurSNSiteSearchConfigCopies.field(field, site)).toList();
+    }
+
+    private long schemaVersion(TurSNSite turSNSite) {
+        return turSNSite.getId() != null ? turSNSchemaRegistry.getVersion(turSNSite) : 0;
+    }
+
+    private List<TurSNSiteFieldExt> facetOrdering(List<TurSNSiteFieldExt> enabledFields) {
+        return turSNFacetDefinitionFactory.fromFields(enabledFields, null).stream()
+                .sorted(Comparator.comparing(TurSNFacetDefinition::getPosition)
+                        .thenComparing(TurSNFacetDefinition::getLabel,
+                                Comparator.nullsLast(String::compareToIgnoreCase)))
+                .map(TurSNFacetDefinition::toFacetOrderingFieldExt)
+                .toList();
+    }
+
+    private Map<Locale, Map<String, TurSNSiteFieldExtFacet>> facetLabels(List<TurSNSiteLocale> locales,
+            List<TurSNSiteFieldExt> facetFields) {
+        Map<Locale, Map<String, TurSNSiteFieldExtFacet>> facetLabels = new HashMap<>();
+        locales.forEach(turSNSiteLocale -> {
+            Map<String, TurSNSiteFieldExtFacet> labels = new HashMap<>();
+            facetFields.forEach(field -> turSNSiteFieldExtFacetRepository
+                    .findByTurSNSiteFieldExtAndLocale(field, turSNSiteLocale.getLanguage()).stream()
+                    .findFirst()
+                    .ifPresent(label -> labels.put(field.getName(),
+                            TurSNSiteSearchConfigCopies.facetLabel(label))));
+            facetLabels.put(turSNSiteLocale.getLanguage(), Collections.unmodifiableMap(labels));
+        });
+        return Collections.unmodifiableMap(facetLabels);
+    }
+}
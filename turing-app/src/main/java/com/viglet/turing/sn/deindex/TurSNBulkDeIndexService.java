@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.deindex;
+
+import static com.viglet.turing.commons.sn.field.TurSNFieldName.ID;
+import static com.viglet.turing.commons.sn.field.TurSNFieldName.SOURCE_APPS;
+import static com.viglet.turing.commons.sn.field.TurSNFieldName.TYPE;
+import static com.viglet.turing.commons.sn.field.TurSNFieldName.URL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.apache.solr.client.solrj.util.ClientUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.collect.Lists;
+import com.viglet.turing.api.sn.bean.TurSNDeIndexCondition;
+import com.viglet.turing.api.sn.bean.TurSNDeIndexRequest;
+import com.viglet.turing.api.sn.bean.TurSNDeIndexResult;
+import com.viglet.turing.api.sn.queue.TurSNIndexingQueueSender;
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.genai.TurGenAi;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.locale.TurSNSiteLocale;
+import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
+import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
+import com.viglet.turing.spring.utils.TurPersistenceUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Removes many documents of an SN Site at once.
+ * <p>
+ * The ids, the types and the conditions are sent to the indexing queue in the message
+ * group of the site, so they are applied after the job items of the site that are
+ * already in the queue, and the search cache of the site is refreshed like for any
+ * other deindex. The ids are sent in messages of at most {@code turing.solr.batch.size}
+ * DELETE job items, which the queue removes with multi-id deletes. The types and the
+ * conditions become delete-by-query job items, each one with at most
+ * {@code turing.sn.deindex.max-terms} values, so no query goes over the boolean clause
+ * limit of Solr. When the site has GenAI enabled, the ids and the types are also removed
+ * from its vector store, and so is a single condition with values of a field kept in
+ * the metadata of the chunks.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSNBulkDeIndexService {
+    /**
+     * Attribute of a DELETE job item with the delete-by-query of a bulk deindex. It is
+     * only applied to the messages sent by
+     * {@link TurSNIndexingQueueSender#sendBulkDeIndex(TurSNJobItems)}.
+     */
+    public static final String QUERY = "deIndexQuery";
+    private static final Pattern FIELD_NAME = Pattern.compile("[A-Za-z0-9_.\\-]+");
+    private static final List<String> VECTOR_STORE_FIELDS = List.of(ID, TYPE, SOURCE_APPS, URL);
+    private final TurSNSiteRepository turSNSiteRepository;
+    private final TurSNSiteLocaleRepository turSNSiteLocaleRepository;
+    private final TurSNIndexingQueueSender turSNIndexingQueueSender;
+    private final TurGenAi turGenAi;
+    private final int batchSize;
+    private final int maxTerms;
+
+    public TurSNBulkDeIndexService(TurSNSiteRepository turSNSiteRepository,
+            TurSNSiteLocaleRepository turSNSiteLocaleRepository,
+            TurSNIndexingQueueSender turSNIndexingQueueSender,
+            TurGenAi turGenAi,
+            @Value("${turing.solr.batch.size:500}") int batchSize,
+            @Value("${turing.sn.deindex.max-terms:256}") int maxTerms) {
+        this.turSNSiteRepository = turSNSiteRepository;
+        this.turSNSiteLocaleRepository = turSNSiteLocaleRepository;
+        this.turSNIndexingQueueSender = turSNIndexingQueueSender;
+        this.turGenAi = turGenAi;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxTerms = Math.max(1, maxTerms);
+    }
+
+    /**
+     * @return empty when the site does not exist
+     * @throws IllegalArgumentException when a condition has an invalid field name or no
+     *                                  values and dates
+     */
+    public Optional<List<TurSNDeIndexResult>> deIndex(TurSNDeIndexRequest request) {
+        List<String> queries = queries(request, maxTerms);
+        return turSNSiteRepository.findByName(request.getSiteName()).map(turSNSite -> locales(turSNSite, request)
+                .stream()
+                .map(locale -> deIndex(turSNSite, locale, request, queries))
+                .toList());
+    }
+
+    private List<Locale> locales(TurSNSite turSNSite, TurSNDeIndexRequest request) {
+        if (request.getLocale() != null) {
+            return List.of(request.getLocale());
+        }
+        return turSNSiteLocaleRepository.findByTurSNSite(TurPersistenceUtils.orderByLanguageIgnoreCase(), turSNSite)
+                .stream().map(TurSNSiteLocale::getLanguage).toList();
+    }
+
+    private TurSNDeIndexResult deIndex(TurSNSite turSNSite, Locale locale, TurSNDeIndexRequest request,
+            List<String> queries) {
+        List<String> ids = request.getIds().stream().distinct().toList();
+        List<TurSNJobItem> jobItems = new ArrayList<>();
+        ids.forEach(id -> jobItems.add(deleteJobItem(turSNSite, locale, ID, id)));
+        queries.forEach(query -> jobItems.add(deleteJobItem(turSNSite, locale, QUERY, query)));
+        List<List<TurSNJobItem>> messages = Lists.partition(jobItems, batchSize);
+        messages.forEach(message -> turSNIndexingQueueSender.sendBulkDeIndex(new TurSNJobItems(message)));
+        log.info("Bulk deindex of '{}' SN Site ({}): {} ids and {} queries sent to the queue in {} messages",
+                turSNSite.getName(), locale, ids.size(), queries.size(), messages.size());
+        return TurSNDeIndexResult.builder()
+                .locale(locale)
+                .ids(ids.size())
+                .queryRequests(queries.size())
+                .queueMessages(messages.size())
+                .vectorStoreRequests(deIndexVectorStore(turSNSite, locale, request, ids))
+                .build();
+    }
+
+    private static TurSNJobItem deleteJobItem(TurSNSite turSNSite, Locale locale, String attribute,
+            String value) {
+        return new TurSNJobItem(TurSNJobAction.DELETE, List.of(turSNSite.getName()), locale,
+                Map.of(attribute, value));
+    }
+
+    private int deIndexVectorStore(TurSNSite turSNSite, Locale locale, TurSNDeIndexRequest request,
+            List<String> ids) {
+        try {
+            int requests = turGenAi.deleteDocuments(turSNSite, locale, ID, ids, batchSize)
+                    + turGenAi.deleteDocuments(turSNSite, locale, TYPE, request.getTypes(), maxTerms);
+            List<TurSNDeIndexCondition> conditions = request.getConditions();
+            if (conditions.size() == 1 && VECTOR_STORE_FIELDS.contains(conditions.getFirst().getField())
+                    && conditions.getFirst().getBefore() == null && conditions.getFirst().getAfter() == null) {
+                requests += turGenAi.deleteDocuments(turSNSite, locale, conditions.getFirst().getField(),
+                        conditions.getFirst().getValues(), maxTerms);
+            } else if (!conditions.isEmpty()) {
+                // Chunks only keep a few metadata fields, so other conditions can't be matched.
+                log.warn("Conditions of the bulk deindex of '{}' SN Site ({}) can't be applied to its embedding store",
+                        turSNSite.getName(), locale);
+            }
+            return requests;
+        } catch (RuntimeException e) {
+            log.error("Bulk deindex of the embedding store of '{}' SN Site ({}) failed: {}", turSNSite.getName(),
+                    locale, e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * Delete-by-query requests of the types and of the conditions. The conditions are
+     * combined with AND, and a condition with more than {@code maxTerms} values is split
+     * into several requests.
+     */
+    static List<String> queries(TurSNDeIndexRequest request, int maxTerms) {
+        List<String> queries = new ArrayList<>();
+        Lists.partition(request.getTypes(), maxTerms).forEach(types -> queries.add(anyOf(TYPE, types)));
+        if (!request.getConditions().isEmpty()) {
+            List<String> combined = List.of("");
+            for (TurSNDeIndexCondition condition : request.getConditions()) {
+                List<String> clauses = clauses(condition, maxTerms);
+                combined = combined.stream()
+                        .flatMap(prefix -> clauses.stream()
+                                .map(clause -> prefix.isEmpty() ? clause : prefix + " AND " + clause))
+                        .toList();
+            }
+            queries.addAll(combined);
+        }
+        return queries;
+    }
+
+    private static List<String> clauses(TurSNDeIndexCondition condition, int maxTerms) {
+        String field = condition.getField();
+        if (field == null || !FIELD_NAME.matcher(field).matches()) {
+            throw new IllegalArgumentException("Invalid field name: " + field);
+        }
+        String range = null;
+        if (condition.getBefore() != null || condition.getAfter() != null) {
+            range = String.format("%s:[%s TO %s}", field,
+                    condition.getAfter() != null ? condition.getAfter() : "*",
+                    condition.getBefore() != null ? condition.getBefore() : "*");
+        }
+        if (condition.getValues().isEmpty()) {
+            if (range == null) {
+                throw new IllegalArgumentException("Condition of " + field + " field has no values or dates");
+            }
+            return List.of(range);
+        }
+        String dateRange = range;
+        return Lists.partition(condition.getValues(), maxTerms).stream()
+                .map(values -> dateRange == null ? anyOf(field, values) : anyOf(field, values) + " AND " + dateRange)
+                .toList();
+    }
+
+    private static String anyOf(String field, List<String> values) {
+        return field + ":(" + String.join(" OR ", values.stream().map(ClientUtils::escapeQueryChars).toList())
+                + ")";
+    }
+}
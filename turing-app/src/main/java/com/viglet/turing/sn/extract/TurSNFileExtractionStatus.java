@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.extract;
+
+/**
+ * Outcome of the text extraction of a file.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+public enum TurSNFileExtractionStatus {
+    /** The text was extracted by Tika and added to the cache. */
+    EXTRACTED,
+    /** The text was read from the cache, without running Tika. */
+    CACHED,
+    /** The file does not exist or is larger than the size limit. */
+    SKIPPED,
+    /** Tika could not read the file. */
+    FAILED,
+    /** The extraction took longer than the time limit. */
+    TIMED_OUT
+}
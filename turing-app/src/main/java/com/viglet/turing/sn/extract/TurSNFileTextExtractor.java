@@ -0,0 +1,395 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.extract;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.viglet.turing.api.ocr.TurTikaFileAttributes;
+import com.viglet.turing.commons.exception.TurRuntimeException;
+import com.viglet.turing.utils.TurFileUtils;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Extracts the text of the files of an import on a bounded pool of workers.
+ * <p>
+ * Files larger than {@code turing.import.extract.max-file-size} are skipped. Each file must
+ * be done within {@code turing.import.extract.timeout} from the moment a worker starts it,
+ * and, when {@code turing.import.extract.import-timeout} is set, all the files of an
+ * import must be done within it from the moment they are submitted. The files that are
+ * not are reported as timed out, the waiting ones are not extracted and the workers of
+ * the running ones are interrupted. Tika does not always stop on an interrupt, so a
+ * worker may stay busy until the parser returns.
+ * <p>
+ * The text of each file is kept on disk under the SHA-256 of its content, so importing
+ * the same file again does not run Tika. When the texts take more than
+ * {@code turing.import.extract.cache-max-size} bytes, the least recently used ones are
+ * removed.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSNFileTextExtractor {
+    private static final String SHA_256 = "SHA-256";
+    private static final String TEXT_EXTENSION = ".txt";
+    private static final double CACHE_LOW_WATERMARK = 0.9;
+    private final Function<File, String> parser;
+    private final Path cacheDir;
+    private final long maxFileSize;
+    private final long timeoutMillis;
+    private final long importTimeoutMillis;
+    private final long cacheMaxSize;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService watchdog;
+    private final Object cacheLock = new Object();
+    private final AtomicLong cacheSize = new AtomicLong(-1);
+
+    @Autowired
+    public TurSNFileTextExtractor(@Value("${turing.import.extract.threads:0}") int threads,
+            @Value("${turing.import.extract.max-file-size:104857600}") long maxFileSize,
+            @Value("${turing.import.extract.timeout:300000}") long timeoutMillis,
+            @Value("${turing.import.extract.import-timeout:0}") long importTimeoutMillis,
+            @Value("${turing.import.extract.cache-dir:store/tika}") String cacheDir,
+            @Value("${turing.import.extract.cache-max-size:1073741824}") long cacheMaxSize) {
+        this(file -> Optional.ofNullable(TurFileUtils.parseFile(file))
+                .map(TurTikaFileAttributes::getContent)
+                .orElse(null),
+                Path.of(cacheDir), maxFileSize, timeoutMillis, importTimeoutMillis, cacheMaxSize,
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+    }
+
+    TurSNFileTextExtractor(Function<File, String> parser, Path cacheDir, long maxFileSize,
+            long timeoutMillis, long importTimeoutMillis, long cacheMaxSize, int threads) {
+        this.parser = parser;
+        this.cacheDir = cacheDir;
+        this.maxFileSize = maxFileSize;
+        this.timeoutMillis = timeoutMillis;
+        this.importTimeoutMillis = importTimeoutMillis;
+        this.cacheMaxSize = cacheMaxSize;
+        this.workers = Executors.newFixedThreadPool(threads, daemon("tur-tika-"));
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(daemon("tur-tika-watchdog-"));
+    }
+
+    /**
+     * Extracts the text of the files, blocking until all of them are done.
+     *
+     * @param listener called on the current thread as each file is done
+     * @return text of each file that could be extracted or read from the cache
+     */
+    public Map<File, String> extract(Collection<File> files,
+            BiConsumer<File, TurSNFileExtractionStatus> listener) {
+        Set<File> distinctFiles = new LinkedHashSet<>(files);
+        long deadline = importTimeoutMillis > 0
+                ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(importTimeoutMillis)
+                : Long.MAX_VALUE;
+        BlockingQueue<Extraction> done = new LinkedBlockingQueue<>();
+        Map<File, Submission> submissions = new LinkedHashMap<>();
+        distinctFiles.forEach(file -> {
+            Submission submission = submit(file);
+            submission.result().thenAccept(done::add);
+            submissions.put(file, submission);
+        });
+        Map<File, String> texts = new HashMap<>();
+        for (int i = 0; i < distinctFiles.size(); i++) {
+            Extraction extraction = poll(done, deadline);
+            if (extraction == null) {
+                submissions.values().forEach(submission -> submission.timeOut(String.format(
+                        "the import was not done %d ms after it was submitted", importTimeoutMillis)));
+                extraction = poll(done, System.nanoTime());
+            }
+            if (extraction.text() != null) {
+                texts.put(extraction.file(), extraction.text());
+            }
+            listener.accept(extraction.file(), extraction.status());
+        }
+        return texts;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+        watchdog.shutdownNow();
+    }
+
+    private Submission submit(File file) {
+        Submission submission = new Submission(file);
+        workers.execute(() -> {
+            if (!submission.start()) {
+                return;
+            }
+            // The timer starts with the worker, so the files waiting for one do not use up their time.
+            ScheduledFuture<?> timeout = watchdog.schedule(() -> submission.timeOut(String.format(
+                    "it was not done %d ms after a worker started it", timeoutMillis)),
+                    timeoutMillis, TimeUnit.MILLISECONDS);
+            try {
+                submission.result().complete(extractText(file));
+            } catch (RuntimeException e) {
+                log.error("Text extraction of {} failed: {}", file.getName(), e.getMessage(), e);
+                submission.result().complete(new Extraction(file, TurSNFileExtractionStatus.FAILED, null));
+            } finally {
+                timeout.cancel(false);
+                submission.finish();
+            }
+        });
+        return submission;
+    }
+
+    private Extraction extractText(File file) {
+        if (!file.isFile() || file.length() > maxFileSize) {
+            log.warn("Text extraction of {} skipped: the file does not exist or is larger than {} bytes",
+                    file.getName(), maxFileSize);
+            return new Extraction(file, TurSNFileExtractionStatus.SKIPPED, null);
+        }
+        Path cached = cachePath(sha256(file));
+        if (Files.isRegularFile(cached)) {
+            touch(cached);
+            return new Extraction(file, TurSNFileExtractionStatus.CACHED, read(cached));
+        }
+        String text = parser.apply(file);
+        if (text == null) {
+            return new Extraction(file, TurSNFileExtractionStatus.FAILED, null);
+        }
+        long written = write(cached, text);
+        if (written > 0 && cacheSize().addAndGet(written) > cacheMaxSize) {
+            evict();
+        }
+        return new Extraction(file, TurSNFileExtractionStatus.EXTRACTED, text);
+    }
+
+    private AtomicLong cacheSize() {
+        if (cacheSize.get() < 0) {
+            synchronized (cacheLock) {
+                if (cacheSize.get() < 0) {
+                    cacheSize.set(cachedTexts().stream().mapToLong(CachedText::size).sum());
+                }
+            }
+        }
+        return cacheSize;
+    }
+
+    /**
+     * Removes the least recently used texts until the cache is below its low watermark.
+     */
+    private void evict() {
+        synchronized (cacheLock) {
+            List<CachedText> cachedTexts = cachedTexts();
+            long size = cachedTexts.stream().mapToLong(CachedText::size).sum();
+            long target = (long) (cacheMaxSize * CACHE_LOW_WATERMARK);
+            int removed = 0;
+            for (CachedText cachedText : cachedTexts) {
+                if (size <= target) {
+                    break;
+                }
+                try {
+                    Files.deleteIfExists(cachedText.path());
+                    size -= cachedText.size();
+                    removed++;
+                } catch (IOException e) {
+                    log.warn("Cached text {} could not be removed: {}", cachedText.path(), e.getMessage());
+                }
+            }
+            cacheSize.set(size);
+            log.info("{} cached texts removed from {}, {} bytes left", removed, cacheDir, size);
+        }
+    }
+
+    /**
+     * @return the cached texts, least recently used first.
+     */
+    private List<CachedText> cachedTexts() {
+        if (!Files.isDirectory(cacheDir)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(TEXT_EXTENSION))
+                    .map(TurSNFileTextExtractor::cachedText)
+                    .flatMap(Optional::stream)
+                    .sorted(Comparator.comparing(CachedText::lastUsed))
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Cached texts of {} could not be listed: {}", cacheDir, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static Optional<CachedText> cachedText(Path path) {
+        try {
+            return Optional.of(new CachedText(path, Files.size(path), Files.getLastModifiedTime(path)));
+        } catch (IOException e) {
+            // Removed by another import while the cache was listed.
+            return Optional.empty();
+        }
+    }
+
+    private static void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("Last use of {} could not be updated: {}", path.getFileName(), e.getMessage());
+        }
+    }
+
+    private Path cachePath(String sha256) {
+        return cacheDir.resolve(sha256.substring(0, 2)).resolve(sha256 + TEXT_EXTENSION);
+    }
+
+    private static String sha256(File file) {
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            MessageDigest digest = MessageDigest.getInstance(SHA_256);
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new TurRuntimeException("Could not hash " + file.getName(), e);
+        }
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new TurRuntimeException("Could not read " + path, e);
+        }
+    }
+
+    /**
+     * @return the number of bytes written, or {@code 0} when the text was not cached.
+     */
+    private static long write(Path path, String text) {
+        try {
+            Files.createDirectories(path.getParent());
+            Path tmp = Files.createTempFile(path.getParent(), path.getFileName().toString(), null);
+            Files.writeString(tmp, text, StandardCharsets.UTF_8);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return Files.size(path);
+        } catch (IOException e) {
+            log.warn("Text of {} could not be cached: {}", path.getFileName(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private static Extraction poll(BlockingQueue<Extraction> done, long deadline) {
+        try {
+            return done.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TurRuntimeException("Text extraction was interrupted", e);
+        }
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Extraction(File file, TurSNFileExtractionStatus status, String text) {
+    }
+
+    private record CachedText(Path path, long size, FileTime lastUsed) {
+    }
+
+    /**
+     * A file of an import, from its submission to the end of its extraction.
+     */
+    private static final class Submission {
+        private final File file;
+        private final CompletableFuture<Extraction> result = new CompletableFuture<>();
+        private Thread worker;
+
+        private Submission(File file) {
+            this.file = file;
+        }
+
+        private CompletableFuture<Extraction> result() {
+            return result;
+        }
+
+        /**
+         * @return {@code false} when the import timed out before a worker was free.
+         */
+        private synchronized boolean start() {
+            if (result.isDone()) {
+                return false;
+            }
+            worker = Thread.currentThread();
+            return true;
+        }
+
+        private synchronized void finish() {
+            worker = null;
+            // An interrupt of a timed out extraction must not reach the next file.
+            Thread.interrupted();
+        }
+
+        private synchronized void timeOut(String reason) {
+            if (result.complete(new Extraction(file, TurSNFileExtractionStatus.TIMED_OUT, null))) {
+                log.warn("Text extraction of {} timed out: {}", file.getName(), reason);
+                if (worker != null) {
+                    worker.interrupt();
+                }
+            }
+        }
+    }
+}
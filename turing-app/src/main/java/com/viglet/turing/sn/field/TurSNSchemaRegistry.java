@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.field;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.solr.TurSolrUtils;
+import com.viglet.turing.spring.utils.TurPersistenceUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory registry of the field names known by each SN Site and by each of its
+ * cores. The names are loaded once from the database and from the Solr schema API, so
+ * the ingest path does not query them again for fields it has already seen.
+ * <p>
+ * Only known fields are cached: a name that is not in the registry is still checked
+ * against the database or Solr before being created, so a stale registry never creates
+ * a field twice. Removing or changing fields must call {@link #invalidate(TurSNSite)}.
+ * <p>
+ * Each site has a version of its field configuration, increased whenever the registry
+ * learns of a new field or is invalidated, so caches derived from the fields can tell
+ * when they are stale. Invalidations only reach the node where the fields were changed,
+ * so the fields of a site are also read again, and its version increased, every
+ * {@code turing.sn.schema.ttl} milliseconds; the other nodes of a cluster see a change
+ * within that time.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSNSchemaRegistry {
+    private final TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
+    private final Map<String, SiteSchema> schemas = new ConcurrentHashMap<>();
+    private final Map<String, SiteVersion> versions = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public TurSNSchemaRegistry(TurSNSiteFieldExtRepository turSNSiteFieldExtRepository,
+            @Value("${turing.sn.schema.ttl:60000}") long ttlMillis) {
+        this(turSNSiteFieldExtRepository, ttlMillis, System::currentTimeMillis);
+    }
+
+    TurSNSchemaRegistry(TurSNSiteFieldExtRepository turSNSiteFieldExtRepository, long ttlMillis,
+            LongSupplier clock) {
+        this.turSNSiteFieldExtRepository = turSNSiteFieldExtRepository;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    public boolean existsInSite(TurSNSite turSNSite, String fieldName) {
+        Set<String> fields = getSchema(turSNSite).fields();
+        if (fields.contains(fieldName)) {
+            return true;
+        }
+        if (turSNSiteFieldExtRepository.existsByTurSNSiteAndName(turSNSite, fieldName)) {
+            addToSite(turSNSite, fieldName);
+            return true;
+        }
+        return false;
+    }
+
+    public boolean existsInCore(TurSNSite turSNSite, String coreName, String fieldName) {
+        Set<String> fields = getCoreFields(turSNSite, coreName);
+        if (fields.contains(fieldName)) {
+            return true;
+        }
+        if (TurSolrUtils.existsField(turSNSite.getTurSEInstance(), coreName, fieldName)) {
+            fields.add(fieldName);
+            return true;
+        }
+        return false;
+    }
+
+    public void addToSite(TurSNSite turSNSite, String fieldName) {
+        if (getSchema(turSNSite).fields().add(fieldName)) {
+            version(turSNSite.getId()).value().incrementAndGet();
+        }
+    }
+
+    public void addToCore(TurSNSite turSNSite, String coreName, String fieldName) {
+        getCoreFields(turSNSite, coreName).add(fieldName);
+    }
+
+    public void invalidate(TurSNSite turSNSite) {
+        if (turSNSite.getId() != null) {
+            invalidate(turSNSite.getId());
+        }
+    }
+
+    public void invalidate(String snSiteId) {
+        version(snSiteId).value().incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Fields read before the commit are the previous ones, so the version changes again.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version(snSiteId).value().incrementAndGet();
+                }
+            });
+        }
+        if (schemas.remove(snSiteId) != null) {
+            log.debug("Schema registry of {} SN Site was invalidated", snSiteId);
+        }
+    }
+
+    /**
+     * Version of the field configuration of the site on this node.
+     */
+    public long getVersion(TurSNSite turSNSite) {
+        return refresh(turSNSite.getId()).value().get();
+    }
+
+    private SiteVersion version(String snSiteId) {
+        return versions.computeIfAbsent(snSiteId,
+                id -> new SiteVersion(new AtomicLong(), new AtomicLong(clock.getAsLong())));
+    }
+
+    /**
+     * Forgets the fields of the site once they are older than the TTL, so changes made on
+     * another node are read.
+     */
+    private SiteVersion refresh(String snSiteId) {
+        SiteVersion version = version(snSiteId);
+        long now = clock.getAsLong();
+        long refreshedAt = version.refreshedAt().get();
+        if (ttlMillis > 0 && now - refreshedAt >= ttlMillis
+                && version.refreshedAt().compareAndSet(refreshedAt, now)) {
+            version.value().incrementAndGet();
+            schemas.remove(snSiteId);
+            log.debug("Schema registry of {} SN Site expired", snSiteId);
+        }
+        return version;
+    }
+
+    private SiteSchema getSchema(TurSNSite turSNSite) {
+        refresh(turSNSite.getId());
+        return schemas.computeIfAbsent(turSNSite.getId(), id -> new SiteSchema(
+                turSNSiteFieldExtRepository
+                        .findByTurSNSite(TurPersistenceUtils.orderByNameIgnoreCase(), turSNSite)
+                        .stream()
+                        .map(TurSNSiteFieldExt::getName)
+                        .collect(Collectors.toCollection(ConcurrentHashMap::newKeySet)),
+                new ConcurrentHashMap<>()));
+    }
+
+    private Set<String> getCoreFields(TurSNSite turSNSite, String coreName) {
+        return getSchema(turSNSite).cores().computeIfAbsent(coreName,
+                core -> TurSolrUtils.getFieldNames(turSNSite.getTurSEInstance(), core)
+                        .<Set<String>>map(names -> {
+                            Set<String> fields = ConcurrentHashMap.newKeySet();
+                            fields.addAll(names);
+                            return fields;
+                        })
+                        .orElseGet(ConcurrentHashMap::newKeySet));
+    }
+
+    private record SiteVersion(AtomicLong value, AtomicLong refreshedAt) {
+    }
+
+    private record SiteSchema(Set<String> fields, Map<String, Set<String>> cores) {
+    }
+}
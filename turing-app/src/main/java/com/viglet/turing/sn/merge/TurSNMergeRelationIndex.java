@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.merge;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.common.SolrDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.viglet.turing.commons.sn.field.TurSNFieldName;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.merge.TurSNSiteMergeProviders;
+import com.viglet.turing.persistence.model.sn.merge.TurSNSiteMergeProvidersField;
+import com.viglet.turing.persistence.repository.sn.merge.TurSNSiteMergeProvidersRepository;
+import com.viglet.turing.solr.TurSolr;
+import com.viglet.turing.solr.TurSolrInstanceProcess;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory index of the merge providers of each SN Site and of the relations between
+ * their documents, so the merge step finds the partner of a document without searching
+ * Solr.
+ * <p>
+ * The relations of a core are read from Solr the first time a document of the core is
+ * merged, and then kept up to date by the indexing queue. Only the fields used by the
+ * merge are read. A core is read by one thread at a time, and the other threads that
+ * need it wait for that read, while the relations of the other cores stay available.
+ * Changing the merge providers of a site must call {@link #invalidate(TurSNSite)}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSNMergeRelationIndex {
+    private final TurSNSiteMergeProvidersRepository turSNSiteMergeProvidersRepository;
+    private final TurSolrInstanceProcess turSolrInstanceProcess;
+    private final TurSolr turSolr;
+    private final boolean enabled;
+    private final int pageSize;
+    private final Map<String, List<TurSNSiteMergeProviders>> mergeProviders = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<TurSNMergeRelations>> relations = new ConcurrentHashMap<>();
+
+    public TurSNMergeRelationIndex(TurSNSiteMergeProvidersRepository turSNSiteMergeProvidersRepository,
+            TurSolrInstanceProcess turSolrInstanceProcess, TurSolr turSolr,
+            @Value("${turing.sn.merge.relation-index.enabled:true}") boolean enabled,
+            @Value("${turing.sn.merge.relation-index.page-size:1000}") int pageSize) {
+        this.turSNSiteMergeProvidersRepository = turSNSiteMergeProvidersRepository;
+        this.turSolrInstanceProcess = turSolrInstanceProcess;
+        this.turSolr = turSolr;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<TurSNSiteMergeProviders> getMergeProviders(TurSNSite turSNSite) {
+        return mergeProviders.computeIfAbsent(turSNSite.getId(), id -> List.copyOf(
+                turSNSiteMergeProvidersRepository.findWithOverwrittenFieldsByTurSNSite(turSNSite)));
+    }
+
+    /**
+     * Relations of the core, read from Solr if they are not loaded yet.
+     *
+     * @return empty when the core could not be read
+     */
+    public Optional<TurSNMergeRelations> getRelations(TurSNSiteMergeProviders turSNSiteMergeProviders,
+            Locale locale) {
+        String key = key(turSNSiteMergeProviders.getTurSNSite(), locale);
+        CompletableFuture<TurSNMergeRelations> current = relations.get(key);
+        if (current != null) {
+            return Optional.ofNullable(current.join());
+        }
+        CompletableFuture<TurSNMergeRelations> loading = new CompletableFuture<>();
+        current = relations.putIfAbsent(key, loading);
+        if (current != null) {
+            return Optional.ofNullable(current.join());
+        }
+        TurSNMergeRelations loaded = null;
+        try {
+            loaded = load(turSNSiteMergeProviders, locale);
+            return Optional.ofNullable(loaded);
+        } finally {
+            loading.complete(loaded);
+            if (loaded == null) {
+                // Not kept, so the next document reads the core again.
+                relations.remove(key, loading);
+            }
+        }
+    }
+
+    /**
+     * Relations of the core, only if they are already loaded.
+     */
+    public Optional<TurSNMergeRelations> findRelations(TurSNSite turSNSite, Locale locale) {
+        return Optional.ofNullable(relations.get(key(turSNSite, locale)))
+                .filter(CompletableFuture::isDone)
+                .map(CompletableFuture::join);
+    }
+
+    public void invalidate(TurSNSite turSNSite) {
+        invalidate(turSNSite.getId());
+    }
+
+    public void invalidate(String snSiteId) {
+        mergeProviders.remove(snSiteId);
+        relations.keySet().removeIf(key -> key.startsWith(snSiteId + "/"));
+    }
+
+    public void invalidate(TurSNSite turSNSite, Locale locale) {
+        relations.remove(key(turSNSite, locale));
+    }
+
+    public static Map<String, Object> overwrittenValues(Map<String, Object> attributes,
+            TurSNSiteMergeProviders turSNSiteMergeProviders) {
+        Set<String> overwrittenFields = Optional.ofNullable(turSNSiteMergeProviders.getOverwrittenFields())
+                .map(fields -> fields.stream().map(TurSNSiteMergeProvidersField::getName)
+                        .collect(Collectors.toSet()))
+                .orElse(Set.of());
+        Map<String, Object> values = new HashMap<>();
+        attributes.forEach((key, value) -> {
+            if (overwrittenFields.contains(key)) {
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
+    public static String relationValue(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return collection.stream().findFirst().map(Object::toString).orElse(null);
+        }
+        return value == null ? null : value.toString();
+    }
+
+    private TurSNMergeRelations load(TurSNSiteMergeProviders turSNSiteMergeProviders, Locale locale) {
+        String siteName = turSNSiteMergeProviders.getTurSNSite().getName();
+        return turSolrInstanceProcess.initIngestInstance(siteName, locale).map(turSolrInstance -> {
+            TurSNMergeRelations turSNMergeRelations = new TurSNMergeRelations();
+            SolrQuery query = new SolrQuery().setQuery("*:*")
+                    .setFilterQueries(String.format("%s:(\"%s\" OR \"%s\")", TurSNFieldName.SOURCE_APPS,
+                            turSNSiteMergeProviders.getProviderFrom(),
+                            turSNSiteMergeProviders.getProviderTo()))
+                    .setFields(fields(turSNSiteMergeProviders));
+            boolean complete = turSolr.forEachDocument(turSolrInstance, query, pageSize,
+                    document -> load(turSNMergeRelations, turSNSiteMergeProviders, document));
+            if (!complete) {
+                log.warn("Merge relations of '{}' SN Site ({}) could not be read", siteName, locale);
+                return null;
+            }
+            log.debug("Loaded {} merge relations of '{}' SN Site ({})", turSNMergeRelations.size(),
+                    siteName, locale);
+            return turSNMergeRelations;
+        }).orElse(null);
+    }
+
+    private static String[] fields(TurSNSiteMergeProviders turSNSiteMergeProviders) {
+        Set<String> fields = new LinkedHashSet<>(List.of(TurSNFieldName.ID, TurSNFieldName.SOURCE_APPS));
+        Optional.ofNullable(turSNSiteMergeProviders.getRelationFrom()).ifPresent(fields::add);
+        Optional.ofNullable(turSNSiteMergeProviders.getRelationTo()).ifPresent(fields::add);
+        Optional.ofNullable(turSNSiteMergeProviders.getOverwrittenFields())
+                .ifPresent(overwrittenFields -> overwrittenFields
+                        .forEach(field -> fields.add(field.getName())));
+        return fields.toArray(String[]::new);
+    }
+
+    private static void load(TurSNMergeRelations turSNMergeRelations,
+            TurSNSiteMergeProviders turSNSiteMergeProviders, SolrDocument document) {
+        String id = relationValue(document.getFieldValue(TurSNFieldName.ID));
+        Collection<Object> providers = Optional.ofNullable(document.getFieldValues(TurSNFieldName.SOURCE_APPS))
+                .orElse(List.of());
+        if (id == null) {
+            return;
+        }
+        if (providers.contains(turSNSiteMergeProviders.getProviderTo())) {
+            String relation = relationValue(document.getFieldValue(turSNSiteMergeProviders.getRelationTo()));
+            if (relation == null) {
+                return;
+            }
+            if (providers.contains(turSNSiteMergeProviders.getProviderFrom())) {
+                turSNMergeRelations.loadMerged(relation, id,
+                        overwrittenValues(document, turSNSiteMergeProviders));
+            } else {
+                turSNMergeRelations.loadTo(relation, id);
+            }
+        } else {
+            String relation = relationValue(document.getFieldValue(turSNSiteMergeProviders.getRelationFrom()));
+            if (relation != null) {
+                turSNMergeRelations.loadFrom(relation, id,
+                        overwrittenValues(document, turSNSiteMergeProviders));
+            }
+        }
+    }
+
+    private static String key(TurSNSite turSNSite, Locale locale) {
+        return turSNSite.getId() + "/" + locale;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.merge;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Relations between the "from" and "to" documents of a merge provider in one core.
+ * <p>
+ * Each relation value points to the id of its "to" document and to the overwritten
+ * field values of its "from" document. A "from" document without partner is indexed on
+ * its own (standalone) and must be removed when its partner arrives; if it is still
+ * waiting in an indexing batch, it is removed after {@link #indexed(Collection)}
+ * reports it, so a lane that runs later does not index it again.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+public class TurSNMergeRelations {
+    private final Map<String, FromEntry> fromByRelation = new HashMap<>();
+    private final Map<String, String> fromRelationById = new HashMap<>();
+    private final Map<String, String> toByRelation = new HashMap<>();
+    private final Map<String, String> toRelationById = new HashMap<>();
+    private final Set<String> pending = new HashSet<>();
+    private final Set<String> orphans = new HashSet<>();
+
+    /**
+     * Result of a "from" document: the id of its "to" partner, if any, and the id of a
+     * standalone "from" document that must be removed from the core.
+     */
+    public record FromMatch(String toId, String deIndexId) {
+    }
+
+    /**
+     * Result of a "to" document: the overwritten values of its "from" partner and the
+     * id of a standalone "from" document that must be removed from the core.
+     */
+    public record ToMatch(Map<String, Object> values, String deIndexId) {
+    }
+
+    private static final class FromEntry {
+        private final String id;
+        private final Map<String, Object> values;
+        private boolean standalone;
+
+        private FromEntry(String id, Map<String, Object> values, boolean standalone) {
+            this.id = id;
+            this.values = values;
+            this.standalone = standalone;
+        }
+    }
+
+    public synchronized FromMatch from(String relation, String id, Map<String, Object> values) {
+        unlink(fromRelationById, id, relation, this::removeFrom);
+        String toId = toByRelation.get(relation);
+        String deIndexId = null;
+        if (toId != null) {
+            deIndexId = supersede(fromByRelation.get(relation));
+        } else {
+            pending.add(id);
+            orphans.remove(id);
+        }
+        putFrom(relation, new FromEntry(id, copy(values), toId == null));
+        return new FromMatch(toId, deIndexId);
+    }
+
+    /**
+     * Indexes the "from" document on its own, used when its partner could not be read.
+     */
+    public synchronized void standalone(String relation, String id) {
+        FromEntry fromEntry = fromByRelation.get(relation);
+        if (fromEntry != null && Objects.equals(fromEntry.id, id)) {
+            fromEntry.standalone = true;
+            pending.add(id);
+            orphans.remove(id);
+        }
+    }
+
+    public synchronized ToMatch to(String relation, String id) {
+        unlink(toRelationById, id, relation, this::removeTo);
+        toByRelation.put(relation, id);
+        toRelationById.put(id, relation);
+        FromEntry fromEntry = fromByRelation.get(relation);
+        if (fromEntry == null) {
+            return null;
+        }
+        return new ToMatch(fromEntry.values, supersede(fromEntry));
+    }
+
+    /**
+     * Marks documents as written to the core.
+     *
+     * @return the ids of standalone "from" documents whose partner arrived while they
+     *         were waiting to be indexed, which must be removed now
+     */
+    public synchronized List<String> indexed(Collection<String> ids) {
+        List<String> deIndexIds = new ArrayList<>();
+        ids.forEach(id -> {
+            if (pending.remove(id) && orphans.remove(id)) {
+                deIndexIds.add(id);
+            }
+        });
+        return deIndexIds;
+    }
+
+    public synchronized void deIndexed(Collection<String> ids) {
+        ids.forEach(id -> {
+            pending.remove(id);
+            orphans.remove(id);
+            String toRelation = toRelationById.get(id);
+            if (toRelation != null) {
+                removeTo(id, toRelation);
+                // The merged document was removed with its "to" document.
+                FromEntry fromEntry = fromByRelation.get(toRelation);
+                if (fromEntry != null && !fromEntry.standalone) {
+                    removeFrom(fromEntry.id, toRelation);
+                }
+            }
+            String fromRelation = fromRelationById.get(id);
+            if (fromRelation != null) {
+                FromEntry fromEntry = fromByRelation.get(fromRelation);
+                if (fromEntry != null && fromEntry.standalone) {
+                    removeFrom(id, fromRelation);
+                }
+            }
+        });
+    }
+
+    synchronized void loadFrom(String relation, String id, Map<String, Object> values) {
+        putFrom(relation, new FromEntry(id, copy(values), true));
+    }
+
+    synchronized void loadMerged(String relation, String id, Map<String, Object> values) {
+        loadTo(relation, id);
+        putFrom(relation, new FromEntry(null, copy(values), false));
+    }
+
+    synchronized void loadTo(String relation, String id) {
+        toByRelation.put(relation, id);
+        toRelationById.put(id, relation);
+    }
+
+    public synchronized int size() {
+        return fromByRelation.size() + toByRelation.size();
+    }
+
+    private String supersede(FromEntry fromEntry) {
+        if (fromEntry == null || !fromEntry.standalone) {
+            return null;
+        }
+        fromEntry.standalone = false;
+        if (pending.contains(fromEntry.id)) {
+            orphans.add(fromEntry.id);
+            return null;
+        }
+        return fromEntry.id;
+    }
+
+    private static Map<String, Object> copy(Map<String, Object> values) {
+        // Attributes of the queue may have null values, which Map.copyOf rejects.
+        return Collections.unmodifiableMap(new HashMap<>(values));
+    }
+
+    private void putFrom(String relation, FromEntry fromEntry) {
+        FromEntry previous = fromByRelation.put(relation, fromEntry);
+        if (previous != null && previous.id != null && !previous.id.equals(fromEntry.id)) {
+            fromRelationById.remove(previous.id);
+        }
+        if (fromEntry.id != null) {
+            fromRelationById.put(fromEntry.id, relation);
+        }
+    }
+
+    private void removeFrom(String id, String relation) {
+        FromEntry fromEntry = fromByRelation.get(relation);
+        if (fromEntry != null && Objects.equals(fromEntry.id, id)) {
+            fromByRelation.remove(relation);
+        }
+        if (id != null) {
+            fromRelationById.remove(id);
+        }
+    }
+
+    private void removeTo(String id, String relation) {
+        toByRelation.remove(relation, id);
+        toRelationById.remove(id);
+    }
+
+    private static void unlink(Map<String, String> relationById, String id, String relation,
+            BiConsumer<String, String> remove) {
+        String previous = relationById.get(id);
+        if (previous != null && !previous.equals(relation)) {
+            remove.accept(id, previous);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.reindex;
+
+import java.time.Instant;
+import java.util.Locale;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Blue/green reindex of a SN Site locale, from the build of its shadow core to the swap
+ * with the live core.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Getter
+@Setter(AccessLevel.PACKAGE)
+public class TurSNReindex {
+    private final String siteName;
+    private final Locale locale;
+    private final String liveCore;
+    private final String shadowCore;
+    private final boolean cloud;
+    private final Instant started;
+    private TurSNReindexStatus status = TurSNReindexStatus.BUILDING;
+    private Instant swapped;
+    private long liveDocuments;
+    private long shadowDocuments;
+
+    TurSNReindex(String siteName, Locale locale, String liveCore, String shadowCore, boolean cloud,
+            Instant started) {
+        this.siteName = siteName;
+        this.locale = locale;
+        this.liveCore = liveCore;
+        this.shadowCore = shadowCore;
+        this.cloud = cloud;
+        this.started = started;
+    }
+
+    /**
+     * Documents of the shadow core, as a percentage of the documents of the live core
+     * when the build started.
+     */
+    public int getProgress() {
+        if (status != TurSNReindexStatus.BUILDING) {
+            return 100;
+        }
+        if (liveDocuments <= 0) {
+            return shadowDocuments > 0 ? 100 : 0;
+        }
+        return (int) Math.min(100, shadowDocuments * 100 / liveDocuments);
+    }
+
+    /**
+     * Core or collection that holds the index no longer searched. A core swap exchanges
+     * the indexes of the two names, while in cloud mode the SN Site locale is pointed to
+     * the other collection.
+     */
+    String getUnusedCore() {
+        if (status == TurSNReindexStatus.SWAPPED && cloud) {
+            return liveCore;
+        }
+        return shadowCore;
+    }
+}
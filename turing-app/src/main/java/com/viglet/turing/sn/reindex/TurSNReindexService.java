@@ -0,0 +1,347 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.reindex;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.viglet.turing.persistence.model.se.TurSEInstance;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.locale.TurSNSiteLocale;
+import com.viglet.turing.persistence.model.sn.reindex.TurSNReindexState;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
+import com.viglet.turing.persistence.repository.sn.reindex.TurSNReindexStateRepository;
+import com.viglet.turing.properties.TurConfigProperties;
+import com.viglet.turing.sn.TurSNFieldType;
+import com.viglet.turing.sn.checksum.TurSNIndexChecksumService;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.sn.merge.TurSNMergeRelationIndex;
+import com.viglet.turing.sn.search.TurSNSearchCache;
+import com.viglet.turing.sn.template.TurSNTemplate;
+import com.viglet.turing.solr.TurSolr;
+import com.viglet.turing.solr.TurSolrFieldAction;
+import com.viglet.turing.solr.TurSolrInstanceProcess;
+import com.viglet.turing.solr.TurSolrUtils;
+import com.viglet.turing.spring.utils.TurPersistenceUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Blue/green reindex of a SN Site locale. A shadow core is built beside the live core
+ * from the same configSet and schema, and the indexing queue sends the documents of the
+ * locale to it while the live core keeps serving the searches. When the build is done
+ * the shadow core is swapped in: with the CoreAdmin SWAP action in standalone mode, or,
+ * in cloud mode, by pointing the SN Site locale to the shadow collection. The previous
+ * index is kept until it is discarded, so the swap can be rolled back.
+ * <p>
+ * Checksums of the locale are forgotten when the build starts, so unchanged documents
+ * are sent to the shadow core too.
+ * <p>
+ * While the shadow core is built, the ingest of the locale goes only to it: documents
+ * indexed or removed during the build are searchable after the swap, and not before. A
+ * discarded build loses them, so its checksums are forgotten and the next ingest sends
+ * them to the live core again.
+ * <p>
+ * The state of each reindex is stored in the database, so the ingest route of a build
+ * and the cores of a swap are restored when the application starts.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Service
+public class TurSNReindexService {
+    private final TurSNSiteLocaleRepository turSNSiteLocaleRepository;
+    private final TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
+    private final TurSNTemplate turSNTemplate;
+    private final TurSolrInstanceProcess turSolrInstanceProcess;
+    private final TurSolr turSolr;
+    private final TurSNSchemaRegistry turSNSchemaRegistry;
+    private final TurSNIndexChecksumService turSNIndexChecksumService;
+    private final TurSNMergeRelationIndex turSNMergeRelationIndex;
+    private final TurConfigProperties turConfigProperties;
+    private final TurSNReindexStateRepository turSNReindexStateRepository;
+    private final TurSNSearchCache turSNSearchCache;
+    private final String suffix;
+    private final Map<String, TurSNReindex> reindexes = new ConcurrentHashMap<>();
+
+    public TurSNReindexService(TurSNSiteLocaleRepository turSNSiteLocaleRepository,
+            TurSNSiteFieldExtRepository turSNSiteFieldExtRepository,
+            TurSNTemplate turSNTemplate,
+            TurSolrInstanceProcess turSolrInstanceProcess,
+            TurSolr turSolr,
+            TurSNSchemaRegistry turSNSchemaRegistry,
+            TurSNIndexChecksumService turSNIndexChecksumService,
+            TurSNMergeRelationIndex turSNMergeRelationIndex,
+            TurConfigProperties turConfigProperties,
+            TurSNReindexStateRepository turSNReindexStateRepository,
+            TurSNSearchCache turSNSearchCache,
+            @Value("${turing.sn.reindex.suffix:_reindex}") String suffix) {
+        this.turSNSiteLocaleRepository = turSNSiteLocaleRepository;
+        this.turSNSiteFieldExtRepository = turSNSiteFieldExtRepository;
+        this.turSNTemplate = turSNTemplate;
+        this.turSolrInstanceProcess = turSolrInstanceProcess;
+        this.turSolr = turSolr;
+        this.turSNSchemaRegistry = turSNSchemaRegistry;
+        this.turSNIndexChecksumService = turSNIndexChecksumService;
+        this.turSNMergeRelationIndex = turSNMergeRelationIndex;
+        this.turConfigProperties = turConfigProperties;
+        this.turSNReindexStateRepository = turSNReindexStateRepository;
+        this.turSNSearchCache = turSNSearchCache;
+        this.suffix = suffix;
+    }
+
+    /**
+     * Restores the reindexes stored in the database, and routes the ingest of the ones
+     * being built to their shadow cores again.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void restore() {
+        turSNReindexStateRepository.findAll().forEach(state -> turSNSiteLocaleRepository
+                .findById(state.getSnSiteLocaleId())
+                .ifPresentOrElse(turSNSiteLocale -> {
+                    TurSNReindex turSNReindex = toReindex(state);
+                    if (turSNReindex.getStatus() == TurSNReindexStatus.BUILDING) {
+                        turSolrInstanceProcess.routeIngest(turSNSiteLocale, turSNReindex.getShadowCore());
+                    }
+                    reindexes.put(turSNSiteLocale.getId(), turSNReindex);
+                }, () -> turSNReindexStateRepository.delete(state)));
+        if (!reindexes.isEmpty()) {
+            log.info("Restored {} reindexes", reindexes.size());
+        }
+    }
+
+    /**
+     * Builds the shadow core and routes the ingest of the locale to it.
+     *
+     * @return empty when the locale already has a reindex, or the shadow core could not
+     *         be created
+     */
+    public synchronized Optional<TurSNReindex> start(TurSNSiteLocale turSNSiteLocale) {
+        if (reindexes.containsKey(turSNSiteLocale.getId())) {
+            log.warn("{} site with {} locale already has a reindex", turSNSiteLocale.getTurSNSite().getName(),
+                    turSNSiteLocale.getLanguage());
+            return Optional.empty();
+        }
+        TurSNSite turSNSite = turSNSiteLocale.getTurSNSite();
+        TurSEInstance turSEInstance = turSNSite.getTurSEInstance();
+        String liveCore = turSNSiteLocale.getCore();
+        String shadowCore = shadowCore(liveCore);
+        turSNTemplate.createSolrCoreWithName(turSNSiteLocale, shadowCore);
+        if (TurSolrUtils.getFieldNames(turSEInstance, shadowCore).isEmpty()) {
+            log.error("Shadow core {} of {} site could not be created", shadowCore, turSNSite.getName());
+            return Optional.empty();
+        }
+        createFields(turSNSite, shadowCore);
+        TurSNReindex turSNReindex = new TurSNReindex(turSNSite.getName(), turSNSiteLocale.getLanguage(),
+                liveCore, shadowCore, isCloud(), Instant.now());
+        turSNReindex.setLiveDocuments(documentTotal(turSEInstance, liveCore));
+        turSNIndexChecksumService.clear(turSNSite, turSNSiteLocale.getLanguage());
+        turSNMergeRelationIndex.invalidate(turSNSite);
+        turSolrInstanceProcess.routeIngest(turSNSiteLocale, shadowCore);
+        reindexes.put(turSNSiteLocale.getId(), turSNReindex);
+        save(turSNSiteLocale, turSNReindex);
+        log.info("Reindex of {} site with {} locale started in {} core", turSNSite.getName(),
+                turSNSiteLocale.getLanguage(), shadowCore);
+        return Optional.of(turSNReindex);
+    }
+
+    public Optional<TurSNReindex> get(TurSNSiteLocale turSNSiteLocale) {
+        return Optional.ofNullable(reindexes.get(turSNSiteLocale.getId())).map(turSNReindex -> {
+            if (turSNReindex.getStatus() == TurSNReindexStatus.BUILDING) {
+                turSNReindex.setShadowDocuments(documentTotal(
+                        turSNSiteLocale.getTurSNSite().getTurSEInstance(), turSNReindex.getShadowCore()));
+            }
+            return turSNReindex;
+        });
+    }
+
+    /**
+     * Makes the shadow core the one searched and routes the ingest back to the SN Site
+     * locale. The shadow core is committed first, even when commits are disabled, so all
+     * of its documents are searchable once it is swapped in.
+     *
+     * @return empty when the locale has no reindex being built, or the swap failed
+     */
+    public synchronized Optional<TurSNReindex> swap(TurSNSiteLocale turSNSiteLocale) {
+        return withStatus(turSNSiteLocale, TurSNReindexStatus.BUILDING).filter(turSNReindex -> {
+            TurSEInstance turSEInstance = turSNSiteLocale.getTurSNSite().getTurSEInstance();
+            if (!turSolrInstanceProcess.initSolrInstance(turSEInstance, turSNReindex.getShadowCore())
+                    .map(turSolr::hardCommit).orElse(false)) {
+                log.error("Shadow core {} could not be committed, it was not swapped in",
+                        turSNReindex.getShadowCore());
+                return false;
+            }
+            if (!exchange(turSNSiteLocale, turSNReindex, turSNReindex.getShadowCore())) {
+                return false;
+            }
+            turSolrInstanceProcess.removeIngestRoute(turSNSiteLocale);
+            turSNReindex.setStatus(TurSNReindexStatus.SWAPPED);
+            turSNReindex.setSwapped(Instant.now());
+            save(turSNSiteLocale, turSNReindex);
+            invalidate(turSNSiteLocale.getTurSNSite());
+            turSNSearchCache.invalidate(turSNReindex.getSiteName());
+            log.info("Reindex of {} site with {} locale swapped in", turSNReindex.getSiteName(),
+                    turSNReindex.getLocale());
+            return true;
+        });
+    }
+
+    /**
+     * Makes the previous index the one searched again. Documents indexed after the swap
+     * are not in it, so they are indexed again by the next ingest.
+     *
+     * @return empty when the locale has no swapped reindex, or the swap failed
+     */
+    public synchronized Optional<TurSNReindex> rollback(TurSNSiteLocale turSNSiteLocale) {
+        return withStatus(turSNSiteLocale, TurSNReindexStatus.SWAPPED).filter(turSNReindex -> {
+            if (!exchange(turSNSiteLocale, turSNReindex, turSNReindex.getLiveCore())) {
+                return false;
+            }
+            turSNReindex.setStatus(TurSNReindexStatus.ROLLED_BACK);
+            save(turSNSiteLocale, turSNReindex);
+            turSNIndexChecksumService.clear(turSNSiteLocale.getTurSNSite(), turSNSiteLocale.getLanguage());
+            invalidate(turSNSiteLocale.getTurSNSite());
+            turSNSearchCache.invalidate(turSNReindex.getSiteName());
+            log.info("Reindex of {} site with {} locale rolled back", turSNReindex.getSiteName(),
+                    turSNReindex.getLocale());
+            return true;
+        });
+    }
+
+    /**
+     * Ends the reindex and deletes the core that is no longer searched: the shadow core
+     * of a build, or the previous index after a swap.
+     */
+    public synchronized Optional<TurSNReindex> discard(TurSNSiteLocale turSNSiteLocale) {
+        return Optional.ofNullable(reindexes.remove(turSNSiteLocale.getId())).map(turSNReindex -> {
+            turSNReindexStateRepository.deleteById(turSNSiteLocale.getId());
+            TurSNSite turSNSite = turSNSiteLocale.getTurSNSite();
+            if (turSNReindex.getStatus() == TurSNReindexStatus.BUILDING) {
+                turSolrInstanceProcess.removeIngestRoute(turSNSiteLocale);
+                // Checksums were of the documents sent to the shadow core.
+                turSNIndexChecksumService.clear(turSNSite, turSNSiteLocale.getLanguage());
+                invalidate(turSNSite);
+            }
+            String unusedCore = turSNReindex.getUnusedCore();
+            if (turSNReindex.isCloud()) {
+                TurSolrUtils.deleteCollection(turSNSite.getTurSEInstance(), unusedCore);
+            } else {
+                TurSolrUtils.deleteCore(turSNSite.getTurSEInstance(), unusedCore);
+            }
+            log.info("Reindex of {} site with {} locale discarded, {} core was deleted", turSNReindex.getSiteName(),
+                    turSNReindex.getLocale(), unusedCore);
+            return turSNReindex;
+        });
+    }
+
+    private Optional<TurSNReindex> withStatus(TurSNSiteLocale turSNSiteLocale, TurSNReindexStatus status) {
+        return Optional.ofNullable(reindexes.get(turSNSiteLocale.getId()))
+                .filter(turSNReindex -> turSNReindex.getStatus() == status);
+    }
+
+    /**
+     * Exchanges the searched index of the locale, so the one in {@code core} is served.
+     */
+    private boolean exchange(TurSNSiteLocale turSNSiteLocale, TurSNReindex turSNReindex, String core) {
+        if (turSNReindex.isCloud()) {
+            turSNSiteLocale.setCore(core);
+            turSNSiteLocaleRepository.save(turSNSiteLocale);
+            turSolrInstanceProcess.refreshRoutes();
+            return true;
+        }
+        if (TurSolrUtils.swapCores(turSNSiteLocale.getTurSNSite().getTurSEInstance(),
+                turSNReindex.getLiveCore(), turSNReindex.getShadowCore())) {
+            return true;
+        }
+        log.error("Core {} could not be swapped with {} core", turSNReindex.getLiveCore(),
+                turSNReindex.getShadowCore());
+        return false;
+    }
+
+    private void save(TurSNSiteLocale turSNSiteLocale, TurSNReindex turSNReindex) {
+        TurSNReindexState state = new TurSNReindexState();
+        state.setSnSiteLocaleId(turSNSiteLocale.getId());
+        state.setSiteName(turSNReindex.getSiteName());
+        state.setLocale(turSNReindex.getLocale());
+        state.setLiveCore(turSNReindex.getLiveCore());
+        state.setShadowCore(turSNReindex.getShadowCore());
+        state.setCloud(turSNReindex.isCloud());
+        state.setStatus(turSNReindex.getStatus());
+        state.setStartedAt(turSNReindex.getStarted());
+        state.setSwappedAt(turSNReindex.getSwapped());
+        state.setLiveDocuments(turSNReindex.getLiveDocuments());
+        turSNReindexStateRepository.save(state);
+    }
+
+    private static TurSNReindex toReindex(TurSNReindexState state) {
+        TurSNReindex turSNReindex = new TurSNReindex(state.getSiteName(), state.getLocale(),
+                state.getLiveCore(), state.getShadowCore(), state.isCloud(), state.getStartedAt());
+        turSNReindex.setStatus(state.getStatus());
+        turSNReindex.setSwapped(state.getSwappedAt());
+        turSNReindex.setLiveDocuments(state.getLiveDocuments());
+        return turSNReindex;
+    }
+
+    private void createFields(TurSNSite turSNSite, String core) {
+        turSNSiteFieldExtRepository.findByTurSNSite(TurPersistenceUtils.orderByNameIgnoreCase(), turSNSite)
+                .stream()
+                .filter(turSNSiteFieldExt -> turSNSiteFieldExt.getSnType() == TurSNFieldType.SE)
+                .filter(turSNSiteFieldExt -> !turSNSchemaRegistry.existsInCore(turSNSite, core,
+                        turSNSiteFieldExt.getName()))
+                .forEach(turSNSiteFieldExt -> {
+                    TurSolrUtils.addOrUpdateField(TurSolrFieldAction.ADD, turSNSite.getTurSEInstance(), core,
+                            turSNSiteFieldExt.getName(), turSNSiteFieldExt.getType(), true,
+                            turSNSiteFieldExt.getMultiValued() == 1);
+                    turSNSchemaRegistry.addToCore(turSNSite, core, turSNSiteFieldExt.getName());
+                });
+    }
+
+    private long documentTotal(TurSEInstance turSEInstance, String core) {
+        return turSolrInstanceProcess.initSolrInstance(turSEInstance, core)
+                .map(turSolr::getDocumentTotal)
+                .orElse(0L);
+    }
+
+    private void invalidate(TurSNSite turSNSite) {
+        turSNMergeRelationIndex.invalidate(turSNSite);
+        turSNSchemaRegistry.invalidate(turSNSite);
+    }
+
+    /**
+     * In cloud mode the SN Site locale ends up pointing to the shadow collection, so the
+     * next reindex builds back the collection without the suffix.
+     */
+    private String shadowCore(String liveCore) {
+        return liveCore.endsWith(suffix)
+                ? liveCore.substring(0, liveCore.length() - suffix.length())
+                : liveCore + suffix;
+    }
+
+    private boolean isCloud() {
+        return turConfigProperties.getSolr() != null && turConfigProperties.getSolr().isCloud();
+    }
+}
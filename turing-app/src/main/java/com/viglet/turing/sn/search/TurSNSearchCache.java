@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.search;
+
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.viglet.turing.commons.sn.bean.TurSNSiteSearchBean;
+import com.viglet.turing.commons.sn.search.TurSNSiteSearchContext;
+import com.viglet.turing.solr.TurSolrRoutingEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Search results of the SN Sites in the {@value #SEARCH_API} cache, keyed by the index
+ * version of the site locale, so a search never gets results from before the last
+ * change of its index.
+ * <p>
+ * The versions are kept in the {@value #SEARCH_API_VERSIONS} cache, which is shared by
+ * the nodes of the cluster like the results. A version is a random token, so a version
+ * that was lost or a cluster that was restarted never matches the entries of a previous
+ * one. Every write to the core of a site locale must call
+ * {@link #changed(String, Locale)}, which replaces its token. The results searched in the
+ * {@code turing.solr.commit.within} milliseconds after the write, before Solr has made
+ * the documents visible, are kept apart from the ones searched after it.
+ * {@link #invalidate(String)} drops the results of one site, and a
+ * {@link TurSolrRoutingEvent} the results of all of them. The entries of the previous
+ * versions are no longer read, and leave the cache through its eviction.
+ * <p>
+ * Hits and misses are counted as {@value #REQUESTS}, tagged by site and result.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSNSearchCache {
+    public static final String SEARCH_API = "searchAPI";
+    public static final String SEARCH_API_VERSIONS = "searchAPIVersions";
+    public static final String REQUESTS = "turing.sn.search.cache";
+    public static final String SITE_TAG = "site";
+    public static final String RESULT_TAG = "result";
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+    private static final String ALL_SITES = "all";
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final long commitWithinMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public TurSNSearchCache(CacheManager cacheManager, MeterRegistry meterRegistry,
+            @Value("${turing.solr.commit.within:10000}") long commitWithinMillis) {
+        this(cacheManager, meterRegistry, commitWithinMillis, System::currentTimeMillis);
+    }
+
+    TurSNSearchCache(CacheManager cacheManager, MeterRegistry meterRegistry, long commitWithinMillis,
+            LongSupplier clock) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.commitWithinMillis = commitWithinMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Cached result of the search, or the result of a new search that is then cached.
+     *
+     * @param cacheKey the site and the normalized query string of the request
+     */
+    public TurSNSiteSearchBean get(String cacheKey, TurSNSiteSearchContext context,
+            Supplier<TurSNSiteSearchBean> search) {
+        String siteName = context.getSiteName();
+        Cache cache = cacheManager.getCache(SEARCH_API);
+        if (cache == null || versions() == null) {
+            return search.get();
+        }
+        String key = versionedKey(cacheKey, siteName, context.getLocale());
+        TurSNSiteSearchBean cached = cache.get(key, TurSNSiteSearchBean.class);
+        if (cached != null) {
+            counter(siteName, HIT).increment();
+            return cached;
+        }
+        counter(siteName, MISS).increment();
+        log.debug("Search cache key: {}", key);
+        TurSNSiteSearchBean result = search.get();
+        if (result != null) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Searches of the site answered with the result, {@value #HIT} or {@value #MISS},
+     * since this node started.
+     */
+    public long count(String siteName, String result) {
+        Counter counter = meterRegistry.find(REQUESTS).tag(SITE_TAG, siteName).tag(RESULT_TAG, result)
+                .counter();
+        return counter != null ? (long) counter.count() : 0;
+    }
+
+    /**
+     * The index of the site locale was written.
+     */
+    public void changed(String siteName, Locale locale) {
+        replace(indexKey(siteName, locale), clock.getAsLong() + commitWithinMillis);
+    }
+
+    /**
+     * Drops the results of the site. When it happens in a transaction, they are dropped
+     * again after it is committed, as a search that runs before the commit still reads the
+     * previous configuration.
+     */
+    public void invalidate(String siteName) {
+        replace(siteKey(siteName), 0);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    replace(siteKey(siteName), 0);
+                }
+            });
+        }
+        log.debug("Search cache of '{}' site invalidated", siteName);
+    }
+
+    /**
+     * Drops the results of all sites after a site or a site locale has changed, as the
+     * core of a site locale may be another one.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoutingChanged(TurSolrRoutingEvent event) {
+        replace(ALL_SITES, 0);
+        log.debug("Search cache invalidated by {}", event.source());
+    }
+
+    String versionedKey(String cacheKey, String siteName, Locale locale) {
+        Cache versions = versions();
+        Version index = version(versions, indexKey(siteName, locale));
+        // The locale is part of the key, as a request without it searches the default one.
+        return "%s#%s.%s.%s.%s%s".formatted(cacheKey, locale, version(versions, ALL_SITES).token(),
+                version(versions, siteKey(siteName)).token(), index.token(),
+                clock.getAsLong() < index.visibleAt() ? "~" : "");
+    }
+
+    private void replace(String key, long visibleAt) {
+        Cache versions = versions();
+        if (versions != null) {
+            versions.put(key, new Version(UUID.randomUUID().toString(), visibleAt));
+        }
+    }
+
+    private static Version version(Cache versions, String key) {
+        Version version = versions.get(key, Version.class);
+        if (version != null) {
+            return version;
+        }
+        Version created = new Version(UUID.randomUUID().toString(), 0);
+        Cache.ValueWrapper existing = versions.putIfAbsent(key, created);
+        return existing != null && existing.get() instanceof Version current ? current : created;
+    }
+
+    private Cache versions() {
+        return cacheManager.getCache(SEARCH_API_VERSIONS);
+    }
+
+    private Counter counter(String siteName, String result) {
+        return Counter.builder(REQUESTS).tag(SITE_TAG, String.valueOf(siteName)).tag(RESULT_TAG, result)
+                .description("Searches answered from the search cache or by the search engine")
+                .register(meterRegistry);
+    }
+
+    private static String siteKey(String siteName) {
+        return "site/" + siteName;
+    }
+
+    private static String indexKey(String siteName, Locale locale) {
+        return "index/" + siteName + "/" + locale;
+    }
+
+    /**
+     * @param visibleAt when the documents of the last write are visible to searches
+     */
+    private record Version(String token, long visibleAt) implements Serializable {
+    }
+}
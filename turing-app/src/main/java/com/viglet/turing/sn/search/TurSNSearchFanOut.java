@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the sub-requests of a search that do not depend on each other on virtual
+ * threads, so the search takes about as long as its slowest sub-request instead of
+ * their sum.
+ * <p>
+ * The sub-requests of a search are forked in a {@link Scope}. They share a deadline of
+ * {@code turing.sn.search.fan-out.timeout} milliseconds from the opening of the scope,
+ * and the first one that fails cancels the others; the caller then uses its own
+ * fallback for each sub-request that did not complete. With
+ * {@code turing.sn.search.fan-out.enabled} false the sub-requests run one after another
+ * on the caller thread.
+ * <p>
+ * Every stage, forked or not, is timed as {@value #STAGE}, tagged by stage and site.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSNSearchFanOut {
+    public static final String STAGE = "turing.sn.search.stage";
+    public static final String STAGE_TAG = "stage";
+    public static final String SITE_TAG = "site";
+    private final boolean enabled;
+    private final long timeoutMillis;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TurSNSearchFanOut(@Value("${turing.sn.search.fan-out.enabled:true}") boolean enabled,
+            @Value("${turing.sn.search.fan-out.timeout:10000}") long timeoutMillis,
+            MeterRegistry meterRegistry) {
+        this(enabled, timeoutMillis, meterRegistry, Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("tur-sn-search-", 0).factory()));
+    }
+
+    TurSNSearchFanOut(boolean enabled, long timeoutMillis, MeterRegistry meterRegistry,
+            ExecutorService executor) {
+        this.enabled = enabled;
+        this.timeoutMillis = timeoutMillis;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+    }
+
+    public Scope open(String siteName) {
+        return new Scope(siteName, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+    }
+
+    /**
+     * Runs a stage on the caller thread, only timing it.
+     */
+    public <T> T time(TurSNSearchStage stage, String siteName, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            timer(stage, siteName).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Timer timer(TurSNSearchStage stage, String siteName) {
+        return timers.computeIfAbsent(stage.getTag() + "/" + siteName, key -> Timer.builder(STAGE)
+                .description("Time spent in a stage of a search")
+                .tag(STAGE_TAG, stage.getTag())
+                .tag(SITE_TAG, String.valueOf(siteName))
+                .register(meterRegistry));
+    }
+
+    /**
+     * Sub-requests of one search. Closing the scope cancels the ones still running.
+     */
+    public class Scope implements AutoCloseable {
+        private final String siteName;
+        private final long deadline;
+        private final List<Subtask<?>> subtasks = new CopyOnWriteArrayList<>();
+        private volatile boolean failed;
+
+        private Scope(String siteName, long deadline) {
+            this.siteName = siteName;
+            this.deadline = deadline;
+        }
+
+        public <T> Subtask<T> fork(TurSNSearchStage stage, Callable<T> task) {
+            Subtask<T> subtask = new Subtask<>(this, stage);
+            subtasks.add(subtask);
+            if (failed) {
+                subtask.cancel();
+            } else if (enabled) {
+                subtask.running = executor.submit(() -> run(subtask, task));
+            } else {
+                run(subtask, task);
+            }
+            return subtask;
+        }
+
+        /**
+         * Waits for every sub-request until the deadline, cancelling the ones that do
+         * not complete in time.
+         */
+        public void join() {
+            subtasks.forEach(Subtask::await);
+        }
+
+        @Override
+        public void close() {
+            subtasks.forEach(Subtask::cancel);
+        }
+
+        private <T> void run(Subtask<T> subtask, Callable<T> task) {
+            long start = System.nanoTime();
+            try {
+                subtask.result.complete(task.call());
+            } catch (Exception e) {
+                // A sub-request that was already cancelled does not cancel the others.
+                if (subtask.result.completeExceptionally(e) && !(e instanceof InterruptedException)) {
+                    fail(subtask, e);
+                }
+            } finally {
+                timer(subtask.stage, siteName).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void fail(Subtask<?> subtask, Exception e) {
+            failed = true;
+            log.warn("{} sub-request of '{}' search failed, cancelling the others: {}",
+                    subtask.stage.getTag(), siteName, e.getMessage());
+            subtasks.stream().filter(other -> other != subtask).forEach(Subtask::cancel);
+        }
+    }
+
+    /**
+     * Result of a forked sub-request.
+     */
+    public static class Subtask<T> {
+        private final Scope scope;
+        private final TurSNSearchStage stage;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile Future<?> running;
+
+        private Subtask(Scope scope, TurSNSearchStage stage) {
+            this.scope = scope;
+            this.stage = stage;
+        }
+
+        /**
+         * Waits for the sub-request until the deadline of the scope.
+         *
+         * @return the fallback when the sub-request failed, was cancelled or timed out
+         */
+        public T resultOr(Supplier<T> fallback) {
+            await();
+            return result.isDone() && !result.isCompletedExceptionally() ? result.join() : fallback.get();
+        }
+
+        private void await() {
+            try {
+                result.get(Math.max(0, scope.deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                log.warn("{} sub-request of '{}' search timed out", stage.getTag(), scope.siteName);
+                cancel();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+            } catch (ExecutionException | CancellationException e) {
+                // The caller uses its fallback.
+            }
+        }
+
+        private void cancel() {
+            result.cancel(false);
+            Future<?> future = running;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.search;
+
+/**
+ * Stages of a search measured by {@link TurSNSearchFanOut}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+public enum TurSNSearchStage {
+    /** Main query of the search. */
+    MAIN("main"),
+    /** Main query sent again with a wildcard, because it found nothing. */
+    WILDCARD_RETRY("wildcardRetry"),
+    /** Wildcard query whose groups complete the groups of the main query. */
+    GROUP_WILDCARD("groupWildcard"),
+    /** "Did you mean" correction of the search terms. */
+    SPELL_CHECK("spellCheck"),
+    /** Query of an AND-OR facet without its own filter query. */
+    FACET("facet"),
+    /** Spotlights that match the search terms. */
+    SPOTLIGHT("spotlight"),
+    /** Access metrics of the search. */
+    METRICS("metrics");
+
+    private final String tag;
+
+    TurSNSearchStage(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
@@ -139,6 +139,15 @@ public class TurSNTemplate {
 
         public String createSolrCore(TurSNSiteLocale turSNSiteLocale, String username) {
                 final String coreName = getCoreName(turSNSiteLocale, username);
+                createSolrCoreWithName(turSNSiteLocale, coreName);
+                return coreName;
+        }
+
+        /**
+         * Creates a core or collection with the given name from the configSet of the locale,
+         * like the ones reindexes build beside the live core.
+         */
+        public void createSolrCoreWithName(TurSNSiteLocale turSNSiteLocale, String coreName) {
                 Optional<TurSEInstance> turSEInstance = turSEInstanceRepository
                                 .findById(turSNSiteLocale.getTurSNSite().getTurSEInstance().getId());
                 turSEInstance.ifPresent(instance -> {
@@ -163,7 +172,6 @@ public class TurSNTemplate {
                                 TurSolrUtils.createCore(solrURL, coreName, configSet);
                         }
                 });
-                return coreName;
         }
 
         private String getCoreName(TurSNSiteLocale turSNSiteLocale, String username) {
@@ -16,6 +16,7 @@ public class TurDecimalFieldNormalizer {
             .compile("^[+-]?(?:\\d{1,3}(?:\\.\\d{3})*|\\d+)(?:,\\d+)?$");
     private static final Pattern DOT_DECIMAL_PATTERN = Pattern
             .compile("^[+-]?(?:\\d{1,3}(?:,\\d{3})*|\\d+)(?:\\.\\d+)?$");
+    private static final Pattern NON_NUMERIC_PATTERN = Pattern.compile("[^0-9,\\.\\-+]");
 
     private final TurGlobalSettingsService turGlobalSettingsService;
 
@@ -90,11 +91,11 @@ public class TurDecimalFieldNormalizer {
     private String normalizeInput(String value) {
         return value == null
                 ? ""
-                : value
+                : NON_NUMERIC_PATTERN.matcher(value
                         .trim()
                         .replace("\u00A0", "")
-                        .replace(" ", "")
-                        .replaceAll("[^0-9,\\.\\-+]", "")
+                        .replace(" ", ""))
+                        .replaceAll("")
                         .toUpperCase(Locale.ROOT);
     }
 }
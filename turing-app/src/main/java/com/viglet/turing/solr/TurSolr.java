@@ -1,18 +1,18 @@
 package com.viglet.turing.solr;
 
-import static com.viglet.turing.solr.TurSolrConstants.EMPTY;
 import static com.viglet.turing.solr.TurSolrConstants.ID;
 import static com.viglet.turing.solr.TurSolrConstants.QUERY;
-import static com.viglet.turing.solr.TurSolrConstants.TUR_SPELL;
 import static com.viglet.turing.solr.TurSolrConstants.TUR_SUGGEST;
 
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.SolrQuery.ORDER;
 import org.apache.solr.client.solrj.SolrServerException;
@@ -23,6 +23,8 @@ import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.client.solrj.response.SpellCheckResponse;
 import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.SolrException;
+import org.apache.solr.common.params.CursorMarkParams;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -30,6 +32,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
@@ -38,15 +41,13 @@ import com.viglet.turing.commons.se.result.spellcheck.TurSESpellCheckResult;
 import com.viglet.turing.commons.sn.search.TurSNSiteSearchContext;
 import com.viglet.turing.commons.utils.TurCommonsUtils;
 import com.viglet.turing.persistence.model.sn.TurSNSite;
-import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
-import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
-import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingConditionRepository;
-import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingExpressionRepository;
 import com.viglet.turing.se.result.TurSEResult;
 import com.viglet.turing.se.result.TurSEResults;
-import com.viglet.turing.sn.TurSNFieldProcess;
 import com.viglet.turing.sn.TurSNUtils;
-import com.viglet.turing.sn.field.TurSNSiteFieldService;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfig;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfigRegistry;
+import com.viglet.turing.sn.search.TurSNSearchFanOut;
+import com.viglet.turing.sn.search.TurSNSearchStage;
 import com.viglet.turing.sn.tr.TurSNTargetingRules;
 
 import lombok.extern.slf4j.Slf4j;
@@ -56,7 +57,9 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class TurSolr {
 
-    private final TurSNSiteRepository turSNSiteRepository;
+    private final TurSNSiteSearchConfigRegistry turSNSiteSearchConfigRegistry;
+    private final TurSolrSpellChecker turSolrSpellChecker;
+    private final TurSNSearchFanOut turSNSearchFanOut;
     private final boolean isCommitEnabled;
     private final TurSolrDocumentHandler turSolrDocumentHandler;
     private final TurSolrQueryBuilder turSolrQueryBuilder;
@@ -64,19 +67,18 @@ public class TurSolr {
 
     public TurSolr(@Value("${turing.solr.commit.enabled:false}") boolean isCommitEnabled,
             @Value("${turing.solr.commit.within:10000}") int commitWithin,
-            TurSNSiteFieldExtRepository turSNSiteFieldExtRepository,
-            TurSNTargetingRules turSNTargetingRules, TurSNSiteFieldService turSNSiteFieldUtils,
-            TurSNRankingExpressionRepository turSNRankingExpressionRepository,
-            TurSNRankingConditionRepository turSNRankingConditionRepository,
-            TurSNSiteRepository turSNSiteRepository, TurSNFieldProcess turSNFieldProcess,
-            TurDecimalFieldNormalizer turDecimalFieldNormalizer) {
+            @Value("${turing.solr.batch.size:500}") int batchSize,
+            TurSNTargetingRules turSNTargetingRules, TurSolrFieldPlanCache turSolrFieldPlanCache,
+            TurSNSiteSearchConfigRegistry turSNSiteSearchConfigRegistry,
+            TurSolrSpellChecker turSolrSpellChecker, TurSNSearchFanOut turSNSearchFanOut) {
         this.isCommitEnabled = isCommitEnabled;
-        this.turSNSiteRepository = turSNSiteRepository;
-        this.turSolrDocumentHandler = new TurSolrDocumentHandler(commitWithin, turSNSiteFieldUtils,
-                turDecimalFieldNormalizer);
-        this.turSolrQueryBuilder = new TurSolrQueryBuilder(turSNSiteFieldExtRepository,
-                turSNRankingExpressionRepository, turSNRankingConditionRepository, turSNTargetingRules);
-        this.turSolrResultProcessor = new TurSolrResultProcessor(turSNFieldProcess, turSNSiteFieldExtRepository);
+        this.turSNSearchFanOut = turSNSearchFanOut;
+        this.turSNSiteSearchConfigRegistry = turSNSiteSearchConfigRegistry;
+        this.turSolrSpellChecker = turSolrSpellChecker;
+        this.turSolrDocumentHandler = new TurSolrDocumentHandler(commitWithin, batchSize,
+                turSolrFieldPlanCache);
+        this.turSolrQueryBuilder = new TurSolrQueryBuilder(turSNTargetingRules);
+        this.turSolrResultProcessor = new TurSolrResultProcessor();
     }
 
     public String dslQuery(TurSolrInstance turSolrInstance, String jsonQuery) {
@@ -95,19 +97,45 @@ public class TurSolr {
                 .map(queryResponse -> queryResponse.getResults().getNumFound()).orElse(0L);
     }
 
+    // Writes only talk to Solr, so they must not hold a database connection.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void indexing(TurSolrInstance turSolrInstance, TurSNSite turSNSite,
             Map<String, Object> attributes) {
         turSolrDocumentHandler.indexing(turSolrInstance, turSNSite, attributes);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Boolean> indexing(TurSolrInstance turSolrInstance, TurSNSite turSNSite,
+            List<Map<String, Object>> attributesList) {
+        return turSolrDocumentHandler.indexing(turSolrInstance, turSNSite, attributesList);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Boolean> update(TurSolrInstance turSolrInstance, TurSNSite turSNSite,
+            List<Map<String, Object>> attributesList) {
+        return turSolrDocumentHandler.update(turSolrInstance, turSNSite, attributesList);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deIndexing(TurSolrInstance turSolrInstance, String id) {
         turSolrDocumentHandler.deIndexing(turSolrInstance, id);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Boolean> deIndexing(TurSolrInstance turSolrInstance, List<String> ids) {
+        return turSolrDocumentHandler.deIndexing(turSolrInstance, ids);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deIndexingByType(TurSolrInstance turSolrInstance, String type) {
         turSolrDocumentHandler.deIndexingByType(turSolrInstance, type);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean deIndexingByQuery(TurSolrInstance turSolrInstance, String query) {
+        return turSolrDocumentHandler.deIndexingByQuery(turSolrInstance, query);
+    }
+
     public SolrDocumentList solrResultAnd(TurSolrInstance turSolrInstance,
             Map<String, Object> attributes) {
         return executeSolrQuery(turSolrInstance,
@@ -119,6 +147,32 @@ public class TurSolr {
                 .orElse(new SolrDocumentList());
     }
 
+    /**
+     * Visits every document matched by the query, reading pages of {@code pageSize}
+     * documents with a cursor sorted by id.
+     *
+     * @return {@code false} when a page could not be read
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean forEachDocument(TurSolrInstance turSolrInstance, SolrQuery query, int pageSize,
+            Consumer<SolrDocument> consumer) {
+        query.setRows(pageSize).setSort(ID, ORDER.asc);
+        String cursorMark = CursorMarkParams.CURSOR_MARK_START;
+        while (true) {
+            query.set(CursorMarkParams.CURSOR_MARK_PARAM, cursorMark);
+            Optional<QueryResponse> response = executeSolrQuery(turSolrInstance, query);
+            if (response.isEmpty()) {
+                return false;
+            }
+            response.get().getResults().forEach(consumer);
+            String nextCursorMark = response.get().getNextCursorMark();
+            if (nextCursorMark == null || nextCursorMark.equals(cursorMark)) {
+                return true;
+            }
+            cursorMark = nextCursorMark;
+        }
+    }
+
     public SpellCheckResponse autoComplete(TurSolrInstance turSolrInstance, String term) {
         return executeSolrQuery(turSolrInstance,
                 new SolrQuery().setParam("qt", TUR_SUGGEST).setQuery(term))
@@ -126,100 +180,123 @@ public class TurSolr {
     }
 
     public TurSESpellCheckResult spellCheckTerm(TurSolrInstance turSolrInstance, String term) {
-        return executeSolrQuery(turSolrInstance, new SolrQuery().setParam("qt", TUR_SPELL)
-                .setQuery(term.replace("\"", EMPTY))).map(
-                        queryResponse -> Optional.ofNullable(queryResponse.getSpellCheckResponse())
-                                .map(spellCheckResponse -> {
-                                    String correctedText = spellCheckResponse.getCollatedResult();
-                                    if (StringUtils.isNotEmpty(correctedText)) {
-                                        return new TurSESpellCheckResult(true, correctedText);
-                                    }
-                                    return new TurSESpellCheckResult();
-                                }).orElse(new TurSESpellCheckResult()))
-                .orElse(new TurSESpellCheckResult());
+        return TurSolrSpellChecker.request(turSolrInstance, term).orElse(new TurSESpellCheckResult());
     }
 
     public TurSEResult findById(TurSolrInstance turSolrInstance, TurSNSite turSNSite, String id,
             TurSNSiteSearchContext context) {
+        TurSNSiteSearchConfig config = turSNSiteSearchConfigRegistry.get(turSNSite);
         SolrQuery query = new SolrQuery().setQuery(ID + ": \"" + id + "\"");
         return executeSolrQuery(turSolrInstance, query)
                 .map(queryResponse -> queryResponse.getResults().stream().findFirst()
                         .map(solrDocument -> turSolrResultProcessor.createTurSEResult(
-                                turSolrResultProcessor.getFieldExtMap(turSNSite),
-                                turSolrResultProcessor.getRequiredFields(turSNSite), solrDocument,
+                                turSolrResultProcessor.getFieldExtMap(config),
+                                turSolrResultProcessor.getRequiredFields(config), solrDocument,
                                 turSolrResultProcessor.getHL(turSNSite,
-                                        turSolrQueryBuilder.prepareQueryHL(turSNSite, query, context),
+                                        turSolrQueryBuilder.prepareQueryHL(config, query, context),
                                         queryResponse, solrDocument)))
                         .orElse(TurSEResult.builder().build()))
                 .orElse(TurSEResult.builder().build());
     }
 
+    /**
+     * Corrects the query before it is sent to Solr, when the site fixes the search terms
+     * automatically. Otherwise no correction is needed to build the query.
+     */
     private TurSESpellCheckResult prepareQueryAutoCorrection(
             TurSNSiteSearchContext turSNSiteSearchContext, TurSNSite turSNSite,
             TurSolrInstance turSolrInstance) {
-        TurSESpellCheckResult turSESpellCheckResult = spellCheckTerm(turSolrInstance,
+        TurSESpellCheckResult turSESpellCheckResult = turSolrSpellChecker.check(turSolrInstance,
+                turSNSite.getName(), turSNSiteSearchContext.getLocale(),
                 turSNSiteSearchContext.getTurSEParameters().getQuery());
-        if (TurSNUtils.isAutoCorrectionEnabled(turSNSiteSearchContext, turSNSite)) {
-            turSESpellCheckResult.setUsingCorrected(true);
-            if (TurSNUtils.hasCorrectedText(turSESpellCheckResult)) {
-                turSNSiteSearchContext.setUri(
-                        TurCommonsUtils.addOrReplaceParameter(turSNSiteSearchContext.getUri(),
-                                QUERY, turSESpellCheckResult.getCorrectedText(), true));
-            }
-        } else {
-            turSESpellCheckResult.setUsingCorrected(false);
+        turSESpellCheckResult.setUsingCorrected(true);
+        if (TurSNUtils.hasCorrectedText(turSESpellCheckResult)) {
+            turSNSiteSearchContext.setUri(
+                    TurCommonsUtils.addOrReplaceParameter(turSNSiteSearchContext.getUri(),
+                            QUERY, turSESpellCheckResult.getCorrectedText(), true));
         }
         return turSESpellCheckResult;
     }
 
     public Optional<TurSEResults> retrieveSolrFromSN(TurSolrInstance turSolrInstance,
             TurSNSiteSearchContext context) {
-        return turSNSiteRepository.findByName(context.getSiteName()).map(turSNSite -> {
-            TurSESpellCheckResult turSESpellCheckResult = prepareQueryAutoCorrection(context, turSNSite,
-                    turSolrInstance);
-            TurSEParameters turSEParameters = context.getTurSEParameters();
-            SolrQuery query = turSolrQueryBuilder.prepareSolrQuery(context, turSNSite, turSEParameters,
-                    turSESpellCheckResult);
-
-            TurSolrQueryContext queryContext = TurSolrQueryContext.builder()
-                    .query(query)
-                    .turSEParameters(turSEParameters)
-                    .mltFieldExtList(turSolrQueryBuilder.prepareQueryMLT(turSNSite, query))
-                    .facetFieldExtList(turSolrQueryBuilder.prepareQueryFacet(turSNSite, query,
-                            turSEParameters.getTurSNFilterParams()))
-                    .hlFieldExtList(turSolrQueryBuilder.prepareQueryHL(turSNSite, query, context))
-                    .spellCheckResult(turSESpellCheckResult)
-                    .queryToRenderFacet(false)
-                    .build();
-
-            return executeSolrQueryFromSN(turSolrInstance, turSNSite, queryContext);
+        return turSNSiteSearchConfigRegistry.find(context.getSiteName()).map(config -> {
+            TurSNSite turSNSite = config.getTurSNSite();
+            try (TurSNSearchFanOut.Scope scope = turSNSearchFanOut.open(turSNSite.getName())) {
+                // The spell check only delays the main query when its correction is searched.
+                boolean autoCorrection = TurSNUtils.isAutoCorrectionEnabled(context, turSNSite);
+                TurSESpellCheckResult turSESpellCheckResult = autoCorrection
+                        ? turSNSearchFanOut.time(TurSNSearchStage.SPELL_CHECK, turSNSite.getName(),
+                                () -> prepareQueryAutoCorrection(context, turSNSite, turSolrInstance))
+                        : new TurSESpellCheckResult();
+                String term = context.getTurSEParameters().getQuery();
+                TurSNSearchFanOut.Subtask<TurSESpellCheckResult> spellCheck = !autoCorrection
+                        && TurSNUtils.isSpellCheckEnabled(turSNSite)
+                                ? scope.fork(TurSNSearchStage.SPELL_CHECK,
+                                        () -> turSolrSpellChecker.check(turSolrInstance, turSNSite.getName(),
+                                                context.getLocale(), term))
+                                : null;
+                TurSEParameters turSEParameters = context.getTurSEParameters();
+                Set<String> facetsWithOwnFilterExcluded = turSolrQueryBuilder
+                        .getFacetsWithOwnFilterExcluded(config, turSEParameters.getTurSNFilterParams());
+                SolrQuery query = turSolrQueryBuilder.prepareSolrQuery(context, config, turSEParameters,
+                        turSESpellCheckResult, facetsWithOwnFilterExcluded);
+
+                TurSolrQueryContext queryContext = TurSolrQueryContext.builder()
+                        .query(query)
+                        .turSEParameters(turSEParameters)
+                        .mltFieldExtList(turSolrQueryBuilder.prepareQueryMLT(config, query))
+                        .facetFieldExtList(turSolrQueryBuilder.prepareQueryFacet(config, query,
+                                turSEParameters.getTurSNFilterParams(), facetsWithOwnFilterExcluded))
+                        .hlFieldExtList(turSolrQueryBuilder.prepareQueryHL(config, query, context))
+                        .spellCheckResult(turSESpellCheckResult)
+                        .queryToRenderFacet(false)
+                        .facetsWithOwnFilterExcluded(facetsWithOwnFilterExcluded)
+                        .build();
+
+                Optional<TurSEResults> turSEResults = executeSolrQueryFromSN(turSolrInstance, config,
+                        queryContext, scope);
+                if (spellCheck != null) {
+                    TurSESpellCheckResult didYouMean = spellCheck.resultOr(TurSESpellCheckResult::new);
+                    turSEResults.ifPresent(results -> results.setSpellCheck(didYouMean));
+                }
+                return turSEResults;
+            }
         }).orElse(Optional.empty());
     }
 
+    // Facet queries may run on the threads of TurSNSearchFanOut, and only talk to Solr.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<TurSEResults> retrieveFacetSolrFromSN(TurSolrInstance turSolrInstance,
             TurSNSiteSearchContext context, String facetName) {
-        return turSNSiteRepository.findByName(context.getSiteName()).map(turSNSite -> {
+        return turSNSiteSearchConfigRegistry.find(context.getSiteName()).map(config -> {
             TurSEParameters turSEParameters = context.getTurSEParameters();
-            SolrQuery query = turSolrQueryBuilder.prepareSolrQuery(context, turSNSite, turSEParameters,
-                    new TurSESpellCheckResult());
+            Set<String> facetsWithOwnFilterExcluded = turSolrQueryBuilder
+                    .getFacetsWithOwnFilterExcluded(config, turSEParameters.getTurSNFilterParams());
+            SolrQuery query = turSolrQueryBuilder.prepareSolrQuery(context, config, turSEParameters,
+                    new TurSESpellCheckResult(), facetsWithOwnFilterExcluded);
 
             TurSolrQueryContext queryContext = TurSolrQueryContext.builder()
                     .query(query)
                     .turSEParameters(turSEParameters)
                     .mltFieldExtList(Collections.emptyList())
-                    .facetFieldExtList(turSolrQueryBuilder.prepareQueryFacetWithOneFacet(turSNSite, query,
-                            turSEParameters.getTurSNFilterParams(), facetName))
+                    .facetFieldExtList(turSolrQueryBuilder.prepareQueryFacetWithOneFacet(config, query,
+                            turSEParameters.getTurSNFilterParams(), facetName, facetsWithOwnFilterExcluded))
                     .hlFieldExtList(Collections.emptyList())
                     .spellCheckResult(new TurSESpellCheckResult())
                     .queryToRenderFacet(true)
+                    .facetsWithOwnFilterExcluded(facetsWithOwnFilterExcluded)
                     .build();
 
-            return executeSolrQueryFromSN(turSolrInstance, turSNSite, queryContext);
+            try (TurSNSearchFanOut.Scope scope = turSNSearchFanOut.open(config.getTurSNSite().getName())) {
+                return executeSolrQueryFromSN(turSolrInstance, config, queryContext, scope);
+            }
         }).orElse(Optional.empty());
     }
 
     private Optional<TurSEResults> executeSolrQueryFromSN(TurSolrInstance turSolrInstance,
-            TurSNSite turSNSite, TurSolrQueryContext queryContext) {
+            TurSNSiteSearchConfig config, TurSolrQueryContext queryContext, TurSNSearchFanOut.Scope scope) {
+        TurSNSite turSNSite = config.getTurSNSite();
         SolrQuery query = queryContext.getQuery();
         boolean isQueryToRenderFacet = queryContext.isQueryToRenderFacet();
 
@@ -227,19 +304,30 @@ public class TurSolr {
                 && isNotQueryExpression(query)) {
             addAWildcardInQuery(query);
         }
+        if (turSolrQueryBuilder.hasGroup(queryContext.getTurSEParameters())
+                && enabledWildcardNoResults(turSNSite) && isNotQueryExpression(query)) {
+            // The wildcard groups do not depend on the main response, so both run together.
+            SolrQuery wildcardQuery = query.getCopy();
+            addAWildcardInQuery(wildcardQuery);
+            TurSNSearchFanOut.Subtask<Optional<QueryResponse>> groupWildcard = scope.fork(
+                    TurSNSearchStage.GROUP_WILDCARD, () -> executeSolrQuery(turSolrInstance, wildcardQuery));
+            queryContext.setGroupWildcardResponse(() -> groupWildcard.resultOr(Optional::empty));
+        }
 
-        return executeSolrQuery(turSolrInstance, query)
-                .map(queryResponse -> turSolrResultProcessor.getResults(turSolrInstance, turSNSite,
+        return turSNSearchFanOut.time(TurSNSearchStage.MAIN, turSNSite.getName(),
+                () -> executeSolrQuery(turSolrInstance, query))
+                .map(queryResponse -> turSolrResultProcessor.getResults(turSolrInstance, config,
                         query, queryContext, getQueryResponseModified(turSolrInstance, turSNSite, query, queryResponse,
                                 isQueryToRenderFacet),
                         turSolrQueryBuilder));
     }
 
-    private static QueryResponse getQueryResponseModified(TurSolrInstance turSolrInstance,
+    private QueryResponse getQueryResponseModified(TurSolrInstance turSolrInstance,
             TurSNSite turSNSite, SolrQuery query, QueryResponse queryResponse,
             boolean isQueryToRenderFacet) {
         return whenNoResultsUseWildcard(turSNSite, query, queryResponse, isQueryToRenderFacet)
-                ? executeSolrQuery(turSolrInstance, query).orElse(queryResponse)
+                ? turSNSearchFanOut.time(TurSNSearchStage.WILDCARD_RETRY, turSNSite.getName(),
+                        () -> executeSolrQuery(turSolrInstance, query)).orElse(queryResponse)
                 : queryResponse;
     }
 
@@ -351,6 +439,7 @@ public class TurSolr {
         return TurSEResult.builder().fields(fields).build();
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean commit(TurSolrInstance turSolrInstance) {
         if (!isCommitEnabled) {
             return true;
@@ -362,4 +451,21 @@ public class TurSolr {
         }
         return true;
     }
+
+    /**
+     * Commits the core even when {@code turing.solr.commit.enabled} is false, for
+     * operations that need every document to be searchable, like the swap of a core.
+     *
+     * @return {@code false} when the commit failed
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean hardCommit(TurSolrInstance turSolrInstance) {
+        try {
+            turSolrInstance.getSolrClient().commit(turSolrInstance.getCore(), true, true);
+            return true;
+        } catch (SolrServerException | IOException | SolrException e) {
+            log.error("Commit of {} core failed: {}", turSolrInstance.getCore(), e.getMessage(), e);
+            return false;
+        }
+    }
 }
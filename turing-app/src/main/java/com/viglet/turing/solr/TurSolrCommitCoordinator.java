@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.solr;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces the commit requests of the indexing queue, so each core gets at most one
+ * hard commit per interval.
+ * <p>
+ * The first request of a quiet core is committed at once. Requests that arrive before
+ * the interval has passed are deferred to its end, and the ones that arrive while a
+ * commit is already deferred are merged into it. When {@code turing.solr.commit.enabled}
+ * is false no commit is sent at all, because the documents are committed by Solr with
+ * {@code commitWithin}; the interval defaults to the same value.
+ * <p>
+ * Solr is called outside the lock of the core, so requests of the core are not held by
+ * a slow commit. A deferred commit that fails is counted and scheduled again for the end
+ * of the next interval.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSolrCommitCoordinator {
+    public static final String COMMITS = "turing.solr.commits";
+    public static final String PENDING = "turing.solr.commits.pending";
+    public static final String DECISION = "decision";
+    public static final String COMMITTED = "committed";
+    public static final String DEFERRED = "deferred";
+    public static final String COALESCED = "coalesced";
+    public static final String DISABLED = "disabled";
+    public static final String FAILED = "failed";
+    private final TurSolr turSolr;
+    private final boolean enabled;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler;
+    private final LongSupplier clock;
+    private final Map<String, CoreCommit> cores = new ConcurrentHashMap<>();
+    private final Counter committed;
+    private final Counter deferred;
+    private final Counter coalesced;
+    private final Counter disabled;
+    private final Counter failed;
+
+    @Autowired
+    public TurSolrCommitCoordinator(TurSolr turSolr,
+            @Value("${turing.solr.commit.enabled:false}") boolean enabled,
+            @Value("${turing.solr.commit.within:10000}") long commitWithin,
+            @Value("${turing.solr.commit.interval:0}") long interval,
+            MeterRegistry meterRegistry) {
+        this(turSolr, enabled, interval > 0 ? interval : commitWithin, meterRegistry,
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "tur-solr-commit");
+                    thread.setDaemon(true);
+                    return thread;
+                }), System::currentTimeMillis);
+    }
+
+    TurSolrCommitCoordinator(TurSolr turSolr, boolean enabled, long intervalMillis,
+            MeterRegistry meterRegistry, ScheduledExecutorService scheduler, LongSupplier clock) {
+        this.turSolr = turSolr;
+        this.enabled = enabled;
+        this.intervalMillis = intervalMillis;
+        this.scheduler = scheduler;
+        this.clock = clock;
+        this.committed = counter(meterRegistry, COMMITTED, "Commits sent to Solr");
+        this.deferred = counter(meterRegistry, DEFERRED, "Commits postponed to the end of the interval");
+        this.coalesced = counter(meterRegistry, COALESCED, "Commit requests merged into a deferred commit");
+        this.disabled = counter(meterRegistry, DISABLED, "Commit requests ignored because commits are disabled");
+        this.failed = counter(meterRegistry, FAILED, "Commits that Solr did not complete");
+        Gauge.builder(PENDING, cores, map -> map.values().stream().filter(CoreCommit::isScheduled).count())
+                .description("Cores with a deferred commit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Requests a commit of the core.
+     */
+    public TurSolrCommitStatus commit(TurSolrInstance turSolrInstance) {
+        if (!enabled) {
+            disabled.increment();
+            return TurSolrCommitStatus.DISABLED;
+        }
+        String key = key(turSolrInstance);
+        CoreCommit coreCommit = cores.computeIfAbsent(key, k -> new CoreCommit());
+        synchronized (coreCommit) {
+            coreCommit.turSolrInstance = turSolrInstance;
+            if (coreCommit.scheduled) {
+                coalesced.increment();
+                return TurSolrCommitStatus.COALESCED;
+            }
+            long wait = coreCommit.lastCommit + intervalMillis - clock.getAsLong();
+            if (wait > 0) {
+                deferred.increment();
+                log.debug("Commit of {} core deferred for {} ms", turSolrInstance.getCore(), wait);
+                schedule(coreCommit, wait);
+                return TurSolrCommitStatus.DEFERRED;
+            }
+            // Requests that arrive while this commit is sent are deferred to the next interval.
+            coreCommit.lastCommit = clock.getAsLong();
+        }
+        return send(turSolrInstance) ? TurSolrCommitStatus.COMMITTED : TurSolrCommitStatus.FAILED;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        // Deferred commits are sent before the application stops.
+        cores.values().forEach(this::flush);
+    }
+
+    private void flush(CoreCommit coreCommit) {
+        TurSolrInstance turSolrInstance;
+        synchronized (coreCommit) {
+            if (!coreCommit.scheduled) {
+                return;
+            }
+            coreCommit.scheduled = false;
+            coreCommit.lastCommit = clock.getAsLong();
+            turSolrInstance = coreCommit.turSolrInstance;
+        }
+        if (!send(turSolrInstance)) {
+            synchronized (coreCommit) {
+                if (!coreCommit.scheduled) {
+                    log.warn("Deferred commit of {} core failed, retrying in {} ms", turSolrInstance.getCore(),
+                            intervalMillis);
+                    schedule(coreCommit, intervalMillis);
+                }
+            }
+        }
+    }
+
+    private void schedule(CoreCommit coreCommit, long wait) {
+        try {
+            scheduler.schedule(() -> flush(coreCommit), wait, TimeUnit.MILLISECONDS);
+            coreCommit.scheduled = true;
+        } catch (RejectedExecutionException e) {
+            log.warn("Commit of {} core was not scheduled, the coordinator is stopped",
+                    coreCommit.turSolrInstance.getCore());
+        }
+    }
+
+    private boolean send(TurSolrInstance turSolrInstance) {
+        if (turSolr.commit(turSolrInstance)) {
+            committed.increment();
+            return true;
+        }
+        failed.increment();
+        log.error("Commit of {} core failed", turSolrInstance.getCore());
+        return false;
+    }
+
+    private static String key(TurSolrInstance turSolrInstance) {
+        return turSolrInstance.getSolrUrl() + "/" + turSolrInstance.getCore();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String decision, String description) {
+        return Counter.builder(COMMITS).tag(DECISION, decision).description(description)
+                .register(meterRegistry);
+    }
+
+    private static final class CoreCommit {
+        private TurSolrInstance turSolrInstance;
+        private long lastCommit = Long.MIN_VALUE / 2;
+        private boolean scheduled;
+
+        private synchronized boolean isScheduled() {
+            return scheduled;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.solr;
+
+/**
+ * Outcome of a commit request to {@link TurSolrCommitCoordinator}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+public enum TurSolrCommitStatus {
+    /** The commit was sent to Solr. */
+    COMMITTED(true),
+    /** The commit will be sent at the end of the interval. */
+    DEFERRED(true),
+    /** The request was merged into a commit that is already deferred. */
+    COALESCED(true),
+    /** No commit is sent, the documents are committed by Solr with commitWithin. */
+    DISABLED(true),
+    /** Solr did not commit the core. */
+    FAILED(false);
+
+    private final boolean accepted;
+
+    TurSolrCommitStatus(boolean accepted) {
+        this.accepted = accepted;
+    }
+
+    /**
+     * @return {@code true} when the documents are or will be committed.
+     */
+    public boolean isAccepted() {
+        return accepted;
+    }
+}
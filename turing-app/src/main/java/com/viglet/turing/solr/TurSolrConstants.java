@@ -29,6 +29,8 @@ public final class TurSolrConstants {
     public static final String TUR_SPELL = "/tur_spell";
     public static final String FILTER_QUERY_OR = "{!tag=_all_}";
     public static final String FACET_OR = "{!ex=_all_}";
+    public static final String FILTER_QUERY_TAG = "{!tag='%s'}";
+    public static final String FACET_EXCLUDE = "{!ex='%s'}";
     public static final String PLUS_ONE = "+1";
     public static final String EMPTY = "";
     public static final String SOLR_DATE_PATTERN = "yyyy-MM-dd'T'HH:mm:ss'Z'";
@@ -38,6 +40,7 @@ public final class TurSolrConstants {
     public static final String NO_FACET_NAME = "__no_facet_name__";
     public static final String OR_OR = "OR-OR";
     public static final String OR_AND = "OR-AND";
+    public static final String AND_OR = "AND-OR";
     public static final String ALL = "_all_";
     public static final String HYPHEN = "-";
 }
@@ -1,43 +1,43 @@
 package com.viglet.turing.solr;
 
 import static com.viglet.turing.solr.TurSolrConstants.BOOST;
+import static com.viglet.turing.solr.TurSolrConstants.ID;
 import static com.viglet.turing.solr.TurSolrConstants.SCORE;
-import static com.viglet.turing.solr.TurSolrConstants.TURING_ENTITY;
 import static com.viglet.turing.solr.TurSolrConstants.TYPE;
 import static com.viglet.turing.solr.TurSolrConstants.VERSION;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.function.Predicate;
 
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.common.SolrException;
 import org.apache.solr.common.SolrInputDocument;
-import org.json.JSONArray;
+import org.apache.solr.common.SolrInputField;
 
-import com.viglet.turing.commons.se.field.TurSEFieldType;
+import com.google.common.collect.Lists;
+import com.viglet.turing.client.sn.job.TurSNJobUpdateOperation;
 import com.viglet.turing.persistence.model.sn.TurSNSite;
-import com.viglet.turing.persistence.model.sn.field.TurSNSiteField;
-import com.viglet.turing.sn.field.TurSNSiteFieldService;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class TurSolrDocumentHandler {
     private final int commitWithin;
-    private final TurSNSiteFieldService turSNSiteFieldUtils;
-    private final TurDecimalFieldNormalizer turDecimalFieldNormalizer;
+    private final int batchSize;
+    private final TurSolrFieldPlanCache turSolrFieldPlanCache;
 
-    public TurSolrDocumentHandler(int commitWithin, TurSNSiteFieldService turSNSiteFieldUtils,
-            TurDecimalFieldNormalizer turDecimalFieldNormalizer) {
+    public TurSolrDocumentHandler(int commitWithin, int batchSize,
+            TurSolrFieldPlanCache turSolrFieldPlanCache) {
         this.commitWithin = commitWithin;
-        this.turSNSiteFieldUtils = turSNSiteFieldUtils;
-        this.turDecimalFieldNormalizer = turDecimalFieldNormalizer;
+        this.batchSize = Math.max(1, batchSize);
+        this.turSolrFieldPlanCache = turSolrFieldPlanCache;
     }
 
     public void indexing(TurSolrInstance turSolrInstance, TurSNSite turSNSite,
@@ -59,6 +59,137 @@ public class TurSolrDocumentHandler {
         this.deleteDocumentByType(turSolrInstance, type);
     }
 
+    /**
+     * Indexes documents of the same core using multi-document update requests with
+     * at most {@code batchSize} documents each. When Solr rejects a batch, its
+     * documents are sent one by one, so a single invalid document does not fail the
+     * others.
+     *
+     * @return the status of each document, in the same order of {@code attributesList}.
+     */
+    public List<Boolean> indexing(TurSolrInstance turSolrInstance, TurSNSite turSNSite,
+            List<Map<String, Object>> attributesList) {
+        log.debug("Executing batch indexing of {} documents ...", attributesList.size());
+        TurSolrFieldPlan turSolrFieldPlan = turSolrFieldPlanCache.get(turSNSite);
+        List<SolrInputDocument> documents = attributesList.stream()
+                .map(attributes -> {
+                    attributes.remove(SCORE);
+                    attributes.remove(VERSION);
+                    attributes.remove(BOOST);
+                    return toSolrInputDocument(turSolrFieldPlan, attributes);
+                }).toList();
+        return addDocuments(turSolrInstance, documents);
+    }
+
+    /**
+     * Applies atomic updates to documents of the same core. Each attribute is sent as a
+     * Solr atomic operation ({@link TurSNJobUpdateOperation}), and its value is
+     * normalized by the type of the field, as in a full document. Documents are sent
+     * with {@code _version_=1}, so Solr rejects the update of a document that does not
+     * exist instead of creating a partial one.
+     * <p>
+     * Documents with {@link TurSNJobUpdateOperation#ADD} or
+     * {@link TurSNJobUpdateOperation#INC} are sent one by one, because retrying a
+     * rejected batch would apply them again to the documents Solr already updated.
+     *
+     * @return the status of each document, in the same order of {@code attributesList}.
+     */
+    public List<Boolean> update(TurSolrInstance turSolrInstance, TurSNSite turSNSite,
+            List<Map<String, Object>> attributesList) {
+        log.debug("Executing atomic update of {} documents ...", attributesList.size());
+        TurSolrFieldPlan turSolrFieldPlan = turSolrFieldPlanCache.get(turSNSite);
+        List<Boolean> status = new ArrayList<>(attributesList.size());
+        List<SolrInputDocument> batch = new ArrayList<>();
+        for (Map<String, Object> attributes : attributesList) {
+            SolrInputDocument document = toAtomicUpdateDocument(turSolrFieldPlan, attributes);
+            if (isIdempotent(document)) {
+                batch.add(document);
+                continue;
+            }
+            status.addAll(addDocuments(turSolrInstance, batch));
+            batch.clear();
+            status.addAll(addDocuments(turSolrInstance, List.of(document)));
+        }
+        status.addAll(addDocuments(turSolrInstance, batch));
+        return status;
+    }
+
+    private List<Boolean> addDocuments(TurSolrInstance turSolrInstance,
+            List<SolrInputDocument> documents) {
+        List<Boolean> status = new ArrayList<>(documents.size());
+        Lists.partition(documents, batchSize).forEach(batch -> status.addAll(processBatch(batch,
+                docs -> {
+                    UpdateRequest updateRequest = new UpdateRequest();
+                    updateRequest.add(docs);
+                    return sendUpdateRequest(turSolrInstance, updateRequest);
+                })));
+        return status;
+    }
+
+    private static boolean isIdempotent(SolrInputDocument document) {
+        return document.values().stream()
+                .map(SolrInputField::getValue)
+                .noneMatch(value -> value instanceof Map<?, ?> operation
+                        && (operation.containsKey(TurSNJobUpdateOperation.ADD.getName())
+                                || operation.containsKey(TurSNJobUpdateOperation.INC.getName())));
+    }
+
+    /**
+     * Removes ids of the same core using multi-id delete requests with at most
+     * {@code batchSize} ids each.
+     *
+     * @return the status of each id, in the same order of {@code ids}.
+     */
+    public List<Boolean> deIndexing(TurSolrInstance turSolrInstance, List<String> ids) {
+        log.debug("Executing batch deIndexing of {} documents ...", ids.size());
+        List<Boolean> status = new ArrayList<>(ids.size());
+        Lists.partition(ids, batchSize).forEach(batch -> status.addAll(processBatch(batch,
+                batchIds -> {
+                    UpdateRequest updateRequest = new UpdateRequest();
+                    updateRequest.deleteById(batchIds);
+                    return sendUpdateRequest(turSolrInstance, updateRequest);
+                })));
+        return status;
+    }
+
+    /**
+     * Removes the documents matched by the query.
+     *
+     * @return {@code false} when the request failed or Solr rejected the query
+     */
+    public boolean deIndexingByQuery(TurSolrInstance turSolrInstance, String query) {
+        log.debug("Executing deIndexing by query {} ...", query);
+        UpdateRequest updateRequest = new UpdateRequest();
+        updateRequest.deleteByQuery(query);
+        try {
+            return sendUpdateRequest(turSolrInstance, updateRequest);
+        } catch (SolrException e) {
+            log.error(e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private static <T> List<Boolean> processBatch(List<T> batch, Predicate<List<T>> request) {
+        try {
+            return Collections.nCopies(batch.size(), request.test(batch));
+        } catch (SolrException e) {
+            if (batch.size() == 1) {
+                log.error(e.getMessage(), e);
+                return List.of(false);
+            }
+            log.warn("Solr rejected a batch of {} items, retrying one by one: {}", batch.size(),
+                    e.getMessage());
+            return batch.stream().map(item -> {
+                try {
+                    return request.test(List.of(item));
+                } catch (SolrException ex) {
+                    log.error(ex.getMessage(), ex);
+                    return false;
+                }
+            }).toList();
+        }
+    }
+
     public void deleteDocument(TurSolrInstance turSolrInstance, String id) {
         try {
             UpdateRequest updateRequest = new UpdateRequest();
@@ -81,180 +212,95 @@ public class TurSolrDocumentHandler {
         }
     }
 
-    private String concatenateString(@SuppressWarnings("rawtypes") List list) {
-        int i = 0;
-        StringBuilder sb = new StringBuilder();
-        for (Object valueItem : list) {
-            sb.append(TurSolrField.convertFieldToString(valueItem));
-            if (i++ != list.size() - 1)
-                sb.append(System.lineSeparator());
-        }
-        return sb.toString().trim();
-    }
-
     public void addDocument(TurSolrInstance turSolrInstance, TurSNSite turSNSite,
             Map<String, Object> attributes) {
-        Map<String, TurSNSiteField> turSNSiteFieldMap = turSNSiteFieldUtils.toMap(turSNSite);
-        SolrInputDocument document = new SolrInputDocument();
-        Optional.ofNullable(attributes).ifPresent(attr -> {
-            attr.forEach((key, value) -> processAttribute(turSNSiteFieldMap, document, key, value));
-            addSolrDocument(turSolrInstance, document);
-        });
+        Optional.ofNullable(attributes).ifPresent(attr -> addSolrDocument(turSolrInstance,
+                toSolrInputDocument(turSolrFieldPlanCache.get(turSNSite), attr)));
 
     }
 
-    private void processAttribute(Map<String, TurSNSiteField> turSNSiteFieldMap,
-            SolrInputDocument document, String key, Object attribute) {
-        Optional.ofNullable(attribute).ifPresent(attr -> {
-            TurSNSiteField turSNSiteField = turSNSiteFieldMap.get(key);
-            TurSEFieldType fieldType = Optional.ofNullable(turSNSiteField)
-                    .map(TurSNSiteField::getType)
-                    .orElse(null);
-
-            if (turDecimalFieldNormalizer.isDecimalFieldType(fieldType)) {
-                processDecimalAttribute(turSNSiteFieldMap, document, key, attr, fieldType);
-                return;
-            }
+    private static SolrInputDocument toSolrInputDocument(TurSolrFieldPlan turSolrFieldPlan,
+            Map<String, Object> attributes) {
+        SolrInputDocument document = new SolrInputDocument();
+        attributes.forEach((key, value) -> turSolrFieldPlan.addField(document, key, value));
+        return document;
+    }
 
-            switch (attr) {
-                case Integer integer -> processInteger(document, key, integer);
-                case JSONArray objects -> processJSONArray(turSNSiteFieldMap, document, key,
-                        objects);
-                case ArrayList<?> arrayList -> processArrayList(turSNSiteFieldMap, document, key,
-                        arrayList);
-                default -> processOtherTypes(document, key, attribute);
+    private static SolrInputDocument toAtomicUpdateDocument(TurSolrFieldPlan turSolrFieldPlan,
+            Map<String, Object> attributes) {
+        SolrInputDocument document = new SolrInputDocument();
+        attributes.forEach((key, value) -> {
+            if (key.equals(ID)) {
+                document.addField(ID, TurSolrField.convertFieldToString(value));
+            } else if (!key.equals(SCORE) && !key.equals(VERSION) && !key.equals(BOOST)) {
+                addAtomicOperation(turSolrFieldPlan, document, key, value);
             }
         });
+        // The document must exist: Solr answers a version conflict otherwise.
+        document.setField(VERSION, 1L);
+        return document;
     }
 
-    private void processDecimalAttribute(Map<String, TurSNSiteField> turSNSiteFieldMap,
-            SolrInputDocument document, String key, Object attribute, TurSEFieldType fieldType) {
-        boolean multiValued = isMultiValued(turSNSiteFieldMap, key);
-
-        switch (attribute) {
-            case JSONArray jsonArray -> {
-                if (jsonArray.length() == 0) {
-                    return;
-                }
-
-                if (multiValued) {
-                    IntStream.range(0, jsonArray.length())
-                            .mapToObj(jsonArray::get)
-                            .forEach(value -> addDecimalValue(document, key, value, fieldType));
-                } else {
-                    addDecimalValue(document, key, jsonArray.get(0), fieldType);
-                }
+    private static void addAtomicOperation(TurSolrFieldPlan turSolrFieldPlan,
+            SolrInputDocument document, String key, Object value) {
+        TurSNJobUpdateOperation operation = TurSNJobUpdateOperation.SET;
+        Object operand = value;
+        if (value instanceof Map<?, ?> map && map.size() == 1) {
+            Map.Entry<?, ?> entry = map.entrySet().iterator().next();
+            Optional<TurSNJobUpdateOperation> mapOperation = TurSNJobUpdateOperation
+                    .fromName(String.valueOf(entry.getKey()));
+            if (mapOperation.isPresent()) {
+                operation = mapOperation.get();
+                operand = entry.getValue();
             }
-            case ArrayList<?> arrayList -> {
-                if (arrayList.isEmpty()) {
-                    return;
-                }
-
-                if (multiValued) {
-                    arrayList.forEach(value -> addDecimalValue(document, key, value, fieldType));
-                } else {
-                    addDecimalValue(document, key, arrayList.getFirst(), fieldType);
-                }
-            }
-            default -> addDecimalValue(document, key, attribute, fieldType);
         }
-    }
-
-    private void addDecimalValue(SolrInputDocument document, String key, Object value,
-            TurSEFieldType fieldType) {
-        if (fieldType == TurSEFieldType.CURRENCY) {
-            String rawCurrency = TurSolrField.convertFieldToString(value);
-            document.addField(key.concat(TurSolrUtils.CURRENCY_TXT_SUFFIX), rawCurrency);
-
-            toSolrCurrencyValue(rawCurrency)
-                    .ifPresentOrElse(
-                            normalizedCurrency -> document.addField(key, normalizedCurrency),
-                            () -> log.warn("Skipping invalid currency value for field '{}': {}", key,
-                                    rawCurrency));
+        if (operand == null) {
+            if (operation == TurSNJobUpdateOperation.SET) {
+                document.addField(key, operation.of(null));
+            }
             return;
         }
-
-        turDecimalFieldNormalizer.normalizeNumericValue(fieldType, value)
-                .ifPresentOrElse(
-                        normalizedValue -> document.addField(key, normalizedValue),
-                        () -> log.warn("Skipping invalid decimal value for field '{}': {}", key,
-                                TurSolrField.convertFieldToString(value)));
-    }
-
-    private Optional<String> toSolrCurrencyValue(String rawCurrency) {
-        if (rawCurrency == null) {
-            return Optional.empty();
-        }
-
-        String normalizedCurrency = rawCurrency.trim();
-        int separatorIndex = normalizedCurrency.lastIndexOf(',');
-        if (separatorIndex <= 0 || separatorIndex == normalizedCurrency.length() - 1) {
-            return Optional.empty();
+        SolrInputDocument normalized = new SolrInputDocument();
+        turSolrFieldPlan.addField(normalized, key, operand);
+        if (operation == TurSNJobUpdateOperation.SET) {
+            // The normalized value may have more than one field, like the text of a currency.
+            for (SolrInputField field : normalized) {
+                document.addField(field.getName(), operation.of(field.getValue()));
+            }
+            return;
         }
-
-        String amountPart = normalizedCurrency.substring(0, separatorIndex).trim();
-        String currencyCode = normalizedCurrency.substring(separatorIndex + 1).trim()
-                .toUpperCase(Locale.ROOT);
-        if (!currencyCode.matches("^[A-Z]{3}$")) {
-            return Optional.empty();
+        // The other operations change the value Solr has, so the fields derived from it cannot follow.
+        SolrInputField field = normalized.getField(key);
+        if (field == null) {
+            return;
         }
-
-        return turDecimalFieldNormalizer.normalizeCanonicalDecimal(amountPart)
-                .map(amount -> String.format("%s,%s", amount, currencyCode));
-    }
-
-    private void processOtherTypes(SolrInputDocument document, String key, Object attribute) {
-        document.addField(key, TurSolrField.convertFieldToString(attribute));
-    }
-
-    private void processInteger(SolrInputDocument document, String key, Object attribute) {
-        document.addField(key, attribute);
-    }
-
-    private void processJSONArray(Map<String, TurSNSiteField> turSNSiteFieldMap,
-            SolrInputDocument document, String key, Object attribute) {
-        JSONArray value = (JSONArray) attribute;
-        if (key.startsWith(TURING_ENTITY) || isMultiValued(turSNSiteFieldMap, key)) {
-            Optional.ofNullable(value).ifPresent(v -> IntStream.range(0, value.length())
-                    .forEachOrdered(i -> document.addField(key, value.getString(i))));
-        } else {
-            document.addField(key,
-                    concatenateString(Optional.ofNullable(value)
-                            .map(v -> IntStream.range(0, value.length()).mapToObj(value::getString)
-                                    .collect(Collectors.toCollection(ArrayList::new)))
-                            .orElse(new ArrayList<>())));
+        if (operation == TurSNJobUpdateOperation.INC && !isNumeric(field.getValue())) {
+            log.warn("Skipping inc of non-numeric value for field '{}': {}", key,
+                    TurSolrField.convertFieldToString(field.getValue()));
+            return;
         }
+        document.addField(key, operation.of(field.getValue()));
     }
 
-    private static boolean isMultiValued(Map<String, TurSNSiteField> turSNSiteFieldMap,
-            String key) {
-        return turSNSiteFieldMap.get(key) != null
-                && turSNSiteFieldMap.get(key).getMultiValued() == 1;
+    private static boolean isNumeric(Object value) {
+        return value instanceof Number || value instanceof String text && NumberUtils.isCreatable(text);
     }
 
-    private void processArrayList(Map<String, TurSNSiteField> turSNSiteFieldMap,
-            SolrInputDocument document, String key, Object attribute) {
-        @SuppressWarnings("rawtypes")
-        List attributeList = (ArrayList) attribute;
-        Optional.ofNullable(attributeList).ifPresent(values -> {
-            if (key.startsWith(TURING_ENTITY) || isMultiValued(turSNSiteFieldMap, key)) {
-                for (Object valueItem : values) {
-                    document.addField(key, TurSolrField.convertFieldToString(valueItem));
-                }
-            } else {
-                document.addField(key, concatenateString(values));
-            }
-        });
+    private void addSolrDocument(TurSolrInstance turSolrInstance, SolrInputDocument document) {
+        UpdateRequest updateRequest = new UpdateRequest();
+        updateRequest.add(document);
+        sendUpdateRequest(turSolrInstance, updateRequest);
     }
 
-    private void addSolrDocument(TurSolrInstance turSolrInstance, SolrInputDocument document) {
+    private boolean sendUpdateRequest(TurSolrInstance turSolrInstance,
+            UpdateRequest updateRequest) {
         try {
-            UpdateRequest updateRequest = new UpdateRequest();
-            updateRequest.add(document);
             updateRequest.setCommitWithin(commitWithin);
             updateRequest.process(turSolrInstance.getSolrClient(), turSolrInstance.getCore());
+            return true;
         } catch (SolrServerException | IOException e) {
             log.error(e.getMessage(), e);
         }
+        return false;
     }
 }
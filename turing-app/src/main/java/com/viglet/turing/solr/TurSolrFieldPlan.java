@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.solr;
+
+import static com.viglet.turing.solr.TurSolrConstants.TURING_ENTITY;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.solr.common.SolrInputDocument;
+import org.json.JSONArray;
+
+import com.viglet.turing.commons.se.field.TurSEFieldType;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteField;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Conversion of document attributes into Solr fields, compiled once from the fields of
+ * a SN Site. Each field gets a converter with its multi-valued flag and normalizer
+ * already resolved, so converting an attribute is a lookup and a call, instead of
+ * looking the field up and choosing the conversion again for every value.
+ * <p>
+ * Attributes without a field are converted as text, multi-valued when they are
+ * entities. A plan is immutable; {@link TurSolrFieldPlanCache} compiles a new one when
+ * the field configuration of the site changes.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+public final class TurSolrFieldPlan {
+    private static final Converter SINGLE_VALUED_TEXT = new TextConverter(false);
+    private static final Converter MULTI_VALUED_TEXT = new TextConverter(true);
+    private final long version;
+    private final Map<String, Converter> converters;
+
+    private TurSolrFieldPlan(long version, Map<String, Converter> converters) {
+        this.version = version;
+        this.converters = converters;
+    }
+
+    public static TurSolrFieldPlan compile(long version, Map<String, TurSNSiteField> turSNSiteFields,
+            TurDecimalFieldNormalizer turDecimalFieldNormalizer) {
+        Map<String, Converter> converters = HashMap.newHashMap(turSNSiteFields.size());
+        turSNSiteFields.forEach((name, turSNSiteField) -> converters.put(name,
+                converter(name, turSNSiteField, turDecimalFieldNormalizer)));
+        return new TurSolrFieldPlan(version, converters);
+    }
+
+    private static Converter converter(String name, TurSNSiteField turSNSiteField,
+            TurDecimalFieldNormalizer turDecimalFieldNormalizer) {
+        boolean multiValued = turSNSiteField.getMultiValued() == 1;
+        TurSEFieldType fieldType = turSNSiteField.getType();
+        if (turDecimalFieldNormalizer.isDecimalFieldType(fieldType)) {
+            return fieldType == TurSEFieldType.CURRENCY
+                    ? new CurrencyConverter(multiValued, turDecimalFieldNormalizer)
+                    : new DecimalConverter(multiValued, fieldType, turDecimalFieldNormalizer);
+        }
+        return multiValued || name.startsWith(TURING_ENTITY) ? MULTI_VALUED_TEXT : SINGLE_VALUED_TEXT;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Adds the attribute to the document, normalized by the type of its field. Null
+     * values are ignored.
+     */
+    public void addField(SolrInputDocument document, String key, Object value) {
+        if (value == null) {
+            return;
+        }
+        Converter converter = converters.get(key);
+        if (converter == null) {
+            converter = key.startsWith(TURING_ENTITY) ? MULTI_VALUED_TEXT : SINGLE_VALUED_TEXT;
+        }
+        converter.add(document, key, value);
+    }
+
+    private interface Converter {
+        void add(SolrInputDocument document, String key, Object value);
+    }
+
+    private record TextConverter(boolean multiValued) implements Converter {
+        @Override
+        public void add(SolrInputDocument document, String key, Object value) {
+            switch (value) {
+                case Integer integer -> document.addField(key, integer);
+                case JSONArray jsonArray -> addJSONArray(document, key, jsonArray);
+                case ArrayList<?> list -> addList(document, key, list);
+                default -> document.addField(key, TurSolrField.convertFieldToString(value));
+            }
+        }
+
+        private void addJSONArray(SolrInputDocument document, String key, JSONArray jsonArray) {
+            if (multiValued) {
+                for (int i = 0; i < jsonArray.length(); i++) {
+                    document.addField(key, jsonArray.getString(i));
+                }
+            } else {
+                StringBuilder text = new StringBuilder();
+                for (int i = 0; i < jsonArray.length(); i++) {
+                    appendLine(text, i, jsonArray.getString(i));
+                }
+                document.addField(key, text.toString().trim());
+            }
+        }
+
+        private void addList(SolrInputDocument document, String key, List<?> list) {
+            if (multiValued) {
+                for (Object item : list) {
+                    document.addField(key, TurSolrField.convertFieldToString(item));
+                }
+            } else {
+                StringBuilder text = new StringBuilder();
+                for (int i = 0; i < list.size(); i++) {
+                    appendLine(text, i, list.get(i));
+                }
+                document.addField(key, text.toString().trim());
+            }
+        }
+
+        private static void appendLine(StringBuilder text, int index, Object item) {
+            if (index > 0) {
+                text.append(System.lineSeparator());
+            }
+            text.append(TurSolrField.convertFieldToString(item));
+        }
+    }
+
+    /**
+     * Converter of numeric values; a single-valued field keeps only the first value of a
+     * list.
+     */
+    private abstract static class NumericConverter implements Converter {
+        private final boolean multiValued;
+
+        NumericConverter(boolean multiValued) {
+            this.multiValued = multiValued;
+        }
+
+        @Override
+        public void add(SolrInputDocument document, String key, Object value) {
+            switch (value) {
+                case JSONArray jsonArray -> {
+                    int length = multiValued ? jsonArray.length() : Math.min(1, jsonArray.length());
+                    for (int i = 0; i < length; i++) {
+                        addValue(document, key, jsonArray.get(i));
+                    }
+                }
+                case ArrayList<?> list -> {
+                    int size = multiValued ? list.size() : Math.min(1, list.size());
+                    for (int i = 0; i < size; i++) {
+                        addValue(document, key, list.get(i));
+                    }
+                }
+                default -> addValue(document, key, value);
+            }
+        }
+
+        abstract void addValue(SolrInputDocument document, String key, Object value);
+    }
+
+    private static final class DecimalConverter extends NumericConverter {
+        private final TurSEFieldType fieldType;
+        private final TurDecimalFieldNormalizer turDecimalFieldNormalizer;
+
+        DecimalConverter(boolean multiValued, TurSEFieldType fieldType,
+                TurDecimalFieldNormalizer turDecimalFieldNormalizer) {
+            super(multiValued);
+            this.fieldType = fieldType;
+            this.turDecimalFieldNormalizer = turDecimalFieldNormalizer;
+        }
+
+        @Override
+        void addValue(SolrInputDocument document, String key, Object value) {
+            turDecimalFieldNormalizer.normalizeNumericValue(fieldType, value)
+                    .ifPresentOrElse(
+                            normalizedValue -> document.addField(key, normalizedValue),
+                            () -> log.warn("Skipping invalid decimal value for field '{}': {}", key,
+                                    TurSolrField.convertFieldToString(value)));
+        }
+    }
+
+    private static final class CurrencyConverter extends NumericConverter {
+        private final TurDecimalFieldNormalizer turDecimalFieldNormalizer;
+
+        CurrencyConverter(boolean multiValued, TurDecimalFieldNormalizer turDecimalFieldNormalizer) {
+            super(multiValued);
+            this.turDecimalFieldNormalizer = turDecimalFieldNormalizer;
+        }
+
+        @Override
+        void addValue(SolrInputDocument document, String key, Object value) {
+            String rawCurrency = TurSolrField.convertFieldToString(value);
+            document.addField(key.concat(TurSolrUtils.CURRENCY_TXT_SUFFIX), rawCurrency);
+            toSolrCurrencyValue(rawCurrency)
+                    .ifPresentOrElse(
+                            normalizedCurrency -> document.addField(key, normalizedCurrency),
+                            () -> log.warn("Skipping invalid currency value for field '{}': {}", key,
+                                    rawCurrency));
+        }
+
+        private Optional<String> toSolrCurrencyValue(String rawCurrency) {
+            String normalizedCurrency = rawCurrency.trim();
+            int separatorIndex = normalizedCurrency.lastIndexOf(',');
+            if (separatorIndex <= 0 || separatorIndex == normalizedCurrency.length() - 1) {
+                return Optional.empty();
+            }
+            String amountPart = normalizedCurrency.substring(0, separatorIndex).trim();
+            String currencyCode = normalizedCurrency.substring(separatorIndex + 1).trim()
+                    .toUpperCase(Locale.ROOT);
+            if (!isCurrencyCode(currencyCode)) {
+                return Optional.empty();
+            }
+            return turDecimalFieldNormalizer.normalizeCanonicalDecimal(amountPart)
+                    .map(amount -> amount + "," + currencyCode);
+        }
+
+        private static boolean isCurrencyCode(String code) {
+            if (code.length() != 3) {
+                return false;
+            }
+            for (int i = 0; i < code.length(); i++) {
+                char c = code.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.solr;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.sn.field.TurSNSiteFieldService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compiled {@link TurSolrFieldPlan} of each SN Site. A plan is compiled with the
+ * version of the field configuration kept by {@link TurSNSchemaRegistry}, and compiled
+ * again once that version changes. The version also changes when the registry expires
+ * the site, so a change of the fields made on another node is compiled within
+ * {@code turing.sn.schema.ttl} milliseconds.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Slf4j
+@Component
+public class TurSolrFieldPlanCache {
+    private final TurSNSiteFieldService turSNSiteFieldService;
+    private final TurSNSchemaRegistry turSNSchemaRegistry;
+    private final TurDecimalFieldNormalizer turDecimalFieldNormalizer;
+    private final Map<String, TurSolrFieldPlan> plans = new ConcurrentHashMap<>();
+
+    public TurSolrFieldPlanCache(TurSNSiteFieldService turSNSiteFieldService,
+            TurSNSchemaRegistry turSNSchemaRegistry,
+            TurDecimalFieldNormalizer turDecimalFieldNormalizer) {
+        this.turSNSiteFieldService = turSNSiteFieldService;
+        this.turSNSchemaRegistry = turSNSchemaRegistry;
+        this.turDecimalFieldNormalizer = turDecimalFieldNormalizer;
+    }
+
+    public TurSolrFieldPlan get(TurSNSite turSNSite) {
+        // The version is read before the fields, so a change made while compiling is
+        // compiled again by the next call.
+        long version = turSNSchemaRegistry.getVersion(turSNSite);
+        TurSolrFieldPlan plan = plans.get(turSNSite.getId());
+        if (plan != null && plan.getVersion() == version) {
+            return plan;
+        }
+        TurSolrFieldPlan compiled = TurSolrFieldPlan.compile(version, turSNSiteFieldService.toMap(turSNSite),
+                turDecimalFieldNormalizer);
+        plans.merge(turSNSite.getId(), compiled,
+                (current, next) -> current.getVersion() > next.getVersion() ? current : next);
+        log.debug("Field plan of {} SN Site compiled at version {}", turSNSite.getName(), version);
+        return compiled;
+    }
+}
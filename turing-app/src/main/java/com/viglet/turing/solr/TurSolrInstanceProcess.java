@@ -22,13 +22,24 @@ package com.viglet.turing.solr;
 
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URL;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import org.apache.solr.client.solrj.impl.HttpJdkSolrClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.viglet.turing.persistence.model.se.TurSEInstance;
 import com.viglet.turing.persistence.model.sn.TurSNSite;
@@ -40,6 +51,17 @@ import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
+ * Resolves the Solr core of a site locale.
+ * <p>
+ * The cores are kept in a routing table keyed by site name and locale, so resolving a
+ * core does not read the database. The table is reloaded when a
+ * {@link TurSolrRoutingEvent} is published and, as the event only reaches the node where
+ * the change was made, every {@code turing.solr.routing.ttl} milliseconds.
+ * <p>
+ * A site locale that was not found is not read again for
+ * {@code turing.solr.routing.negative-ttl} milliseconds, unless the table is reloaded
+ * before.
+ *
  * @author Alexandre Oliveira
  * @since 0.3.5
  */
@@ -47,16 +69,35 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TurSolrInstanceProcess {
     private final ConcurrentHashMap<String, HttpJdkSolrClient> clientCache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, TurSolrInstance> instanceCache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Route> routes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> ingestRoutes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> misses = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
     private final TurSNSiteLocaleRepository turSNSiteLocaleRepository;
     private final TurSNSiteRepository turSNSiteRepository;
+    private final long negativeTtlMillis;
+    private final LongSupplier clock;
 
+    @Autowired
     public TurSolrInstanceProcess(
             TurSNSiteLocaleRepository turSNSiteLocaleRepository,
-            TurSNSiteRepository turSNSiteRepository) {
+            TurSNSiteRepository turSNSiteRepository,
+            @Value("${turing.solr.routing.negative-ttl:5000}") long negativeTtlMillis) {
+        this(turSNSiteLocaleRepository, turSNSiteRepository, negativeTtlMillis, System::currentTimeMillis);
+    }
+
+    TurSolrInstanceProcess(
+            TurSNSiteLocaleRepository turSNSiteLocaleRepository,
+            TurSNSiteRepository turSNSiteRepository,
+            long negativeTtlMillis,
+            LongSupplier clock) {
         System.setProperty("jdk.httpclient.allowRestrictedHeaders", "connection");
         System.setProperty("jdk.httpclient.HttpClient.version", "HTTP_1_1");
         this.turSNSiteLocaleRepository = turSNSiteLocaleRepository;
         this.turSNSiteRepository = turSNSiteRepository;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.clock = clock;
     }
 
     private Optional<TurSolrInstance> getSolrClient(TurSEInstance turSEInstance, String core) {
@@ -73,28 +114,151 @@ public class TurSolrInstanceProcess {
         });
 
         try {
-            TurSolrInstance solrInstance = new TurSolrInstance(httpSolrClient, URI.create(baseUrl).toURL(), core);
-            return Optional.of(solrInstance);
-        } catch (MalformedURLException e) {
+            return Optional.of(instanceCache.computeIfAbsent(baseUrl + "/" + core,
+                    key -> new TurSolrInstance(httpSolrClient, toURL(baseUrl), core)));
+        } catch (IllegalArgumentException e) {
             log.error(e.getMessage(), e);
         }
 
         return Optional.empty();
     }
 
-    public Optional<TurSolrInstance> initSolrInstance(String siteName, Locale locale) {
-        return turSNSiteRepository.findByName(siteName).flatMap(turSNSite -> this.initSolrInstance(turSNSite, locale));
+    private static URL toURL(String baseUrl) {
+        try {
+            return URI.create(baseUrl).toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads the routing table once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRoutes() {
+        long current = generation.get();
+        Map<String, Route> loaded = new HashMap<>();
+        turSNSiteLocaleRepository.findAll().forEach(turSNSiteLocale -> route(turSNSiteLocale)
+                .ifPresent(route -> loaded.put(key(turSNSiteLocale.getTurSNSite().getName(),
+                        turSNSiteLocale.getLanguage()), route)));
+        if (generation.get() == current) {
+            routes.putAll(loaded);
+            routes.keySet().retainAll(loaded.keySet());
+            misses.clear();
+        }
+        log.info("Loaded {} Solr core routes", loaded.size());
+    }
+
+    /**
+     * Reloads the routing table, so the changes made on the other nodes of a cluster are
+     * seen.
+     */
+    @Scheduled(fixedDelayString = "${turing.solr.routing.ttl:60000}",
+            initialDelayString = "${turing.solr.routing.ttl:60000}")
+    public void expireRoutes() {
+        log.debug("Solr core routes expired");
+        refreshRoutes();
+    }
+
+    /**
+     * Reloads the routing table after a site, a locale or a search engine instance has
+     * changed. When the change happens in a transaction, the table is reloaded after it
+     * is committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoutingChanged(TurSolrRoutingEvent event) {
+        log.debug("Solr core routes changed by {}", event.source());
+        refreshRoutes();
+    }
+
+    public void refreshRoutes() {
+        generation.incrementAndGet();
+        misses.clear();
+        loadRoutes();
+    }
 
+    public Optional<TurSolrInstance> initSolrInstance(String siteName, Locale locale) {
+        return findRoute(siteName, locale).map(Route::turSolrInstance);
     }
 
-    private Optional<TurSolrInstance> initSolrInstance(TurSNSite turSNSite, Locale locale) {
-        TurSNSiteLocale turSNSiteLocale = turSNSiteLocaleRepository.findByTurSNSiteAndLanguage(turSNSite, locale);
-        if (turSNSiteLocale != null) {
-            return this.initSolrInstance(turSNSiteLocale);
-        } else {
-            log.warn("{} site with {} locale not found", turSNSite.getName(), locale);
+    /**
+     * Route of the site locale. Only the site locales that are not in the routing table,
+     * like the ones created by another node, and that were not missed recently are read
+     * from the database.
+     */
+    private Optional<Route> findRoute(String siteName, Locale locale) {
+        String key = key(siteName, locale);
+        Route route = routes.get(key);
+        if (route != null) {
+            return Optional.of(route);
+        }
+        Long missedAt = misses.get(key);
+        if (missedAt != null && clock.getAsLong() - missedAt < negativeTtlMillis) {
             return Optional.empty();
         }
+        long current = generation.get();
+        Optional<Route> loaded = turSNSiteRepository.findByName(siteName).flatMap(turSNSite -> {
+            TurSNSiteLocale turSNSiteLocale = turSNSiteLocaleRepository.findByTurSNSiteAndLanguage(turSNSite,
+                    locale);
+            if (turSNSiteLocale == null) {
+                log.warn("{} site with {} locale not found", turSNSite.getName(), locale);
+                return Optional.empty();
+            }
+            return route(turSNSiteLocale);
+        });
+        loaded.ifPresentOrElse(value -> {
+            misses.remove(key);
+            routes.put(key, value);
+            // A change published while reading is not overwritten by the old route.
+            if (generation.get() != current) {
+                routes.remove(key, value);
+            }
+        }, () -> {
+            Long missed = clock.getAsLong();
+            misses.put(key, missed);
+            if (generation.get() != current) {
+                misses.remove(key, missed);
+            }
+        });
+        return loaded;
+    }
+
+    private Optional<Route> route(TurSNSiteLocale turSNSiteLocale) {
+        TurSEInstance turSEInstance = turSNSiteLocale.getTurSNSite().getTurSEInstance();
+        return getSolrClient(turSEInstance, turSNSiteLocale.getCore())
+                .map(turSolrInstance -> new Route(turSNSiteLocale.getId(), turSEInstance, turSolrInstance));
+    }
+
+    private static String key(String siteName, Locale locale) {
+        return siteName + "/" + locale;
+    }
+
+    /**
+     * Core that receives the documents of the site locale. It is the live core, unless a
+     * reindex routes the ingest to another core with {@link #routeIngest}.
+     */
+    public Optional<TurSolrInstance> initIngestInstance(String siteName, Locale locale) {
+        return findRoute(siteName, locale).flatMap(route -> Optional
+                .ofNullable(ingestRoutes.get(route.siteLocaleId()))
+                .map(core -> getSolrClient(route.turSEInstance(), core))
+                .orElseGet(() -> Optional.of(route.turSolrInstance())));
+    }
+
+    public void routeIngest(TurSNSiteLocale turSNSiteLocale, String core) {
+        ingestRoutes.put(turSNSiteLocale.getId(), core);
+        log.info("Ingest of {} site with {} locale routed to {} core", turSNSiteLocale.getTurSNSite().getName(),
+                turSNSiteLocale.getLanguage(), core);
+    }
+
+    public void removeIngestRoute(TurSNSiteLocale turSNSiteLocale) {
+        if (ingestRoutes.remove(turSNSiteLocale.getId()) != null) {
+            log.info("Ingest of {} site with {} locale routed back to its live core",
+                    turSNSiteLocale.getTurSNSite().getName(), turSNSiteLocale.getLanguage());
+        }
+    }
+
+    public Optional<String> getIngestRoute(TurSNSiteLocale turSNSiteLocale) {
+        return Optional.ofNullable(ingestRoutes.get(turSNSiteLocale.getId()));
     }
 
     public Optional<TurSolrInstance> initSolrInstance(TurSEInstance turSEInstance, String core) {
@@ -110,6 +274,9 @@ public class TurSolrInstanceProcess {
         return getSolrClient(turSNSite.getTurSEInstance(), turSNSiteLocale.getCore());
     }
 
+    private record Route(String siteLocaleId, TurSEInstance turSEInstance, TurSolrInstance turSolrInstance) {
+    }
+
     @PreDestroy
     public void shutdown() {
         clientCache.values().forEach(client -> {
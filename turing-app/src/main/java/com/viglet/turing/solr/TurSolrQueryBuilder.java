@@ -1,14 +1,18 @@
 package com.viglet.turing.solr;
 
+import static com.viglet.turing.solr.TurSolrConstants.ALL;
 import static com.viglet.turing.solr.TurSolrConstants.AND;
+import static com.viglet.turing.solr.TurSolrConstants.AND_OR;
 import static com.viglet.turing.solr.TurSolrConstants.ASC;
 import static com.viglet.turing.solr.TurSolrConstants.BOOST_QUERY;
 import static com.viglet.turing.solr.TurSolrConstants.COUNT;
 import static com.viglet.turing.solr.TurSolrConstants.DEF_TYPE;
 import static com.viglet.turing.solr.TurSolrConstants.EDISMAX;
 import static com.viglet.turing.solr.TurSolrConstants.EMPTY;
+import static com.viglet.turing.solr.TurSolrConstants.FACET_EXCLUDE;
 import static com.viglet.turing.solr.TurSolrConstants.FACET_OR;
 import static com.viglet.turing.solr.TurSolrConstants.FILTER_QUERY_OR;
+import static com.viglet.turing.solr.TurSolrConstants.FILTER_QUERY_TAG;
 import static com.viglet.turing.solr.TurSolrConstants.HYPHEN;
 import static com.viglet.turing.solr.TurSolrConstants.INDEX;
 import static com.viglet.turing.solr.TurSolrConstants.NEWEST;
@@ -29,22 +33,27 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.KeyValue;
 import org.apache.commons.lang3.time.DateUtils;
 import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.common.params.FacetParams;
 import org.apache.solr.common.params.GroupParams;
 import org.apache.solr.common.params.HighlightParams;
 import org.apache.solr.common.params.MoreLikeThisParams;
@@ -70,12 +79,11 @@ import com.viglet.turing.persistence.model.sn.field.TurSNSiteCustomFacetItem;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteFacetFieldEnum;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteFacetFieldSortEnum;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
+import com.viglet.turing.persistence.model.sn.ranking.TurSNRankingCondition;
 import com.viglet.turing.persistence.model.sn.ranking.TurSNRankingExpression;
-import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
-import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingConditionRepository;
-import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingExpressionRepository;
 import com.viglet.turing.sn.TurSNFieldType;
 import com.viglet.turing.sn.TurSNUtils;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfig;
 import com.viglet.turing.sn.facet.TurSNCustomFacetDefinition;
 import com.viglet.turing.sn.facet.TurSNFacetDefinition;
 import com.viglet.turing.sn.facet.TurSNFacetMapForFilterQuery;
@@ -83,7 +91,6 @@ import com.viglet.turing.sn.facet.TurSNFacetProperties;
 import com.viglet.turing.sn.facet.TurSNFacetTypeContext;
 import com.viglet.turing.sn.tr.TurSNTargetingRuleMethod;
 import com.viglet.turing.sn.tr.TurSNTargetingRules;
-import com.viglet.turing.spring.utils.TurPersistenceUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -91,24 +98,28 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TurSolrQueryBuilder {
     public static final String CUSTOM_FACET_QUERY_SEPARATOR = "::";
-    private final TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
-    private final TurSNRankingExpressionRepository turSNRankingExpressionRepository;
-    private final TurSNRankingConditionRepository turSNRankingConditionRepository;
     private final TurSNTargetingRules turSNTargetingRules;
 
-    public TurSolrQueryBuilder(TurSNSiteFieldExtRepository turSNSiteFieldExtRepository,
-            TurSNRankingExpressionRepository turSNRankingExpressionRepository,
-            TurSNRankingConditionRepository turSNRankingConditionRepository,
-            TurSNTargetingRules turSNTargetingRules) {
-        this.turSNSiteFieldExtRepository = turSNSiteFieldExtRepository;
-        this.turSNRankingExpressionRepository = turSNRankingExpressionRepository;
-        this.turSNRankingConditionRepository = turSNRankingConditionRepository;
+    public TurSolrQueryBuilder(TurSNTargetingRules turSNTargetingRules) {
         this.turSNTargetingRules = turSNTargetingRules;
     }
 
     @NotNull
-    public SolrQuery prepareSolrQuery(TurSNSiteSearchContext context, TurSNSite turSNSite,
+    public SolrQuery prepareSolrQuery(TurSNSiteSearchContext context, TurSNSiteSearchConfig config,
             TurSEParameters turSEParameters, TurSESpellCheckResult turSESpellCheckResult) {
+        return prepareSolrQuery(context, config, turSEParameters, turSESpellCheckResult,
+                getFacetsWithOwnFilterExcluded(config, turSEParameters.getTurSNFilterParams()));
+    }
+
+    /**
+     * Solr query of the search, with the facets counted without their own filter query
+     * already worked out by {@link #getFacetsWithOwnFilterExcluded}.
+     */
+    @NotNull
+    public SolrQuery prepareSolrQuery(TurSNSiteSearchContext context, TurSNSiteSearchConfig config,
+            TurSEParameters turSEParameters, TurSESpellCheckResult turSESpellCheckResult,
+            Set<String> facetsWithOwnFilterExcluded) {
+        TurSNSite turSNSite = config.getTurSNSite();
         SolrQuery query = new SolrQuery();
         query.set(DEF_TYPE, EDISMAX);
         query.set(Q_OP, AND);
@@ -131,12 +142,15 @@ public class TurSolrQueryBuilder {
             query.setRows(turSEParameters.getRows())
                     .setStart(TurSolrUtils.firstRowPositionFromCurrentPage(turSEParameters));
         }
-        prepareQueryFilterQuery(turSEParameters.getTurSNFilterParams(), query, turSNSite);
+        prepareQueryFilterQuery(turSEParameters.getTurSNFilterParams(), query, config,
+                facetsWithOwnFilterExcluded);
         prepareQueryTargetingRules(context.getTurSNSitePostParamsBean(), query);
         if (hasGroup(turSEParameters)) {
             prepareGroup(turSEParameters, query);
         }
-        prepareBoostQuery(turSNSite, query);
+        if (!config.getBoostQueries().isEmpty()) {
+            query.set(BOOST_QUERY, config.getBoostQueries().toArray(String[]::new));
+        }
         return query;
     }
 
@@ -147,30 +161,29 @@ public class TurSolrQueryBuilder {
                 && turSNSite.getExactMatch() != null && turSNSite.getExactMatch().equals(1);
     }
 
-    private void prepareBoostQuery(TurSNSite turSNSite, SolrQuery query) {
-        List<TurSNSiteFieldExt> turSNSiteFieldExtList = turSNSiteFieldExtRepository
-                .findByTurSNSite(TurPersistenceUtils.orderByNameIgnoreCase(), turSNSite);
-        Set<TurSNRankingExpression> turSNRankingExpression = turSNRankingExpressionRepository
-                .findByTurSNSite(TurPersistenceUtils.orderByNameIgnoreCase(), turSNSite);
-        if (hasRankingConditions(turSNRankingExpression)) {
-            String[] expressionString = turSNRankingExpression.stream()
-                    .map(expression -> String.format(Locale.US, "%s^%.1f",
-                            "(" + boostQueryAttributes(expression, turSNSiteFieldExtList) + ")",
-                            expression.getWeight()))
-                    .toArray(String[]::new);
-            query.set(BOOST_QUERY, expressionString);
+    /**
+     * Boost queries of the ranking expressions of a site, or none when no expression has
+     * a condition.
+     */
+    public static List<String> boostQueries(Collection<TurSNRankingExpression> turSNRankingExpressions,
+            Function<TurSNRankingExpression, ? extends Collection<TurSNRankingCondition>> conditions,
+            List<TurSNSiteFieldExt> turSNSiteFieldExtList) {
+        Map<TurSNRankingExpression, Collection<TurSNRankingCondition>> expressionConditions = new LinkedHashMap<>();
+        turSNRankingExpressions.forEach(expression -> expressionConditions.put(expression,
+                conditions.apply(expression)));
+        if (expressionConditions.values().stream().allMatch(Collection::isEmpty)) {
+            return Collections.emptyList();
         }
+        return expressionConditions.entrySet().stream()
+                .map(entry -> String.format(Locale.US, "%s^%.1f",
+                        "(" + boostQueryAttributes(entry.getValue(), turSNSiteFieldExtList) + ")",
+                        entry.getKey().getWeight()))
+                .toList();
     }
 
-    private boolean hasRankingConditions(Set<TurSNRankingExpression> turSNRankingExpressions) {
-        return turSNRankingExpressions.stream()
-                .anyMatch(expressions -> !turSNRankingConditionRepository
-                        .findByTurSNRankingExpression(expressions).isEmpty());
-    }
-
-    private String boostQueryAttributes(TurSNRankingExpression expression,
+    private static String boostQueryAttributes(Collection<TurSNRankingCondition> conditions,
             List<TurSNSiteFieldExt> turSNSiteFieldExtList) {
-        return turSNRankingConditionRepository.findByTurSNRankingExpression(expression).stream()
+        return conditions.stream()
                 .map(condition -> {
                     TurSNSiteFieldExt turSNSiteFieldExt = turSNSiteFieldExtList.stream()
                             .filter(field -> field.getName().equals(condition.getAttribute()))
@@ -200,21 +213,87 @@ public class TurSolrQueryBuilder {
     }
 
     private void prepareQueryFilterQuery(TurSNFilterParams turSNFilterParams, SolrQuery query,
-            TurSNSite turSNSite) {
-        Optional.of(getFilterQueryMap(turSNFilterParams, turSNSite))
+            TurSNSiteSearchConfig config, Set<String> facetsWithOwnFilterExcluded) {
+        TurSNSite turSNSite = config.getTurSNSite();
+        Optional.of(getFilterQueryMap(turSNFilterParams, config))
                 .filter(facetMapForFilterQuery -> !CollectionUtils.isEmpty(facetMapForFilterQuery))
-                .ifPresent(facetMapForFilterQuery -> query.addFilterQuery(String.format("%s(%s)",
-                        getFacetTypeConditionInFilterQuery(
-                                new TurSNFacetTypeContext(turSNSite, turSNFilterParams)),
-                        setFilterQueryString(
-                                setFilterQueryMapModified(turSNSite, facetMapForFilterQuery)))));
+                .ifPresent(facetMapForFilterQuery -> {
+                    String facetTypeCondition = getFacetTypeConditionInFilterQuery(
+                            new TurSNFacetTypeContext(turSNSite, turSNFilterParams));
+                    TurSNFacetMapForFilterQuery filterQueryMapModified = setFilterQueryMapModified(
+                            config, facetMapForFilterQuery);
+                    if (facetsWithOwnFilterExcluded.isEmpty()) {
+                        query.addFilterQuery(String.format("%s(%s)", facetTypeCondition,
+                                setFilterQueryString(filterQueryMapModified)));
+                    } else {
+                        filterQueryMapModified.forEach((facetName, properties) -> query
+                                .addFilterQuery(getFilterQueryTag(facetTypeCondition, facetName)
+                                        .concat(setFilterQueryItemsString(properties))));
+                    }
+                });
+    }
+
+    /**
+     * Facets counted without their own filter query in the main request. The filter query
+     * of each facet is sent apart with its own tag, and the facet excludes that tag, so
+     * the search process does not need another request to count the other items.
+     * <p>
+     * Only AND-OR facets with a selected item need it, and only when no facet is combined
+     * with OR, because the filter queries of OR facets cannot be split. Sites that combine
+     * facets with OR still send one more request for each selected facet.
+     */
+    public Set<String> getFacetsWithOwnFilterExcluded(TurSNSiteSearchConfig config,
+            TurSNFilterParams turSNFilterParams) {
+        TurSNFacetMapForFilterQuery facetMapForFilterQuery = getFilterQueryMap(turSNFilterParams,
+                config);
+        if (facetMapForFilterQuery.isEmpty() || facetMapForFilterQuery.values().stream()
+                .anyMatch(properties -> TurSNSiteFacetFieldEnum.OR.equals(properties.getFacetType()))) {
+            return Collections.emptySet();
+        }
+        TurSNSite turSNSite = config.getTurSNSite();
+        Set<String> facetNames = new HashSet<>();
+        config.getFacetFields().forEach(turSNSiteFieldExt -> {
+            TurSNFacetTypeContext context = new TurSNFacetTypeContext(
+                    new TurSNSiteFieldExtDto(turSNSiteFieldExt), turSNSite, turSNFilterParams);
+            if (isFacetEnabled(turSNSiteFieldExt)
+                    && excludesOwnFilter(context, turSNSiteFieldExt.getName(), facetMapForFilterQuery)) {
+                facetNames.add(turSNSiteFieldExt.getName());
+            }
+            Optional.ofNullable(turSNSiteFieldExt.getCustomFacets()).orElse(Collections.emptySet())
+                    .stream()
+                    .map(customFacet -> new TurSNCustomFacetDefinition(turSNSiteFieldExt, customFacet,
+                            null))
+                    .filter(customFacet -> StringUtils.hasText(customFacet.getName()))
+                    .filter(customFacet -> excludesOwnFilter(
+                            new TurSNFacetTypeContext(customFacet.toFacetFieldExtDto(), turSNSite,
+                                    turSNFilterParams),
+                            customFacet.getName(), facetMapForFilterQuery))
+                    .forEach(customFacet -> facetNames.add(customFacet.getName()));
+        });
+        return facetNames;
+    }
+
+    private static boolean excludesOwnFilter(TurSNFacetTypeContext context, String facetName,
+            TurSNFacetMapForFilterQuery facetMapForFilterQuery) {
+        return facetMapForFilterQuery.containsKey(facetName)
+                && getFacetTypeAndFacetItemTypeValues(context).equals(AND_OR);
+    }
+
+    private static String getFilterQueryTag(String facetTypeCondition, String facetName) {
+        return String.format(FILTER_QUERY_TAG, escapeLocalParamValue(facetTypeCondition.isEmpty()
+                ? facetName
+                : String.join(",", ALL, facetName)));
+    }
+
+    private static String getFacetExclude(String facetName) {
+        return String.format(FACET_EXCLUDE, escapeLocalParamValue(facetName));
     }
 
     @NotNull
-    private TurSNFacetMapForFilterQuery setFilterQueryMapModified(TurSNSite turSNSite,
+    private TurSNFacetMapForFilterQuery setFilterQueryMapModified(TurSNSiteSearchConfig config,
             TurSNFacetMapForFilterQuery facetMapForFilterQuery) {
         TurSNFacetMapForFilterQuery filterQueryMapModified = new TurSNFacetMapForFilterQuery();
-        getFilterQueryMap(facetMapForFilterQuery, turSNSite).forEach((facetName, properties) -> {
+        getFilterQueryMap(facetMapForFilterQuery, config).forEach((facetName, properties) -> {
             if (filterQueryMapModified.containsKey(facetName)) {
                 filterQueryMapModified.get(facetName).getFacetItems()
                         .addAll(getFilterQueryValue(properties.getFacetItems()));
@@ -236,18 +315,11 @@ public class TurSolrQueryBuilder {
         List<String> facetsOr = new ArrayList<>();
         StringBuilder filterQueryString = new StringBuilder();
         facetMapForFilterQuery.forEach((f, properties) -> {
-            StringBuilder filterQueryStringItems = new StringBuilder();
-            if (properties.getFacetItemType().equals(TurSNSiteFacetFieldEnum.OR)) {
-                filterQueryStringItems.append(String.format("(%s)",
-                        String.join(betweenSpaces(OR), properties.getFacetItems())));
-            } else {
-                filterQueryStringItems.append(String.format("(%s)",
-                        String.join(betweenSpaces(AND), properties.getFacetItems())));
-            }
+            String filterQueryStringItems = setFilterQueryItemsString(properties);
             if (properties.getFacetType().equals(TurSNSiteFacetFieldEnum.OR)) {
-                facetsOr.add(filterQueryStringItems.toString());
+                facetsOr.add(filterQueryStringItems);
             } else {
-                facetsAnd.add(filterQueryStringItems.toString());
+                facetsAnd.add(filterQueryStringItems);
             }
         });
         if (!facetsAnd.isEmpty()) {
@@ -262,6 +334,12 @@ public class TurSolrQueryBuilder {
         return filterQueryString;
     }
 
+    private static String setFilterQueryItemsString(TurSNFacetProperties properties) {
+        return String.format("(%s)", String.join(
+                betweenSpaces(properties.getFacetItemType().equals(TurSNSiteFacetFieldEnum.OR) ? OR : AND),
+                properties.getFacetItems()));
+    }
+
     private static String betweenSpaces(String operator) {
         return " %s ".formatted(operator);
     }
@@ -273,9 +351,10 @@ public class TurSolrQueryBuilder {
     }
 
     private TurSNFacetMapForFilterQuery getFilterQueryMap(TurSNFilterParams turSNFilterParams,
-            TurSNSite turSNSite) {
+            TurSNSiteSearchConfig config) {
+        TurSNSite turSNSite = config.getTurSNSite();
         TurSNFacetMapForFilterQuery facetMapForFilterQuery = new TurSNFacetMapForFilterQuery();
-        List<TurSNSiteFieldExt> enabledFields = getEnabledFields(turSNSite);
+        List<TurSNSiteFieldExt> enabledFields = config.getEnabledFields();
         Optional.ofNullable(turSNFilterParams).ifPresent(filterQueryParameters -> {
             Optional.ofNullable(filterQueryParameters.getDefaultValues())
                     .ifPresent(f -> f.forEach(fItem -> addEnabledFieldAsFacetItem(
@@ -401,9 +480,8 @@ public class TurSolrQueryBuilder {
     }
 
     private TurSNFacetMapForFilterQuery getFilterQueryMap(
-            TurSNFacetMapForFilterQuery facetMapForFilterQuery, TurSNSite turSNSite) {
-        List<TurSNSiteFieldExt> dateFacet = turSNSiteFieldExtRepository
-                .findByTurSNSiteAndFacetAndEnabledAndType(turSNSite, 1, 1, TurSEFieldType.DATE);
+            TurSNFacetMapForFilterQuery facetMapForFilterQuery, TurSNSiteSearchConfig config) {
+        List<TurSNSiteFieldExt> dateFacet = config.getDateFacetFields();
         if (!dateFacet.isEmpty()) {
             return getFilterQueryByDateRange(facetMapForFilterQuery, dateFacet);
         } else {
@@ -581,10 +659,9 @@ public class TurSolrQueryBuilder {
 
     }
 
-    public List<TurSNSiteFieldExt> prepareQueryMLT(TurSNSite turSNSite, SolrQuery query) {
-        List<TurSNSiteFieldExt> turSNSiteMLTFieldExtList = turSNSiteFieldExtRepository
-                .findByTurSNSiteAndMltAndEnabled(turSNSite, 1, 1);
-        if (hasMLT(turSNSite, turSNSiteMLTFieldExtList)) {
+    public List<TurSNSiteFieldExt> prepareQueryMLT(TurSNSiteSearchConfig config, SolrQuery query) {
+        List<TurSNSiteFieldExt> turSNSiteMLTFieldExtList = config.getMltFields();
+        if (hasMLT(config.getTurSNSite(), turSNSiteMLTFieldExtList)) {
             query.set(MoreLikeThisParams.MLT, true).set(MoreLikeThisParams.MATCH_INCLUDE, true)
                     .set(MoreLikeThisParams.MIN_DOC_FREQ, 1)
                     .set(MoreLikeThisParams.MIN_TERM_FREQ, 1)
@@ -627,18 +704,18 @@ public class TurSolrQueryBuilder {
         return getFacetType(context).toString() + HYPHEN + getFacetItemType(context).toString();
     }
 
-    public List<String> getFacetFieldsInFilterQuery(TurSNFacetTypeContext context) {
-        List<TurSNSiteFieldExt> enabledFacets = getEnabledFacets(context.getTurSNSite());
-        Set<String> enabledFacetNames = new HashSet<>(enabledFacets.stream()
+    public List<String> getFacetFieldsInFilterQuery(TurSNSiteSearchConfig config,
+            TurSNFilterParams turSNFilterParams) {
+        Set<String> enabledFacetNames = new HashSet<>(config.getFacetFields().stream()
                 .map(TurSNSiteFieldExt::getName).toList());
 
-        getEnabledFields(context.getTurSNSite()).stream()
+        config.getEnabledFields().stream()
                 .flatMap(field -> Optional.ofNullable(field.getCustomFacets())
                         .orElse(Collections.emptySet()).stream())
                 .map(TurSNSiteCustomFacet::getName)
                 .filter(StringUtils::hasText)
                 .forEach(enabledFacetNames::add);
-        return getFqFields(context.getTurSNFilterParams()).stream()
+        return getFqFields(turSNFilterParams).stream()
                 .filter(enabledFacetNames::contains).distinct().toList();
     }
 
@@ -661,25 +738,28 @@ public class TurSolrQueryBuilder {
                 .orElseGet(ArrayList::new);
     }
 
-    public List<TurSNSiteFieldExt> prepareQueryFacet(TurSNSite turSNSite, SolrQuery query,
-            TurSNFilterParams turSNFilterParams) {
-        List<TurSNSiteFieldExt> enabledFacets = getEnabledFacets(turSNSite);
-        return setFacetFields(turSNSite, query, turSNFilterParams, enabledFacets);
+    public List<TurSNSiteFieldExt> prepareQueryFacet(TurSNSiteSearchConfig config, SolrQuery query,
+            TurSNFilterParams turSNFilterParams, Set<String> facetsWithOwnFilterExcluded) {
+        return setFacetFields(config.getTurSNSite(), query, turSNFilterParams, config.getFacetFields(),
+                facetsWithOwnFilterExcluded);
     }
 
-    public List<TurSNSiteFieldExt> prepareQueryFacetWithOneFacet(TurSNSite turSNSite,
-            SolrQuery query, TurSNFilterParams turSNFilterParams, String facetName) {
-        List<TurSNSiteFieldExt> enabledFacets = getEnabledFields(turSNSite).stream()
+    public List<TurSNSiteFieldExt> prepareQueryFacetWithOneFacet(TurSNSiteSearchConfig config,
+            SolrQuery query, TurSNFilterParams turSNFilterParams, String facetName,
+            Set<String> facetsWithOwnFilterExcluded) {
+        List<TurSNSiteFieldExt> enabledFacets = config.getEnabledFields().stream()
                 .filter(field -> field.getName().equals(facetName)
                         || Optional.ofNullable(field.getCustomFacets())
                                 .orElse(Collections.emptySet()).stream()
                                 .anyMatch(customFacet -> facetName.equals(customFacet.getName())))
                 .toList();
-        return setFacetFields(turSNSite, query, turSNFilterParams, enabledFacets);
+        return setFacetFields(config.getTurSNSite(), query, turSNFilterParams, enabledFacets,
+                facetsWithOwnFilterExcluded);
     }
 
     private List<TurSNSiteFieldExt> setFacetFields(TurSNSite turSNSite, SolrQuery query,
-            TurSNFilterParams turSNFilterParams, List<TurSNSiteFieldExt> enabledFacets) {
+            TurSNFilterParams turSNFilterParams, List<TurSNSiteFieldExt> enabledFacets,
+            Set<String> facetsWithOwnFilterExcluded) {
         if (wasFacetConfigured(turSNSite, enabledFacets)) {
             query.setFacet(true).setFacetLimit(turSNSite.getItemsPerFacet())
                     .setFacetSort(facetSortIsEmptyOrCount(turSNSite) ? COUNT : INDEX);
@@ -689,14 +769,17 @@ public class TurSolrQueryBuilder {
                         turSNSite, turSNFilterParams);
                 setFacetSort(query, turSNSiteFacetFieldExt);
                 if (isFacetEnabled(turSNSiteFacetFieldExt)) {
+                    boolean excludeOwnFilter = facetsWithOwnFilterExcluded
+                            .contains(turSNSiteFacetFieldExt.getName());
                     if (isDateRangeFacet(turSNSiteFacetFieldExt))
-                        addFacetRange(context, query);
+                        addFacetRange(context, query, excludeOwnFilter);
                     else
-                        addFacetField(context, query);
+                        addFacetField(context, query, excludeOwnFilter);
                 }
 
                 if (hasCustomFacets(turSNSiteFacetFieldExt))
-                    addCustomFacetQuery(context, query, turSNSiteFacetFieldExt);
+                    addCustomFacetQuery(context, query, turSNSiteFacetFieldExt,
+                            facetsWithOwnFilterExcluded);
             });
         }
         return enabledFacets;
@@ -706,16 +789,6 @@ public class TurSolrQueryBuilder {
         return !CollectionUtils.isEmpty(turSNSiteFieldExt.getCustomFacets());
     }
 
-    private List<TurSNSiteFieldExt> getEnabledFields(TurSNSite turSNSite) {
-        return turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(turSNSite, 1);
-    }
-
-    private List<TurSNSiteFieldExt> getEnabledFacets(TurSNSite turSNSite) {
-        return getEnabledFields(turSNSite).stream()
-                .filter(field -> isFacetEnabled(field) || hasCustomFacets(field))
-                .toList();
-    }
-
     private static boolean isFacetEnabled(TurSNSiteFieldExt turSNSiteFieldExt) {
         return turSNSiteFieldExt.getFacet() == 1;
     }
@@ -737,13 +810,18 @@ public class TurSolrQueryBuilder {
                 || turSNSite.getFacetSort().equals(TurSNSiteFacetSortEnum.COUNT);
     }
 
-    private void addFacetField(TurSNFacetTypeContext context, SolrQuery query) {
-        query.addFacetField(setFacetTypeConditionInFacet(context,
+    private void addFacetField(TurSNFacetTypeContext context, SolrQuery query,
+            boolean excludeOwnFilter) {
+        String facetField = setFacetTypeConditionInFacet(context,
                 setEntityPrefix(context.getTurSNSiteFacetFieldExtDto())
-                        .concat(context.getTurSNSiteFacetFieldExtDto().getName())));
+                        .concat(context.getTurSNSiteFacetFieldExtDto().getName()));
+        query.addFacetField(excludeOwnFilter
+                ? getFacetExclude(context.getTurSNSiteFacetFieldExtDto().getName()).concat(facetField)
+                : facetField);
     }
 
-    private void addFacetRange(TurSNFacetTypeContext context, SolrQuery query) {
+    private void addFacetRange(TurSNFacetTypeContext context, SolrQuery query,
+            boolean excludeOwnFilter) {
         String fieldName = context.getTurSNSiteFacetFieldExtDto().getName();
         Calendar cal = Calendar.getInstance();
         cal.setTime(new Date());
@@ -758,10 +836,18 @@ public class TurSolrQueryBuilder {
                 DateUtils.addYears(cal.getTime(), -100),
                 DateUtils.addYears(cal.getTime(), 100),
                 PLUS_ONE + context.getTurSNSiteFacetFieldExtDto().getFacetRange());
+        if (excludeOwnFilter) {
+            // The per-field range parameters keep the plain field name.
+            query.set(FacetParams.FACET_RANGE, Arrays.stream(query.getParams(FacetParams.FACET_RANGE))
+                    .map(facetRange -> facetRange.equals(fieldName)
+                            ? getFacetExclude(fieldName).concat(fieldName)
+                            : facetRange)
+                    .toArray(String[]::new));
+        }
     }
 
     private void addCustomFacetQuery(TurSNFacetTypeContext context, SolrQuery query,
-            TurSNSiteFieldExt turSNSiteFieldExt) {
+            TurSNSiteFieldExt turSNSiteFieldExt, Set<String> facetsWithOwnFilterExcluded) {
         turSNSiteFieldExt.getCustomFacets().stream()
                 .map(customFacet -> new TurSNCustomFacetDefinition(turSNSiteFieldExt, customFacet,
                         null))
@@ -774,22 +860,30 @@ public class TurSolrQueryBuilder {
                     boolean excludeFacetValues = setFacetTypeConditionInFacet(customFacetContext,
                             turSNSiteFieldExt.getName(), customFacet.getName())
                             .startsWith(FACET_OR);
+                    String excludeTag = excludeFacetValues ? ALL
+                            : facetsWithOwnFilterExcluded.contains(customFacet.getName())
+                                    ? customFacet.getName()
+                                    : null;
                     customFacet.getItems().stream()
                             .filter(item -> StringUtils.hasText(item.getLabel()))
                             .forEach(item -> query.addFacetQuery(getCustomFacetLocalParams(
-                                    customFacet.getName(), item.getLabel(), excludeFacetValues)
+                                    customFacet.getName(), item.getLabel(), excludeTag)
                                     + setRangeFilterQuery(turSNSiteFieldExt.getName(),
                                             turSNSiteFieldExt.getType(), item)));
                 });
     }
 
     private static String getCustomFacetLocalParams(String customFacetName,
-            String itemLabel, boolean excludeFacetValues) {
+            String itemLabel, String excludeTag) {
         String key = String.format("%s%s%s", customFacetName,
                 CUSTOM_FACET_QUERY_SEPARATOR, itemLabel);
-        if (excludeFacetValues) {
+        if (ALL.equals(excludeTag)) {
             return String.format("{!key='%s' ex=_all_}", escapeLocalParamValue(key));
         }
+        if (excludeTag != null) {
+            return String.format("{!key='%s' ex='%s'}", escapeLocalParamValue(key),
+                    escapeLocalParamValue(excludeTag));
+        }
         return String.format("{!key='%s'}", escapeLocalParamValue(key));
     }
 
@@ -833,9 +927,10 @@ public class TurSolrQueryBuilder {
                 .contains(snType);
     }
 
-    public List<TurSNSiteFieldExt> prepareQueryHL(TurSNSite turSNSite, SolrQuery query,
+    public List<TurSNSiteFieldExt> prepareQueryHL(TurSNSiteSearchConfig config, SolrQuery query,
             TurSNSiteSearchContext context) {
-        List<TurSNSiteFieldExt> turSNSiteHlFieldExtList = getHLFields(turSNSite);
+        TurSNSite turSNSite = config.getTurSNSite();
+        List<TurSNSiteFieldExt> turSNSiteHlFieldExtList = config.getHlFields();
         if (context.getTurSNConfig().isHlEnabled()) {
             StringBuilder hlFields = new StringBuilder();
             turSNSiteHlFieldExtList.forEach(turSNSiteHlFieldExt -> {
@@ -853,10 +948,6 @@ public class TurSolrQueryBuilder {
         return turSNSiteHlFieldExtList;
     }
 
-    private List<TurSNSiteFieldExt> getHLFields(TurSNSite turSNSite) {
-        return turSNSiteFieldExtRepository.findByTurSNSiteAndHlAndEnabled(turSNSite, 1, 1);
-    }
-
     private void setRows(TurSNSite turSNSite, TurSEParameters turSEParameters) {
         if (turSEParameters.getRows() < 0) {
             turSEParameters
@@ -1,8 +1,12 @@
 package com.viglet.turing.solr;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.response.QueryResponse;
 
 import com.viglet.turing.commons.se.TurSEParameters;
 import com.viglet.turing.commons.se.result.spellcheck.TurSESpellCheckResult;
@@ -40,4 +44,11 @@ public class TurSolrQueryContext {
 
     /** Flag to indicate if query is for rendering facets */
     private boolean queryToRenderFacet;
+
+    /** Facets counted without their own filter query, worked out once per search */
+    @Builder.Default
+    private Set<String> facetsWithOwnFilterExcluded = Set.of();
+
+    /** Wildcard response that completes the groups, when it was sent with the main query */
+    private Supplier<Optional<QueryResponse>> groupWildcardResponse;
 }
@@ -16,11 +16,10 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.response.Group;
@@ -38,55 +37,45 @@ import com.viglet.turing.commons.se.similar.TurSESimilarResult;
 import com.viglet.turing.persistence.model.sn.TurSNSite;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteCustomFacetItem;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
-import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
 import com.viglet.turing.se.facet.TurSEFacetResult;
 import com.viglet.turing.se.facet.TurSEFacetResultAttr;
 import com.viglet.turing.se.result.TurSEGenericResults;
 import com.viglet.turing.se.result.TurSEGroup;
 import com.viglet.turing.se.result.TurSEResult;
 import com.viglet.turing.se.result.TurSEResults;
-import com.viglet.turing.sn.TurSNFieldProcess;
 import com.viglet.turing.sn.TurSNUtils;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfig;
 import com.viglet.turing.sn.facet.TurSNCustomFacetDefinition;
 import com.viglet.turing.sn.facet.TurSNFacetDefinition;
 
 public class TurSolrResultProcessor {
 
-        private final TurSNFieldProcess turSNFieldProcess;
-        private final TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
-
-        public TurSolrResultProcessor(TurSNFieldProcess turSNFieldProcess,
-                        TurSNSiteFieldExtRepository turSNSiteFieldExtRepository) {
-                this.turSNFieldProcess = turSNFieldProcess;
-                this.turSNSiteFieldExtRepository = turSNSiteFieldExtRepository;
-        }
-
-        public TurSEResults getResults(TurSolrInstance turSolrInstance, TurSNSite turSNSite,
+        public TurSEResults getResults(TurSolrInstance turSolrInstance, TurSNSiteSearchConfig config,
                         SolrQuery query, TurSolrQueryContext queryContext,
                         QueryResponse queryResponse,
                         TurSolrQueryBuilder turSolrQueryBuilder) {
                 TurSEResults turSEResults = TurSEResults.builder().build();
                 turSEResultsParameters(queryContext.getTurSEParameters(), query, turSEResults, queryResponse);
-                processSEResultsFacet(turSNSite, turSEResults, queryResponse, queryContext.getFacetFieldExtList());
-                processResults(turSNSite, queryContext, turSEResults,
+                processSEResultsFacet(config, turSEResults, queryResponse, queryContext);
+                processResults(config, queryContext, turSEResults,
                                 queryResponse);
-                processGroups(query, turSolrInstance, turSNSite, queryContext, turSEResults, queryResponse,
+                processGroups(query, turSolrInstance, config, queryContext, turSEResults, queryResponse,
                                 turSolrQueryBuilder);
                 turSEResults.setSpellCheck(queryContext.getSpellCheckResult());
                 return turSEResults;
         }
 
-        private void processResults(TurSNSite turSNSite,
+        private void processResults(TurSNSiteSearchConfig config,
                         TurSolrQueryContext queryContext, TurSEResults turSEResults,
                         QueryResponse queryResponse) {
                 List<TurSESimilarResult> similarResults = new ArrayList<>();
-                turSEResults.setResults(addSolrDocumentsToSEResults(queryResponse.getResults(), turSNSite,
+                turSEResults.setResults(addSolrDocumentsToSEResults(queryResponse.getResults(), config,
                                 queryContext, queryResponse, similarResults));
-                setMLT(turSNSite, queryContext.getMltFieldExtList(), turSEResults, similarResults);
+                setMLT(config, queryContext.getMltFieldExtList(), turSEResults, similarResults);
         }
 
         private void processGroups(SolrQuery query, TurSolrInstance turSolrInstance,
-                        TurSNSite turSNSite, TurSolrQueryContext queryContext, TurSEResults turSEResults,
+                        TurSNSiteSearchConfig config, TurSolrQueryContext queryContext, TurSEResults turSEResults,
                         QueryResponse queryResponse, TurSolrQueryBuilder turSolrQueryBuilder) {
                 if (!turSolrQueryBuilder.hasGroup(queryContext.getTurSEParameters())
                                 || queryResponse.getGroupResponse() == null) {
@@ -94,17 +83,17 @@ public class TurSolrResultProcessor {
                 }
 
                 List<TurSEGroup> turSEGroups = new ArrayList<>();
-                populateGroupsFromResponse(queryResponse, turSNSite, queryContext, turSEGroups);
+                populateGroupsFromResponse(queryResponse, config, queryContext, turSEGroups);
 
-                if (shouldApplyWildcardQuery(turSNSite, query)) {
-                        enrichGroupsWithWildcardResults(query, turSolrInstance, turSNSite,
+                if (shouldApplyWildcardQuery(config, query)) {
+                        enrichGroupsWithWildcardResults(query, turSolrInstance, config,
                                         queryContext, queryResponse, turSEGroups);
                 }
 
                 turSEResults.setGroups(turSEGroups);
         }
 
-        private void populateGroupsFromResponse(QueryResponse queryResponse, TurSNSite turSNSite,
+        private void populateGroupsFromResponse(QueryResponse queryResponse, TurSNSiteSearchConfig config,
                         TurSolrQueryContext queryContext, List<TurSEGroup> turSEGroups) {
                 var groupResponse = queryResponse.getGroupResponse();
                 if (groupResponse == null || CollectionUtils.isEmpty(groupResponse.getValues())) {
@@ -112,83 +101,87 @@ public class TurSolrResultProcessor {
                 }
 
                 for (GroupCommand groupCommand : groupResponse.getValues()) {
-                        addGroupsFromCommand(turSNSite, queryContext, queryResponse, turSEGroups, groupCommand);
+                        addGroupsFromCommand(config, queryContext, queryResponse, turSEGroups, groupCommand);
                 }
         }
 
-        private void addGroupsFromCommand(TurSNSite turSNSite, TurSolrQueryContext queryContext,
+        private void addGroupsFromCommand(TurSNSiteSearchConfig config, TurSolrQueryContext queryContext,
                         QueryResponse queryResponse, List<TurSEGroup> turSEGroups, GroupCommand groupCommand) {
                 if (CollectionUtils.isEmpty(groupCommand.getValues())) {
                         return;
                 }
 
                 for (Group group : groupCommand.getValues()) {
-                        addGroupIfPresent(turSNSite, queryContext, queryResponse, turSEGroups, group);
+                        addGroupIfPresent(config, queryContext, queryResponse, turSEGroups, group);
                 }
         }
 
-        private void addGroupIfPresent(TurSNSite turSNSite, TurSolrQueryContext queryContext,
+        private void addGroupIfPresent(TurSNSiteSearchConfig config, TurSolrQueryContext queryContext,
                         QueryResponse queryResponse, List<TurSEGroup> turSEGroups, Group group) {
                 if (group.getGroupValue() == null) {
                         return;
                 }
 
-                turSEGroups.add(setTurSEGroup(turSNSite, queryContext, queryResponse, group));
+                turSEGroups.add(setTurSEGroup(config, queryContext, queryResponse, group));
         }
 
-        private boolean shouldApplyWildcardQuery(TurSNSite turSNSite, SolrQuery query) {
-                return TurSolr.enabledWildcardNoResults(turSNSite) && TurSolr.isNotQueryExpression(query);
+        private boolean shouldApplyWildcardQuery(TurSNSiteSearchConfig config, SolrQuery query) {
+                return TurSolr.enabledWildcardNoResults(config.getTurSNSite()) && TurSolr.isNotQueryExpression(query);
         }
 
         private void enrichGroupsWithWildcardResults(SolrQuery query, TurSolrInstance turSolrInstance,
-                        TurSNSite turSNSite, TurSolrQueryContext queryContext,
+                        TurSNSiteSearchConfig config, TurSolrQueryContext queryContext,
                         QueryResponse queryResponse, List<TurSEGroup> turSEGroups) {
-                SolrQuery wildcardQuery = query.getCopy();
-                TurSolr.addAWildcardInQuery(wildcardQuery);
-                TurSolr.executeSolrQuery(turSolrInstance, wildcardQuery)
+                Optional.ofNullable(queryContext.getGroupWildcardResponse())
+                                .map(Supplier::get)
+                                .orElseGet(() -> {
+                                        SolrQuery wildcardQuery = query.getCopy();
+                                        TurSolr.addAWildcardInQuery(wildcardQuery);
+                                        return TurSolr.executeSolrQuery(turSolrInstance, wildcardQuery);
+                                })
                                 .ifPresent(wildcardResponse -> processWildcardGroupResults(
-                                                wildcardResponse, turSNSite, queryContext,
+                                                wildcardResponse, config, queryContext,
                                                 queryResponse, turSEGroups));
         }
 
-        private void processWildcardGroupResults(QueryResponse wildcardResponse, TurSNSite turSNSite,
+        private void processWildcardGroupResults(QueryResponse wildcardResponse, TurSNSiteSearchConfig config,
                         TurSolrQueryContext queryContext, QueryResponse originalResponse,
                         List<TurSEGroup> turSEGroups) {
                 wildcardResponse.getGroupResponse().getValues()
                                 .forEach(groupCommand -> groupCommand.getValues()
-                                                .forEach(group -> updateOrAddGroup(group, turSNSite,
+                                                .forEach(group -> updateOrAddGroup(group, config,
                                                                 queryContext, originalResponse,
                                                                 turSEGroups)));
         }
 
-        private void updateOrAddGroup(Group group, TurSNSite turSNSite,
+        private void updateOrAddGroup(Group group, TurSNSiteSearchConfig config,
                         TurSolrQueryContext queryContext, QueryResponse queryResponse,
                         List<TurSEGroup> turSEGroups) {
                 Optional<TurSEGroup> existingGroup = seGroupsHasGroup(turSEGroups, group);
 
                 if (existingGroup.isPresent()) {
-                        updateGroupWithWildcardResults(existingGroup.get(), group, turSNSite,
+                        updateGroupWithWildcardResults(existingGroup.get(), group, config,
                                         queryContext, queryResponse);
                 } else {
-                        addNewGroupFromWildcard(group, turSNSite, queryContext, queryResponse,
+                        addNewGroupFromWildcard(group, config, queryContext, queryResponse,
                                         turSEGroups);
                 }
         }
 
         private void updateGroupWithWildcardResults(TurSEGroup turSEGroup, Group group,
-                        TurSNSite turSNSite, TurSolrQueryContext queryContext,
+                        TurSNSiteSearchConfig config, TurSolrQueryContext queryContext,
                         QueryResponse queryResponse) {
                 if (turSEGroup.getResults().isEmpty() && !group.getResult().isEmpty()) {
                         turSEGroup.setResults(addSolrDocumentsToSEResults(
-                                        group.getResult(), turSNSite, queryContext, queryResponse, null));
+                                        group.getResult(), config, queryContext, queryResponse, null));
                 }
         }
 
-        private void addNewGroupFromWildcard(Group group, TurSNSite turSNSite,
+        private void addNewGroupFromWildcard(Group group, TurSNSiteSearchConfig config,
                         TurSolrQueryContext queryContext, QueryResponse queryResponse,
                         List<TurSEGroup> turSEGroups) {
                 Optional.ofNullable(group.getGroupValue())
-                                .ifPresent(g -> turSEGroups.add(setTurSEGroup(turSNSite,
+                                .ifPresent(g -> turSEGroups.add(setTurSEGroup(config,
                                                 queryContext, queryResponse, group)));
         }
 
@@ -198,7 +191,7 @@ public class TurSolrResultProcessor {
                                 && o.getName().equals(group.getGroupValue())).findFirst();
         }
 
-        private TurSEGroup setTurSEGroup(TurSNSite turSNSite, TurSolrQueryContext queryContext,
+        private TurSEGroup setTurSEGroup(TurSNSiteSearchConfig config, TurSolrQueryContext queryContext,
                         QueryResponse queryResponse, Group group) {
                 return TurSEGroup.builder().name(group.getGroupValue())
                                 .numFound(group.getResult().getNumFound())
@@ -206,14 +199,14 @@ public class TurSolrResultProcessor {
                                 .limit(queryContext.getTurSEParameters().getRows())
                                 .pageCount(getNumberOfPages(group.getResult().getNumFound(),
                                                 queryContext.getTurSEParameters().getRows()))
-                                .results(addSolrDocumentsToSEResults(group.getResult(), turSNSite,
+                                .results(addSolrDocumentsToSEResults(group.getResult(), config,
                                                 queryContext, queryResponse, null))
                                 .build();
         }
 
-        private void setMLT(TurSNSite turSNSite, List<TurSNSiteFieldExt> turSNSiteMLTFieldExtList,
+        private void setMLT(TurSNSiteSearchConfig config, List<TurSNSiteFieldExt> turSNSiteMLTFieldExtList,
                         TurSEResults turSEResults, List<TurSESimilarResult> similarResults) {
-                if (hasMLT(turSNSite, turSNSiteMLTFieldExtList))
+                if (hasMLT(config, turSNSiteMLTFieldExtList))
                         turSEResults.setSimilarResults(similarResults);
         }
 
@@ -243,30 +236,30 @@ public class TurSolrResultProcessor {
                 return (int) Math.ceil(numFound / (double) limit);
         }
 
-        private boolean hasMLT(TurSNSite turSNSite, List<TurSNSiteFieldExt> turSNSiteMLTFieldExtList) {
-                return TurSNUtils.isTrue(turSNSite.getMlt())
+        private boolean hasMLT(TurSNSiteSearchConfig config, List<TurSNSiteFieldExt> turSNSiteMLTFieldExtList) {
+                return TurSNUtils.isTrue(config.getTurSNSite().getMlt())
                                 && !CollectionUtils.isEmpty(turSNSiteMLTFieldExtList);
         }
 
         private List<TurSEResult> addSolrDocumentsToSEResults(SolrDocumentList solrDocumentList,
-                        TurSNSite turSNSite, TurSolrQueryContext queryContext,
+                        TurSNSiteSearchConfig config, TurSolrQueryContext queryContext,
                         QueryResponse queryResponse, List<TurSESimilarResult> similarResults) {
                 List<TurSEResult> results = new ArrayList<>();
                 Optional.ofNullable(solrDocumentList).ifPresent(documents -> documents.forEach(document -> {
-                        processSEResultsMLT(turSNSite, queryContext.getMltFieldExtList(), similarResults, document,
+                        processSEResultsMLT(config, queryContext.getMltFieldExtList(), similarResults, document,
                                         queryResponse);
-                        results.add(createTurSEResult(getFieldExtMap(turSNSite), getRequiredFields(turSNSite),
+                        results.add(createTurSEResult(getFieldExtMap(config), getRequiredFields(config),
                                         document,
-                                        getHL(turSNSite, queryContext.getHlFieldExtList(), queryResponse, document)));
+                                        getHL(config.getTurSNSite(), queryContext.getHlFieldExtList(), queryResponse, document)));
                 }));
                 return results;
         }
 
-        private void processSEResultsMLT(TurSNSite turSNSite,
+        private void processSEResultsMLT(TurSNSiteSearchConfig config,
                         List<TurSNSiteFieldExt> turSNSiteMLTFieldExtList,
                         List<TurSESimilarResult> similarResults, SolrDocument document,
                         QueryResponse queryResponse) {
-                if (TurSNUtils.isTrue(turSNSite.getMlt()) && !turSNSiteMLTFieldExtList.isEmpty()) {
+                if (TurSNUtils.isTrue(config.getTurSNSite().getMlt()) && !turSNSiteMLTFieldExtList.isEmpty()) {
                         @SuppressWarnings("rawtypes")
                         SimpleOrderedMap mltResp = (SimpleOrderedMap) queryResponse.getResponse().get(MORE_LIKE_THIS);
                         ((SolrDocumentList) mltResp.get((String) document.get(ID)))
@@ -285,26 +278,28 @@ public class TurSolrResultProcessor {
                 }
         }
 
-        private void processSEResultsFacet(TurSNSite turSNSite, TurSEResults turSEResults,
-                        QueryResponse queryResponse, List<TurSNSiteFieldExt> turSNSiteFacetFieldExtList) {
-                if (wasFacetConfigured(turSNSite, turSNSiteFacetFieldExtList)) {
-                        List<TurSEFacetResult> facetQueryResults = setFacetQueries(turSNSite,
+        private void processSEResultsFacet(TurSNSiteSearchConfig config, TurSEResults turSEResults,
+                        QueryResponse queryResponse, TurSolrQueryContext queryContext) {
+                if (wasFacetConfigured(config, queryContext.getFacetFieldExtList())) {
+                        List<TurSEFacetResult> facetQueryResults = setFacetQueries(config,
                                         queryResponse);
                         List<TurSEFacetResult> facetRangeResults = setFacetRanges(queryResponse);
                         List<TurSEFacetResult> facetResults = new ArrayList<>(facetQueryResults);
                         facetResults.addAll(facetRangeResults);
                         facetResults.addAll(setFacetFields(queryResponse, facetRangeResults));
+                        Set<String> facetsWithOwnFilterExcluded = queryContext.getFacetsWithOwnFilterExcluded();
+                        facetResults.forEach(facet -> facet.setOwnFilterExcluded(
+                                        facetsWithOwnFilterExcluded.contains(facet.getFacet())));
                         facetResults.forEach(facet -> {
-                                turSNFieldProcess.getTurSNSiteFieldOrdering(turSNSite.getId())
-                                                .ifPresent(fields -> fields.forEach(fieldExtension -> facetResults
-                                                                .stream()
-                                                                .filter(facetResult -> fieldExtension
-                                                                                .getFacetPosition() != null
-                                                                                && facetResult.getFacet().equals(
-                                                                                                fieldExtension.getName()))
-                                                                .findFirst().ifPresent(facetResult -> facetResult
-                                                                                .setFacetPosition(fieldExtension
-                                                                                                .getFacetPosition()))));
+                                config.getFacetOrdering().forEach(fieldExtension -> facetResults
+                                                .stream()
+                                                .filter(facetResult -> fieldExtension
+                                                                .getFacetPosition() != null
+                                                                && facetResult.getFacet().equals(
+                                                                                fieldExtension.getName()))
+                                                .findFirst().ifPresent(facetResult -> facetResult
+                                                                .setFacetPosition(fieldExtension
+                                                                                .getFacetPosition())));
                                 turSEResults.setFacetResults(facetResults.stream()
                                                 .sorted(Comparator.comparing(TurSEFacetResult::getFacetPosition))
                                                 .toList());
@@ -312,7 +307,7 @@ public class TurSolrResultProcessor {
                 }
         }
 
-        private List<TurSEFacetResult> setFacetQueries(TurSNSite turSNSite,
+        private List<TurSEFacetResult> setFacetQueries(TurSNSiteSearchConfig config,
                         QueryResponse queryResponse) {
                 Map<String, Integer> facetQueryValues = Optional.ofNullable(queryResponse.getFacetQuery())
                                 .orElse(Collections.emptyMap());
@@ -334,8 +329,7 @@ public class TurSolrResultProcessor {
 
                 List<TurSEFacetResult> facetResults = new ArrayList<>();
                 Set<String> processedFacetNames = new HashSet<>();
-                List<TurSNFacetDefinition> customFacetDefinitions = turSNSiteFieldExtRepository
-                                .findByTurSNSiteAndEnabled(turSNSite, 1).stream()
+                List<TurSNFacetDefinition> customFacetDefinitions = config.getEnabledFields().stream()
                                 .flatMap(field -> Optional.ofNullable(field.getCustomFacets())
                                                 .orElse(Collections.emptySet()).stream()
                                                 .map(customFacet -> (TurSNFacetDefinition) new TurSNCustomFacetDefinition(
@@ -425,9 +419,10 @@ public class TurSolrResultProcessor {
                 return facetResults;
         }
 
-        private boolean wasFacetConfigured(TurSNSite turSNSite,
+        private boolean wasFacetConfigured(TurSNSiteSearchConfig config,
                         List<TurSNSiteFieldExt> turSNSiteFacetFieldExtList) {
-                return TurSNUtils.isTrue(turSNSite.getFacet()) && turSNSite.getItemsPerFacet() != null
+                return TurSNUtils.isTrue(config.getTurSNSite().getFacet())
+                                && config.getTurSNSite().getItemsPerFacet() != null
                                 && !CollectionUtils.isEmpty(turSNSiteFacetFieldExtList);
         }
 
@@ -482,17 +477,12 @@ public class TurSolrResultProcessor {
                                                 requiredFields.get(requiredField)));
         }
 
-        public Map<String, TurSNSiteFieldExt> getFieldExtMap(TurSNSite turSNSite) {
-                return turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(turSNSite, 1).stream()
-                                .collect(Collectors.toMap(TurSNSiteFieldExt::getName,
-                                                turSNSiteFieldExt -> turSNSiteFieldExt, (a, b) -> b));
+        public Map<String, TurSNSiteFieldExt> getFieldExtMap(TurSNSiteSearchConfig config) {
+                return config.getFieldExtMap();
         }
 
-        public Map<String, Object> getRequiredFields(TurSNSite turSNSite) {
-                return turSNSiteFieldExtRepository.findByTurSNSiteAndRequiredAndEnabled(turSNSite, 1, 1)
-                                .stream().filter(Objects::nonNull)
-                                .collect(Collectors.toMap(TurSNSiteFieldExt::getName,
-                                                TurSNSiteFieldExt::getDefaultValue, (a, b) -> b));
+        public Map<String, Object> getRequiredFields(TurSNSiteSearchConfig config) {
+                return config.getRequiredFields();
         }
 
         public Map<String, List<String>> getHL(TurSNSite turSNSite,
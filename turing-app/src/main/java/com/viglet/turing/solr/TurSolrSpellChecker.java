@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.solr;
+
+import static com.viglet.turing.solr.TurSolrConstants.EMPTY;
+import static com.viglet.turing.solr.TurSolrConstants.TUR_SPELL;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.solr.client.solrj.SolrQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.viglet.turing.commons.se.result.spellcheck.TurSESpellCheckResult;
+
+/**
+ * Spell check of the search terms, with the corrections of each site, locale and term
+ * kept for {@code turing.solr.spellcheck.cache.ttl} milliseconds.
+ * <p>
+ * A failed spell check request is not cached, so the next search asks Solr again. The
+ * cache is cleared when it reaches {@code turing.solr.spellcheck.cache.max-size}
+ * entries.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@Component
+public class TurSolrSpellChecker {
+    private final long ttlMillis;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<String, Correction> corrections = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TurSolrSpellChecker(@Value("${turing.solr.spellcheck.cache.ttl:300000}") long ttlMillis,
+            @Value("${turing.solr.spellcheck.cache.max-size:10000}") int maxSize) {
+        this(ttlMillis, maxSize, System::currentTimeMillis);
+    }
+
+    TurSolrSpellChecker(long ttlMillis, int maxSize, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Correction of the term, from the cache or from the spell check request handler of
+     * the core.
+     */
+    public TurSESpellCheckResult check(TurSolrInstance turSolrInstance, String siteName, Locale locale,
+            String term) {
+        if (StringUtils.isBlank(term)) {
+            return new TurSESpellCheckResult();
+        }
+        String key = key(siteName, locale, term);
+        long now = clock.getAsLong();
+        Correction correction = corrections.get(key);
+        if (correction != null && correction.expiresAt > now) {
+            return correction.toResult();
+        }
+        return request(turSolrInstance, term).map(result -> {
+            if (ttlMillis > 0) {
+                if (corrections.size() >= maxSize) {
+                    corrections.clear();
+                }
+                corrections.put(key, new Correction(result.isCorrected(), result.getCorrectedText(),
+                        now + ttlMillis));
+            }
+            return result;
+        }).orElseGet(TurSESpellCheckResult::new);
+    }
+
+    /**
+     * Drops the corrections of the site, when it is saved or deleted, so a change of its
+     * spell check settings is seen by the next search.
+     */
+    public void invalidate(String siteName) {
+        corrections.keySet().removeIf(key -> key.startsWith(siteName + "/"));
+    }
+
+    /**
+     * Asks the spell check request handler of the core for a correction of the term.
+     *
+     * @return empty when the request failed
+     */
+    public static Optional<TurSESpellCheckResult> request(TurSolrInstance turSolrInstance, String term) {
+        return TurSolr.executeSolrQuery(turSolrInstance, new SolrQuery().setParam("qt", TUR_SPELL)
+                .setQuery(term.replace("\"", EMPTY)))
+                .map(queryResponse -> Optional.ofNullable(queryResponse.getSpellCheckResponse())
+                        .map(spellCheckResponse -> {
+                            String correctedText = spellCheckResponse.getCollatedResult();
+                            if (StringUtils.isNotEmpty(correctedText)) {
+                                return new TurSESpellCheckResult(true, correctedText);
+                            }
+                            return new TurSESpellCheckResult();
+                        }).orElse(new TurSESpellCheckResult()));
+    }
+
+    private static String key(String siteName, Locale locale, String term) {
+        return siteName + "/" + locale + "/" + term;
+    }
+
+    private record Correction(boolean corrected, String correctedText, long expiresAt) {
+        // The result is mutable, so every search gets its own copy.
+        TurSESpellCheckResult toResult() {
+            return corrected ? new TurSESpellCheckResult(true, correctedText) : new TurSESpellCheckResult();
+        }
+    }
+}
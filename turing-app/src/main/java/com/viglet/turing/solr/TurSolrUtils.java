@@ -31,6 +31,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.commons.collections4.KeyValue;
 import org.apache.http.HttpHeaders;
@@ -86,6 +89,14 @@ public class TurSolrUtils {
         executeRequest(request, "Failed to delete core: " + name);
     }
 
+    public static void deleteCollection(TurSEInstance turSEInstance, String name) {
+        HttpRequest request = getHttpRequestBuilderJson()
+                .uri(URI.create(String.format("%s/api/collections/%s", getSolrUrl(turSEInstance), name)))
+                .DELETE()
+                .build();
+        executeRequest(request, "Failed to delete collection: " + name);
+    }
+
     public static TurSolrFieldBean getField(TurSEInstance turSEInstance, String coreName, String fieldName) {
         URI uri = getFieldUri(turSEInstance, coreName, fieldName);
         HttpRequest request = getHttpRequestBuilderJson()
@@ -119,6 +130,28 @@ public class TurSolrUtils {
                 .orElse(false);
     }
 
+    /**
+     * Lists the names of all fields of a core with a single schema request. Empty when
+     * the schema could not be read.
+     */
+    public static Optional<Set<String>> getFieldNames(TurSEInstance turSEInstance, String coreName) {
+        HttpRequest request = getHttpRequestBuilderJson()
+                .uri(URI.create(String.format("%s/solr/%s/schema/fields",
+                        getSolrUrl(turSEInstance), coreName)))
+                .GET()
+                .build();
+
+        return executeRequest(request, "Failed to get fields of core: " + coreName)
+                .filter(response -> response.statusCode() == 200)
+                .map(HttpResponse::body)
+                .map(JSONObject::new)
+                .filter(json -> json.has("fields"))
+                .map(json -> json.getJSONArray("fields"))
+                .map(fields -> IntStream.range(0, fields.length())
+                        .mapToObj(i -> fields.getJSONObject(i).getString("name"))
+                        .collect(Collectors.toSet()));
+    }
+
     public static void addOrUpdateField(TurSolrFieldAction turSolrFieldAction, TurSEInstance turSEInstance,
             String coreName, String fieldName, TurSEFieldType turSEFieldType,
             boolean stored, boolean multiValued) {
@@ -295,6 +328,24 @@ public class TurSolrUtils {
         executeRequest(request, "Failed to create core: " + coreName);
     }
 
+    /**
+     * Swaps the names of two cores with the CoreAdmin SWAP action, so the index of one is
+     * served by the name of the other. Only available when Solr is not in cloud mode.
+     *
+     * @return {@code true} when Solr swapped the cores
+     */
+    public static boolean swapCores(TurSEInstance turSEInstance, String core, String otherCore) {
+        String json = new ObjectMapper().writeValueAsString(Map.of("with", otherCore));
+        HttpRequest request = getHttpRequestBuilderJson()
+                .uri(URI.create(String.format("%s/api/cores/%s/swap", getSolrUrl(turSEInstance), core)))
+                .POST(BodyPublishers.ofString(json))
+                .build();
+
+        return executeRequest(request, "Failed to swap core " + core + " with " + otherCore)
+                .map(response -> response.statusCode() == 200)
+                .orElse(false);
+    }
+
     public static void createCollection(String solrUrl, String coreName, InputStream inputStream, int shards) {
         try {
             uploadConfigSet(solrUrl, coreName, inputStream);
@@ -28,6 +28,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -42,6 +43,7 @@ import com.viglet.turing.se.result.TurSEResults;
 import com.viglet.turing.solr.TurSolr;
 import com.viglet.turing.solr.TurSolrInstance;
 import com.viglet.turing.solr.TurSolrInstanceProcess;
+import com.viglet.turing.solr.TurSolrRoutingEvent;
 
 @ExtendWith(MockitoExtension.class)
 class TurSEInstanceAPITest {
@@ -57,6 +59,9 @@ class TurSEInstanceAPITest {
     @Mock
     private TurSolr turSolr;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @Spy
     private TurSEInstanceMapper turSEInstanceMapper = Mappers.getMapper(TurSEInstanceMapper.class);
 
@@ -153,6 +158,7 @@ class TurSEInstanceAPITest {
 
         verify(turSEInstanceRepository, times(1)).findById("1");
         verify(turSEInstanceRepository, times(1)).save(any(TurSEInstance.class));
+        verify(applicationEventPublisher).publishEvent(any(TurSolrRoutingEvent.class));
     }
 
     @Test
@@ -179,6 +185,7 @@ class TurSEInstanceAPITest {
                 .andExpect(content().string("true"));
 
         verify(turSEInstanceRepository, times(1)).delete("1");
+        verify(applicationEventPublisher).publishEvent(any(TurSolrRoutingEvent.class));
     }
 
     @Test
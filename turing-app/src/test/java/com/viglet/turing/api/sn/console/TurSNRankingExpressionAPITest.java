@@ -44,6 +44,8 @@ import com.viglet.turing.persistence.model.sn.ranking.TurSNRankingExpression;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingConditionRepository;
 import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingExpressionRepository;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfigRegistry;
+import com.viglet.turing.sn.search.TurSNSearchCache;
 
 /**
  * Unit tests for TurSNRankingExpressionAPI.
@@ -60,8 +62,11 @@ class TurSNRankingExpressionAPITest {
         TurSNRankingExpressionRepository expressionRepository = mock(TurSNRankingExpressionRepository.class);
         TurSNRankingConditionRepository conditionRepository = mock(TurSNRankingConditionRepository.class);
         TurSNRankingExpressionMapper mapper = Mappers.getMapper(TurSNRankingExpressionMapper.class);
+        TurSNSiteSearchConfigRegistry configRegistry = mock(TurSNSiteSearchConfigRegistry.class);
+        TurSNSearchCache searchCache = mock(TurSNSearchCache.class);
         TurSNRankingExpressionAPI api = new TurSNRankingExpressionAPI(siteRepository,
-                expressionRepository, conditionRepository, mapper);
+                expressionRepository, conditionRepository, mapper, configRegistry,
+                searchCache);
 
         when(siteRepository.findById("site")).thenReturn(Optional.empty());
 
@@ -76,8 +81,11 @@ class TurSNRankingExpressionAPITest {
         TurSNRankingExpressionRepository expressionRepository = mock(TurSNRankingExpressionRepository.class);
         TurSNRankingConditionRepository conditionRepository = mock(TurSNRankingConditionRepository.class);
         TurSNRankingExpressionMapper mapper = Mappers.getMapper(TurSNRankingExpressionMapper.class);
+        TurSNSiteSearchConfigRegistry configRegistry = mock(TurSNSiteSearchConfigRegistry.class);
+        TurSNSearchCache searchCache = mock(TurSNSearchCache.class);
         TurSNRankingExpressionAPI api = new TurSNRankingExpressionAPI(siteRepository,
-                expressionRepository, conditionRepository, mapper);
+                expressionRepository, conditionRepository, mapper, configRegistry,
+                searchCache);
         TurSNSite site = new TurSNSite();
         TurSNRankingExpression expression = new TurSNRankingExpression();
         Set<TurSNRankingCondition> conditions = new HashSet<>();
@@ -98,8 +106,11 @@ class TurSNRankingExpressionAPITest {
         TurSNRankingExpressionRepository expressionRepository = mock(TurSNRankingExpressionRepository.class);
         TurSNRankingConditionRepository conditionRepository = mock(TurSNRankingConditionRepository.class);
         TurSNRankingExpressionMapper mapper = Mappers.getMapper(TurSNRankingExpressionMapper.class);
+        TurSNSiteSearchConfigRegistry configRegistry = mock(TurSNSiteSearchConfigRegistry.class);
+        TurSNSearchCache searchCache = mock(TurSNSearchCache.class);
         TurSNRankingExpressionAPI api = new TurSNRankingExpressionAPI(siteRepository,
-                expressionRepository, conditionRepository, mapper);
+                expressionRepository, conditionRepository, mapper, configRegistry,
+                searchCache);
 
         TurSNRankingExpressionDto result = api.turSNRankingExpressionUpdate("expr",
                 new TurSNRankingExpressionDto(), "site");
@@ -113,8 +124,11 @@ class TurSNRankingExpressionAPITest {
         TurSNRankingExpressionRepository expressionRepository = mock(TurSNRankingExpressionRepository.class);
         TurSNRankingConditionRepository conditionRepository = mock(TurSNRankingConditionRepository.class);
         TurSNRankingExpressionMapper mapper = Mappers.getMapper(TurSNRankingExpressionMapper.class);
+        TurSNSiteSearchConfigRegistry configRegistry = mock(TurSNSiteSearchConfigRegistry.class);
+        TurSNSearchCache searchCache = mock(TurSNSearchCache.class);
         TurSNRankingExpressionAPI api = new TurSNRankingExpressionAPI(siteRepository,
-                expressionRepository, conditionRepository, mapper);
+                expressionRepository, conditionRepository, mapper, configRegistry,
+                searchCache);
         TurSNSite site = new TurSNSite();
 
         when(siteRepository.findById("site")).thenReturn(Optional.of(site));
@@ -123,6 +137,8 @@ class TurSNRankingExpressionAPITest {
 
         assertThat(result).isTrue();
         verify(expressionRepository).deleteById("expr");
+        verify(configRegistry).invalidate(site);
+        verify(searchCache).invalidate(site.getName());
     }
 
     @Test
@@ -131,8 +147,11 @@ class TurSNRankingExpressionAPITest {
         TurSNRankingExpressionRepository expressionRepository = mock(TurSNRankingExpressionRepository.class);
         TurSNRankingConditionRepository conditionRepository = mock(TurSNRankingConditionRepository.class);
         TurSNRankingExpressionMapper mapper = Mappers.getMapper(TurSNRankingExpressionMapper.class);
+        TurSNSiteSearchConfigRegistry configRegistry = mock(TurSNSiteSearchConfigRegistry.class);
+        TurSNSearchCache searchCache = mock(TurSNSearchCache.class);
         TurSNRankingExpressionAPI api = new TurSNRankingExpressionAPI(siteRepository,
-                expressionRepository, conditionRepository, mapper);
+                expressionRepository, conditionRepository, mapper, configRegistry,
+                searchCache);
 
         TurSNRankingExpressionDto result = api.turSNRankingExpressionAdd(new TurSNRankingExpressionDto(), "site");
 
@@ -145,8 +164,11 @@ class TurSNRankingExpressionAPITest {
         TurSNRankingExpressionRepository expressionRepository = mock(TurSNRankingExpressionRepository.class);
         TurSNRankingConditionRepository conditionRepository = mock(TurSNRankingConditionRepository.class);
         TurSNRankingExpressionMapper mapper = Mappers.getMapper(TurSNRankingExpressionMapper.class);
+        TurSNSiteSearchConfigRegistry configRegistry = mock(TurSNSiteSearchConfigRegistry.class);
+        TurSNSearchCache searchCache = mock(TurSNSearchCache.class);
         TurSNRankingExpressionAPI api = new TurSNRankingExpressionAPI(siteRepository,
-                expressionRepository, conditionRepository, mapper);
+                expressionRepository, conditionRepository, mapper, configRegistry,
+                searchCache);
         TurSNSite site = new TurSNSite();
 
         when(siteRepository.findById("site")).thenReturn(Optional.of(site));
@@ -162,8 +184,11 @@ class TurSNRankingExpressionAPITest {
         TurSNRankingExpressionRepository expressionRepository = mock(TurSNRankingExpressionRepository.class);
         TurSNRankingConditionRepository conditionRepository = mock(TurSNRankingConditionRepository.class);
         TurSNRankingExpressionMapper mapper = Mappers.getMapper(TurSNRankingExpressionMapper.class);
+        TurSNSiteSearchConfigRegistry configRegistry = mock(TurSNSiteSearchConfigRegistry.class);
+        TurSNSearchCache searchCache = mock(TurSNSearchCache.class);
         TurSNRankingExpressionAPI api = new TurSNRankingExpressionAPI(siteRepository,
-                expressionRepository, conditionRepository, mapper);
+                expressionRepository, conditionRepository, mapper, configRegistry,
+                searchCache);
         TurSNSite site = new TurSNSite();
         TurSNRankingExpression existing = new TurSNRankingExpression();
         TurSNRankingExpressionDto payload = new TurSNRankingExpressionDto();
@@ -40,6 +40,7 @@ import org.mapstruct.factory.Mappers;
 import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.viglet.turing.api.sn.bean.TurSNSiteMonitoringStatusBean;
@@ -62,10 +63,12 @@ import com.viglet.turing.persistence.repository.sn.genai.TurSNSiteGenAiRepositor
 import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
 import com.viglet.turing.properties.TurConfigProperties;
 import com.viglet.turing.sn.TurSNQueue;
+import com.viglet.turing.sn.checksum.TurSNIndexChecksumService;
 import com.viglet.turing.sn.template.TurSNTemplate;
 import com.viglet.turing.solr.TurSolr;
 import com.viglet.turing.solr.TurSolrInstance;
 import com.viglet.turing.solr.TurSolrInstanceProcess;
+import com.viglet.turing.solr.TurSolrSpellChecker;
 import com.viglet.turing.solr.TurSolrUtils;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -87,12 +90,15 @@ class TurSNSiteAPITest {
                 TurSNSiteExport export = mock(TurSNSiteExport.class);
                 TurSNTemplate template = mock(TurSNTemplate.class);
                 TurSNQueue queue = mock(TurSNQueue.class);
+                TurSolrSpellChecker spellChecker = mock(TurSolrSpellChecker.class);
                 TurSolrInstanceProcess solrInstanceProcess = mock(TurSolrInstanceProcess.class);
                 TurSolr turSolr = mock(TurSolr.class);
                 TurConfigProperties configProperties = mock(TurConfigProperties.class);
                 TurSNSiteMapper siteMapper = Mappers.getMapper(TurSNSiteMapper.class);
                 TurSNSiteAPI api = new TurSNSiteAPI(siteRepository, localeRepository, genAiRepository, export,
-                                template, queue, solrInstanceProcess, turSolr, configProperties, siteMapper);
+                                template, queue, solrInstanceProcess, turSolr, configProperties, siteMapper,
+                                mock(ApplicationEventPublisher.class), mock(TurSNIndexChecksumService.class),
+                                mock(TurSolrSpellChecker.class));
                 Principal principal = () -> "Admin";
                 TurSNSite site = new TurSNSite();
 
@@ -113,7 +119,9 @@ class TurSNSiteAPITest {
                                 mock(TurSNSiteLocaleRepository.class), mock(TurSNSiteGenAiRepository.class),
                                 mock(TurSNSiteExport.class), mock(TurSNTemplate.class), mock(TurSNQueue.class),
                                 mock(TurSolrInstanceProcess.class), mock(TurSolr.class),
-                                mock(TurConfigProperties.class), siteMapper);
+                                mock(TurConfigProperties.class), siteMapper,
+                                mock(ApplicationEventPublisher.class), mock(TurSNIndexChecksumService.class),
+                                mock(TurSolrSpellChecker.class));
 
                 TurSNSiteDto result = api.turSNSiteStructure();
 
@@ -131,7 +139,9 @@ class TurSNSiteAPITest {
                                 mock(TurSNSiteLocaleRepository.class), mock(TurSNSiteGenAiRepository.class),
                                 mock(TurSNSiteExport.class), mock(TurSNTemplate.class), mock(TurSNQueue.class),
                                 mock(TurSolrInstanceProcess.class), mock(TurSolr.class),
-                                mock(TurConfigProperties.class), siteMapper);
+                                mock(TurConfigProperties.class), siteMapper,
+                                mock(ApplicationEventPublisher.class), mock(TurSNIndexChecksumService.class),
+                                mock(TurSolrSpellChecker.class));
 
                 when(siteRepository.findById("site")).thenReturn(Optional.empty());
 
@@ -144,13 +154,17 @@ class TurSNSiteAPITest {
         void testSiteUpdateCopiesFields() {
                 TurSNSiteRepository siteRepository = mock(TurSNSiteRepository.class);
                 TurSNSiteGenAiRepository genAiRepository = mock(TurSNSiteGenAiRepository.class);
+                TurSolrSpellChecker spellChecker = mock(TurSolrSpellChecker.class);
                 TurSNSiteMapper siteMapper = Mappers.getMapper(TurSNSiteMapper.class);
                 TurSNSiteAPI api = new TurSNSiteAPI(siteRepository,
                                 mock(TurSNSiteLocaleRepository.class), genAiRepository,
                                 mock(TurSNSiteExport.class), mock(TurSNTemplate.class), mock(TurSNQueue.class),
                                 mock(TurSolrInstanceProcess.class), mock(TurSolr.class),
-                                mock(TurConfigProperties.class), siteMapper);
+                                mock(TurConfigProperties.class), siteMapper,
+                                mock(ApplicationEventPublisher.class), mock(TurSNIndexChecksumService.class),
+                                spellChecker);
                 TurSNSite existing = new TurSNSite();
+                existing.setName("Old");
                 TurSNSiteGenAi genAi = new TurSNSiteGenAi();
                 existing.setTurSNSiteGenAi(genAi);
                 TurSNSiteDto payload = new TurSNSiteDto();
@@ -167,18 +181,24 @@ class TurSNSiteAPITest {
                 assertThat(result.getDescription()).isEqualTo("Desc");
                 verify(siteRepository).save(existing);
                 verify(genAiRepository).save(any(TurSNSiteGenAi.class));
+                verify(spellChecker).invalidate("Old");
         }
 
         @Test
         void testSiteDeleteDeletesCores() {
                 TurSNSiteRepository siteRepository = mock(TurSNSiteRepository.class);
                 TurSNSiteLocaleRepository localeRepository = mock(TurSNSiteLocaleRepository.class);
+                TurSNIndexChecksumService checksumService = mock(TurSNIndexChecksumService.class);
+                TurSNQueue queue = mock(TurSNQueue.class);
+                TurSolrSpellChecker spellChecker = mock(TurSolrSpellChecker.class);
                 TurSNSiteMapper siteMapper = Mappers.getMapper(TurSNSiteMapper.class);
                 TurSNSiteAPI api = new TurSNSiteAPI(siteRepository, localeRepository,
                                 mock(TurSNSiteGenAiRepository.class), mock(TurSNSiteExport.class),
-                                mock(TurSNTemplate.class), mock(TurSNQueue.class), mock(TurSolrInstanceProcess.class),
-                                mock(TurSolr.class), mock(TurConfigProperties.class), siteMapper);
+                                mock(TurSNTemplate.class), queue, mock(TurSolrInstanceProcess.class),
+                                mock(TurSolr.class), mock(TurConfigProperties.class), siteMapper,
+                                mock(ApplicationEventPublisher.class), checksumService, spellChecker);
                 TurSNSite site = new TurSNSite();
+                site.setName("site1");
                 TurSEInstance instance = new TurSEInstance();
                 instance.setHost("localhost");
                 instance.setPort(8983);
@@ -197,6 +217,9 @@ class TurSNSiteAPITest {
                         assertThat(result).isTrue();
                         utils.verify(() -> TurSolrUtils.deleteCore(instance, "core1"));
                         verify(siteRepository).delete(site);
+                        verify(checksumService).clear(site);
+                        verify(queue).removeSite("site1");
+                        verify(spellChecker).invalidate("site1");
                 }
         }
 
@@ -209,7 +232,9 @@ class TurSNSiteAPITest {
                 TurSNSiteAPI api = new TurSNSiteAPI(siteRepository, localeRepository,
                                 genAiRepository, mock(TurSNSiteExport.class),
                                 mock(TurSNTemplate.class), mock(TurSNQueue.class), mock(TurSolrInstanceProcess.class),
-                                mock(TurSolr.class), mock(TurConfigProperties.class), siteMapper);
+                                mock(TurSolr.class), mock(TurConfigProperties.class), siteMapper,
+                                mock(ApplicationEventPublisher.class), mock(TurSNIndexChecksumService.class),
+                                mock(TurSolrSpellChecker.class));
 
                 TurSNSite site = new TurSNSite();
                 TurSEInstance instance = new TurSEInstance();
@@ -269,7 +294,9 @@ class TurSNSiteAPITest {
                                 mock(TurSNSiteLocaleRepository.class), genAiRepository,
                                 mock(TurSNSiteExport.class), template, mock(TurSNQueue.class),
                                 mock(TurSolrInstanceProcess.class), mock(TurSolr.class),
-                                mock(TurConfigProperties.class), siteMapper);
+                                mock(TurConfigProperties.class), siteMapper,
+                                mock(ApplicationEventPublisher.class), mock(TurSNIndexChecksumService.class),
+                                mock(TurSolrSpellChecker.class));
                 TurSNSiteDto site = new TurSNSiteDto();
                 site.setTurSNSiteGenAi(new TurSNSiteGenAi());
                 Principal principal = () -> "admin";
@@ -291,7 +318,9 @@ class TurSNSiteAPITest {
                                 mock(TurSNSiteLocaleRepository.class), mock(TurSNSiteGenAiRepository.class),
                                 export, mock(TurSNTemplate.class), mock(TurSNQueue.class),
                                 mock(TurSolrInstanceProcess.class), mock(TurSolr.class),
-                                mock(TurConfigProperties.class), siteMapper);
+                                mock(TurConfigProperties.class), siteMapper,
+                                mock(ApplicationEventPublisher.class), mock(TurSNIndexChecksumService.class),
+                                mock(TurSolrSpellChecker.class));
                 HttpServletResponse response = mock(HttpServletResponse.class);
                 StreamingResponseBody expected = outputStream -> outputStream.write(new byte[0]);
 
@@ -313,7 +342,9 @@ class TurSNSiteAPITest {
                 TurSNSiteAPI api = new TurSNSiteAPI(siteRepository, localeRepository,
                                 mock(TurSNSiteGenAiRepository.class), mock(TurSNSiteExport.class),
                                 mock(TurSNTemplate.class), queue, solrInstanceProcess, turSolr,
-                                mock(TurConfigProperties.class), siteMapper);
+                                mock(TurConfigProperties.class), siteMapper,
+                                mock(ApplicationEventPublisher.class), mock(TurSNIndexChecksumService.class),
+                                mock(TurSolrSpellChecker.class));
                 TurSNSite site = new TurSNSite();
                 TurSNSiteLocale locale = new TurSNSiteLocale();
                 TurSolrInstance instance = mock(TurSolrInstance.class);
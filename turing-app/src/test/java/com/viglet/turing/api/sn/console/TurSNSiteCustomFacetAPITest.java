@@ -34,6 +34,8 @@ import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
 import com.viglet.turing.sn.TurSNFieldType;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfigRegistry;
+import com.viglet.turing.sn.search.TurSNSearchCache;
 
 @ExtendWith(MockitoExtension.class)
 class TurSNSiteCustomFacetAPITest {
@@ -44,11 +46,18 @@ class TurSNSiteCustomFacetAPITest {
     @Mock
     private TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
 
+    @Mock
+    private TurSNSiteSearchConfigRegistry turSNSiteSearchConfigRegistry;
+
+    @Mock
+    private TurSNSearchCache turSNSearchCache;
+
     private TurSNSiteCustomFacetAPI api;
 
     @BeforeEach
     void setUp() {
-        api = new TurSNSiteCustomFacetAPI(turSNSiteRepository, turSNSiteFieldExtRepository);
+        api = new TurSNSiteCustomFacetAPI(turSNSiteRepository, turSNSiteFieldExtRepository,
+                turSNSiteSearchConfigRegistry, turSNSearchCache);
     }
 
     @Test
@@ -263,6 +272,8 @@ class TurSNSiteCustomFacetAPITest {
         assertThat(captor.getValue().getCustomFacets())
                 .extracting(TurSNSiteCustomFacet::getId)
                 .containsExactly("facet-2");
+        verify(turSNSiteSearchConfigRegistry).invalidate(site);
+        verify(turSNSearchCache).invalidate(site.getName());
     }
 
     private TurSNSite site(String id) {
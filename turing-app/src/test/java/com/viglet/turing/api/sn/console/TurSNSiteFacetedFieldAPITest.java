@@ -24,6 +24,7 @@ package com.viglet.turing.api.sn.console;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -39,8 +40,10 @@ import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
 import com.viglet.turing.sn.TurSNFieldProcess;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfigRegistry;
 import com.viglet.turing.sn.facet.TurSNCustomFacetDefinition;
 import com.viglet.turing.sn.facet.TurSNFieldFacetDefinition;
+import com.viglet.turing.sn.search.TurSNSearchCache;
 
 /**
  * Unit tests for TurSNSiteFacetedFieldAPI.
@@ -55,8 +58,10 @@ class TurSNSiteFacetedFieldAPITest {
                 TurSNSiteFieldExtRepository fieldExtRepository = mock(TurSNSiteFieldExtRepository.class);
                 TurSNSiteRepository siteRepository = mock(TurSNSiteRepository.class);
                 TurSNFieldProcess fieldProcess = mock(TurSNFieldProcess.class);
+                TurSNSiteSearchConfigRegistry configRegistry = mock(TurSNSiteSearchConfigRegistry.class);
+                TurSNSearchCache searchCache = mock(TurSNSearchCache.class);
                 TurSNSiteFacetedFieldAPI api = new TurSNSiteFacetedFieldAPI(fieldExtRepository, siteRepository,
-                                fieldProcess);
+                                fieldProcess, configRegistry, searchCache);
 
                 when(fieldProcess.getTurSNSiteFacetOrdering("site")).thenReturn(Optional.empty());
 
@@ -70,8 +75,10 @@ class TurSNSiteFacetedFieldAPITest {
                 TurSNSiteFieldExtRepository fieldExtRepository = mock(TurSNSiteFieldExtRepository.class);
                 TurSNSiteRepository siteRepository = mock(TurSNSiteRepository.class);
                 TurSNFieldProcess fieldProcess = mock(TurSNFieldProcess.class);
+                TurSNSiteSearchConfigRegistry configRegistry = mock(TurSNSiteSearchConfigRegistry.class);
+                TurSNSearchCache searchCache = mock(TurSNSearchCache.class);
                 TurSNSiteFacetedFieldAPI api = new TurSNSiteFacetedFieldAPI(fieldExtRepository, siteRepository,
-                                fieldProcess);
+                                fieldProcess, configRegistry, searchCache);
 
                 TurSNSite site = new TurSNSite();
 
@@ -105,6 +112,8 @@ class TurSNSiteFacetedFieldAPITest {
                 List<TurSNSiteFacetOrderingDto> result = api.turSNSiteFieldUpdate("site", List.of(update1, update2));
 
                 assertThat(result).extracting(TurSNSiteFacetOrderingDto::getId).containsExactly("2", "1");
+                verify(configRegistry).invalidate(site);
+                verify(searchCache).invalidate(site.getName());
         }
 
         @Test
@@ -112,8 +121,10 @@ class TurSNSiteFacetedFieldAPITest {
                 TurSNSiteFieldExtRepository fieldExtRepository = mock(TurSNSiteFieldExtRepository.class);
                 TurSNSiteRepository siteRepository = mock(TurSNSiteRepository.class);
                 TurSNFieldProcess fieldProcess = mock(TurSNFieldProcess.class);
+                TurSNSiteSearchConfigRegistry configRegistry = mock(TurSNSiteSearchConfigRegistry.class);
+                TurSNSearchCache searchCache = mock(TurSNSearchCache.class);
                 TurSNSiteFacetedFieldAPI api = new TurSNSiteFacetedFieldAPI(fieldExtRepository, siteRepository,
-                                fieldProcess);
+                                fieldProcess, configRegistry, searchCache);
 
                 TurSNSite site = new TurSNSite();
                 TurSNSiteFieldExt idField = new TurSNSiteFieldExt();
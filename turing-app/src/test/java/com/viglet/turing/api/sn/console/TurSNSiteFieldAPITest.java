@@ -39,6 +39,7 @@ import com.viglet.turing.persistence.model.sn.TurSNSite;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteField;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldRepository;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
 
 /**
  * Unit tests for TurSNSiteFieldAPI.
@@ -47,13 +48,15 @@ import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldRepositor
  * @since 2026.1.10
  */
 class TurSNSiteFieldAPITest {
+    private final TurSNSchemaRegistry schemaRegistry = mock(TurSNSchemaRegistry.class);
 
     @Test
     void testFieldListReturnsEmptyWhenSiteMissing() {
         TurSNSiteRepository siteRepository = mock(TurSNSiteRepository.class);
         TurSNSiteFieldRepository fieldRepository = mock(TurSNSiteFieldRepository.class);
         TurSNSiteFieldMapper fieldMapper = Mappers.getMapper(TurSNSiteFieldMapper.class);
-        TurSNSiteFieldAPI api = new TurSNSiteFieldAPI(siteRepository, fieldRepository, fieldMapper);
+        TurSNSiteFieldAPI api = new TurSNSiteFieldAPI(siteRepository, fieldRepository, fieldMapper,
+                schemaRegistry);
 
         when(siteRepository.findById("site")).thenReturn(Optional.empty());
 
@@ -67,7 +70,8 @@ class TurSNSiteFieldAPITest {
         TurSNSiteRepository siteRepository = mock(TurSNSiteRepository.class);
         TurSNSiteFieldRepository fieldRepository = mock(TurSNSiteFieldRepository.class);
         TurSNSiteFieldMapper fieldMapper = Mappers.getMapper(TurSNSiteFieldMapper.class);
-        TurSNSiteFieldAPI api = new TurSNSiteFieldAPI(siteRepository, fieldRepository, fieldMapper);
+        TurSNSiteFieldAPI api = new TurSNSiteFieldAPI(siteRepository, fieldRepository, fieldMapper,
+                schemaRegistry);
         TurSNSiteField field = new TurSNSiteField();
         field.setName("title");
 
@@ -83,7 +87,8 @@ class TurSNSiteFieldAPITest {
         TurSNSiteRepository siteRepository = mock(TurSNSiteRepository.class);
         TurSNSiteFieldRepository fieldRepository = mock(TurSNSiteFieldRepository.class);
         TurSNSiteFieldMapper fieldMapper = Mappers.getMapper(TurSNSiteFieldMapper.class);
-        TurSNSiteFieldAPI api = new TurSNSiteFieldAPI(siteRepository, fieldRepository, fieldMapper);
+        TurSNSiteFieldAPI api = new TurSNSiteFieldAPI(siteRepository, fieldRepository, fieldMapper,
+                schemaRegistry);
         TurSNSiteField existing = new TurSNSiteField();
         TurSNSiteFieldDto payload = new TurSNSiteFieldDto();
         payload.setName("title");
@@ -96,6 +101,7 @@ class TurSNSiteFieldAPITest {
 
         assertThat(result.getName()).isEqualTo("title");
         verify(fieldRepository).save(existing);
+        verify(schemaRegistry).invalidate("site");
     }
 
     @Test
@@ -103,12 +109,14 @@ class TurSNSiteFieldAPITest {
         TurSNSiteRepository siteRepository = mock(TurSNSiteRepository.class);
         TurSNSiteFieldRepository fieldRepository = mock(TurSNSiteFieldRepository.class);
         TurSNSiteFieldMapper fieldMapper = Mappers.getMapper(TurSNSiteFieldMapper.class);
-        TurSNSiteFieldAPI api = new TurSNSiteFieldAPI(siteRepository, fieldRepository, fieldMapper);
+        TurSNSiteFieldAPI api = new TurSNSiteFieldAPI(siteRepository, fieldRepository, fieldMapper,
+                schemaRegistry);
 
         boolean result = api.turSNSiteFieldDelete("site", "field");
 
         assertThat(result).isTrue();
         verify(fieldRepository).delete("field");
+        verify(schemaRegistry).invalidate("site");
     }
 
     @Test
@@ -116,7 +124,8 @@ class TurSNSiteFieldAPITest {
         TurSNSiteRepository siteRepository = mock(TurSNSiteRepository.class);
         TurSNSiteFieldRepository fieldRepository = mock(TurSNSiteFieldRepository.class);
         TurSNSiteFieldMapper fieldMapper = Mappers.getMapper(TurSNSiteFieldMapper.class);
-        TurSNSiteFieldAPI api = new TurSNSiteFieldAPI(siteRepository, fieldRepository, fieldMapper);
+        TurSNSiteFieldAPI api = new TurSNSiteFieldAPI(siteRepository, fieldRepository, fieldMapper,
+                schemaRegistry);
         TurSNSite site = new TurSNSite();
         TurSNSiteFieldDto field = new TurSNSiteFieldDto();
         field.setName("title");
@@ -127,5 +136,6 @@ class TurSNSiteFieldAPITest {
 
         assertThat(result.getName()).isEqualTo("title");
         verify(fieldRepository).save(argThat(saved -> saved.getTurSNSite() == site));
+        verify(schemaRegistry).invalidate(site);
     }
 }
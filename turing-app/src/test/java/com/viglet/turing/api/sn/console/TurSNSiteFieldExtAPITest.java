@@ -61,6 +61,8 @@ import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtFacetR
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldRepository;
 import com.viglet.turing.sn.TurSNFieldType;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.sn.search.TurSNSearchCache;
 import com.viglet.turing.sn.template.TurSNTemplate;
 import com.viglet.turing.solr.TurSolrFieldAction;
 import com.viglet.turing.solr.TurSolrUtils;
@@ -154,7 +156,8 @@ class TurSNSiteFieldExtAPITest {
                         TurSEInstanceRepository instanceRepository,
                         TurSNTemplate template) {
                 return new TurSNSiteFieldExtAPI(siteRepository, fieldExtRepository, facetRepository, fieldRepository,
-                                instanceRepository, template, createFieldExtMapper());
+                                instanceRepository, template, createFieldExtMapper(),
+                                mock(TurSNSchemaRegistry.class), mock(TurSNSearchCache.class));
         }
 
         private static Object invokePrivate(Object target, String methodName, Class<?>[] parameterTypes,
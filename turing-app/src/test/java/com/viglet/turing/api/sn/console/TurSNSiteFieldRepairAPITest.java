@@ -38,6 +38,7 @@ import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
 import com.viglet.turing.persistence.repository.se.TurSEInstanceRepository;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
 import com.viglet.turing.solr.TurSolrFieldAction;
 import com.viglet.turing.solr.TurSolrUtils;
 
@@ -55,7 +56,7 @@ class TurSNSiteFieldRepairAPITest {
         TurSNSiteFieldExtRepository fieldExtRepository = mock(TurSNSiteFieldExtRepository.class);
         TurSEInstanceRepository instanceRepository = mock(TurSEInstanceRepository.class);
         TurSNSiteFieldRepairAPI api = new TurSNSiteFieldRepairAPI(siteRepository, fieldExtRepository,
-                instanceRepository);
+                instanceRepository, mock(TurSNSchemaRegistry.class));
 
         TurSNFieldRepairPayload payload = new TurSNFieldRepairPayload();
         payload.setId("field");
@@ -76,7 +77,7 @@ class TurSNSiteFieldRepairAPITest {
         TurSNSiteFieldExtRepository fieldExtRepository = mock(TurSNSiteFieldExtRepository.class);
         TurSEInstanceRepository instanceRepository = mock(TurSEInstanceRepository.class);
         TurSNSiteFieldRepairAPI api = new TurSNSiteFieldRepairAPI(siteRepository, fieldExtRepository,
-                instanceRepository);
+                instanceRepository, mock(TurSNSchemaRegistry.class));
 
         TurSEInstance instance = new TurSEInstance();
         instance.setId("se");
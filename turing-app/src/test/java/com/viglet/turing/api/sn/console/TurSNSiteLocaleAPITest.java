@@ -35,6 +35,7 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.viglet.turing.persistence.dto.sn.locale.TurSNSiteLocaleDto;
 import com.viglet.turing.persistence.mapper.sn.locale.TurSNSiteLocaleMapper;
@@ -42,6 +43,8 @@ import com.viglet.turing.persistence.model.sn.TurSNSite;
 import com.viglet.turing.persistence.model.sn.locale.TurSNSiteLocale;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
+import com.viglet.turing.sn.checksum.TurSNIndexChecksumService;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
 import com.viglet.turing.sn.template.TurSNTemplate;
 
 /**
@@ -58,7 +61,9 @@ class TurSNSiteLocaleAPITest {
         TurSNSiteLocaleRepository localeRepository = mock(TurSNSiteLocaleRepository.class);
         TurSNTemplate template = mock(TurSNTemplate.class);
         TurSNSiteLocaleMapper localeMapper = Mappers.getMapper(TurSNSiteLocaleMapper.class);
-        TurSNSiteLocaleAPI api = new TurSNSiteLocaleAPI(siteRepository, localeRepository, template, localeMapper);
+        TurSNSiteLocaleAPI api = new TurSNSiteLocaleAPI(siteRepository, localeRepository, template, localeMapper,
+                mock(TurSNIndexChecksumService.class), mock(TurSNSchemaRegistry.class),
+                mock(ApplicationEventPublisher.class));
 
         when(siteRepository.findById("site")).thenReturn(Optional.empty());
 
@@ -73,7 +78,9 @@ class TurSNSiteLocaleAPITest {
         TurSNSiteLocaleRepository localeRepository = mock(TurSNSiteLocaleRepository.class);
         TurSNTemplate template = mock(TurSNTemplate.class);
         TurSNSiteLocaleMapper localeMapper = Mappers.getMapper(TurSNSiteLocaleMapper.class);
-        TurSNSiteLocaleAPI api = new TurSNSiteLocaleAPI(siteRepository, localeRepository, template, localeMapper);
+        TurSNSiteLocaleAPI api = new TurSNSiteLocaleAPI(siteRepository, localeRepository, template, localeMapper,
+                mock(TurSNIndexChecksumService.class), mock(TurSNSchemaRegistry.class),
+                mock(ApplicationEventPublisher.class));
         TurSNSite site = new TurSNSite();
         TurSNSiteLocaleDto locale = new TurSNSiteLocaleDto();
 
@@ -93,7 +100,9 @@ class TurSNSiteLocaleAPITest {
         TurSNSiteLocaleRepository localeRepository = mock(TurSNSiteLocaleRepository.class);
         TurSNTemplate template = mock(TurSNTemplate.class);
         TurSNSiteLocaleMapper localeMapper = Mappers.getMapper(TurSNSiteLocaleMapper.class);
-        TurSNSiteLocaleAPI api = new TurSNSiteLocaleAPI(siteRepository, localeRepository, template, localeMapper);
+        TurSNSiteLocaleAPI api = new TurSNSiteLocaleAPI(siteRepository, localeRepository, template, localeMapper,
+                mock(TurSNIndexChecksumService.class), mock(TurSNSchemaRegistry.class),
+                mock(ApplicationEventPublisher.class));
 
         when(siteRepository.findById("site")).thenReturn(Optional.empty());
 
@@ -108,7 +117,9 @@ class TurSNSiteLocaleAPITest {
         TurSNSiteLocaleRepository localeRepository = mock(TurSNSiteLocaleRepository.class);
         TurSNTemplate template = mock(TurSNTemplate.class);
         TurSNSiteLocaleMapper localeMapper = Mappers.getMapper(TurSNSiteLocaleMapper.class);
-        TurSNSiteLocaleAPI api = new TurSNSiteLocaleAPI(siteRepository, localeRepository, template, localeMapper);
+        TurSNSiteLocaleAPI api = new TurSNSiteLocaleAPI(siteRepository, localeRepository, template, localeMapper,
+                mock(TurSNIndexChecksumService.class), mock(TurSNSchemaRegistry.class),
+                mock(ApplicationEventPublisher.class));
         TurSNSite site = new TurSNSite();
 
         when(siteRepository.findById("site")).thenReturn(Optional.of(site));
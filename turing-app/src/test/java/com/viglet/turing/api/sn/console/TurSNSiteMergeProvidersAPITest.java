@@ -25,6 +25,7 @@ import com.viglet.turing.persistence.model.sn.merge.TurSNSiteMergeProvidersField
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.merge.TurSNSiteMergeProvidersFieldRepository;
 import com.viglet.turing.persistence.repository.sn.merge.TurSNSiteMergeProvidersRepository;
+import com.viglet.turing.sn.merge.TurSNMergeRelationIndex;
 
 @ExtendWith(MockitoExtension.class)
 class TurSNSiteMergeProvidersAPITest {
@@ -35,6 +36,8 @@ class TurSNSiteMergeProvidersAPITest {
     private TurSNSiteMergeProvidersRepository turSNSiteMergeRepository;
     @Mock
     private TurSNSiteMergeProvidersFieldRepository turSNSiteMergeFieldRepository;
+    @Mock
+    private TurSNMergeRelationIndex turSNMergeRelationIndex;
 
     private TurSNSiteMergeProvidersMapper turSNSiteMergeProvidersMapper;
 
@@ -44,7 +47,7 @@ class TurSNSiteMergeProvidersAPITest {
     void setUp() {
         turSNSiteMergeProvidersMapper = Mappers.getMapper(TurSNSiteMergeProvidersMapper.class);
         api = new TurSNSiteMergeProvidersAPI(turSNSiteRepository, turSNSiteMergeRepository,
-                turSNSiteMergeFieldRepository, turSNSiteMergeProvidersMapper);
+                turSNSiteMergeFieldRepository, turSNSiteMergeProvidersMapper, turSNMergeRelationIndex);
     }
 
     @Test
@@ -147,6 +150,7 @@ class TurSNSiteMergeProvidersAPITest {
 
         assertThat(deleted).isTrue();
         verify(turSNSiteMergeRepository).deleteById("merge-1");
+        verify(turSNMergeRelationIndex).invalidate("ignored");
     }
 
     @Test
@@ -42,6 +42,7 @@ import com.viglet.turing.persistence.model.sn.merge.TurSNSiteMergeProvidersField
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.merge.TurSNSiteMergeProvidersFieldRepository;
 import com.viglet.turing.persistence.repository.sn.merge.TurSNSiteMergeProvidersRepository;
+import com.viglet.turing.sn.merge.TurSNMergeRelationIndex;
 
 /**
  * Unit tests for TurSNSiteMergeProvidersAPI.
@@ -58,7 +59,7 @@ class TurSNSiteMergeProvidersAPIUnitTest {
         TurSNSiteMergeProvidersFieldRepository fieldRepository = mock(TurSNSiteMergeProvidersFieldRepository.class);
         TurSNSiteMergeProvidersMapper mergeMapper = Mappers.getMapper(TurSNSiteMergeProvidersMapper.class);
         TurSNSiteMergeProvidersAPI api = new TurSNSiteMergeProvidersAPI(siteRepository, mergeRepository,
-                fieldRepository, mergeMapper);
+                fieldRepository, mergeMapper, mock(TurSNMergeRelationIndex.class));
         TurSNSite site = new TurSNSite();
         TurSNSiteMergeProviders merge = new TurSNSiteMergeProviders();
 
@@ -77,7 +78,7 @@ class TurSNSiteMergeProvidersAPIUnitTest {
         TurSNSiteMergeProvidersFieldRepository fieldRepository = mock(TurSNSiteMergeProvidersFieldRepository.class);
         TurSNSiteMergeProvidersMapper mergeMapper = Mappers.getMapper(TurSNSiteMergeProvidersMapper.class);
         TurSNSiteMergeProvidersAPI api = new TurSNSiteMergeProvidersAPI(siteRepository, mergeRepository,
-                fieldRepository, mergeMapper);
+                fieldRepository, mergeMapper, mock(TurSNMergeRelationIndex.class));
         TurSNSiteMergeProviders merge = new TurSNSiteMergeProviders();
         TurSNSiteMergeProvidersField field = new TurSNSiteMergeProvidersField();
 
@@ -96,7 +97,7 @@ class TurSNSiteMergeProvidersAPIUnitTest {
         TurSNSiteMergeProvidersFieldRepository fieldRepository = mock(TurSNSiteMergeProvidersFieldRepository.class);
         TurSNSiteMergeProvidersMapper mergeMapper = Mappers.getMapper(TurSNSiteMergeProvidersMapper.class);
         TurSNSiteMergeProvidersAPI api = new TurSNSiteMergeProvidersAPI(siteRepository, mergeRepository,
-                fieldRepository, mergeMapper);
+                fieldRepository, mergeMapper, mock(TurSNMergeRelationIndex.class));
         TurSNSiteMergeProviders existing = new TurSNSiteMergeProviders();
         existing.setOverwrittenFields(Collections.emptySet());
         TurSNSiteMergeProvidersDto payload = new TurSNSiteMergeProvidersDto();
@@ -116,7 +117,8 @@ class TurSNSiteMergeProvidersAPIUnitTest {
         TurSNSiteMergeProvidersRepository mergeRepository = mock(TurSNSiteMergeProvidersRepository.class);
         TurSNSiteMergeProvidersMapper mergeMapper = Mappers.getMapper(TurSNSiteMergeProvidersMapper.class);
         TurSNSiteMergeProvidersAPI api = new TurSNSiteMergeProvidersAPI(mock(TurSNSiteRepository.class),
-                mergeRepository, mock(TurSNSiteMergeProvidersFieldRepository.class), mergeMapper);
+                mergeRepository, mock(TurSNSiteMergeProvidersFieldRepository.class), mergeMapper,
+                mock(TurSNMergeRelationIndex.class));
 
         boolean result = api.turSNSiteMergeDelete("id", "site");
 
@@ -130,7 +132,7 @@ class TurSNSiteMergeProvidersAPIUnitTest {
         TurSNSiteMergeProvidersMapper mergeMapper = Mappers.getMapper(TurSNSiteMergeProvidersMapper.class);
         TurSNSiteMergeProvidersAPI api = new TurSNSiteMergeProvidersAPI(siteRepository,
                 mock(TurSNSiteMergeProvidersRepository.class), mock(TurSNSiteMergeProvidersFieldRepository.class),
-                mergeMapper);
+                mergeMapper, mock(TurSNMergeRelationIndex.class));
         TurSNSite site = new TurSNSite();
 
         when(siteRepository.findById("site")).thenReturn(Optional.of(site));
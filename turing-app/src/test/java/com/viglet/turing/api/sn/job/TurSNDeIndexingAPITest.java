@@ -3,10 +3,13 @@ package com.viglet.turing.api.sn.job;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,7 +21,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viglet.turing.api.sn.bean.TurSNDeIndexRequest;
 import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.sn.deindex.TurSNBulkDeIndexService;
 
 @ExtendWith(MockitoExtension.class)
 class TurSNDeIndexingAPITest {
@@ -28,6 +33,9 @@ class TurSNDeIndexingAPITest {
     @Mock
     private TurSNImportAPI turSNImportAPI;
 
+    @Mock
+    private TurSNBulkDeIndexService turSNBulkDeIndexService;
+
     @InjectMocks
     private TurSNDeIndexingAPI api;
 
@@ -50,4 +58,25 @@ class TurSNDeIndexingAPITest {
 
         verify(turSNImportAPI, times(1)).send(any(TurSNJobItems.class));
     }
+
+    @Test
+    void testBulkDeIndexOfUnknownSite() throws Exception {
+        when(turSNBulkDeIndexService.deIndex(any(TurSNDeIndexRequest.class))).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/sn/deindex/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"siteName\":\"missing\",\"ids\":[\"1\"]}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testBulkDeIndexWithInvalidCondition() throws Exception {
+        when(turSNBulkDeIndexService.deIndex(any(TurSNDeIndexRequest.class)))
+                .thenThrow(new IllegalArgumentException("Invalid field name"));
+
+        mockMvc.perform(post("/api/sn/deindex/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"siteName\":\"site\",\"conditions\":[{\"field\":\"a b\"}]}"))
+                .andExpect(status().isBadRequest());
+    }
 }
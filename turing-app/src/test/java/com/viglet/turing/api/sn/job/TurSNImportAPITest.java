@@ -1,46 +1,59 @@
 package com.viglet.turing.api.sn.job;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.never;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
-import org.springframework.jms.core.JmsMessagingTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viglet.turing.api.sn.queue.TurSNIndexingQueueSender;
 import com.viglet.turing.client.sn.job.TurSNJobAction;
 import com.viglet.turing.client.sn.job.TurSNJobItem;
 import com.viglet.turing.client.sn.job.TurSNJobItems;
 import com.viglet.turing.commons.sn.field.TurSNFieldName;
-import com.viglet.turing.genai.TurGenAi;
 import com.viglet.turing.persistence.model.sn.TurSNSite;
-import com.viglet.turing.persistence.model.sn.genai.TurSNSiteGenAi;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
+import com.viglet.turing.sn.extract.TurSNFileExtractionStatus;
+import com.viglet.turing.sn.extract.TurSNFileTextExtractor;
 
 @ExtendWith(MockitoExtension.class)
 class TurSNImportAPITest {
@@ -48,13 +61,13 @@ class TurSNImportAPITest {
     private MockMvc mockMvc;
 
     @Mock
-    private JmsMessagingTemplate jmsMessagingTemplate;
+    private TurSNIndexingQueueSender turSNIndexingQueueSender;
 
     @Mock
     private TurSNSiteRepository turSNSiteRepository;
 
     @Mock
-    private TurGenAi turGenAi;
+    private TurSNFileTextExtractor turSNFileTextExtractor;
 
     @InjectMocks
     private TurSNImportAPI api;
@@ -79,12 +92,7 @@ class TurSNImportAPITest {
         item.setAttributes(attributes);
         jobItems.add(item);
 
-        TurSNSite site = new TurSNSite();
-        TurSNSiteGenAi genAi = new TurSNSiteGenAi();
-        genAi.setEnabled(true);
-        site.setTurSNSiteGenAi(genAi);
-
-        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(new TurSNSite()));
 
         mockMvc.perform(post("/api/sn/import")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -92,8 +100,32 @@ class TurSNImportAPITest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("true"));
 
-        verify(turGenAi, times(1)).addDocuments(any(TurSNJobItems.class));
-        verify(jmsMessagingTemplate, times(1)).convertAndSend(anyString(), any(TurSNJobItems.class));
+        verify(turSNIndexingQueueSender, times(1)).send(any(TurSNJobItems.class));
+    }
+
+    @Test
+    void testTurSNImportBroker_ForceIgnoresChecksums() throws Exception {
+        TurSNJobItems jobItems = new TurSNJobItems();
+        TurSNJobItem item = new TurSNJobItem();
+        item.setTurSNJobAction(TurSNJobAction.CREATE);
+        item.setSiteNames(Collections.singletonList("site1"));
+        item.setLocale(java.util.Locale.US);
+        item.setChecksum("abc");
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(TurSNFieldName.ID, "1");
+        item.setAttributes(attributes);
+        jobItems.add(item);
+
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(new TurSNSite()));
+
+        mockMvc.perform(post("/api/sn/import").param("force", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(jobItems)))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<TurSNJobItems> sent = ArgumentCaptor.forClass(TurSNJobItems.class);
+        verify(turSNIndexingQueueSender).send(sent.capture());
+        assertNull(sent.getValue().getTuringDocuments().getFirst().getChecksum());
     }
 
     @Test
@@ -117,15 +149,55 @@ class TurSNImportAPITest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("true"));
 
-        verify(turGenAi, never()).addDocuments(any(TurSNJobItems.class));
-        verify(jmsMessagingTemplate, times(1)).convertAndSend(anyString(), any(TurSNJobItems.class));
+        verify(turSNIndexingQueueSender, times(1)).send(any(TurSNJobItems.class));
     }
 
     @Test
     void testTurSNImportZipFileBroker() throws Exception {
-        // Create a temporary zip file
-        File tempZip = File.createTempFile("test", ".zip");
-        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(tempZip))) {
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.empty());
+        extractedText("hello");
+
+        mockMvc.perform(multipart("/api/sn/import/zip").file(zipFile()))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+
+        ArgumentCaptor<TurSNJobItems> sent = ArgumentCaptor.forClass(TurSNJobItems.class);
+        verify(turSNIndexingQueueSender, times(1)).send(sent.capture());
+        assertEquals("hello", sent.getValue().getTuringDocuments().getFirst().getAttributes().get("text_file"));
+    }
+
+    @Test
+    void testTurSNImportZipFileStream() throws Exception {
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.empty());
+        extractedText("hello");
+
+        MvcResult result = mockMvc.perform(multipart("/api/sn/import/zip/stream").file(zipFile()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String[] lines = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().split("\n");
+
+        assertEquals(3, lines.length);
+        JsonNode last = objectMapper.readTree(lines[2]);
+        assertEquals(1, last.get("files").asInt());
+        assertEquals(1, last.get("extracted").asInt());
+        assertTrue(last.get("done").asBoolean());
+        assertTrue(last.get("sent").asBoolean());
+    }
+
+    private void extractedText(String text) {
+        when(turSNFileTextExtractor.extract(anyCollection(), any())).thenAnswer(invocation -> {
+            Collection<File> files = invocation.getArgument(0);
+            BiConsumer<File, TurSNFileExtractionStatus> listener = invocation.getArgument(1);
+            files.forEach(file -> listener.accept(file, TurSNFileExtractionStatus.EXTRACTED));
+            return files.stream().collect(Collectors.toMap(Function.identity(), file -> text));
+        });
+    }
+
+    private MockMultipartFile zipFile() throws IOException {
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(zip)) {
             zos.putNextEntry(new ZipEntry("export.json"));
 
             TurSNJobItems jobItems = new TurSNJobItems();
@@ -139,8 +211,6 @@ class TurSNImportAPITest {
             item.setAttributes(attributes);
             jobItems.add(item);
 
-            when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.empty());
-
             zos.write(objectMapper.writeValueAsBytes(jobItems));
             zos.closeEntry();
 
@@ -148,19 +218,6 @@ class TurSNImportAPITest {
             zos.write("hello".getBytes());
             zos.closeEntry();
         }
-
-        MockMultipartFile file = new MockMultipartFile(
-                "file",
-                "test.zip",
-                "application/zip",
-                java.nio.file.Files.readAllBytes(tempZip.toPath()));
-
-        mockMvc.perform(multipart("/api/sn/import/zip").file(file))
-                .andExpect(status().isOk())
-                .andExpect(content().string("true"));
-
-        verify(jmsMessagingTemplate, times(1)).convertAndSend(anyString(), any(TurSNJobItems.class));
-
-        tempZip.delete();
+        return new MockMultipartFile("file", "test.zip", "application/zip", zip.toByteArray());
     }
 }
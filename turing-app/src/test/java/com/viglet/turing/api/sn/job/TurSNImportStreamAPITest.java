@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
+
+/**
+ * Unit tests for {@link TurSNImportStreamAPI}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSNImportStreamAPITest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TurSNImportAPI turSNImportAPI;
+
+    @Mock
+    private TurSNSiteRepository turSNSiteRepository;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new TurSNImportStreamAPI(turSNImportAPI, turSNSiteRepository, 2, 200))
+                .build();
+    }
+
+    @Test
+    void testStreamIsSlicedIntoBoundedMessages() throws Exception {
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(new TurSNSite()));
+        String body = IntStream.range(0, 5).mapToObj(TurSNImportStreamAPITest::line)
+                .collect(Collectors.joining("\n"));
+
+        mockMvc.perform(post("/api/sn/import/stream")
+                .contentType(TurSNImportStreamAPI.NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(5))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andExpect(jsonPath("$.messages").value(3));
+
+        ArgumentCaptor<TurSNJobItems> messages = ArgumentCaptor.forClass(TurSNJobItems.class);
+        verify(turSNImportAPI, times(3)).send(messages.capture());
+        assertEquals(List.of(2, 2, 1), messages.getAllValues().stream()
+                .map(jobItems -> jobItems.getTuringDocuments().size()).toList());
+        verify(turSNSiteRepository, times(1)).findByName("site1");
+    }
+
+    @Test
+    void testInvalidLinesAndUnknownSitesAreRejected() throws Exception {
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(new TurSNSite()));
+        when(turSNSiteRepository.findByName("unknown")).thenReturn(Optional.empty());
+        String body = String.join("\n", line(1), "{not json", "",
+                line(2).replace("site1", "unknown"), "{\"siteNames\":[\"site1\"]}");
+
+        mockMvc.perform(post("/api/sn/import/stream")
+                .contentType(TurSNImportStreamAPI.NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").isNotEmpty())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.messages").value(1));
+    }
+
+    @Test
+    void testTooLongLinesAreRejected() throws Exception {
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(new TurSNSite()));
+        String body = String.join("\r\n", line(1), line(2).replace("Title 2", "x".repeat(20_000)), line(3));
+
+        mockMvc.perform(post("/api/sn/import/stream")
+                .contentType(TurSNImportStreamAPI.NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(1));
+
+        ArgumentCaptor<TurSNJobItems> messages = ArgumentCaptor.forClass(TurSNJobItems.class);
+        verify(turSNImportAPI, times(1)).send(messages.capture());
+        assertEquals(List.of("1", "3"), messages.getValue().getTuringDocuments().stream()
+                .map(jobItem -> jobItem.getAttributes().get("id")).toList());
+    }
+
+    @Test
+    void testGzipEncodedStream() throws Exception {
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(new TurSNSite()));
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write((line(1) + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        mockMvc.perform(post("/api/sn/import/stream")
+                .contentType(TurSNImportStreamAPI.NDJSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(compressed.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1));
+
+        verify(turSNImportAPI, times(1)).send(any());
+    }
+
+    @Test
+    void testEmptyStreamSendsNothing() throws Exception {
+        mockMvc.perform(post("/api/sn/import/stream")
+                .contentType(TurSNImportStreamAPI.NDJSON)
+                .content(""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(0))
+                .andExpect(jsonPath("$.messages").value(0));
+
+        verify(turSNImportAPI, never()).send(any());
+    }
+
+    private static String line(int id) {
+        return "{\"turSNJobAction\":\"CREATE\",\"siteNames\":[\"site1\"],\"locale\":\"en_US\","
+                + "\"attributes\":{\"id\":\"" + id + "\",\"title\":\"Title " + id + "\"}}";
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.viglet.turing.sn.TurSNConstants;
+import com.viglet.turing.sn.TurSNQueue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link TurSNIndexingAutoscaler}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSNIndexingAutoscalerTest {
+
+    @Mock
+    private TurSNQueueControlService turSNQueueControlService;
+
+    @Mock
+    private TurSNQueue turSNQueue;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TurSNIndexingAutoscaler autoscaler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        autoscaler = autoscaler(true);
+    }
+
+    @Test
+    void testTarget() {
+        // Backlog larger than 10 messages per consumer and healthy Solr: one more consumer.
+        assertThat(autoscaler.target(2, 21, 100)).isEqualTo(3);
+        assertThat(autoscaler.target(4, 1_000, 100)).isEqualTo(4);
+        // Slow Solr: consumers are halved, even with backlog.
+        assertThat(autoscaler.target(4, 1_000, 1_500)).isEqualTo(2);
+        assertThat(autoscaler.target(1, 1_000, 1_500)).isEqualTo(1);
+        // Between half and the maximum latency the consumers are kept.
+        assertThat(autoscaler.target(2, 1_000, 700)).isEqualTo(2);
+        // Empty queue: one less consumer.
+        assertThat(autoscaler.target(3, 0, 0)).isEqualTo(2);
+        assertThat(autoscaler.target(2, 5, 0)).isEqualTo(2);
+    }
+
+    @Test
+    void testAdjustUsesSolrLatencyOfTheInterval() {
+        TurSNIndexingMetrics metrics = new TurSNIndexingMetrics(meterRegistry, 0);
+        when(turSNQueueControlService.getConcurrency(TurSNConstants.INDEXING_QUEUE_LISTENER))
+                .thenReturn(Optional.of(2));
+        when(turSNQueueControlService.setConcurrency(anyString(), anyInt())).thenReturn(true);
+        when(turSNQueue.getQueueSize()).thenReturn(500);
+        meterRegistry.timer(TurSNIndexingMetrics.STAGE, TurSNIndexingMetrics.STAGE_TAG, "solrAdd",
+                TurSNIndexingMetrics.SITE_TAG, "site", TurSNIndexingMetrics.LOCALE_TAG, "en_US")
+                .record(3, TimeUnit.SECONDS);
+
+        autoscaler.adjust();
+
+        verify(turSNQueueControlService).setConcurrency(TurSNConstants.INDEXING_QUEUE_LISTENER, 1);
+
+        metrics.record(TurSNIndexingStage.SOLR_ADD, "site", Locale.US, 1, () -> {
+        });
+        autoscaler.adjust();
+
+        verify(turSNQueueControlService).setConcurrency(TurSNConstants.INDEXING_QUEUE_LISTENER, 3);
+        assertThat(meterRegistry.get(TurSNIndexingAutoscaler.LATENCY).gauge().value()).isLessThan(1_000);
+    }
+
+    @Test
+    void testSuspendedOrDisabledListenerIsNotChanged() {
+        when(turSNQueueControlService.getConcurrency(TurSNConstants.INDEXING_QUEUE_LISTENER))
+                .thenReturn(Optional.empty());
+        autoscaler.adjust();
+
+        autoscaler(false).adjust();
+
+        verify(turSNQueueControlService, never()).setConcurrency(anyString(), anyInt());
+    }
+
+    private TurSNIndexingAutoscaler autoscaler(boolean enabled) {
+        return new TurSNIndexingAutoscaler(turSNQueueControlService, turSNQueue, meterRegistry, enabled, 1, 4,
+                10, 1_000);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link TurSNIndexingConnections}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSNIndexingConnectionsTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = (DataSource) new TurSNIndexingConnections().postProcessAfterInitialization(target,
+                "dataSource");
+    }
+
+    @Test
+    void testDataSourceIsWrappedOnce() {
+        assertThat(dataSource).isNotSameAs(target);
+        assertThat(new TurSNIndexingConnections().postProcessAfterInitialization(dataSource, "dataSource"))
+                .isSameAs(dataSource);
+        assertThat(new TurSNIndexingConnections().postProcessAfterInitialization("bean", "bean"))
+                .isEqualTo("bean");
+    }
+
+    @Test
+    void testConnectionsOutsideMessageAreNotTracked() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+
+        assertThat(dataSource.getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    void testConnectionsOfMessageAreHeldUntilClosed() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        TurSNIndexingTransactions transactions = new TurSNIndexingTransactions(
+                mock(PlatformTransactionManager.class), meterRegistry);
+        TurSNIndexingMetrics metrics = new TurSNIndexingMetrics(meterRegistry, 0);
+
+        try (TurSNIndexingContext context = TurSNIndexingContext.start(metrics.start(List.of()),
+                transactions.start())) {
+            hold(5);
+            // Lanes run on other threads; their connections belong to the same message.
+            CompletableFuture.runAsync(() -> context.<String>bind(value -> hold(5)).accept("lane")).get();
+
+            assertThat(context.getMessage().getNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        verify(connection, times(2)).close();
+        assertThat(meterRegistry.get(TurSNIndexingTransactions.CONNECTION_HOLD).timer().count()).isEqualTo(1);
+    }
+
+    private void hold(long millis) {
+        try {
+            Connection borrowed = dataSource.getConnection();
+            Thread.sleep(millis);
+            borrowed.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link TurSNIndexingLanes}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+class TurSNIndexingLanesTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TurSNIndexingLanes lanes;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lanes = new TurSNIndexingLanes(4, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lanes.shutdown();
+    }
+
+    @Test
+    void testRegistersGaugesPerLane() {
+        assertEquals(4, lanes.size());
+        IntStream.range(0, 4).forEach(i -> {
+            assertNotNull(meterRegistry.find(TurSNIndexingLanes.LANE_DEPTH)
+                    .tag(TurSNIndexingLanes.LANE, String.valueOf(i)).gauge());
+            assertNotNull(meterRegistry.find(TurSNIndexingLanes.LANE_LAG)
+                    .tag(TurSNIndexingLanes.LANE, String.valueOf(i)).timeGauge());
+        });
+    }
+
+    @Test
+    void testSameDocumentAlwaysUsesSameLane() {
+        TurSNJobItem create = jobItem(TurSNJobAction.CREATE, "doc-1");
+        TurSNJobItem delete = jobItem(TurSNJobAction.DELETE, "doc-1");
+
+        assertEquals(lanes.laneOf(create), lanes.laneOf(delete));
+    }
+
+    @Test
+    void testDispatchProcessesAllItemsKeepingOrderPerLane() {
+        List<TurSNJobItem> jobItems = new ArrayList<>();
+        IntStream.range(0, 50).forEach(i -> {
+            jobItems.add(jobItem(TurSNJobAction.CREATE, "doc-" + i % 10));
+            jobItems.add(jobItem(TurSNJobAction.DELETE, "doc-" + i % 10));
+        });
+        List<TurSNJobItem> processed = Collections.synchronizedList(new ArrayList<>());
+
+        lanes.dispatch(jobItems, processed::addAll);
+
+        assertEquals(jobItems.size(), processed.size());
+        IntStream.range(0, 4).forEach(lane -> assertEquals(
+                jobItems.stream().filter(item -> lanes.laneOf(item) == lane).toList(),
+                processed.stream().filter(item -> lanes.laneOf(item) == lane).toList()));
+    }
+
+    @Test
+    void testDispatchRethrowsLaneFailure() {
+        List<TurSNJobItem> jobItems = IntStream.range(0, 20)
+                .mapToObj(i -> jobItem(TurSNJobAction.CREATE, "doc-" + i)).toList();
+
+        assertThrows(IllegalStateException.class, () -> lanes.dispatch(jobItems, items -> {
+            throw new IllegalStateException("fail");
+        }));
+    }
+
+    @Test
+    void testPauseHoldsDispatchUntilResume() throws Exception {
+        List<TurSNJobItem> jobItems = IntStream.range(0, 20)
+                .mapToObj(i -> jobItem(TurSNJobAction.CREATE, "doc-" + i)).toList();
+        List<TurSNJobItem> processed = Collections.synchronizedList(new ArrayList<>());
+
+        lanes.pause();
+        CompletableFuture<Void> dispatch = CompletableFuture
+                .runAsync(() -> lanes.dispatch(jobItems, processed::addAll));
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertTrue(processed.isEmpty());
+
+        lanes.resume();
+        dispatch.get(5, TimeUnit.SECONDS);
+        assertEquals(jobItems.size(), processed.size());
+    }
+
+    @Test
+    void testExclusiveItemRunsAfterQueuedItemsAndBeforeLaterOnes() throws Exception {
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch blocked = new CountDownLatch(1);
+        List<TurSNJobItem> jobItems = IntStream.range(0, 20)
+                .mapToObj(i -> jobItem(TurSNJobAction.CREATE, "doc-" + i)).toList();
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> lanes.dispatch(jobItems, items -> {
+            await(blocked);
+            items.forEach(item -> processed.add(item.getId()));
+        }));
+        TimeUnit.MILLISECONDS.sleep(100);
+        CompletableFuture<Void> commit = CompletableFuture.runAsync(() -> lanes.dispatchExclusive(
+                jobItem(TurSNJobAction.COMMIT, null), items -> processed.add("commit")));
+        TimeUnit.MILLISECONDS.sleep(100);
+        CompletableFuture<Void> later = CompletableFuture.runAsync(() -> lanes.dispatch(
+                List.of(jobItem(TurSNJobAction.CREATE, "later")), items -> processed.add("later")));
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertTrue(processed.isEmpty());
+
+        blocked.countDown();
+        CompletableFuture.allOf(first, commit, later).get(5, TimeUnit.SECONDS);
+
+        assertEquals(22, processed.size());
+        assertEquals("commit", processed.get(20));
+        assertEquals("later", processed.get(21));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static TurSNJobItem jobItem(TurSNJobAction action, String id) {
+        TurSNJobItem turSNJobItem = new TurSNJobItem();
+        turSNJobItem.setTurSNJobAction(action);
+        turSNJobItem.setSiteNames(List.of("site"));
+        turSNJobItem.setLocale(Locale.US);
+        turSNJobItem.getAttributes().put("id", id);
+        return turSNJobItem;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link TurSNIndexingMetrics}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+class TurSNIndexingMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TurSNIndexingMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new TurSNIndexingMetrics(meterRegistry, 1);
+    }
+
+    @Test
+    void testStagesAreTaggedBySiteAndLocale() {
+        assertThat(metrics.record(TurSNIndexingStage.SOLR_ADD, "site", Locale.US, 3, () -> "sent"))
+                .isEqualTo("sent");
+        metrics.record(TurSNIndexingStage.SOLR_ADD, "site", Locale.US, 2, () -> {
+        });
+
+        assertThat(timer(TurSNIndexingStage.SOLR_ADD, "site", "en_US").count()).isEqualTo(2);
+        assertThat(meterRegistry.get(TurSNIndexingMetrics.STAGE_ITEMS)
+                .tag(TurSNIndexingMetrics.STAGE_TAG, "solrAdd")
+                .counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void testTraceAddsUpStagesOfOtherThreads() throws Exception {
+        TurSNIndexingTransactions transactions = new TurSNIndexingTransactions(
+                mock(PlatformTransactionManager.class), meterRegistry);
+        try (TurSNIndexingContext context = TurSNIndexingContext.start(metrics.start(List.of(
+                jobItem("site", Locale.US), jobItem("site", Locale.FRANCE))), transactions.start())) {
+            metrics.record(TurSNIndexingStage.MERGE, "site", Locale.US, 1, () -> sleep(5));
+            CompletableFuture.runAsync(() -> context.<String>bind(value -> metrics.record(
+                    TurSNIndexingStage.MERGE, "site", Locale.FRANCE, 1, () -> sleep(5))).accept("lane")).get();
+
+            assertThat(context.getTrace().getNanos(TurSNIndexingStage.MERGE))
+                    .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        metrics.record(TurSNIndexingStage.MERGE, "site", Locale.US, 1, () -> {
+        });
+
+        assertThat(timer(TurSNIndexingStage.RECEIVE, "site", TurSNIndexingMetrics.MIXED).count()).isEqualTo(1);
+        assertThat(timer(TurSNIndexingStage.MERGE, "site", "en_US").count()).isEqualTo(2);
+    }
+
+    private Timer timer(TurSNIndexingStage stage, String site, String locale) {
+        return meterRegistry.get(TurSNIndexingMetrics.STAGE)
+                .tag(TurSNIndexingMetrics.STAGE_TAG, stage.getTag())
+                .tag(TurSNIndexingMetrics.SITE_TAG, site)
+                .tag(TurSNIndexingMetrics.LOCALE_TAG, locale)
+                .timer();
+    }
+
+    private static TurSNJobItem jobItem(String siteName, Locale locale) {
+        return new TurSNJobItem(TurSNJobAction.CREATE, List.of(siteName), locale);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
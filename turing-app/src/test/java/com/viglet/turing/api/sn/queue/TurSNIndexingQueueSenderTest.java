@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.core.JmsMessagingTemplate;
+
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.sn.TurSNConstants;
+
+/**
+ * Unit tests for {@link TurSNIndexingQueueSender}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSNIndexingQueueSenderTest {
+
+    @Mock
+    private JmsMessagingTemplate jmsMessagingTemplate;
+
+    @InjectMocks
+    private TurSNIndexingQueueSender sender;
+
+    @Test
+    void testSplitsItemsBySitesKeepingTheirOrder() {
+        TurSNJobItem first = jobItem("1", "site1");
+        TurSNJobItem other = jobItem("2", "site2", "site1");
+        TurSNJobItem second = jobItem("3", "site1");
+        TurSNJobItem same = jobItem("4", "site1", "site2");
+
+        sender.send(new TurSNJobItems(List.of(first, other, second, same)));
+
+        ArgumentCaptor<TurSNJobItems> messages = ArgumentCaptor.captor();
+        ArgumentCaptor<Map<String, Object>> headers = ArgumentCaptor.captor();
+        verify(jmsMessagingTemplate, times(2)).convertAndSend(eq(TurSNConstants.INDEXING_QUEUE),
+                messages.capture(), headers.capture());
+        assertThat(messages.getAllValues()).extracting(TurSNJobItems::getTuringDocuments)
+                .containsExactly(List.of(first, second), List.of(other, same));
+        assertThat(headers.getAllValues()).extracting(header -> header.get(TurSNIndexingQueueSender.GROUP_ID))
+                .containsExactly("site1", "site1,site2");
+        assertThat(headers.getAllValues()).noneMatch(header -> header.containsKey(TurSNIndexingQueueSender.BULK_DEINDEX));
+    }
+
+    @Test
+    void testOnlyBulkDeIndexMessagesAllowDeleteByQuery() {
+        sender.sendBulkDeIndex(new TurSNJobItems(List.of(jobItem("1", "site1"))));
+
+        ArgumentCaptor<Map<String, Object>> headers = ArgumentCaptor.captor();
+        verify(jmsMessagingTemplate).convertAndSend(eq(TurSNConstants.INDEXING_QUEUE), any(TurSNJobItems.class),
+                headers.capture());
+        assertThat(headers.getValue()).containsEntry(TurSNIndexingQueueSender.BULK_DEINDEX, true)
+                .containsEntry(TurSNIndexingQueueSender.GROUP_ID, "site1");
+    }
+
+    private static TurSNJobItem jobItem(String id, String... siteNames) {
+        TurSNJobItem turSNJobItem = new TurSNJobItem(TurSNJobAction.CREATE, List.of(siteNames), Locale.US);
+        turSNJobItem.getAttributes().put("id", id);
+        return turSNJobItem;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import com.viglet.turing.commons.exception.TurRuntimeException;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link TurSNIndexingTransactions}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSNIndexingTransactionsTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TurSNIndexingTransactions transactions;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transactions = new TurSNIndexingTransactions(transactionManager, meterRegistry);
+    }
+
+    @Test
+    void testExecuteCommitsTransaction() {
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+
+        assertThat(transactions.execute(() -> "saved")).isEqualTo("saved");
+
+        verify(transactionManager).commit(transactionStatus);
+    }
+
+    @Test
+    void testExecuteRollsBackOnError() {
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+
+        assertThatThrownBy(() -> transactions.execute(() -> {
+            throw new TurRuntimeException("failed");
+        })).isInstanceOf(TurRuntimeException.class);
+
+        verify(transactionManager).rollback(transactionStatus);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void testHoldTimeIsRecordedOncePerMessage() {
+        try (TurSNIndexingTransactions.Message message = transactions.start()) {
+            message.addConnectionHold(TimeUnit.MILLISECONDS.toNanos(5));
+            message.addConnectionHold(TimeUnit.MILLISECONDS.toNanos(7));
+            assertThat(message.getNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(12));
+        }
+
+        Timer timer = meterRegistry.get(TurSNIndexingTransactions.CONNECTION_HOLD).timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(12);
+    }
+}
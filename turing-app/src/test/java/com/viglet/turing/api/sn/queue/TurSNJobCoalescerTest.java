@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.api.sn.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.commons.indexing.TurIndexingStatus;
+import com.viglet.turing.logging.TurLoggingUtils;
+
+/**
+ * Unit tests for {@link TurSNJobCoalescer}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+class TurSNJobCoalescerTest {
+
+    private final AtomicLong now = new AtomicLong(1000L);
+    private final TurSNJobCoalescer coalescer = new TurSNJobCoalescer(2000L, 10, now::get);
+
+    @Test
+    void testDisabledKeepsAllItems() {
+        TurSNJobCoalescer disabled = new TurSNJobCoalescer(0L, 10, now::get);
+        List<TurSNJobItem> jobItems = List.of(jobItem(TurSNJobAction.CREATE, "1"),
+                jobItem(TurSNJobAction.CREATE, "1"));
+
+        assertFalse(disabled.isEnabled());
+        assertSame(jobItems, disabled.hold(jobItems));
+        assertEquals(List.of(), disabled.releaseAll());
+    }
+
+    @Test
+    void testKeepsOnlyLatestOperationPerDocumentAcrossMessages() {
+        TurSNJobItem create = jobItem(TurSNJobAction.CREATE, "1");
+        TurSNJobItem other = jobItem(TurSNJobAction.CREATE, "2");
+        TurSNJobItem delete = jobItem(TurSNJobAction.DELETE, "1");
+
+        try (MockedStatic<TurLoggingUtils> logging = Mockito.mockStatic(TurLoggingUtils.class)) {
+            assertEquals(List.of(), coalescer.hold(List.of(create, other)));
+            now.addAndGet(500L);
+            assertEquals(List.of(), coalescer.hold(List.of(delete)));
+
+            logging.verify(() -> TurLoggingUtils.setSuccessStatus(create,
+                    TurIndexingStatus.SUPERSEDED));
+            logging.verify(() -> TurLoggingUtils.setSuccessStatus(delete,
+                    TurIndexingStatus.SUPERSEDED), never());
+        }
+        assertEquals(List.of(other, delete), coalescer.releaseAll());
+    }
+
+    @Test
+    void testItemsAreReleasedWhenTheirWindowIsOver() {
+        TurSNJobItem first = jobItem(TurSNJobAction.CREATE, "1");
+        TurSNJobItem second = jobItem(TurSNJobAction.CREATE, "2");
+        TurSNJobItem firstAgain = jobItem(TurSNJobAction.CREATE, "1");
+
+        coalescer.hold(List.of(first));
+        now.addAndGet(1000L);
+        coalescer.hold(List.of(second));
+        now.addAndGet(500L);
+        try (MockedStatic<TurLoggingUtils> ignored = Mockito.mockStatic(TurLoggingUtils.class)) {
+            coalescer.hold(List.of(firstAgain));
+        }
+
+        assertEquals(List.of(), coalescer.release());
+        now.addAndGet(1500L);
+        // The window of the document starts with its first item, but it waits for the items received before it.
+        assertEquals(List.of(second, firstAgain), coalescer.release());
+        assertEquals(List.of(), coalescer.releaseAll());
+    }
+
+    @Test
+    void testOldestItemsAreReleasedOverMaxItems() {
+        TurSNJobCoalescer small = new TurSNJobCoalescer(2000L, 2, now::get);
+        TurSNJobItem first = jobItem(TurSNJobAction.CREATE, "1");
+        TurSNJobItem second = jobItem(TurSNJobAction.CREATE, "2");
+        TurSNJobItem third = jobItem(TurSNJobAction.CREATE, "3");
+
+        assertEquals(List.of(first), small.hold(List.of(first, second, third)));
+        assertEquals(List.of(second, third), small.releaseAll());
+    }
+
+    @Test
+    void testUpdateDoesNotSupersedePreviousItems() {
+        TurSNJobItem create = jobItem(TurSNJobAction.CREATE, "1");
+        TurSNJobItem firstUpdate = jobItem(TurSNJobAction.UPDATE, "1");
+        TurSNJobItem secondUpdate = jobItem(TurSNJobAction.UPDATE, "1");
+        TurSNJobItem lonelyUpdate = jobItem(TurSNJobAction.UPDATE, "2");
+        TurSNJobItem create2 = jobItem(TurSNJobAction.CREATE, "2");
+
+        coalescer.hold(List.of(create, firstUpdate, secondUpdate, lonelyUpdate, create2));
+        assertEquals(List.of(create, firstUpdate, secondUpdate, create2), coalescer.releaseAll());
+    }
+
+    @Test
+    void testSameIdOnOtherLocaleIsNotCoalesced() {
+        TurSNJobItem english = jobItem(TurSNJobAction.CREATE, "1");
+        TurSNJobItem portuguese = jobItem(TurSNJobAction.CREATE, "1");
+        portuguese.setLocale(Locale.of("pt", "BR"));
+
+        coalescer.hold(List.of(english, portuguese));
+        assertEquals(List.of(english, portuguese), coalescer.releaseAll());
+    }
+
+    @Test
+    void testCommitReleasesHeldItems() {
+        TurSNJobItem create = jobItem(TurSNJobAction.CREATE, "1");
+        TurSNJobItem commit = jobItem(TurSNJobAction.COMMIT, null);
+        TurSNJobItem recreate = jobItem(TurSNJobAction.CREATE, "1");
+
+        assertEquals(List.of(), coalescer.hold(List.of(create)));
+        assertEquals(List.of(create, commit), coalescer.hold(List.of(commit, recreate)));
+        assertEquals(List.of(recreate), coalescer.releaseAll());
+    }
+
+    private static TurSNJobItem jobItem(TurSNJobAction action, String id) {
+        TurSNJobItem turSNJobItem = new TurSNJobItem(action, List.of("site"), Locale.US);
+        if (id != null) {
+            turSNJobItem.getAttributes().put("id", id);
+        }
+        return turSNJobItem;
+    }
+}
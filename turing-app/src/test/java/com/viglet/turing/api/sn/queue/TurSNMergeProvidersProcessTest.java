@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -30,12 +32,16 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
 import com.viglet.turing.commons.sn.field.TurSNFieldName;
 import com.viglet.turing.persistence.model.sn.TurSNSite;
 import com.viglet.turing.persistence.model.sn.merge.TurSNSiteMergeProviders;
 import com.viglet.turing.persistence.model.sn.merge.TurSNSiteMergeProvidersField;
 import com.viglet.turing.persistence.repository.sn.merge.TurSNSiteMergeProvidersRepository;
 import com.viglet.turing.se.result.TurSEResult;
+import com.viglet.turing.sn.merge.TurSNMergeRelationIndex;
+import com.viglet.turing.sn.merge.TurSNMergeRelations;
 import com.viglet.turing.solr.TurSolr;
 import com.viglet.turing.solr.TurSolrInstance;
 import com.viglet.turing.solr.TurSolrInstanceProcess;
@@ -53,6 +59,9 @@ class TurSNMergeProvidersProcessTest {
         @Mock
         private TurSNSiteMergeProvidersRepository turSNSiteMergeProvidersRepository;
 
+        @Mock
+        private TurSNMergeRelationIndex turSNMergeRelationIndex;
+
         @InjectMocks
         private TurSNMergeProvidersProcess process;
 
@@ -97,7 +106,7 @@ class TurSNMergeProvidersProcessTest {
                 attrs.put("relFrom", "value1");
 
                 TurSolrInstance solrInstance = mock(TurSolrInstance.class);
-                when(turSolrInstanceProcess.initSolrInstance(eq("site1"), any(Locale.class)))
+                when(turSolrInstanceProcess.initIngestInstance(eq("site1"), any(Locale.class)))
                                 .thenReturn(Optional.of(solrInstance));
 
                 SolrDocumentList emptyList = new SolrDocumentList();
@@ -129,7 +138,7 @@ class TurSNMergeProvidersProcessTest {
                 attrs.put(TurSNFieldName.ID, "1");
 
                 TurSolrInstance solrInstance = mock(TurSolrInstance.class);
-                when(turSolrInstanceProcess.initSolrInstance(eq("site1"), any(Locale.class)))
+                when(turSolrInstanceProcess.initIngestInstance(eq("site1"), any(Locale.class)))
                                 .thenReturn(Optional.of(solrInstance));
 
                 SolrDocumentList emptyList = new SolrDocumentList();
@@ -165,7 +174,7 @@ class TurSNMergeProvidersProcessTest {
                 attrs.put("title", "queue-title");
 
                 TurSolrInstance solrInstance = mock(TurSolrInstance.class);
-                when(turSolrInstanceProcess.initSolrInstance("site1", Locale.US))
+                when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US))
                                 .thenReturn(Optional.of(solrInstance));
 
                 SolrDocumentList empty1 = new SolrDocumentList();
@@ -193,7 +202,7 @@ class TurSNMergeProvidersProcessTest {
                         List<String> providers = (List<String>) result.get(TurSNFieldName.SOURCE_APPS);
                         assertTrue(providers.contains("providerA"));
                         assertTrue(providers.contains("providerB"));
-                        verify(turSolr, never()).deIndexing(any(), any());
+                        verify(turSolr, never()).deIndexing(any(), anyString());
                 }
         }
 
@@ -223,7 +232,7 @@ class TurSNMergeProvidersProcessTest {
                 attrs.put(TurSNFieldName.ID, "id-200");
 
                 TurSolrInstance solrInstance = mock(TurSolrInstance.class);
-                when(turSolrInstanceProcess.initSolrInstance("site1", Locale.US))
+                when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US))
                                 .thenReturn(Optional.of(solrInstance));
 
                 SolrDocumentList fromResults = new SolrDocumentList();
@@ -274,7 +283,7 @@ class TurSNMergeProvidersProcessTest {
                 attrs.put("relFrom", "value1");
 
                 TurSolrInstance solrInstance = mock(TurSolrInstance.class);
-                when(turSolrInstanceProcess.initSolrInstance("site1", Locale.CANADA_FRENCH))
+                when(turSolrInstanceProcess.initIngestInstance("site1", Locale.CANADA_FRENCH))
                                 .thenReturn(Optional.of(solrInstance));
                 when(turSolr.solrResultAnd(eq(solrInstance), anyMap()))
                                 .thenReturn(new SolrDocumentList(), new SolrDocumentList(), new SolrDocumentList());
@@ -282,6 +291,117 @@ class TurSNMergeProvidersProcessTest {
                 Map<String, Object> result = process.mergeDocuments(site, attrs, null);
 
                 assertEquals(attrs, result);
-                verify(turSolrInstanceProcess, times(3)).initSolrInstance("site1", Locale.CANADA_FRENCH);
+                verify(turSolrInstanceProcess, times(3)).initIngestInstance("site1", Locale.CANADA_FRENCH);
+        }
+
+        @Test
+        void testMergeDocuments_IndexMergesToWithIndexedFrom() {
+                TurSNSite site = new TurSNSite();
+                site.setName("site1");
+                indexedMergeProviders(site);
+                TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+                when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US))
+                                .thenReturn(Optional.of(solrInstance));
+
+                Map<String, Object> fromAttrs = fromAttributes();
+                assertEquals(fromAttrs, process.mergeDocuments(site, fromAttrs, Locale.US));
+                process.indexed(site, Locale.US, List.of(new TurSNJobItem(TurSNJobAction.CREATE,
+                                List.of("site1"), Locale.US, fromAttrs)));
+
+                Map<String, Object> result = process.mergeDocuments(site, toAttributes(), Locale.US);
+
+                assertEquals("to-1", result.get(TurSNFieldName.ID));
+                assertEquals("from value", result.get("field1"));
+                @SuppressWarnings("unchecked")
+                List<String> providers = (List<String>) result.get(TurSNFieldName.SOURCE_APPS);
+                assertTrue(providers.containsAll(List.of("providerA", "providerB")));
+                verify(turSolr).deIndexing(solrInstance, "from-1");
+                verify(turSolr, never()).solrResultAnd(any(), anyMap());
+        }
+
+        @Test
+        void testMergeDocuments_IndexRemovesPendingFromAfterIndexing() {
+                TurSNSite site = new TurSNSite();
+                site.setName("site1");
+                indexedMergeProviders(site);
+                TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+                when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US))
+                                .thenReturn(Optional.of(solrInstance));
+
+                Map<String, Object> fromAttrs = fromAttributes();
+                process.mergeDocuments(site, fromAttrs, Locale.US);
+                process.mergeDocuments(site, toAttributes(), Locale.US);
+                verify(turSolr, never()).deIndexing(solrInstance, "from-1");
+
+                process.indexed(site, Locale.US, List.of(new TurSNJobItem(TurSNJobAction.CREATE,
+                                List.of("site1"), Locale.US, fromAttrs)));
+
+                verify(turSolr).deIndexing(solrInstance, "from-1");
+        }
+
+        @Test
+        void testMergeDocuments_IndexReadsOnlyToPartnerById() {
+                TurSNSite site = new TurSNSite();
+                site.setName("site1");
+                indexedMergeProviders(site);
+                TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+                when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US))
+                                .thenReturn(Optional.of(solrInstance));
+                process.mergeDocuments(site, toAttributes(), Locale.US);
+
+                SolrDocument toDocument = new SolrDocument();
+                toDocument.setField(TurSNFieldName.ID, "to-1");
+                toDocument.setField(TurSNFieldName.SOURCE_APPS, List.of("providerB"));
+                toDocument.setField("relTo", "value1");
+                SolrDocumentList resultsTo = new SolrDocumentList();
+                resultsTo.add(toDocument);
+                when(turSolr.solrResultAnd(solrInstance, Map.of(TurSNFieldName.ID, "to-1")))
+                                .thenReturn(resultsTo);
+
+                Map<String, Object> result = process.mergeDocuments(site, fromAttributes(), Locale.US);
+
+                assertEquals("to-1", result.get(TurSNFieldName.ID));
+                assertEquals("from value", result.get("field1"));
+                verify(turSolr, times(1)).solrResultAnd(any(), anyMap());
+                verify(turSolr, never()).deIndexing(any(TurSolrInstance.class), anyString());
+        }
+
+        private TurSNSiteMergeProviders indexedMergeProviders(TurSNSite site) {
+                TurSNSiteMergeProviders mergeProviders = new TurSNSiteMergeProviders();
+                mergeProviders.setTurSNSite(site);
+                mergeProviders.setProviderFrom("providerA");
+                mergeProviders.setProviderTo("providerB");
+                mergeProviders.setRelationFrom("relFrom");
+                mergeProviders.setRelationTo("relTo");
+                mergeProviders.setLocale(Locale.US);
+                TurSNSiteMergeProvidersField field = new TurSNSiteMergeProvidersField();
+                field.setName("field1");
+                mergeProviders.setOverwrittenFields(new HashSet<>(Collections.singletonList(field)));
+
+                TurSNMergeRelations relations = new TurSNMergeRelations();
+                when(turSNMergeRelationIndex.isEnabled()).thenReturn(true);
+                when(turSNMergeRelationIndex.getMergeProviders(site)).thenReturn(List.of(mergeProviders));
+                when(turSNMergeRelationIndex.getRelations(mergeProviders, Locale.US))
+                                .thenReturn(Optional.of(relations));
+                lenient().when(turSNMergeRelationIndex.findRelations(site, Locale.US))
+                                .thenReturn(Optional.of(relations));
+                return mergeProviders;
+        }
+
+        private static Map<String, Object> fromAttributes() {
+                Map<String, Object> attrs = new HashMap<>();
+                attrs.put(TurSNFieldName.ID, "from-1");
+                attrs.put(TurSNFieldName.SOURCE_APPS, "providerA");
+                attrs.put("relFrom", "value1");
+                attrs.put("field1", "from value");
+                return attrs;
+        }
+
+        private static Map<String, Object> toAttributes() {
+                Map<String, Object> attrs = new HashMap<>();
+                attrs.put(TurSNFieldName.ID, "to-1");
+                attrs.put(TurSNFieldName.SOURCE_APPS, "providerB");
+                attrs.put("relTo", "value1");
+                return attrs;
         }
 }
@@ -3,6 +3,7 @@ package com.viglet.turing.api.sn.queue;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.viglet.turing.api.sn.bean.TurSNQueueStatisticsBean;
 import com.viglet.turing.sn.TurSNQueue;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,4 +42,19 @@ class TurSNMonitoringQueueTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("Total 10 elements waiting in queue"));
     }
+
+    @Test
+    void testTurMonitoringQueueStatistics() throws Exception {
+        TurSNQueueStatisticsBean statistics = new TurSNQueueStatisticsBean();
+        statistics.setMessages(5);
+        statistics.setProcessed(7);
+        statistics.getDocsPerSecond().put("site", 1.5);
+        when(turSNQueue.getStatistics()).thenReturn(statistics);
+
+        mockMvc.perform(get("/api/queue/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.messages").value(5))
+                .andExpect(jsonPath("$.processed").value(7))
+                .andExpect(jsonPath("$.docsPerSecond.site").value(1.5));
+    }
 }
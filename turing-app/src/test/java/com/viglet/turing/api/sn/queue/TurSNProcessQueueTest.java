@@ -3,8 +3,12 @@ package com.viglet.turing.api.sn.queue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -22,22 +26,33 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import com.viglet.turing.client.sn.job.TurSNJobAction;
 import com.viglet.turing.client.sn.job.TurSNJobAttributeSpec;
 import com.viglet.turing.client.sn.job.TurSNJobItem;
 import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.client.sn.job.TurSNJobUpdateOperation;
+import com.viglet.turing.commons.indexing.TurIndexingStatus;
 import com.viglet.turing.commons.se.field.TurSEFieldType;
 import com.viglet.turing.commons.sn.field.TurSNFieldName;
+import com.viglet.turing.genai.TurGenAiEmbeddingQueue;
+import com.viglet.turing.logging.TurLoggingUtils;
 import com.viglet.turing.persistence.model.se.TurSEInstance;
 import com.viglet.turing.persistence.model.sn.TurSNSite;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteField;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
+import com.viglet.turing.persistence.model.sn.genai.TurSNSiteGenAi;
 import com.viglet.turing.persistence.model.sn.locale.TurSNSiteLocale;
 import com.viglet.turing.persistence.repository.se.TurSEInstanceRepository;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
@@ -45,8 +60,15 @@ import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtFacetR
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldRepository;
 import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
+import com.viglet.turing.sn.TurSNQueue;
+import com.viglet.turing.sn.checksum.TurSNIndexChecksumService;
+import com.viglet.turing.sn.deindex.TurSNBulkDeIndexService;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.sn.search.TurSNSearchCache;
 import com.viglet.turing.sn.spotlight.TurSNSpotlightProcess;
 import com.viglet.turing.solr.TurSolr;
+import com.viglet.turing.solr.TurSolrCommitCoordinator;
+import com.viglet.turing.solr.TurSolrCommitStatus;
 import com.viglet.turing.solr.TurSolrFieldAction;
 import com.viglet.turing.solr.TurSolrInstance;
 import com.viglet.turing.solr.TurSolrInstanceProcess;
@@ -75,6 +97,29 @@ class TurSNProcessQueueTest {
     private TurSNSiteFieldExtFacetRepository turSNSiteFieldExtFacetRepository;
     @Mock
     private TurSEInstanceRepository turSEInstanceRepository;
+    @Mock
+    private TurSNIndexChecksumService turSNIndexChecksumService;
+    @Mock
+    private TurSNSchemaRegistry turSNSchemaRegistry;
+    @Mock
+    private TurSNQueue turSNQueue;
+    @Mock
+    private TurSolrCommitCoordinator turSolrCommitCoordinator;
+    @Mock
+    private TurSNSearchCache turSNSearchCache;
+    @Mock
+    private TurGenAiEmbeddingQueue turGenAiEmbeddingQueue;
+    @Spy
+    private TurSNJobCoalescer turSNJobCoalescer = new TurSNJobCoalescer(0, 0);
+    @Spy
+    private TurSNIndexingLanes turSNIndexingLanes = new TurSNIndexingLanes(1, new SimpleMeterRegistry());
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy
+    private TurSNIndexingTransactions turSNIndexingTransactions = new TurSNIndexingTransactions(
+            transactionManager, meterRegistry);
+    @Spy
+    private TurSNIndexingMetrics turSNIndexingMetrics = new TurSNIndexingMetrics(meterRegistry, 0);
 
     @InjectMocks
     private TurSNProcessQueue processQueue;
@@ -110,12 +155,80 @@ class TurSNProcessQueueTest {
         when(turSNMergeProvidersProcess.mergeDocuments(eq(site), anyMap(), eq(Locale.US))).thenReturn(attrs);
 
         TurSolrInstance solrInstance = mock(TurSolrInstance.class);
-        when(turSolrInstanceProcess.initSolrInstance(eq("site1"), eq(Locale.US))).thenReturn(Optional.of(solrInstance));
+        when(turSolrInstanceProcess.initIngestInstance(eq("site1"), eq(Locale.US))).thenReturn(Optional.of(solrInstance));
         when(turSEInstanceRepository.findById("se1")).thenReturn(Optional.of(seInstance));
+        when(turSolr.indexing(eq(solrInstance), eq(site), anyList())).thenReturn(List.of(true));
+
+        processQueue.receiveIndexingQueue(jobItems, null);
+
+        verify(turSolr, times(1)).indexing(eq(solrInstance), eq(site), anyList());
+        verify(turSNSearchCache).changed("site1", Locale.US);
+        for (TurSNIndexingStage stage : List.of(TurSNIndexingStage.RECEIVE, TurSNIndexingStage.MERGE,
+                TurSNIndexingStage.CREATE_MISSING_FIELDS, TurSNIndexingStage.CONVERT, TurSNIndexingStage.SOLR_ADD)) {
+            assertEquals(1, meterRegistry.get(TurSNIndexingMetrics.STAGE_ITEMS)
+                    .tag(TurSNIndexingMetrics.STAGE_TAG, stage.getTag())
+                    .tag(TurSNIndexingMetrics.SITE_TAG, "site1")
+                    .tag(TurSNIndexingMetrics.LOCALE_TAG, "en_US")
+                    .counter().count(), stage.getTag());
+        }
+    }
 
-        processQueue.receiveIndexingQueue(jobItems);
+    @Test
+    void testReceiveIndexingQueue_OnlyWrittenCreatesAreSentToGenAi() {
+        TurSNJobItem changed = new TurSNJobItem(TurSNJobAction.CREATE, List.of("site1"), Locale.US,
+                new HashMap<>(Map.of(TurSNFieldName.ID, "1")));
+        TurSNJobItem unchanged = new TurSNJobItem(TurSNJobAction.CREATE, List.of("site1"), Locale.US,
+                new HashMap<>(Map.of(TurSNFieldName.ID, "2")));
+        changed.setSpecs(new ArrayList<>());
 
-        verify(turSolr, times(1)).indexing(eq(solrInstance), eq(site), anyMap());
+        TurSEInstance seInstance = new TurSEInstance();
+        seInstance.setId("se1");
+        TurSNSite site = new TurSNSite();
+        site.setName("site1");
+        site.setTurSEInstance(seInstance);
+        TurSNSiteGenAi genAi = new TurSNSiteGenAi();
+        genAi.setEnabled(true);
+        site.setTurSNSiteGenAi(genAi);
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        when(turSNIndexChecksumService.isUnchanged(eq(site), any(TurSNJobItem.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1) == unchanged);
+        when(turSNMergeProvidersProcess.mergeDocuments(eq(site), anyMap(), eq(Locale.US)))
+                .thenReturn(changed.getAttributes());
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSEInstanceRepository.findById("se1")).thenReturn(Optional.of(seInstance));
+        when(turSolr.indexing(eq(solrInstance), eq(site), anyList())).thenReturn(List.of(true));
+
+        processQueue.receiveIndexingQueue(new TurSNJobItems(List.of(changed, unchanged)), null);
+
+        verify(turGenAiEmbeddingQueue).submit("site1", List.of(changed));
+    }
+
+    @Test
+    void testReceiveIndexingQueue_RejectedCreatesAreNotSentToGenAi() {
+        TurSNJobItem rejected = new TurSNJobItem(TurSNJobAction.CREATE, List.of("site1"), Locale.US,
+                new HashMap<>(Map.of(TurSNFieldName.ID, "1")));
+        rejected.setSpecs(new ArrayList<>());
+
+        TurSEInstance seInstance = new TurSEInstance();
+        seInstance.setId("se1");
+        TurSNSite site = new TurSNSite();
+        site.setName("site1");
+        site.setTurSEInstance(seInstance);
+        TurSNSiteGenAi genAi = new TurSNSiteGenAi();
+        genAi.setEnabled(true);
+        site.setTurSNSiteGenAi(genAi);
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        when(turSNMergeProvidersProcess.mergeDocuments(eq(site), anyMap(), eq(Locale.US)))
+                .thenReturn(rejected.getAttributes());
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSEInstanceRepository.findById("se1")).thenReturn(Optional.of(seInstance));
+        when(turSolr.indexing(eq(solrInstance), eq(site), anyList())).thenReturn(List.of(false));
+
+        processQueue.receiveIndexingQueue(new TurSNJobItems(List.of(rejected)), null);
+
+        verify(turGenAiEmbeddingQueue, never()).submit(anyString(), anyList());
     }
 
     @Test
@@ -138,11 +251,12 @@ class TurSNProcessQueueTest {
         when(turSNSpotlightProcess.isSpotlightJob(item)).thenReturn(false);
 
         TurSolrInstance solrInstance = mock(TurSolrInstance.class);
-        when(turSolrInstanceProcess.initSolrInstance(eq("site1"), eq(Locale.US))).thenReturn(Optional.of(solrInstance));
+        when(turSolrInstanceProcess.initIngestInstance(eq("site1"), eq(Locale.US))).thenReturn(Optional.of(solrInstance));
+        when(turSolr.deIndexing(solrInstance, List.of("1"))).thenReturn(List.of(true));
 
-        processQueue.receiveIndexingQueue(jobItems);
+        processQueue.receiveIndexingQueue(jobItems, null);
 
-        verify(turSolr, times(1)).deIndexing(solrInstance, "1");
+        verify(turSolr, times(1)).deIndexing(solrInstance, List.of("1"));
     }
 
     @Test
@@ -163,11 +277,13 @@ class TurSNProcessQueueTest {
         when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
 
         TurSolrInstance solrInstance = mock(TurSolrInstance.class);
-        when(turSolrInstanceProcess.initSolrInstance(eq("site1"), eq(Locale.US))).thenReturn(Optional.of(solrInstance));
+        when(turSolrInstanceProcess.initIngestInstance(eq("site1"), eq(Locale.US))).thenReturn(Optional.of(solrInstance));
+        when(turSolrCommitCoordinator.commit(solrInstance)).thenReturn(TurSolrCommitStatus.COMMITTED);
 
-        processQueue.receiveIndexingQueue(jobItems);
+        processQueue.receiveIndexingQueue(jobItems, null);
 
-        verify(turSolr, times(1)).commit(solrInstance);
+        verify(turSolrCommitCoordinator, times(1)).commit(solrInstance);
+        verify(turSNSearchCache).changed("site1", Locale.US);
     }
 
     @Test
@@ -204,10 +320,12 @@ class TurSNProcessQueueTest {
         when(turSNSpotlightProcess.isSpotlightJob(item)).thenReturn(true);
         when(turSNSpotlightProcess.createUnmanagedSpotlight(item, site)).thenReturn(true);
 
-        processQueue.receiveIndexingQueue(jobItems);
+        processQueue.receiveIndexingQueue(jobItems, null);
 
         verify(turSNSpotlightProcess).createUnmanagedSpotlight(item, site);
-        verify(turSolr, never()).indexing(any(), any(), anyMap());
+        verify(transactionManager).commit(any());
+        verify(turSolr, never()).indexing(any(), any(), anyList());
+        assertEquals(1, meterRegistry.get(TurSNIndexingTransactions.CONNECTION_HOLD).timer().count());
     }
 
     @Test
@@ -226,10 +344,11 @@ class TurSNProcessQueueTest {
         when(turSNSpotlightProcess.isSpotlightJob(item)).thenReturn(true);
         when(turSNSpotlightProcess.deleteUnmanagedSpotlight(item, site)).thenReturn(true);
 
-        processQueue.receiveIndexingQueue(jobItems);
+        processQueue.receiveIndexingQueue(jobItems, null);
 
         verify(turSNSpotlightProcess).deleteUnmanagedSpotlight(item, site);
-        verify(turSolr, never()).deIndexing(any(), any());
+        verify(transactionManager).commit(any());
+        verify(turSolr, never()).deIndexing(any(), anyList());
     }
 
     @Test
@@ -248,12 +367,54 @@ class TurSNProcessQueueTest {
         when(turSNSpotlightProcess.isSpotlightJob(item)).thenReturn(false);
 
         TurSolrInstance solrInstance = mock(TurSolrInstance.class);
-        when(turSolrInstanceProcess.initSolrInstance(eq("site1"), eq(Locale.US))).thenReturn(Optional.of(solrInstance));
+        when(turSolrInstanceProcess.initIngestInstance(eq("site1"), eq(Locale.US))).thenReturn(Optional.of(solrInstance));
 
-        processQueue.receiveIndexingQueue(jobItems);
+        processQueue.receiveIndexingQueue(jobItems, null);
 
         verify(turSolr).deIndexingByType(solrInstance, "news");
-        verify(turSolr, never()).deIndexing(solrInstance, item.getId());
+        verify(turSolr, never()).deIndexing(any(), anyList());
+    }
+
+    @Test
+    void testReceiveIndexingQueue_DeleteByQuery() {
+        TurSNJobItems jobItems = new TurSNJobItems();
+        TurSNJobItem item = new TurSNJobItem();
+        item.setTurSNJobAction(TurSNJobAction.DELETE);
+        item.setSiteNames(Collections.singletonList("site1"));
+        item.setLocale(Locale.US);
+        item.setAttributes(Map.of(TurSNBulkDeIndexService.QUERY, "type:(news)"));
+        jobItems.add(item);
+
+        TurSNSite site = new TurSNSite();
+        site.setName("site1");
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        when(turSNSpotlightProcess.isSpotlightJob(item)).thenReturn(false);
+
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSolrInstanceProcess.initIngestInstance(eq("site1"), eq(Locale.US))).thenReturn(Optional.of(solrInstance));
+        when(turSolr.deIndexingByQuery(solrInstance, "type:(news)")).thenReturn(true);
+
+        processQueue.receiveIndexingQueue(jobItems, true);
+
+        verify(turSNIndexChecksumService).clear(site, Locale.US);
+        verify(turSNSearchCache).changed("site1", Locale.US);
+    }
+
+    @Test
+    void testReceiveIndexingQueue_DeleteByQueryIsIgnoredOutsideBulkDeIndex() {
+        TurSNJobItem item = new TurSNJobItem(TurSNJobAction.DELETE, List.of("site1"), Locale.US,
+                Map.of(TurSNBulkDeIndexService.QUERY, "*:*"));
+        TurSNSite site = new TurSNSite();
+        site.setName("site1");
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+
+        processQueue.receiveIndexingQueue(new TurSNJobItems(List.of(item)), null);
+
+        verify(turSolr, never()).deIndexingByQuery(any(), anyString());
+        verify(turSNIndexChecksumService, never()).clear(site, Locale.US);
+        assertTrue(item.getAttributes().isEmpty());
     }
 
     @Test
@@ -269,11 +430,12 @@ class TurSNProcessQueueTest {
         TurSNSite site = new TurSNSite();
         site.setName("site1");
         when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
-        when(turSolrInstanceProcess.initSolrInstance(eq("site1"), eq(Locale.US))).thenReturn(Optional.empty());
+        when(turSolrInstanceProcess.initIngestInstance(eq("site1"), eq(Locale.US))).thenReturn(Optional.empty());
 
-        processQueue.receiveIndexingQueue(jobItems);
+        processQueue.receiveIndexingQueue(jobItems, null);
 
-        verify(turSolr, never()).commit(any());
+        verify(turSolrCommitCoordinator, never()).commit(any());
+        verify(turSNSearchCache, never()).changed(any(), any());
     }
 
     @Test
@@ -326,7 +488,8 @@ class TurSNProcessQueueTest {
         when(turSNSpotlightProcess.isSpotlightJob(item)).thenReturn(false);
         when(turSNMergeProvidersProcess.mergeDocuments(eq(site), anyMap(), eq(Locale.US)))
                 .thenReturn(new HashMap<>(item.getAttributes()));
-        when(turSNSiteFieldExtRepository.existsByTurSNSiteAndName(site, "customField")).thenReturn(false);
+        when(turSNSchemaRegistry.existsInSite(site, "customField")).thenReturn(false);
+        when(turSNSchemaRegistry.existsInCore(site, "core_en", "customField")).thenReturn(false);
         when(turSNSiteLocaleRepository.findByTurSNSite(site)).thenReturn(List.of(locale));
         when(turSEInstanceRepository.findById("se1")).thenReturn(Optional.of(seInstance));
         when(turSNSiteFieldRepository.save(any(TurSNSiteField.class))).thenAnswer(invocation -> {
@@ -338,19 +501,259 @@ class TurSNProcessQueueTest {
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         TurSolrInstance solrInstance = mock(TurSolrInstance.class);
-        when(turSolrInstanceProcess.initSolrInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSolr.indexing(eq(solrInstance), eq(site), anyList())).thenReturn(List.of(true));
 
         try (MockedStatic<TurSolrUtils> utils = Mockito.mockStatic(TurSolrUtils.class)) {
-            utils.when(() -> TurSolrUtils.existsField(siteSeInstance, "core_en", "customField")).thenReturn(false);
-
-            processQueue.receiveIndexingQueue(jobItems);
+            processQueue.receiveIndexingQueue(jobItems, null);
 
             verify(turSNSiteFieldRepository).save(any(TurSNSiteField.class));
             verify(turSNSiteFieldExtRepository).save(any(TurSNSiteFieldExt.class));
             verify(turSNSiteFieldExtFacetRepository).saveAll(any());
+            verify(transactionManager).commit(any());
             utils.verify(() -> TurSolrUtils.addOrUpdateField(eq(TurSolrFieldAction.ADD), eq(seInstance), eq("core_en"),
                     eq("customField"), eq(TurSEFieldType.STRING), eq(true), eq(false)));
-            verify(turSolr).indexing(eq(solrInstance), eq(site), anyMap());
+            verify(turSolr).indexing(eq(solrInstance), eq(site), anyList());
+            verify(turSNSchemaRegistry).addToSite(site, "customField");
+            verify(turSNSchemaRegistry).addToCore(site, "core_en", "customField");
+        }
+    }
+
+    @Test
+    void testReceiveIndexingQueue_KnownFieldsAreNotCreated() {
+        TurSNJobItems jobItems = new TurSNJobItems();
+        TurSNJobItem item = jobItem(TurSNJobAction.CREATE, "1");
+        item.setSpecs(List.of(TurSNJobAttributeSpec.builder()
+                .name("customField")
+                .type(TurSEFieldType.STRING)
+                .build()));
+        jobItems.add(item);
+
+        TurSEInstance seInstance = new TurSEInstance();
+        seInstance.setId("se1");
+        TurSNSite site = new TurSNSite();
+        site.setName("site1");
+        site.setTurSEInstance(seInstance);
+
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        when(turSNMergeProvidersProcess.mergeDocuments(eq(site), anyMap(), eq(Locale.US)))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(turSNSchemaRegistry.existsInSite(site, "customField")).thenReturn(true);
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSEInstanceRepository.findById("se1")).thenReturn(Optional.of(seInstance));
+        when(turSolr.indexing(eq(solrInstance), eq(site), anyList())).thenReturn(List.of(true));
+
+        processQueue.receiveIndexingQueue(jobItems, null);
+
+        verify(turSNSiteFieldRepository, never()).save(any(TurSNSiteField.class));
+        verify(turSNSiteFieldExtRepository, never()).existsByTurSNSiteAndName(any(), any());
+        verify(turSNSiteLocaleRepository, never()).findByTurSNSite(any(TurSNSite.class));
+    }
+
+    @Test
+    void testReceiveIndexingQueue_CreatesOfSameCoreAreSentInOneRequest() {
+        TurSEInstance seInstance = new TurSEInstance();
+        seInstance.setId("se1");
+        TurSNSite site = new TurSNSite();
+        site.setName("site1");
+        site.setTurSEInstance(seInstance);
+
+        TurSNJobItems jobItems = new TurSNJobItems();
+        jobItems.add(jobItem(TurSNJobAction.CREATE, "1"));
+        jobItems.add(jobItem(TurSNJobAction.CREATE, "2"));
+        jobItems.add(jobItem(TurSNJobAction.CREATE, "3"));
+
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        when(turSNMergeProvidersProcess.mergeDocuments(eq(site), anyMap(), eq(Locale.US)))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSEInstanceRepository.findById("se1")).thenReturn(Optional.of(seInstance));
+        when(turSolr.indexing(eq(solrInstance), eq(site), anyList())).thenReturn(List.of(true, true, true));
+
+        processQueue.receiveIndexingQueue(jobItems, null);
+
+        ArgumentCaptor<List<Map<String, Object>>> documents = ArgumentCaptor.captor();
+        verify(turSolr, times(1)).indexing(eq(solrInstance), eq(site), documents.capture());
+        assertEquals(List.of("1", "2", "3"),
+                documents.getValue().stream().map(doc -> doc.get(TurSNFieldName.ID)).toList());
+        verify(turSolrInstanceProcess, times(1)).initIngestInstance("site1", Locale.US);
+    }
+
+    @Test
+    void testReceiveIndexingQueue_SkipsUnchangedDocuments() {
+        TurSEInstance seInstance = new TurSEInstance();
+        seInstance.setId("se1");
+        TurSNSite site = new TurSNSite();
+        site.setName("site1");
+        site.setTurSEInstance(seInstance);
+
+        TurSNJobItems jobItems = new TurSNJobItems();
+        TurSNJobItem unchanged = jobItem(TurSNJobAction.CREATE, "1");
+        TurSNJobItem changed = jobItem(TurSNJobAction.CREATE, "2");
+        jobItems.add(unchanged);
+        jobItems.add(changed);
+
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        when(turSNIndexChecksumService.isUnchanged(eq(site), any(TurSNJobItem.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1) == unchanged);
+        when(turSNMergeProvidersProcess.mergeDocuments(eq(site), anyMap(), eq(Locale.US)))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSEInstanceRepository.findById("se1")).thenReturn(Optional.of(seInstance));
+        when(turSolr.indexing(eq(solrInstance), eq(site), anyList())).thenReturn(List.of(true));
+
+        try (MockedStatic<TurLoggingUtils> logging = Mockito.mockStatic(TurLoggingUtils.class)) {
+            processQueue.receiveIndexingQueue(jobItems, null);
+
+            logging.verify(() -> TurLoggingUtils.setSuccessStatus(unchanged, TurIndexingStatus.UNCHANGED));
+            logging.verify(() -> TurLoggingUtils.setSuccessStatus(changed, TurIndexingStatus.INDEXED));
         }
+        ArgumentCaptor<List<Map<String, Object>>> documents = ArgumentCaptor.captor();
+        verify(turSolr, times(1)).indexing(eq(solrInstance), eq(site), documents.capture());
+        assertEquals(List.of("2"),
+                documents.getValue().stream().map(doc -> doc.get(TurSNFieldName.ID)).toList());
+        verify(turSNMergeProvidersProcess, times(1)).mergeDocuments(eq(site), anyMap(), eq(Locale.US));
+        verify(turSNIndexChecksumService).indexed(site, List.of(changed));
+    }
+
+    @Test
+    void testReceiveIndexingQueue_KeepsOrderOfCreateAndDeleteInSameCore() {
+        TurSEInstance seInstance = new TurSEInstance();
+        seInstance.setId("se1");
+        TurSNSite site = new TurSNSite();
+        site.setName("site1");
+        site.setTurSEInstance(seInstance);
+
+        TurSNJobItems jobItems = new TurSNJobItems();
+        jobItems.add(jobItem(TurSNJobAction.DELETE, "1"));
+        jobItems.add(jobItem(TurSNJobAction.DELETE, "2"));
+        jobItems.add(jobItem(TurSNJobAction.CREATE, "1"));
+
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        when(turSNMergeProvidersProcess.mergeDocuments(eq(site), anyMap(), eq(Locale.US)))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSEInstanceRepository.findById("se1")).thenReturn(Optional.of(seInstance));
+        when(turSolr.deIndexing(solrInstance, List.of("1", "2"))).thenReturn(List.of(true, true));
+        when(turSolr.indexing(eq(solrInstance), eq(site), anyList())).thenReturn(List.of(true));
+
+        processQueue.receiveIndexingQueue(jobItems, null);
+
+        InOrder inOrder = Mockito.inOrder(turSolr);
+        inOrder.verify(turSolr).deIndexing(solrInstance, List.of("1", "2"));
+        inOrder.verify(turSolr).indexing(eq(solrInstance), eq(site), anyList());
+    }
+
+    @Test
+    void testReceiveIndexingQueue_ReportsRejectedItemsOfBatch() {
+        TurSNSite site = new TurSNSite();
+        site.setName("site1");
+
+        TurSNJobItems jobItems = new TurSNJobItems();
+        jobItems.add(jobItem(TurSNJobAction.DELETE, "1"));
+        jobItems.add(jobItem(TurSNJobAction.DELETE, "2"));
+
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSolr.deIndexing(solrInstance, List.of("1", "2"))).thenReturn(List.of(true, false));
+
+        try (MockedStatic<TurLoggingUtils> logging = Mockito.mockStatic(TurLoggingUtils.class)) {
+            processQueue.receiveIndexingQueue(jobItems, null);
+
+            logging.verify(() -> TurLoggingUtils.setSuccessStatus(jobItems.getTuringDocuments().get(0),
+                    TurIndexingStatus.DEINDEXED));
+            logging.verify(() -> TurLoggingUtils.setErrorStatus(eq(jobItems.getTuringDocuments().get(1)),
+                    eq(TurIndexingStatus.DEINDEXED), any()));
+        }
+        verify(turSNSearchCache, times(1)).changed("site1", Locale.US);
+    }
+
+    @Test
+    void testReceiveIndexingQueue_RejectedBatchKeepsSearchCache() {
+        TurSNSite site = new TurSNSite();
+        site.setName("site1");
+
+        TurSNJobItems jobItems = new TurSNJobItems();
+        jobItems.add(jobItem(TurSNJobAction.DELETE, "1"));
+
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSolr.deIndexing(solrInstance, List.of("1"))).thenReturn(List.of(false));
+
+        processQueue.receiveIndexingQueue(jobItems, null);
+
+        verify(turSNSearchCache, never()).changed(any(), any());
+    }
+
+    @Test
+    void testReceiveIndexingQueue_UpdateSendsOnlyChangedAttributes() {
+        TurSNSite site = new TurSNSite();
+        site.setName("site1");
+
+        TurSNJobItems jobItems = new TurSNJobItems();
+        TurSNJobItem update = jobItem(TurSNJobAction.UPDATE, "1");
+        update.getAttributes().put("views", TurSNJobUpdateOperation.INC.of(1));
+        update.getAttributes().put("summary", TurSNJobUpdateOperation.SET.of(null));
+        jobItems.add(update);
+
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSolr.update(eq(solrInstance), eq(site), anyList())).thenReturn(List.of(true));
+
+        try (MockedStatic<TurLoggingUtils> logging = Mockito.mockStatic(TurLoggingUtils.class)) {
+            processQueue.receiveIndexingQueue(jobItems, null);
+
+            logging.verify(() -> TurLoggingUtils.setSuccessStatus(update, TurIndexingStatus.INDEXED));
+        }
+        ArgumentCaptor<List<Map<String, Object>>> documents = ArgumentCaptor.captor();
+        verify(turSolr).update(eq(solrInstance), eq(site), documents.capture());
+        assertEquals(update.getAttributes(), documents.getValue().getFirst());
+        verify(turSNMergeProvidersProcess, never()).mergeDocuments(any(), anyMap(), any());
+        verify(turSNIndexChecksumService, never()).isUnchanged(any(), any());
+        verify(turSNIndexChecksumService).deIndexed(site, List.of(update));
+        verify(turSolr, never()).indexing(any(), any(), anyList());
+    }
+
+    @Test
+    void testReceiveIndexingQueue_UpdateOfSiteWithMergeProvidersIsRejected() {
+        TurSNSite site = new TurSNSite();
+        site.setName("site1");
+
+        TurSNJobItems jobItems = new TurSNJobItems();
+        TurSNJobItem update = jobItem(TurSNJobAction.UPDATE, "1");
+        update.getAttributes().put("views", TurSNJobUpdateOperation.INC.of(1));
+        jobItems.add(update);
+
+        when(turSNSiteRepository.findByName("site1")).thenReturn(Optional.of(site));
+        when(turSNMergeProvidersProcess.hasMergeProviders(site)).thenReturn(true);
+
+        try (MockedStatic<TurLoggingUtils> logging = Mockito.mockStatic(TurLoggingUtils.class)) {
+            processQueue.receiveIndexingQueue(jobItems, null);
+
+            logging.verify(() -> TurLoggingUtils.setErrorStatus(eq(update), eq(TurIndexingStatus.INDEXED),
+                    anyString()));
+            logging.verify(() -> TurLoggingUtils.setSuccessStatus(update, TurIndexingStatus.FINISHED));
+        }
+        verify(turSolr, never()).update(any(), any(), anyList());
+        verify(turSNQueue).failed();
+    }
+
+    private static TurSNJobItem jobItem(TurSNJobAction action, String id) {
+        TurSNJobItem item = new TurSNJobItem();
+        item.setTurSNJobAction(action);
+        item.setSiteNames(Collections.singletonList("site1"));
+        item.setLocale(Locale.US);
+        item.setSpecs(new ArrayList<>());
+        Map<String, Object> attrs = new HashMap<>();
+        attrs.put(TurSNFieldName.ID, id);
+        item.setAttributes(attrs);
+        return item;
     }
 }
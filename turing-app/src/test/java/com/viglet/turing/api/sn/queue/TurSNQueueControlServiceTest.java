@@ -1,11 +1,16 @@
 package com.viglet.turing.api.sn.queue;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,8 +19,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jms.config.JmsListenerEndpointRegistry;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
 import org.springframework.jms.listener.MessageListenerContainer;
 
+import com.viglet.turing.sn.TurSNConstants;
+
 @ExtendWith(MockitoExtension.class)
 class TurSNQueueControlServiceTest {
 
@@ -25,6 +33,9 @@ class TurSNQueueControlServiceTest {
     @Mock
     private MessageListenerContainer messageListenerContainer;
 
+    @Mock
+    private TurSNIndexingLanes turSNIndexingLanes;
+
     @InjectMocks
     private TurSNQueueControlService service;
 
@@ -41,6 +52,33 @@ class TurSNQueueControlServiceTest {
         service.suspendQueue("list1");
 
         verify(messageListenerContainer, times(1)).stop();
+        verify(turSNIndexingLanes, never()).pause();
+    }
+
+    @Test
+    void testSuspendIndexingQueuePausesLanes() {
+        when(registry.getListenerContainerIds())
+                .thenReturn(Collections.singleton(TurSNConstants.INDEXING_QUEUE_LISTENER));
+        when(registry.getListenerContainer(TurSNConstants.INDEXING_QUEUE_LISTENER))
+                .thenReturn(messageListenerContainer);
+        when(messageListenerContainer.isRunning()).thenReturn(true);
+
+        service.suspendQueue(TurSNConstants.INDEXING_QUEUE_LISTENER);
+
+        verify(messageListenerContainer, times(1)).stop();
+        verify(turSNIndexingLanes, times(1)).pause();
+    }
+
+    @Test
+    void testStartIndexingQueueResumesLanes() {
+        when(registry.getListenerContainer(TurSNConstants.INDEXING_QUEUE_LISTENER))
+                .thenReturn(messageListenerContainer);
+        when(messageListenerContainer.isRunning()).thenReturn(false);
+
+        service.startQueue(TurSNConstants.INDEXING_QUEUE_LISTENER);
+
+        verify(turSNIndexingLanes, times(1)).resume();
+        verify(messageListenerContainer, times(1)).start();
     }
 
     @Test
@@ -85,4 +123,30 @@ class TurSNQueueControlServiceTest {
 
         verify(messageListenerContainer, times(1)).start();
     }
+
+    @Test
+    void testSetConcurrencyOfRunningListener() {
+        DefaultMessageListenerContainer container = spy(new DefaultMessageListenerContainer());
+        container.setConcurrency("1-1");
+        when(container.isRunning()).thenReturn(true);
+        when(registry.getListenerContainer(TurSNConstants.INDEXING_QUEUE_LISTENER)).thenReturn(container);
+
+        assertTrue(service.setConcurrency(TurSNConstants.INDEXING_QUEUE_LISTENER, 3));
+        assertEquals(3, container.getConcurrentConsumers());
+        assertEquals(3, container.getMaxConcurrentConsumers());
+        assertEquals(Optional.of(3), service.getConcurrency(TurSNConstants.INDEXING_QUEUE_LISTENER));
+
+        assertTrue(service.setConcurrency(TurSNConstants.INDEXING_QUEUE_LISTENER, 2));
+        assertEquals(2, container.getConcurrentConsumers());
+        assertEquals(2, container.getMaxConcurrentConsumers());
+    }
+
+    @Test
+    void testSetConcurrencyOfStoppedListener() {
+        when(registry.getListenerContainer(TurSNConstants.INDEXING_QUEUE_LISTENER))
+                .thenReturn(new DefaultMessageListenerContainer());
+
+        assertFalse(service.setConcurrency(TurSNConstants.INDEXING_QUEUE_LISTENER, 3));
+        assertEquals(Optional.empty(), service.getConcurrency(TurSNConstants.INDEXING_QUEUE_LISTENER));
+    }
 }
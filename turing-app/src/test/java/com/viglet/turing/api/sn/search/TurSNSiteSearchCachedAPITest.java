@@ -10,10 +10,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import com.viglet.turing.commons.sn.bean.TurSNSiteSearchBean;
 import com.viglet.turing.commons.sn.search.TurSNSiteSearchContext;
 import com.viglet.turing.sn.TurSNSearchProcess;
+import com.viglet.turing.sn.search.TurSNSearchCache;
 
 @ExtendWith(MockitoExtension.class)
 class TurSNSiteSearchCachedAPITest {
@@ -21,10 +25,14 @@ class TurSNSiteSearchCachedAPITest {
     @Mock
     private TurSNSearchProcess turSNSearchProcess;
 
+    private TurSNSearchCache turSNSearchCache;
+
     private TurSNSiteSearchCachedAPI api;
 
     @BeforeEach
     void setUp() {
+        turSNSearchCache = new TurSNSearchCache(new ConcurrentMapCacheManager(), new SimpleMeterRegistry(),
+                10000);
         api = new TurSNSiteSearchCachedAPI(
                 turSNSearchProcess,
                 false, // enabled
@@ -33,8 +41,8 @@ class TurSNSiteSearchCachedAPITest {
                 "server",
                 "indexing",
                 "aem",
-                30 // purgeDays
-        );
+                30, // purgeDays
+                turSNSearchCache);
     }
 
     @Test
@@ -58,6 +66,22 @@ class TurSNSiteSearchCachedAPITest {
         verify(turSNSearchProcess, times(1)).search(context);
     }
 
+    @Test
+    void testSearchCachedReturnsCachedResultOfSameKey() {
+        TurSNSiteSearchContext context = new TurSNSiteSearchContext("site1", null, null, null, null);
+        TurSNSiteSearchBean expectedBean = new TurSNSiteSearchBean();
+
+        when(turSNSearchProcess.search(context)).thenReturn(expectedBean);
+
+        api.searchCached("key1", context);
+        TurSNSiteSearchBean result = api.searchCached("key1", context);
+
+        assertEquals(expectedBean, result);
+        verify(turSNSearchProcess, times(1)).search(context);
+        assertEquals(1, turSNSearchCache.count("site1", TurSNSearchCache.HIT));
+        assertEquals(1, turSNSearchCache.count("site1", TurSNSearchCache.MISS));
+    }
+
     @Test
     void testPurgeMongoDBLogs_Disabled() {
         api.purgeMongoDBLogs();
@@ -21,6 +21,8 @@ import org.springframework.cache.CacheManager;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.viglet.turing.sn.search.TurSNSearchCache;
+
 @ExtendWith(MockitoExtension.class)
 class TurCacheAPITest {
 
@@ -32,6 +34,8 @@ class TurCacheAPITest {
     private Cache cacheA;
     @Mock
     private Cache cacheB;
+    @Mock
+    private TurSNSearchCache turSNSearchCache;
 
     @InjectMocks
     private TurCacheAPI api;
@@ -85,4 +89,27 @@ class TurCacheAPITest {
 
         verify(cacheManager, never()).getCache(org.mockito.ArgumentMatchers.anyString());
     }
+
+    @Test
+    void shouldReturnSearchCacheStatisticsOfSite() throws Exception {
+        when(turSNSearchCache.count("site", TurSNSearchCache.HIT)).thenReturn(3L);
+        when(turSNSearchCache.count("site", TurSNSearchCache.MISS)).thenReturn(1L);
+
+        mockMvc.perform(get("/api/system/cache/search/site"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(3))
+                .andExpect(jsonPath("$.misses").value(1))
+                .andExpect(jsonPath("$.hitRatio").value(0.75));
+    }
+
+    @Test
+    void shouldClearSearchCacheOfSite() throws Exception {
+        mockMvc.perform(post("/api/system/cache/search/site/clear"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.siteName").value("site"));
+
+        verify(turSNSearchCache).invalidate("site");
+        verify(cacheManager, never()).getCacheNames();
+    }
 }
@@ -21,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.viglet.turing.exchange.TurExchange;
 import com.viglet.turing.persistence.model.llm.TurLLMInstance;
@@ -95,6 +96,8 @@ class TurSNSiteImportTest {
         private CacheManager cacheManager;
         @Mock
         private Cache cache;
+        @Mock
+        private ApplicationEventPublisher applicationEventPublisher;
 
         @InjectMocks
         private TurSNSiteImport turSNSiteImport;
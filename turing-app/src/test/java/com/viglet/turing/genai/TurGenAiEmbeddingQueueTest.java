@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.genai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link TurGenAiEmbeddingQueue}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+class TurGenAiEmbeddingQueueTest {
+
+    private TurGenAi turGenAi;
+    private SimpleMeterRegistry meterRegistry;
+    private TurGenAiEmbeddingQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        turGenAi = mock(TurGenAi.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void testDocumentsOfSeveralRequestsAreEmbeddedTogether() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            List<TurSNJobItem> jobItems = invocation.getArgument(1);
+            batchSizes.add(jobItems.size());
+            blocked.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(turGenAi).addDocuments(eq("site"), anyList(), anyInt());
+        queue = new TurGenAiEmbeddingQueue(turGenAi, meterRegistry, 1, 10, 100, 1000);
+
+        queue.submit("site", List.of(jobItem("1")));
+        blocked.await(5, TimeUnit.SECONDS);
+        queue.submit("site", List.of(jobItem("2")));
+        queue.submit("site", List.of(jobItem("3"), jobItem("4")));
+        release.countDown();
+
+        verify(turGenAi, timeout(5000).times(2)).addDocuments(eq("site"), anyList(), eq(10));
+        assertEquals(List.of(1, 3), batchSizes);
+    }
+
+    @Test
+    void testFullQueueDropsAfterTimeout() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            blocked.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(turGenAi).addDocuments(eq("site"), anyList(), anyInt());
+        queue = new TurGenAiEmbeddingQueue(turGenAi, meterRegistry, 1, 10, 1, 10);
+
+        queue.submit("site", List.of(jobItem("1")));
+        blocked.await(5, TimeUnit.SECONDS);
+        int accepted = queue.submit("site", List.of(jobItem("2"), jobItem("3")));
+        release.countDown();
+
+        assertEquals(1, accepted);
+        assertEquals(1.0, meterRegistry.get(TurGenAiEmbeddingQueue.EMBEDDING_DROPPED).counter().count());
+    }
+
+    @Test
+    void testTimeoutIsForTheWholeSubmit() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            blocked.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(turGenAi).addDocuments(eq("site"), anyList(), anyInt());
+        queue = new TurGenAiEmbeddingQueue(turGenAi, meterRegistry, 1, 10, 1, 200);
+
+        queue.submit("site", List.of(jobItem("1")));
+        blocked.await(5, TimeUnit.SECONDS);
+        queue.submit("site", List.of(jobItem("2")));
+        long start = System.nanoTime();
+        int accepted = queue.submit("site", List.of(jobItem("3"), jobItem("4"), jobItem("5")));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        assertEquals(0, accepted);
+        assertTrue(elapsedMillis < 500, "Submit took " + elapsedMillis + " ms");
+        assertEquals(3.0, meterRegistry.get(TurGenAiEmbeddingQueue.EMBEDDING_DROPPED).counter().count());
+    }
+
+    @Test
+    void testFailureKeepsWorkerRunningAndTracksSiteMetrics() {
+        doThrow(new IllegalStateException("provider down")).doNothing()
+                .when(turGenAi).addDocuments(eq("site"), anyList(), anyInt());
+        queue = new TurGenAiEmbeddingQueue(turGenAi, meterRegistry, 1, 10, 100, 1000);
+
+        queue.submit("site", List.of(jobItem("1")));
+        verify(turGenAi, timeout(5000).times(1)).addDocuments(eq("site"), anyList(), anyInt());
+        queue.submit("site", List.of(jobItem("2")));
+        verify(turGenAi, timeout(5000).times(2)).addDocuments(eq("site"), anyList(), anyInt());
+
+        assertNotNull(meterRegistry.find(TurGenAiEmbeddingQueue.EMBEDDING_LAG)
+                .tag(TurGenAiEmbeddingQueue.SITE, "site").timeGauge());
+        assertNotNull(meterRegistry.find(TurGenAiEmbeddingQueue.EMBEDDING_PENDING)
+                .tag(TurGenAiEmbeddingQueue.SITE, "site").gauge());
+    }
+
+    private static TurSNJobItem jobItem(String id) {
+        TurSNJobItem jobItem = new TurSNJobItem(TurSNJobAction.CREATE, List.of("site"), Locale.US);
+        jobItem.getAttributes().put("id", id);
+        return jobItem;
+    }
+}
@@ -4,12 +4,31 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
 
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.commons.sn.field.TurSNFieldName;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.genai.TurSNSiteGenAi;
 import com.viglet.turing.sn.TurSNSearchProcess;
 
 class TurGenAiTest {
@@ -43,4 +62,86 @@ class TurGenAiTest {
         assertNull(result.getText());
         verifyNoInteractions(turSNSearchProcess);
     }
+
+    @Test
+    void shouldBuildContextOnceAndEmbedChunksInBatches() {
+        TurSNSearchProcess turSNSearchProcess = mock(TurSNSearchProcess.class);
+        TurGenAiContextFactory contextFactory = mock(TurGenAiContextFactory.class);
+        TurGenAi turGenAi = new TurGenAi(turSNSearchProcess, contextFactory);
+        TurSNSite site = new TurSNSite();
+        site.setTurSNSiteGenAi(new TurSNSiteGenAi());
+        VectorStore vectorStore = mock(VectorStore.class);
+        TurGenAiContext context = TurGenAiContext.builder().enabled(true).vectorStore(vectorStore).build();
+        when(turSNSearchProcess.getSNSite("site")).thenReturn(Optional.of(site));
+        when(contextFactory.build(site.getTurSNSiteGenAi())).thenReturn(context);
+
+        turGenAi.addDocuments("site", List.of(jobItem("1"), jobItem("2"), jobItem("3")), 2);
+
+        verify(contextFactory, times(1)).build(site.getTurSNSiteGenAi());
+        verify(vectorStore, times(2)).add(anyList());
+    }
+
+    @Test
+    void shouldDeleteExistingChunksBeforeEmbeddingAgain() {
+        TurSNSearchProcess turSNSearchProcess = mock(TurSNSearchProcess.class);
+        TurGenAiContextFactory contextFactory = mock(TurGenAiContextFactory.class);
+        TurGenAi turGenAi = new TurGenAi(turSNSearchProcess, contextFactory);
+        TurSNSite site = new TurSNSite();
+        site.setTurSNSiteGenAi(new TurSNSiteGenAi());
+        VectorStore vectorStore = mock(VectorStore.class);
+        TurGenAiContext context = TurGenAiContext.builder().enabled(true).vectorStore(vectorStore).build();
+        when(turSNSearchProcess.getSNSite("site")).thenReturn(Optional.of(site));
+        when(contextFactory.build(site.getTurSNSiteGenAi())).thenReturn(context);
+
+        turGenAi.addDocuments("site", List.of(jobItem("1"), jobItem("2"), jobItem("3")), 2);
+
+        FilterExpressionBuilder builder = new FilterExpressionBuilder();
+        InOrder inOrder = inOrder(vectorStore);
+        inOrder.verify(vectorStore).delete(builder.and(
+                builder.and(builder.eq(TurGenAi.SITES, "site"), builder.eq(TurGenAi.LOCALE, "en_US")),
+                builder.in(TurSNFieldName.ID, new ArrayList<Object>(List.of("1", "2")))).build());
+        inOrder.verify(vectorStore).delete(builder.and(
+                builder.and(builder.eq(TurGenAi.SITES, "site"), builder.eq(TurGenAi.LOCALE, "en_US")),
+                builder.in(TurSNFieldName.ID, new ArrayList<Object>(List.of("3")))).build());
+        inOrder.verify(vectorStore, times(2)).add(anyList());
+    }
+
+    @Test
+    void shouldDeleteChunksInBatchesOfValues() {
+        TurSNSearchProcess turSNSearchProcess = mock(TurSNSearchProcess.class);
+        TurGenAiContextFactory contextFactory = mock(TurGenAiContextFactory.class);
+        TurGenAi turGenAi = new TurGenAi(turSNSearchProcess, contextFactory);
+        TurSNSite site = new TurSNSite();
+        site.setName("site");
+        site.setTurSNSiteGenAi(new TurSNSiteGenAi());
+        site.getTurSNSiteGenAi().setEnabled(true);
+        VectorStore vectorStore = mock(VectorStore.class);
+        TurGenAiContext context = TurGenAiContext.builder().enabled(true).vectorStore(vectorStore).build();
+        when(contextFactory.build(site.getTurSNSiteGenAi())).thenReturn(context);
+
+        int requests = turGenAi.deleteDocuments(site, Locale.US, TurSNFieldName.ID, List.of("1", "2", "3"), 2);
+
+        assertEquals(2, requests);
+        verify(vectorStore, times(2)).delete(any(Filter.Expression.class));
+    }
+
+    @Test
+    void shouldNotDeleteChunksWhenGenAiIsDisabled() {
+        TurSNSearchProcess turSNSearchProcess = mock(TurSNSearchProcess.class);
+        TurGenAiContextFactory contextFactory = mock(TurGenAiContextFactory.class);
+        TurGenAi turGenAi = new TurGenAi(turSNSearchProcess, contextFactory);
+        TurSNSite site = new TurSNSite();
+        site.setTurSNSiteGenAi(new TurSNSiteGenAi());
+
+        assertEquals(0, turGenAi.deleteDocuments(site, Locale.US, TurSNFieldName.ID, List.of("1"), 2));
+        verifyNoInteractions(contextFactory);
+    }
+
+    private static TurSNJobItem jobItem(String id) {
+        TurSNJobItem jobItem = new TurSNJobItem(TurSNJobAction.CREATE, List.of("site"), Locale.US);
+        jobItem.getAttributes().put(TurSNFieldName.ID, id);
+        jobItem.getAttributes().put(TurSNFieldName.TITLE, "Title " + id);
+        jobItem.getAttributes().put(TurSNFieldName.SOURCE_APPS, "test");
+        return jobItem;
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.jms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNAttributeSpec;
+import com.viglet.turing.client.sn.job.TurSNJobAttributeSpec;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.commons.exception.TurRuntimeException;
+import com.viglet.turing.commons.se.field.TurSEFieldType;
+
+/**
+ * Unit tests for {@link TurSNJobItemsBinaryCodec}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+class TurSNJobItemsBinaryCodecTest {
+
+    private final TurSNJobItemsBinaryCodec codec = new TurSNJobItemsBinaryCodec("deflate", 1024);
+
+    @Test
+    void testRoundTripKeepsAllFields() {
+        TurSNJobItem jobItem = jobItem("1");
+        jobItem.setChecksum("abc");
+        jobItem.setEnvironment("PUBLISHING");
+        TurSNJobAttributeSpec spec = new TurSNJobAttributeSpec();
+        spec.setName("category");
+        spec.setType(TurSEFieldType.STRING);
+        spec.setMultiValued(true);
+        spec.setFacet(true);
+        spec.setFacetName(Map.of("en_US", "Category"));
+        jobItem.setSpecs(List.of(spec));
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("a", 1);
+        nested.put("b", null);
+        Date date = new Date(1700000000000L);
+        jobItem.getAttributes().putAll(Map.of("int", -42, "long", 1L << 40, "double", 1.5d,
+                "float", 2.5f, "bool", true, "date", date, "list", List.of("x", "y"),
+                "map", nested, "decimal", new BigDecimal("10.25"), "unicode", "ação ✓"));
+        jobItem.getAttributes().put("null", null);
+
+        TurSNJobItem decoded = codec.decode(codec.encode(new TurSNJobItems(jobItem)))
+                .getTuringDocuments().getFirst();
+
+        assertThat(decoded.getTurSNJobAction()).isEqualTo(TurSNJobAction.CREATE);
+        assertThat(decoded.getLocale()).isEqualTo(Locale.US);
+        assertThat(decoded.getSiteNames()).containsExactly("site");
+        assertThat(decoded.getChecksum()).isEqualTo("abc");
+        assertThat(decoded.getEnvironment()).isEqualTo("PUBLISHING");
+        assertThat(decoded.getAttributes()).isEqualTo(jobItem.getAttributes());
+        assertThat(decoded.getAttributes().get("date")).isEqualTo(date);
+        TurSNJobAttributeSpec decodedSpec = decoded.getSpecs().getFirst();
+        assertThat(decodedSpec.getName()).isEqualTo("category");
+        assertThat(decodedSpec.getType()).isEqualTo(TurSEFieldType.STRING);
+        assertThat(decodedSpec.isMultiValued()).isTrue();
+        assertThat(decodedSpec.isFacet()).isTrue();
+        assertThat(decodedSpec.isMandatory()).isFalse();
+        assertThat(decodedSpec.getFacetName()).isEqualTo(Map.of("en_US", "Category"));
+    }
+
+    @Test
+    void testAttributeSpecSubclassRoundTrip() {
+        TurSNJobItem jobItem = jobItem("1");
+        TurSNAttributeSpec spec = new TurSNAttributeSpec();
+        spec.setName("category");
+        spec.setType(TurSEFieldType.STRING);
+        spec.setClassName("com.example.CategoryExtractor");
+        jobItem.setSpecs(List.of(spec));
+
+        TurSNJobItem decoded = codec.decode(codec.encode(new TurSNJobItems(jobItem)))
+                .getTuringDocuments().getFirst();
+
+        assertThat(decoded.getSpecs().getFirst()).isInstanceOfSatisfying(TurSNAttributeSpec.class,
+                decodedSpec -> {
+                    assertThat(decodedSpec.getName()).isEqualTo("category");
+                    assertThat(decodedSpec.getClassName()).isEqualTo("com.example.CategoryExtractor");
+                });
+    }
+
+    @Test
+    void testNullFieldsRoundTrip() {
+        TurSNJobItem jobItem = new TurSNJobItem();
+        jobItem.setAttributes(null);
+        jobItem.setSpecs(null);
+
+        TurSNJobItem decoded = codec.decode(codec.encode(new TurSNJobItems(jobItem)))
+                .getTuringDocuments().getFirst();
+
+        assertThat(decoded.getTurSNJobAction()).isNull();
+        assertThat(decoded.getLocale()).isNull();
+        assertThat(decoded.getSiteNames()).isNull();
+        assertThat(decoded.getAttributes()).isNull();
+        assertThat(decoded.getSpecs()).isNull();
+    }
+
+    @Test
+    void testIsSmallerThanJavaSerialization() throws Exception {
+        TurSNJobItems jobItems = new TurSNJobItems(IntStream.range(0, 100)
+                .mapToObj(i -> jobItem(String.valueOf(i))).toList());
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+            out.writeObject(jobItems);
+        }
+
+        byte[] plain = new TurSNJobItemsBinaryCodec("none", 0).encode(jobItems);
+        byte[] compressed = codec.encode(jobItems);
+
+        assertThat(plain.length).isLessThan(serialized.size());
+        assertThat(compressed.length).isLessThan(plain.length);
+        assertThat(codec.decode(compressed).getTuringDocuments()).hasSize(100);
+        assertThat(codec.decode(plain).getTuringDocuments().get(99).getId()).isEqualTo("99");
+    }
+
+    @Test
+    void testRejectsUnknownHeader() {
+        assertThatThrownBy(() -> codec.decode(new byte[] { 1, 2, 3, 4 }))
+                .isInstanceOf(TurRuntimeException.class);
+        byte[] data = codec.encode(new TurSNJobItems(jobItem("1")));
+        data[2] = 99;
+        assertThatThrownBy(() -> codec.decode(data))
+                .isInstanceOf(TurRuntimeException.class)
+                .hasMessageContaining("version");
+    }
+
+    @Test
+    void testRejectsSerializedValuesOfUnknownClasses() {
+        TurSNJobItem jobItem = jobItem("1");
+        jobItem.getAttributes().put("custom", new CustomValue("value"));
+        byte[] data = codec.encode(new TurSNJobItems(jobItem));
+
+        assertThatThrownBy(() -> codec.decode(data))
+                .isInstanceOf(TurRuntimeException.class)
+                .hasRootCauseInstanceOf(InvalidClassException.class);
+    }
+
+    private record CustomValue(String value) implements Serializable {
+    }
+
+    private static TurSNJobItem jobItem(String id) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("id", id);
+        attributes.put("title", "Title of document " + id);
+        attributes.put("text", "Some text of the document number " + id);
+        attributes.put("url", "https://www.example.com/content/" + id + ".html");
+        return new TurSNJobItem(TurSNJobAction.CREATE, List.of("site"), Locale.US, attributes);
+    }
+}
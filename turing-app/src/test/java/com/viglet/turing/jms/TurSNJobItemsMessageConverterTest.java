@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.jms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.support.converter.MessageConversionException;
+
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.client.sn.job.TurSNJobItems;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.ObjectMessage;
+import jakarta.jms.Session;
+
+/**
+ * Unit tests for {@link TurSNJobItemsMessageConverter}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSNJobItemsMessageConverterTest {
+
+    private final TurSNJobItemsBinaryCodec codec = new TurSNJobItemsBinaryCodec("deflate", 1024);
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private BytesMessage bytesMessage;
+
+    @Mock
+    private ObjectMessage objectMessage;
+
+    @Test
+    void testJobItemsAreWrittenWithCodec() throws Exception {
+        TurSNJobItemsMessageConverter converter = new TurSNJobItemsMessageConverter(List.of(codec),
+                TurSNJobItemsBinaryCodec.NAME);
+        AtomicReference<byte[]> body = new AtomicReference<>();
+        when(session.createBytesMessage()).thenReturn(bytesMessage);
+        doAnswer(invocation -> {
+            body.set(invocation.getArgument(0));
+            return null;
+        }).when(bytesMessage).writeBytes(any(byte[].class));
+
+        converter.toMessage(jobItems(), session);
+
+        verify(bytesMessage).setStringProperty(TurSNJobItemsMessageConverter.CODEC_PROPERTY,
+                TurSNJobItemsBinaryCodec.NAME);
+        assertThat(codec.decode(body.get()).getTuringDocuments().getFirst().getId()).isEqualTo("1");
+    }
+
+    @Test
+    void testBytesMessageIsDecoded() throws Exception {
+        TurSNJobItemsMessageConverter converter = new TurSNJobItemsMessageConverter(List.of(codec),
+                TurSNJobItemsBinaryCodec.NAME);
+        byte[] data = codec.encode(jobItems());
+        when(bytesMessage.propertyExists(TurSNJobItemsMessageConverter.CODEC_PROPERTY)).thenReturn(true);
+        when(bytesMessage.getStringProperty(TurSNJobItemsMessageConverter.CODEC_PROPERTY))
+                .thenReturn(TurSNJobItemsBinaryCodec.NAME);
+        when(bytesMessage.getBodyLength()).thenReturn((long) data.length);
+        doAnswer(invocation -> {
+            byte[] target = invocation.getArgument(0);
+            System.arraycopy(data, 0, target, 0, data.length);
+            return data.length;
+        }).when(bytesMessage).readBytes(any(byte[].class));
+
+        Object payload = converter.fromMessage(bytesMessage);
+
+        assertThat(payload).isInstanceOf(TurSNJobItems.class);
+        assertThat(((TurSNJobItems) payload).getTuringDocuments().getFirst().getId()).isEqualTo("1");
+    }
+
+    @Test
+    void testUnknownCodecIsRejected() throws Exception {
+        TurSNJobItemsMessageConverter converter = new TurSNJobItemsMessageConverter(List.of(codec),
+                TurSNJobItemsBinaryCodec.NAME);
+        when(bytesMessage.propertyExists(TurSNJobItemsMessageConverter.CODEC_PROPERTY)).thenReturn(true);
+        when(bytesMessage.getStringProperty(TurSNJobItemsMessageConverter.CODEC_PROPERTY))
+                .thenReturn("other");
+
+        assertThatThrownBy(() -> converter.fromMessage(bytesMessage))
+                .isInstanceOf(MessageConversionException.class);
+    }
+
+    @Test
+    void testObjectMessagesAreStillSupported() throws Exception {
+        TurSNJobItemsMessageConverter converter = new TurSNJobItemsMessageConverter(List.of(codec),
+                "java");
+        TurSNJobItems jobItems = jobItems();
+        when(session.createObjectMessage(jobItems)).thenReturn(objectMessage);
+        when(objectMessage.getObject()).thenReturn(jobItems);
+
+        assertThat(converter.toMessage(jobItems, session)).isSameAs(objectMessage);
+        assertThat(converter.fromMessage(objectMessage)).isSameAs(jobItems);
+    }
+
+    private static TurSNJobItems jobItems() {
+        TurSNJobItem jobItem = new TurSNJobItem(TurSNJobAction.CREATE, List.of("site"), Locale.US);
+        jobItem.getAttributes().put("id", "1");
+        return new TurSNJobItems(jobItem);
+    }
+}
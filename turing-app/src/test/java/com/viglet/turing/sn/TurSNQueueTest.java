@@ -22,12 +22,23 @@
 package com.viglet.turing.sn;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.List;
 
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.StandardMBean;
+
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.management.ObjectNameBuilder;
+import org.apache.activemq.artemis.api.core.management.QueueControl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
@@ -36,6 +47,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jms.core.BrowserCallback;
 import org.springframework.jms.core.JmsTemplate;
 
+import com.viglet.turing.api.sn.bean.TurSNQueueStatisticsBean;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.jms.QueueBrowser;
 import jakarta.jms.Session;
 
@@ -57,6 +71,12 @@ class TurSNQueueTest {
     @Mock
     private QueueBrowser browser;
 
+    @Mock
+    private QueueControl queueControl;
+
+    private final MBeanServer mbeanServer = MBeanServerFactory.newMBeanServer();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Test
     void testGetQueueSizeCountsMessages() throws Exception {
         when(browser.getEnumeration()).thenReturn(Collections.enumeration(List.of("a", "b", "c")));
@@ -67,8 +87,76 @@ class TurSNQueueTest {
                     return callback.doInJms(session, browser);
                 });
 
-        TurSNQueue queue = new TurSNQueue(jmsTemplate);
+        TurSNQueue queue = new TurSNQueue(jmsTemplate, mbeanServer, meterRegistry, 60);
 
         assertThat(queue.getQueueSize()).isEqualTo(3);
     }
+
+    @Test
+    void testStatisticsUseQueueControl() throws Exception {
+        registerQueueControl();
+        when(queueControl.getMessageCount()).thenReturn(1_000_000L);
+        when(queueControl.getMessagesAdded()).thenReturn(1_500_000L);
+        when(queueControl.getDeliveringCount()).thenReturn(4);
+        when(queueControl.getConsumerCount()).thenReturn(2);
+        TurSNQueue queue = new TurSNQueue(jmsTemplate, mbeanServer, meterRegistry, 60);
+
+        TurSNQueueStatisticsBean statistics = queue.getStatistics();
+
+        assertThat(queue.getQueueSize()).isEqualTo(1_000_000);
+        assertThat(statistics.getMessages()).isEqualTo(1_000_000L);
+        assertThat(statistics.getEnqueued()).isEqualTo(1_500_000L);
+        assertThat(statistics.getInFlight()).isEqualTo(4);
+        assertThat(statistics.getConsumers()).isEqualTo(2);
+        assertThat(meterRegistry.get(TurSNQueue.QUEUE_MESSAGES).gauge().value()).isEqualTo(1_000_000D);
+        assertThat(meterRegistry.get(TurSNQueue.QUEUE_ENQUEUED).functionCounter().count())
+                .isEqualTo(1_500_000D);
+        verify(jmsTemplate, never()).browse(any(String.class), any(BrowserCallback.class));
+    }
+
+    @Test
+    void testListenerCounters() {
+        TurSNQueue queue = new TurSNQueue(jmsTemplate, mbeanServer, meterRegistry, 10);
+        for (int i = 0; i < 20; i++) {
+            queue.processed("site");
+        }
+        queue.failed();
+
+        assertThat(queue.getDocsPerSecond("site")).isEqualTo(2D);
+        assertThat(queue.getDocsPerSecond("other")).isZero();
+        assertThat(meterRegistry.get(TurSNQueue.PROCESSED).functionCounter().count()).isEqualTo(20D);
+        assertThat(meterRegistry.get(TurSNQueue.FAILED).functionCounter().count()).isEqualTo(1D);
+        assertThat(meterRegistry.get(TurSNQueue.THROUGHPUT).tag(TurSNQueue.SITE, "site").gauge().value())
+                .isEqualTo(2D);
+    }
+
+    @Test
+    void testRemovedSiteHasNoThroughput() {
+        TurSNQueue queue = new TurSNQueue(jmsTemplate, mbeanServer, meterRegistry, 10);
+        when(jmsTemplate.browse(eq(TurSNConstants.INDEXING_QUEUE), ArgumentMatchers.<BrowserCallback<Integer>>any()))
+                .thenReturn(0);
+        queue.processed("deleted");
+        queue.processed("site");
+
+        queue.removeSite("deleted");
+
+        assertThat(queue.getDocsPerSecond("deleted")).isZero();
+        assertThat(queue.getStatistics().getDocsPerSecond()).containsOnlyKeys("site");
+        assertThat(meterRegistry.find(TurSNQueue.THROUGHPUT).tag(TurSNQueue.SITE, "deleted").gauge()).isNull();
+        assertThat(meterRegistry.find(TurSNQueue.THROUGHPUT).tag(TurSNQueue.SITE, "site").gauge()).isNotNull();
+    }
+
+    @Test
+    void testGaugesDoNotBrowseWithoutQueueMBean() {
+        new TurSNQueue(jmsTemplate, mbeanServer, meterRegistry, 60);
+
+        assertThat(meterRegistry.get(TurSNQueue.QUEUE_MESSAGES).gauge().value()).isNaN();
+        verify(jmsTemplate, never()).browse(any(String.class), any(BrowserCallback.class));
+    }
+
+    private void registerQueueControl() throws Exception {
+        mbeanServer.registerMBean(new StandardMBean(queueControl, QueueControl.class),
+                ObjectNameBuilder.DEFAULT.getQueueObjectName(SimpleString.of(TurSNConstants.INDEXING_QUEUE),
+                        SimpleString.of(TurSNConstants.INDEXING_QUEUE), RoutingType.ANYCAST));
+    }
 }
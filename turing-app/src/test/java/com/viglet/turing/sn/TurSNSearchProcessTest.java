@@ -23,6 +23,7 @@ package com.viglet.turing.sn;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -62,6 +63,8 @@ import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtReposi
 import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
 import com.viglet.turing.persistence.repository.sn.metric.TurSNSiteMetricAccessRepository;
 import com.viglet.turing.persistence.repository.sn.metric.TurSNSiteMetricAccessTerm;
+import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingConditionRepository;
+import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingExpressionRepository;
 import com.viglet.turing.plugins.se.TurSearchEnginePlugin;
 import com.viglet.turing.plugins.se.TurSearchEnginePluginFactory;
 import com.viglet.turing.se.facet.TurSEFacetResult;
@@ -69,12 +72,17 @@ import com.viglet.turing.se.facet.TurSEFacetResultAttr;
 import com.viglet.turing.se.result.TurSEGroup;
 import com.viglet.turing.se.result.TurSEResult;
 import com.viglet.turing.se.result.TurSEResults;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfigRegistry;
 import com.viglet.turing.sn.facet.TurSNFacetDefinitionFactory;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.sn.search.TurSNSearchFanOut;
 import com.viglet.turing.sn.spotlight.TurSNSpotlightProcess;
 import com.viglet.turing.solr.TurSolrInstance;
 import com.viglet.turing.solr.TurSolrInstanceProcess;
 import com.viglet.turing.solr.TurSolrQueryBuilder;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Unit tests for TurSNSearchProcess.
  *
@@ -97,6 +105,12 @@ class TurSNSearchProcessTest {
         @Mock
         private TurSNSiteLocaleRepository turSNSiteLocaleRepository;
 
+        @Mock
+        private TurSNRankingExpressionRepository turSNRankingExpressionRepository;
+
+        @Mock
+        private TurSNRankingConditionRepository turSNRankingConditionRepository;
+
         @Mock
         private TurSolrInstanceProcess turSolrInstanceProcess;
 
@@ -115,13 +129,28 @@ class TurSNSearchProcessTest {
         private final TurSNFacetDefinitionFactory turSNFacetDefinitionFactory = new TurSNFacetDefinitionFactory();
 
         private TurSNSearchProcess process(boolean metricsEnabled) {
-                return new TurSNSearchProcess(turSNSiteFieldExtRepository,
-                                turSNSiteFieldExtFacetRepository, turSNSiteRepository,
-                                turSNSiteLocaleRepository,
+                return new TurSNSearchProcess(configRegistry(), turSNSiteRepository,
                                 turSolrInstanceProcess, turSNSpotlightProcess,
                                 turSNSiteMetricAccessRepository,
                                 metricsEnabled, searchEnginePluginFactory, turSolrQueryBuilder,
-                                turSNFacetDefinitionFactory);
+                                turSNFacetDefinitionFactory, fanOut());
+        }
+
+        private static TurSNSearchFanOut fanOut() {
+                return new TurSNSearchFanOut(true, 10000, new SimpleMeterRegistry());
+        }
+
+        private TurSNSiteSearchConfigRegistry configRegistry() {
+                return new TurSNSiteSearchConfigRegistry(turSNSiteRepository, turSNSiteLocaleRepository,
+                                turSNSiteFieldExtRepository, turSNSiteFieldExtFacetRepository,
+                                turSNRankingExpressionRepository, turSNRankingConditionRepository,
+                                new TurSNSchemaRegistry(turSNSiteFieldExtRepository, 0), turSNFacetDefinitionFactory);
+        }
+
+        private static TurSNSiteLocale locale(Locale language) {
+                TurSNSiteLocale turSNSiteLocale = new TurSNSiteLocale();
+                turSNSiteLocale.setLanguage(language);
+                return turSNSiteLocale;
         }
 
         private TurSNSiteSearchContext context(String query) {
@@ -153,9 +182,10 @@ class TurSNSearchProcessTest {
         @Test
         void testExistsByTurSNSiteAndLanguage() {
                 TurSNSite site = new TurSNSite();
+                site.setName("site");
                 when(turSNSiteRepository.findByName("site")).thenReturn(Optional.of(site));
-                when(turSNSiteLocaleRepository.existsByTurSNSiteAndLanguage(site, Locale.US))
-                                .thenReturn(true);
+                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site)))
+                                .thenReturn(List.of(locale(Locale.US)));
 
                 assertThat(process(false).existsByTurSNSiteAndLanguage("site", Locale.US)).isTrue();
         }
@@ -245,6 +275,7 @@ class TurSNSearchProcessTest {
         @Test
         void testResponseLocalesBuildsLocaleLinks() {
                 TurSNSite site = new TurSNSite();
+                site.setName("site");
 
                 TurSNSiteLocale localeEn = new TurSNSiteLocale();
                 localeEn.setLanguage(Locale.US);
@@ -282,11 +313,10 @@ class TurSNSearchProcessTest {
 
         @Test
         void testPopulateMetricsSkipsWhenDisabledOrWildcard() {
-                TurSNSearchProcess processDisabled = new TurSNSearchProcess(turSNSiteFieldExtRepository,
-                                turSNSiteFieldExtFacetRepository, turSNSiteRepository, turSNSiteLocaleRepository,
+                TurSNSearchProcess processDisabled = new TurSNSearchProcess(configRegistry(), turSNSiteRepository,
                                 turSolrInstanceProcess, turSNSpotlightProcess, turSNSiteMetricAccessRepository,
                                 false, searchEnginePluginFactory, turSolrQueryBuilder,
-                                turSNFacetDefinitionFactory);
+                                turSNFacetDefinitionFactory, fanOut());
 
                 TurSNSearchParams searchParamsWildcard = new TurSNSearchParams();
                 searchParamsWildcard.setQ("*");
@@ -300,11 +330,10 @@ class TurSNSearchProcessTest {
 
                 verify(turSNSiteMetricAccessRepository, never()).save(any());
 
-                TurSNSearchProcess processEnabled = new TurSNSearchProcess(turSNSiteFieldExtRepository,
-                                turSNSiteFieldExtFacetRepository, turSNSiteRepository, turSNSiteLocaleRepository,
+                TurSNSearchProcess processEnabled = new TurSNSearchProcess(configRegistry(), turSNSiteRepository,
                                 turSolrInstanceProcess, turSNSpotlightProcess, turSNSiteMetricAccessRepository,
                                 true, searchEnginePluginFactory, turSolrQueryBuilder,
-                                turSNFacetDefinitionFactory);
+                                turSNFacetDefinitionFactory, fanOut());
 
                 TurSNSearchParams searchParams = new TurSNSearchParams();
                 searchParams.setQ("java");
@@ -353,9 +382,9 @@ class TurSNSearchProcessTest {
                                 .thenReturn(List.of(facetField));
                 when(turSNSiteFieldExtFacetRepository.findByTurSNSiteFieldExtAndLocale(facetField, Locale.US))
                                 .thenReturn(Set.of(facetLocale));
-                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of());
+                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(locale(Locale.US)));
                 when(turSolrQueryBuilder.hasGroup(any())).thenReturn(false);
-                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any())).thenReturn(List.of("category"));
+                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any(), any())).thenReturn(List.of("category"));
                 when(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
                                 .thenReturn(Optional.of(org.mockito.Mockito.mock(TurSolrInstance.class)));
 
@@ -415,9 +444,9 @@ class TurSNSearchProcessTest {
                                 .thenReturn(List.of());
                 when(turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(site, 1))
                                 .thenReturn(List.of());
-                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of());
+                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(locale(Locale.US)));
                 when(turSolrQueryBuilder.hasGroup(any())).thenReturn(true);
-                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any())).thenReturn(List.of());
+                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any(), any())).thenReturn(List.of());
                 when(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
                                 .thenReturn(Optional.of(org.mockito.Mockito.mock(TurSolrInstance.class)));
 
@@ -537,9 +566,9 @@ class TurSNSearchProcessTest {
                 when(turSNSiteRepository.findByName("site")).thenReturn(Optional.of(site));
                 when(turSNSiteFieldExtRepository.findByTurSNSiteAndFacetAndEnabled(site, 1, 1)).thenReturn(List.of());
                 when(turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(site, 1)).thenReturn(List.of());
-                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of());
+                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(locale(Locale.US)));
                 when(turSolrQueryBuilder.hasGroup(any())).thenReturn(false);
-                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any())).thenReturn(List.of());
+                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any(), any())).thenReturn(List.of());
                 when(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
                                 .thenReturn(Optional.of(org.mockito.Mockito.mock(TurSolrInstance.class)));
 
@@ -551,7 +580,8 @@ class TurSNSearchProcessTest {
                 spotlight.setLink("/spotlight");
                 spotlight.setReferenceId("ref-1");
                 spotlight.setType("doc");
-                when(turSNSpotlightProcess.getSpotlightsFromQuery(any(), eq(site)))
+                when(turSNSpotlightProcess.getSpotlightsFromQuery(any(),
+                                argThat(turSNSite -> "site-id".equals(turSNSite.getId()))))
                                 .thenReturn(Map.of(1, List.of(spotlight)));
 
                 TurSEResults seResults = TurSEResults.builder()
@@ -608,9 +638,9 @@ class TurSNSearchProcessTest {
                                 .thenReturn(List.of(facetField));
                 when(turSNSiteFieldExtFacetRepository.findByTurSNSiteFieldExtAndLocale(facetField, Locale.US))
                                 .thenReturn(Set.of());
-                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of());
+                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(locale(Locale.US)));
                 when(turSolrQueryBuilder.hasGroup(any())).thenReturn(false);
-                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any())).thenReturn(List.of("category"));
+                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any(), any())).thenReturn(List.of("category"));
                 when(turSolrQueryBuilder.getFqFields(any())).thenReturn(List.of("category"));
                 when(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
                                 .thenReturn(Optional.of(org.mockito.Mockito.mock(TurSolrInstance.class)));
@@ -651,6 +681,75 @@ class TurSNSearchProcessTest {
                 verify(plugin).retrieveFacetResults(any(), eq("category"));
         }
 
+        @Test
+        void testSearchFacetAndOrSkipsFacetQueryWhenOwnFilterWasExcluded() {
+                TurSearchEnginePlugin plugin = org.mockito.Mockito.mock(TurSearchEnginePlugin.class);
+                when(searchEnginePluginFactory.getDefaultPlugin()).thenReturn(plugin);
+
+                TurSNSite site = new TurSNSite();
+                site.setId("site-id");
+                site.setName("site");
+                site.setFacet(1);
+                site.setFacetType(TurSNSiteFacetFieldEnum.AND);
+                site.setFacetItemType(TurSNSiteFacetFieldEnum.OR);
+                site.setItemsPerFacet(10);
+                site.setSpotlightWithResults(0);
+
+                TurSNSiteFieldExt facetField = TurSNSiteFieldExt.builder()
+                                .name("category")
+                                .facetName("Category")
+                                .snType(TurSNFieldType.SE)
+                                .type(com.viglet.turing.commons.se.field.TurSEFieldType.STRING)
+                                .enabled(1)
+                                .facet(1)
+                                .build();
+
+                when(turSNSiteRepository.findByName("site")).thenReturn(Optional.of(site));
+                when(turSNSiteFieldExtRepository.findByTurSNSiteAndFacetAndEnabled(site, 1, 1))
+                                .thenReturn(List.of(facetField));
+                when(turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(site, 1))
+                                .thenReturn(List.of(facetField));
+                when(turSNSiteFieldExtFacetRepository.findByTurSNSiteFieldExtAndLocale(facetField, Locale.US))
+                                .thenReturn(Set.of());
+                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(locale(Locale.US)));
+                when(turSolrQueryBuilder.hasGroup(any())).thenReturn(false);
+                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any(), any())).thenReturn(List.of("category"));
+                when(turSolrQueryBuilder.getFqFields(any())).thenReturn(List.of("category"));
+                when(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
+                                .thenReturn(Optional.of(org.mockito.Mockito.mock(TurSolrInstance.class)));
+
+                TurSEFacetResult baseFacet = new TurSEFacetResult();
+                baseFacet.setFacet("category");
+                baseFacet.add("books", new TurSEFacetResultAttr("books", 7));
+                baseFacet.setOwnFilterExcluded(true);
+
+                TurSEResults searchResults = TurSEResults.builder()
+                                .results(List.of(TurSEResult.builder().fields(Map.of("title", "Doc")).build()))
+                                .facetResults(List.of(baseFacet))
+                                .spellCheck(new TurSESpellCheckResult())
+                                .numFound(1)
+                                .start(0)
+                                .limit(10)
+                                .currentPage(1)
+                                .pageCount(1)
+                                .queryString("java")
+                                .build();
+                when(plugin.retrieveSearchResults(any())).thenReturn(Optional.of(searchResults));
+
+                TurSNSearchParams params = new TurSNSearchParams();
+                params.setQ("java");
+                params.setFq(List.of("category:books"));
+                TurSNSiteSearchContext context = new TurSNSiteSearchContext("site", new TurSNConfig(),
+                                new TurSEParameters(params, new TurSNSitePostParamsBean()), Locale.US,
+                                URI.create("http://localhost/search?q=java&fq=category:books"));
+
+                var bean = process(false).search(context);
+
+                assertThat(bean.getWidget().getFacet()).isNotEmpty();
+                assertThat(bean.getWidget().getFacet().getFirst().getFacets().getFirst().getCount()).isEqualTo(7);
+                verify(plugin, never()).retrieveFacetResults(any(), any());
+        }
+
         @Test
         void testSearchSecondaryFacetAndFacetItemAndLinks() {
                 TurSearchEnginePlugin plugin = org.mockito.Mockito.mock(TurSearchEnginePlugin.class);
@@ -683,9 +782,9 @@ class TurSNSearchProcessTest {
                                 .thenReturn(List.of(facetField));
                 when(turSNSiteFieldExtFacetRepository.findByTurSNSiteFieldExtAndLocale(facetField, Locale.US))
                                 .thenReturn(Set.of());
-                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of());
+                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(locale(Locale.US)));
                 when(turSolrQueryBuilder.hasGroup(any())).thenReturn(false);
-                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any())).thenReturn(List.of("category"));
+                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any(), any())).thenReturn(List.of("category"));
                 when(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
                                 .thenReturn(Optional.of(org.mockito.Mockito.mock(TurSolrInstance.class)));
 
@@ -753,9 +852,9 @@ class TurSNSearchProcessTest {
                                 .thenReturn(List.of(facetField));
                 when(turSNSiteFieldExtFacetRepository.findByTurSNSiteFieldExtAndLocale(facetField, Locale.US))
                                 .thenReturn(Set.of());
-                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of());
+                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(locale(Locale.US)));
                 when(turSolrQueryBuilder.hasGroup(any())).thenReturn(false);
-                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any())).thenReturn(List.of("entity"));
+                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any(), any())).thenReturn(List.of("entity"));
                 when(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
                                 .thenReturn(Optional.of(org.mockito.Mockito.mock(TurSolrInstance.class)));
 
@@ -821,9 +920,9 @@ class TurSNSearchProcessTest {
                                 .thenReturn(List.of(facetField));
                 when(turSNSiteFieldExtFacetRepository.findByTurSNSiteFieldExtAndLocale(facetField, Locale.US))
                                 .thenReturn(Set.of());
-                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of());
+                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(locale(Locale.US)));
                 when(turSolrQueryBuilder.hasGroup(any())).thenReturn(false);
-                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any())).thenReturn(List.of("entity"));
+                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any(), any())).thenReturn(List.of("entity"));
                 when(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
                                 .thenReturn(Optional.of(org.mockito.Mockito.mock(TurSolrInstance.class)));
 
@@ -888,9 +987,9 @@ class TurSNSearchProcessTest {
                                 .thenReturn(List.of(facetField));
                 when(turSNSiteFieldExtFacetRepository.findByTurSNSiteFieldExtAndLocale(facetField, Locale.US))
                                 .thenReturn(Set.of());
-                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of());
+                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(locale(Locale.US)));
                 when(turSolrQueryBuilder.hasGroup(any())).thenReturn(false);
-                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any())).thenReturn(List.of("category"));
+                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any(), any())).thenReturn(List.of("category"));
                 when(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
                                 .thenReturn(Optional.of(org.mockito.Mockito.mock(TurSolrInstance.class)));
 
@@ -951,9 +1050,9 @@ class TurSNSearchProcessTest {
                                 .thenReturn(List.of(facetField));
                 when(turSNSiteFieldExtFacetRepository.findByTurSNSiteFieldExtAndLocale(facetField, Locale.US))
                                 .thenReturn(Set.of());
-                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of());
+                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(locale(Locale.US)));
                 when(turSolrQueryBuilder.hasGroup(any())).thenReturn(false);
-                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any())).thenReturn(List.of("category"));
+                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any(), any())).thenReturn(List.of("category"));
                 when(turSolrQueryBuilder.getFqFields(any())).thenReturn(List.of());
                 when(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
                                 .thenReturn(Optional.of(org.mockito.Mockito.mock(TurSolrInstance.class)));
@@ -1020,9 +1119,9 @@ class TurSNSearchProcessTest {
                                 .thenReturn(List.of(facetField));
                 when(turSNSiteFieldExtFacetRepository.findByTurSNSiteFieldExtAndLocale(facetField, Locale.US))
                                 .thenReturn(Set.of());
-                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of());
+                when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(locale(Locale.US)));
                 when(turSolrQueryBuilder.hasGroup(any())).thenReturn(false);
-                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any())).thenReturn(List.of("category"));
+                when(turSolrQueryBuilder.getFacetFieldsInFilterQuery(any(), any())).thenReturn(List.of("category"));
                 when(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
                                 .thenReturn(Optional.of(org.mockito.Mockito.mock(TurSolrInstance.class)));
 
@@ -126,7 +126,26 @@ class TurSNUtilsTest {
 
         String result = TurSNUtils.getCacheKey(siteName, request);
 
-        assertThat(result).isEqualTo("testSite_q=test&page=1");
+        assertThat(result).isEqualTo("testSite_page=1&q=test");
+    }
+
+    @Test
+    void testGetCacheKeyIsSameForEquivalentQueryStrings() {
+        when(request.getQueryString()).thenReturn("sort=newest&fq%5B%5D=type:news&q=java&p=1&fq.op=NONE");
+        String result = TurSNUtils.getCacheKey("testSite", request);
+
+        when(request.getQueryString()).thenReturn("q=java&fq[]=type%3Anews&sort=newest");
+
+        assertThat(TurSNUtils.getCacheKey("testSite", request)).isEqualTo(result)
+                .isEqualTo("testSite_fq%5B%5D=type%3Anews&q=java&sort=newest");
+    }
+
+    @Test
+    void testGetCacheKeyKeepsOrderOfRepeatedParameters() {
+        when(request.getQueryString()).thenReturn("fq[]=b:2&q=*&fq[]=a:1");
+
+        assertThat(TurSNUtils.getCacheKey("testSite", request))
+                .isEqualTo("testSite_fq%5B%5D=b%3A2&fq%5B%5D=a%3A1");
     }
 
     @Test
@@ -136,7 +155,7 @@ class TurSNUtilsTest {
 
         String result = TurSNUtils.getCacheKey(siteName, request);
 
-        assertThat(result).isEqualTo("testSite_null");
+        assertThat(result).isEqualTo("testSite_");
     }
 
     @Test
@@ -239,6 +258,13 @@ class TurSNUtilsTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void testIsSpellCheckEnabledWhenNotSet() {
+        when(turSNSite.getSpellCheck()).thenReturn(null);
+
+        assertThat(TurSNUtils.isSpellCheckEnabled(turSNSite)).isFalse();
+    }
+
     @Test
     void testAddFilterQuery() {
         URI uri = URI.create("http://example.com/search?q=test");
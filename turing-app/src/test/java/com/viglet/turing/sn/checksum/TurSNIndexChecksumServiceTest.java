@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.checksum;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.commons.sn.field.TurSNFieldName;
+import com.viglet.turing.commons.se.field.TurSEFieldType;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.checksum.TurSNIndexChecksum;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
+import com.viglet.turing.persistence.repository.sn.checksum.TurSNIndexChecksumRepository;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.sn.TurSNFieldType;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+
+/**
+ * Unit tests for {@link TurSNIndexChecksumService}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSNIndexChecksumServiceTest {
+
+    @Mock
+    private TurSNIndexChecksumRepository repository;
+    @Mock
+    private TurSNSiteFieldExtRepository fieldExtRepository;
+    @Mock
+    private TurSNSchemaRegistry schemaRegistry;
+
+    private TurSNIndexChecksumService service;
+    private TurSNSite site;
+
+    @BeforeEach
+    void setUp() {
+        service = new TurSNIndexChecksumService(repository, fieldExtRepository, schemaRegistry, true, 1000);
+        site = new TurSNSite();
+        site.setId("site-id");
+        site.setName("site");
+        lenient().when(fieldExtRepository.findByTurSNSite(any(), eq(site)))
+                .thenReturn(List.of(field("title", TurSEFieldType.TEXT)));
+    }
+
+    @Test
+    void testWithoutChecksumIsNeverUnchanged() {
+        assertThat(service.isUnchanged(site, jobItem("1", null))).isFalse();
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void testUnknownDocumentDoesNotQueryDatabaseOnceLoaded() {
+        when(repository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        service.loadBloomFilter();
+
+        assertThat(service.isUnchanged(site, jobItem("1", "abc"))).isFalse();
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void testQueriesDatabaseUntilLoaded() {
+        String docKey = TurSNIndexChecksumService.docKey(site, Locale.US, "1");
+        String checksum = stored("abc");
+        when(repository.findById(docKey)).thenReturn(Optional.of(
+                new TurSNIndexChecksum(docKey, "site-id", Locale.US, checksum)));
+
+        assertThat(service.isUnchanged(site, jobItem("1", "abc"))).isTrue();
+        verify(repository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void testIndexedChecksumIsUnchanged() {
+        TurSNJobItem jobItem = jobItem("1", "abc");
+        String docKey = TurSNIndexChecksumService.docKey(site, Locale.US, "1");
+        when(repository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        service.loadBloomFilter();
+        String checksum = stored("abc");
+        when(repository.findById(docKey)).thenReturn(
+                Optional.of(new TurSNIndexChecksum(docKey, "site-id", Locale.US, checksum)));
+
+        service.indexed(site, List.of(jobItem));
+
+        verify(repository).saveAll(anyList());
+        assertThat(service.isUnchanged(site, jobItem)).isTrue();
+        assertThat(service.isUnchanged(site, jobItem("1", "def"))).isFalse();
+    }
+
+    @Test
+    void testLoadsKnownChecksumsFromDatabase() {
+        String docKey = TurSNIndexChecksumService.docKey(site, Locale.US, "1");
+        TurSNIndexChecksum checksum = new TurSNIndexChecksum(docKey, "site-id", Locale.US, stored("abc"));
+        when(repository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(checksum)));
+        when(repository.findById(docKey)).thenReturn(Optional.empty());
+        service.loadBloomFilter();
+
+        assertThat(service.isUnchanged(site, jobItem("1", "abc"))).isFalse();
+        verify(repository).findById(docKey);
+    }
+
+    @Test
+    void testChangedFieldsClearChecksumsOfSite() {
+        String docKey = TurSNIndexChecksumService.docKey(site, Locale.US, "1");
+        String before = stored("abc");
+        when(repository.findById(docKey)).thenReturn(
+                Optional.of(new TurSNIndexChecksum(docKey, "site-id", Locale.US, before)));
+        when(schemaRegistry.getVersion(site)).thenReturn(1L);
+        when(fieldExtRepository.findByTurSNSite(any(), eq(site)))
+                .thenReturn(List.of(field("title", TurSEFieldType.STRING)));
+
+        assertThat(service.isUnchanged(site, jobItem("1", "abc"))).isFalse();
+        verify(repository).deleteBySnSiteId("site-id");
+    }
+
+    @Test
+    void testUnchangedFieldsKeepChecksumsOfSite() {
+        stored("abc");
+        when(schemaRegistry.getVersion(site)).thenReturn(1L);
+
+        service.getConfigVersion(site);
+
+        verify(fieldExtRepository, times(2)).findByTurSNSite(any(), eq(site));
+        verify(repository, never()).deleteBySnSiteId(any());
+    }
+
+    @Test
+    void testDisabledStoreIgnoresChecksums() {
+        TurSNIndexChecksumService disabled = new TurSNIndexChecksumService(repository, fieldExtRepository,
+                schemaRegistry, false, 1000);
+
+        disabled.indexed(site, List.of(jobItem("1", "abc")));
+
+        assertThat(disabled.isUnchanged(site, jobItem("1", "abc"))).isFalse();
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testDeIndexedRemovesChecksums() {
+        service.deIndexed(site, List.of(jobItem("1", null)));
+
+        verify(repository).deleteAllByIdInBatch(
+                List.of(TurSNIndexChecksumService.docKey(site, Locale.US, "1")));
+    }
+
+    private String stored(String checksum) {
+        return checksum + "|" + service.getConfigVersion(site);
+    }
+
+    private static TurSNSiteFieldExt field(String name, TurSEFieldType type) {
+        TurSNSiteFieldExt turSNSiteFieldExt = new TurSNSiteFieldExt();
+        turSNSiteFieldExt.setName(name);
+        turSNSiteFieldExt.setType(type);
+        turSNSiteFieldExt.setSnType(TurSNFieldType.SE);
+        return turSNSiteFieldExt;
+    }
+
+    private static TurSNJobItem jobItem(String id, String checksum) {
+        TurSNJobItem jobItem = new TurSNJobItem(TurSNJobAction.CREATE, List.of("site"), Locale.US);
+        jobItem.getAttributes().put(TurSNFieldName.ID, id);
+        jobItem.setChecksum(checksum);
+        return jobItem;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteCustomFacet;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteCustomFacetItem;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExtFacet;
+import com.viglet.turing.persistence.model.sn.locale.TurSNSiteLocale;
+import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtFacetRepository;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
+import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingConditionRepository;
+import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingExpressionRepository;
+import com.viglet.turing.sn.facet.TurSNFacetDefinitionFactory;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.solr.TurSolrRoutingEvent;
+
+/**
+ * Unit tests for {@link TurSNSiteSearchConfigRegistry}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSNSiteSearchConfigRegistryTest {
+
+    @Mock
+    private TurSNSiteRepository turSNSiteRepository;
+
+    @Mock
+    private TurSNSiteLocaleRepository turSNSiteLocaleRepository;
+
+    @Mock
+    private TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
+
+    @Mock
+    private TurSNSiteFieldExtFacetRepository turSNSiteFieldExtFacetRepository;
+
+    @Mock
+    private TurSNRankingExpressionRepository turSNRankingExpressionRepository;
+
+    @Mock
+    private TurSNRankingConditionRepository turSNRankingConditionRepository;
+
+    private TurSNSchemaRegistry turSNSchemaRegistry;
+    private TurSNSiteSearchConfigRegistry registry;
+    private TurSNSite site;
+
+    @BeforeEach
+    void setUp() {
+        turSNSchemaRegistry = new TurSNSchemaRegistry(turSNSiteFieldExtRepository, 0);
+        registry = new TurSNSiteSearchConfigRegistry(turSNSiteRepository, turSNSiteLocaleRepository,
+                turSNSiteFieldExtRepository, turSNSiteFieldExtFacetRepository,
+                turSNRankingExpressionRepository, turSNRankingConditionRepository,
+                turSNSchemaRegistry, new TurSNFacetDefinitionFactory());
+        site = new TurSNSite();
+        site.setId("site-id");
+        site.setName("site");
+    }
+
+    @Test
+    void testConfigIsBuiltOnce() {
+        when(turSNSiteRepository.findByName("site")).thenReturn(Optional.of(site));
+
+        TurSNSiteSearchConfig config = registry.find("site").orElseThrow();
+
+        assertThat(registry.find("site")).containsSame(config);
+        assertThat(registry.get(site)).isSameAs(config);
+        verify(turSNSiteRepository).findByName("site");
+        verify(turSNSiteFieldExtRepository).findByTurSNSiteAndEnabled(site, 1);
+    }
+
+    @Test
+    void testConfigCompilesFieldsAndLabels() {
+        TurSNSiteFieldExt category = TurSNSiteFieldExt.builder().name("category").facet(1).enabled(1)
+                .facetName("Category").build();
+        TurSNSiteFieldExt price = TurSNSiteFieldExt.builder().name("price").facet(0).enabled(1)
+                .customFacets(Set.of(TurSNSiteCustomFacet.builder().name("price_range").build())).build();
+        TurSNSiteFieldExt title = TurSNSiteFieldExt.builder().name("title").facet(0).enabled(1)
+                .defaultValue("Untitled").build();
+        TurSNSiteLocale english = new TurSNSiteLocale();
+        english.setLanguage(Locale.US);
+        TurSNSiteFieldExtFacet label = TurSNSiteFieldExtFacet.builder().locale(Locale.US).label("Categories")
+                .build();
+        when(turSNSiteLocaleRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(english));
+        when(turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(site, 1)).thenReturn(List.of(category, price,
+                title));
+        when(turSNSiteFieldExtRepository.findByTurSNSiteAndRequiredAndEnabled(site, 1, 1))
+                .thenReturn(List.of(title));
+        when(turSNSiteFieldExtFacetRepository.findByTurSNSiteFieldExtAndLocale(category, Locale.US))
+                .thenReturn(Set.of(label));
+
+        TurSNSiteSearchConfig config = registry.get(site);
+
+        assertThat(config.getFacetFields()).extracting(TurSNSiteFieldExt::getName)
+                .containsExactly("category", "price");
+        assertThat(config.getFieldExtMap()).containsOnlyKeys("category", "price", "title");
+        assertThat(config.getRequiredFields()).containsEntry("title", "Untitled");
+        assertThat(config.hasLocale(Locale.US)).isTrue();
+        assertThat(config.hasLocale(Locale.FRANCE)).isFalse();
+        assertThat(config.getFacetLabel(category, Locale.US).getLabel()).isEqualTo("Categories");
+        assertThat(config.getFacetLabel(category, Locale.FRANCE).getLabel()).isEqualTo("Category");
+        assertThat(config.getBoostQueries()).isEmpty();
+    }
+
+    @Test
+    void testConfigIsRebuiltWhenSchemaVersionChanges() {
+        TurSNSiteSearchConfig config = registry.get(site);
+
+        turSNSchemaRegistry.invalidate(site);
+        TurSNSiteSearchConfig rebuilt = registry.get(site);
+
+        assertThat(rebuilt).isNotSameAs(config);
+        assertThat(rebuilt.getVersion()).isGreaterThan(config.getVersion());
+        assertThat(registry.get(site)).isSameAs(rebuilt);
+        verify(turSNSiteFieldExtRepository).findByTurSNSiteAndEnabled(site, 1);
+        verify(turSNSiteFieldExtRepository).findByTurSNSiteAndEnabled(config.getTurSNSite(), 1);
+    }
+
+    @Test
+    void testConfigKeepsCopiesOfTheEntities() {
+        TurSNSiteCustomFacetItem item = TurSNSiteCustomFacetItem.builder().label("Cheap").build();
+        TurSNSiteCustomFacet priceRange = TurSNSiteCustomFacet.builder().name("price_range")
+                .items(new HashSet<>(Set.of(item))).build();
+        TurSNSiteFieldExt price = TurSNSiteFieldExt.builder().name("price").facet(0).enabled(1)
+                .turSNSite(site).build();
+        price.setCustomFacets(new HashSet<>(Set.of(priceRange)));
+        when(turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(site, 1)).thenReturn(List.of(price));
+
+        TurSNSiteSearchConfig config = registry.get(site);
+
+        TurSNSiteFieldExt field = config.getFieldExtMap().get("price");
+        assertThat(config.getTurSNSite()).isNotSameAs(site).extracting(TurSNSite::getName).isEqualTo("site");
+        assertThat(field).isNotSameAs(price);
+        assertThat(field.getTurSNSite()).isSameAs(config.getTurSNSite());
+        TurSNSiteCustomFacet customFacet = field.getCustomFacets().iterator().next();
+        assertThat(customFacet).isNotSameAs(priceRange);
+        assertThat(customFacet.getTurSNSiteFieldExt()).isNull();
+        assertThat(customFacet.getItems()).singleElement().isNotSameAs(item)
+                .extracting(TurSNSiteCustomFacetItem::getLabel).isEqualTo("Cheap");
+        assertThatThrownBy(() -> field.getCustomFacets().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testInvalidateDropsConfigOfSite() {
+        TurSNSite other = new TurSNSite();
+        other.setId("other-id");
+        other.setName("other");
+        TurSNSiteSearchConfig config = registry.get(site);
+        TurSNSiteSearchConfig otherConfig = registry.get(other);
+
+        registry.invalidate("site-id");
+
+        assertThat(registry.get(site)).isNotSameAs(config);
+        assertThat(registry.get(other)).isSameAs(otherConfig);
+    }
+
+    @Test
+    void testRoutingChangeDropsAllConfigs() {
+        when(turSNSiteRepository.findByName("site")).thenReturn(Optional.of(site));
+        TurSNSiteSearchConfig config = registry.find("site").orElseThrow();
+
+        registry.onRoutingChanged(new TurSolrRoutingEvent("site"));
+
+        assertThat(registry.find("site")).get().isNotSameAs(config);
+        verify(turSNSiteRepository, times(2)).findByName("site");
+    }
+
+    @Test
+    void testUnknownSiteIsNotFound() {
+        when(turSNSiteRepository.findByName("missing")).thenReturn(Optional.empty());
+
+        assertThat(registry.find("missing")).isEmpty();
+        verify(turSNSiteFieldExtRepository, never()).findByTurSNSiteAndEnabled(any(), eq(1));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.deindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.viglet.turing.api.sn.bean.TurSNDeIndexCondition;
+import com.viglet.turing.api.sn.bean.TurSNDeIndexRequest;
+import com.viglet.turing.api.sn.bean.TurSNDeIndexResult;
+import com.viglet.turing.api.sn.queue.TurSNIndexingQueueSender;
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+import com.viglet.turing.client.sn.job.TurSNJobItems;
+import com.viglet.turing.commons.sn.field.TurSNFieldName;
+import com.viglet.turing.genai.TurGenAi;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
+import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
+
+/**
+ * Unit tests for {@link TurSNBulkDeIndexService}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSNBulkDeIndexServiceTest {
+
+    @Mock
+    private TurSNSiteRepository turSNSiteRepository;
+
+    @Mock
+    private TurSNSiteLocaleRepository turSNSiteLocaleRepository;
+
+    @Mock
+    private TurSNIndexingQueueSender turSNIndexingQueueSender;
+
+    @Mock
+    private TurGenAi turGenAi;
+
+    private TurSNBulkDeIndexService service;
+    private TurSNSite turSNSite;
+
+    @BeforeEach
+    void setUp() {
+        service = new TurSNBulkDeIndexService(turSNSiteRepository, turSNSiteLocaleRepository,
+                turSNIndexingQueueSender, turGenAi, 2, 2);
+        turSNSite = new TurSNSite();
+        turSNSite.setName("site");
+    }
+
+    @Test
+    void testTypesAreSplitIntoBoundedQueries() {
+        TurSNDeIndexRequest request = new TurSNDeIndexRequest();
+        request.setTypes(List.of("news", "page", "my type"));
+
+        assertThat(TurSNBulkDeIndexService.queries(request, 2))
+                .containsExactly("type:(news OR page)", "type:(my\\ type)");
+    }
+
+    @Test
+    void testConditionsAreCombined() {
+        TurSNDeIndexRequest request = new TurSNDeIndexRequest();
+        request.setConditions(List.of(
+                condition("source_apps", List.of("wem", "aem", "web"), null),
+                condition("modification_date", List.of(), Instant.parse("2024-01-01T00:00:00Z"))));
+
+        assertThat(TurSNBulkDeIndexService.queries(request, 2)).containsExactly(
+                "source_apps:(wem OR aem) AND modification_date:[* TO 2024-01-01T00:00:00Z}",
+                "source_apps:(web) AND modification_date:[* TO 2024-01-01T00:00:00Z}");
+    }
+
+    @Test
+    void testInvalidConditionsAreRejected() {
+        TurSNDeIndexRequest request = new TurSNDeIndexRequest();
+        request.setConditions(List.of(condition("title:* OR id", List.of("x"), null)));
+        assertThatThrownBy(() -> TurSNBulkDeIndexService.queries(request, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        request.setConditions(List.of(condition("title", List.of(), null)));
+        assertThatThrownBy(() -> TurSNBulkDeIndexService.queries(request, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testDeIndexSendsIdsAndQueriesToTheQueue() {
+        TurSNDeIndexRequest request = new TurSNDeIndexRequest();
+        request.setSiteName("site");
+        request.setLocale(Locale.US);
+        request.setIds(List.of("1", "2", "3", "3"));
+        request.setTypes(List.of("news"));
+        when(turSNSiteRepository.findByName("site")).thenReturn(Optional.of(turSNSite));
+        when(turGenAi.deleteDocuments(eq(turSNSite), eq(Locale.US), anyString(), anyList(), anyInt()))
+                .thenReturn(1);
+
+        TurSNDeIndexResult result = service.deIndex(request).orElseThrow().getFirst();
+
+        assertThat(result.getIds()).isEqualTo(3);
+        assertThat(result.getQueryRequests()).isEqualTo(1);
+        assertThat(result.getQueueMessages()).isEqualTo(2);
+        assertThat(result.getVectorStoreRequests()).isEqualTo(2);
+        ArgumentCaptor<TurSNJobItems> sent = ArgumentCaptor.forClass(TurSNJobItems.class);
+        verify(turSNIndexingQueueSender, times(2)).sendBulkDeIndex(sent.capture());
+        List<TurSNJobItem> jobItems = sent.getAllValues().stream()
+                .flatMap(turSNJobItems -> turSNJobItems.getTuringDocuments().stream()).toList();
+        assertThat(jobItems).allSatisfy(turSNJobItem -> {
+            assertThat(turSNJobItem.getTurSNJobAction()).isEqualTo(TurSNJobAction.DELETE);
+            assertThat(turSNJobItem.getSiteNames()).containsExactly("site");
+            assertThat(turSNJobItem.getLocale()).isEqualTo(Locale.US);
+        });
+        assertThat(jobItems).extracting(turSNJobItem -> turSNJobItem.getAttributes().get(TurSNFieldName.ID))
+                .containsExactly("1", "2", "3", null);
+        assertThat(jobItems.getLast().getAttributes()).containsEntry(TurSNBulkDeIndexService.QUERY,
+                "type:(news)");
+    }
+
+    @Test
+    void testUnknownSiteIsNotDeIndexed() {
+        TurSNDeIndexRequest request = new TurSNDeIndexRequest();
+        request.setSiteName("missing");
+        when(turSNSiteRepository.findByName("missing")).thenReturn(Optional.empty());
+
+        assertThat(service.deIndex(request)).isEmpty();
+        verify(turSNIndexingQueueSender, never()).sendBulkDeIndex(any());
+    }
+
+    private static TurSNDeIndexCondition condition(String field, List<String> values, Instant before) {
+        TurSNDeIndexCondition condition = new TurSNDeIndexCondition();
+        condition.setField(field);
+        condition.setValues(values);
+        condition.setBefore(before);
+        return condition;
+    }
+}
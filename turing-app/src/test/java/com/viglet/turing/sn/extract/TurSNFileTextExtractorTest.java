@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.extract;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.viglet.turing.commons.exception.TurRuntimeException;
+
+/**
+ * Unit tests for {@link TurSNFileTextExtractor}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+class TurSNFileTextExtractorTest {
+
+    @TempDir
+    private Path folder;
+
+    private final AtomicInteger parsed = new AtomicInteger();
+    private TurSNFileTextExtractor extractor;
+
+    @AfterEach
+    void tearDown() {
+        extractor.shutdown();
+    }
+
+    @Test
+    void testTextIsCachedByContent() throws IOException {
+        extractor = extractor(file -> "text of " + file.getName(), 10_000L);
+        File first = file("a.pdf", "same content");
+        File copy = file("b.pdf", "same content");
+
+        assertThat(extractor.extract(List.of(first), (file, status) -> {
+        })).containsEntry(first, "text of a.pdf");
+        List<TurSNFileExtractionStatus> statuses = new ArrayList<>();
+        Map<File, String> texts = extractor.extract(List.of(copy, copy), (file, status) -> statuses.add(status));
+
+        assertThat(texts).containsEntry(copy, "text of a.pdf");
+        assertThat(statuses).containsExactly(TurSNFileExtractionStatus.CACHED);
+        assertThat(parsed).hasValue(1);
+    }
+
+    @Test
+    void testFilesAreExtractedInParallel() throws IOException {
+        extractor = extractor(file -> {
+            sleep(200);
+            return file.getName();
+        }, 10_000L);
+        List<File> files = List.of(file("1.pdf", "1"), file("2.pdf", "2"), file("3.pdf", "3"),
+                file("4.pdf", "4"));
+
+        long start = System.nanoTime();
+        Map<File, String> texts = extractor.extract(files, (file, status) -> {
+        });
+
+        assertThat(texts).hasSize(4);
+        assertThat(System.nanoTime() - start).isLessThan(600_000_000L);
+    }
+
+    @Test
+    void testLargeAndMissingFilesAreSkipped() throws IOException {
+        extractor = extractor(File::getName, 10_000L);
+        List<TurSNFileExtractionStatus> statuses = new ArrayList<>();
+
+        Map<File, String> texts = extractor.extract(
+                List.of(file("large.pdf", "more than sixteen bytes"), folder.resolve("missing.pdf").toFile()),
+                (file, status) -> statuses.add(status));
+
+        assertThat(texts).isEmpty();
+        assertThat(statuses).containsExactly(TurSNFileExtractionStatus.SKIPPED, TurSNFileExtractionStatus.SKIPPED);
+        assertThat(parsed).hasValue(0);
+    }
+
+    @Test
+    void testSlowAndBrokenFilesAreReported() throws IOException {
+        extractor = extractor(file -> {
+            if (file.getName().startsWith("slow")) {
+                sleep(5_000);
+            }
+            if (file.getName().startsWith("broken")) {
+                throw new TurRuntimeException("broken");
+            }
+            return null;
+        }, 100L);
+        List<TurSNFileExtractionStatus> statuses = new ArrayList<>();
+
+        Map<File, String> texts = extractor.extract(
+                List.of(file("slow.pdf", "1"), file("broken.pdf", "2"), file("empty.pdf", "3")),
+                (file, status) -> statuses.add(status));
+
+        assertThat(texts).isEmpty();
+        assertThat(statuses).containsExactlyInAnyOrder(TurSNFileExtractionStatus.TIMED_OUT,
+                TurSNFileExtractionStatus.FAILED, TurSNFileExtractionStatus.FAILED);
+    }
+
+    @Test
+    void testTimeoutStartsWhenAWorkerStartsTheFile() throws IOException {
+        extractor = extractor(file -> {
+            if (file.getName().startsWith("slow")) {
+                sleep(5_000);
+            }
+            return file.getName();
+        }, 300L, 0L, 1_000L, 1);
+        List<TurSNFileExtractionStatus> statuses = new ArrayList<>();
+
+        Map<File, String> texts = extractor.extract(List.of(file("slow.pdf", "1"), file("queued.pdf", "2")),
+                (file, status) -> statuses.add(status));
+
+        assertThat(texts).containsOnlyKeys(folder.resolve("queued.pdf").toFile());
+        assertThat(statuses).containsExactly(TurSNFileExtractionStatus.TIMED_OUT,
+                TurSNFileExtractionStatus.EXTRACTED);
+        assertThat(parsed).hasValue(2);
+    }
+
+    @Test
+    void testImportTimeoutStartsWhenFilesAreSubmitted() throws IOException {
+        extractor = extractor(file -> {
+            sleep(5_000);
+            return file.getName();
+        }, 10_000L, 300L, 1_000L, 1);
+        List<TurSNFileExtractionStatus> statuses = new ArrayList<>();
+
+        long start = System.nanoTime();
+        Map<File, String> texts = extractor.extract(List.of(file("slow.pdf", "1"), file("queued.pdf", "2")),
+                (file, status) -> statuses.add(status));
+
+        assertThat(texts).isEmpty();
+        assertThat(statuses).containsExactly(TurSNFileExtractionStatus.TIMED_OUT,
+                TurSNFileExtractionStatus.TIMED_OUT);
+        assertThat(System.nanoTime() - start).isLessThan(2_000_000_000L);
+        assertThat(parsed).hasValue(1);
+    }
+
+    @Test
+    void testLeastRecentlyUsedTextsAreEvicted() throws IOException {
+        extractor = extractor(file -> "text-" + file.getName(), 10_000L, 0L, 25L, 4);
+        File a = file("a.pdf", "a");
+        File b = file("b.pdf", "b");
+        File c = file("c.pdf", "c");
+
+        for (File file : List.of(a, b, a, c)) {
+            extractor.extract(List.of(file), (f, status) -> {
+            });
+            sleep(20);
+        }
+        List<TurSNFileExtractionStatus> statuses = new ArrayList<>();
+        extractor.extract(List.of(a), (file, status) -> statuses.add(status));
+        extractor.extract(List.of(b), (file, status) -> statuses.add(status));
+
+        assertThat(statuses).containsExactly(TurSNFileExtractionStatus.CACHED,
+                TurSNFileExtractionStatus.EXTRACTED);
+        assertThat(parsed).hasValue(4);
+    }
+
+    private TurSNFileTextExtractor extractor(Function<File, String> parser, long timeoutMillis) {
+        return extractor(parser, timeoutMillis, 0L, 1_000_000L, 4);
+    }
+
+    private TurSNFileTextExtractor extractor(Function<File, String> parser, long timeoutMillis,
+            long importTimeoutMillis, long cacheMaxSize, int threads) {
+        return new TurSNFileTextExtractor(file -> {
+            parsed.incrementAndGet();
+            return parser.apply(file);
+        }, folder.resolve("cache"), 16, timeoutMillis, importTimeoutMillis, cacheMaxSize, threads);
+    }
+
+    private File file(String name, String content) throws IOException {
+        return Files.writeString(folder.resolve(name), content).toFile();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.viglet.turing.persistence.model.se.TurSEInstance;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.solr.TurSolrUtils;
+
+/**
+ * Unit tests for {@link TurSNSchemaRegistry}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSNSchemaRegistryTest {
+
+    @Mock
+    private TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private TurSNSchemaRegistry registry;
+    private TurSNSite site;
+    private TurSEInstance seInstance;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TurSNSchemaRegistry(turSNSiteFieldExtRepository, 60_000, clock::get);
+        seInstance = new TurSEInstance();
+        site = new TurSNSite();
+        site.setId("site-id");
+        site.setName("site");
+        site.setTurSEInstance(seInstance);
+    }
+
+    @Test
+    void testSiteFieldsAreLoadedOnce() {
+        when(turSNSiteFieldExtRepository.findByTurSNSite(any(), eq(site)))
+                .thenReturn(List.of(fieldExt("title"), fieldExt("text")));
+
+        assertThat(registry.existsInSite(site, "title")).isTrue();
+        assertThat(registry.existsInSite(site, "text")).isTrue();
+
+        verify(turSNSiteFieldExtRepository, times(1)).findByTurSNSite(any(), eq(site));
+        verify(turSNSiteFieldExtRepository, never()).existsByTurSNSiteAndName(any(), any());
+    }
+
+    @Test
+    void testUnknownSiteFieldIsCheckedInDatabase() {
+        when(turSNSiteFieldExtRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of());
+        when(turSNSiteFieldExtRepository.existsByTurSNSiteAndName(site, "title")).thenReturn(true);
+
+        assertThat(registry.existsInSite(site, "title")).isTrue();
+        assertThat(registry.existsInSite(site, "title")).isTrue();
+        assertThat(registry.existsInSite(site, "other")).isFalse();
+
+        verify(turSNSiteFieldExtRepository, times(1)).existsByTurSNSiteAndName(site, "title");
+    }
+
+    @Test
+    void testCoreFieldsAreLoadedOnceFromSchema() {
+        try (MockedStatic<TurSolrUtils> utils = Mockito.mockStatic(TurSolrUtils.class)) {
+            utils.when(() -> TurSolrUtils.getFieldNames(seInstance, "core_en"))
+                    .thenReturn(Optional.of(Set.of("id", "title")));
+
+            assertThat(registry.existsInCore(site, "core_en", "id")).isTrue();
+            assertThat(registry.existsInCore(site, "core_en", "title")).isTrue();
+
+            utils.verify(() -> TurSolrUtils.getFieldNames(seInstance, "core_en"), times(1));
+            utils.verify(() -> TurSolrUtils.existsField(any(), any(), any()), never());
+        }
+    }
+
+    @Test
+    void testAddedFieldsAreKnownWithoutLookup() {
+        when(turSNSiteFieldExtRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of());
+        try (MockedStatic<TurSolrUtils> utils = Mockito.mockStatic(TurSolrUtils.class)) {
+            utils.when(() -> TurSolrUtils.getFieldNames(seInstance, "core_en"))
+                    .thenReturn(Optional.empty());
+
+            registry.addToSite(site, "custom");
+            registry.addToCore(site, "core_en", "custom");
+
+            assertThat(registry.existsInSite(site, "custom")).isTrue();
+            assertThat(registry.existsInCore(site, "core_en", "custom")).isTrue();
+            utils.verify(() -> TurSolrUtils.existsField(any(), any(), any()), never());
+        }
+        verify(turSNSiteFieldExtRepository, never()).existsByTurSNSiteAndName(any(), any());
+    }
+
+    @Test
+    void testInvalidateReloadsSite() {
+        when(turSNSiteFieldExtRepository.findByTurSNSite(any(), eq(site)))
+                .thenReturn(List.of(fieldExt("title")))
+                .thenReturn(List.of());
+
+        assertThat(registry.existsInSite(site, "title")).isTrue();
+        registry.invalidate(site);
+        assertThat(registry.existsInSite(site, "title")).isFalse();
+
+        verify(turSNSiteFieldExtRepository, times(2)).findByTurSNSite(any(), eq(site));
+    }
+
+    @Test
+    void testVersionChangesWithFields() {
+        when(turSNSiteFieldExtRepository.findByTurSNSite(any(), eq(site))).thenReturn(List.of(fieldExt("title")));
+        long initial = registry.getVersion(site);
+
+        registry.addToSite(site, "title");
+        assertThat(registry.getVersion(site)).isEqualTo(initial);
+
+        registry.addToSite(site, "custom");
+        assertThat(registry.getVersion(site)).isEqualTo(initial + 1);
+
+        registry.invalidate(site);
+        assertThat(registry.getVersion(site)).isEqualTo(initial + 2);
+    }
+
+    @Test
+    void testSiteExpiresAfterTtl() {
+        when(turSNSiteFieldExtRepository.findByTurSNSite(any(), eq(site)))
+                .thenReturn(List.of(fieldExt("title")))
+                .thenReturn(List.of(fieldExt("title"), fieldExt("changed-on-other-node")));
+        long initial = registry.getVersion(site);
+        assertThat(registry.existsInSite(site, "title")).isTrue();
+
+        clock.addAndGet(59_999);
+        assertThat(registry.getVersion(site)).isEqualTo(initial);
+
+        clock.addAndGet(1);
+        assertThat(registry.getVersion(site)).isEqualTo(initial + 1);
+        assertThat(registry.getVersion(site)).isEqualTo(initial + 1);
+        assertThat(registry.existsInSite(site, "changed-on-other-node")).isTrue();
+        verify(turSNSiteFieldExtRepository, times(2)).findByTurSNSite(any(), eq(site));
+        verify(turSNSiteFieldExtRepository, never()).existsByTurSNSiteAndName(any(), any());
+    }
+
+    private static TurSNSiteFieldExt fieldExt(String name) {
+        TurSNSiteFieldExt turSNSiteFieldExt = new TurSNSiteFieldExt();
+        turSNSiteFieldExt.setName(name);
+        return turSNSiteFieldExt;
+    }
+}
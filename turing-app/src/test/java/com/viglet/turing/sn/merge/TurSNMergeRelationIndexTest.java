@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.merge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.common.SolrDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.viglet.turing.commons.sn.field.TurSNFieldName;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.merge.TurSNSiteMergeProviders;
+import com.viglet.turing.persistence.model.sn.merge.TurSNSiteMergeProvidersField;
+import com.viglet.turing.persistence.repository.sn.merge.TurSNSiteMergeProvidersRepository;
+import com.viglet.turing.solr.TurSolr;
+import com.viglet.turing.solr.TurSolrInstance;
+import com.viglet.turing.solr.TurSolrInstanceProcess;
+
+/**
+ * Unit tests for {@link TurSNMergeRelationIndex}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSNMergeRelationIndexTest {
+
+    @Mock
+    private TurSNSiteMergeProvidersRepository turSNSiteMergeProvidersRepository;
+
+    @Mock
+    private TurSolrInstanceProcess turSolrInstanceProcess;
+
+    @Mock
+    private TurSolr turSolr;
+
+    private TurSNMergeRelationIndex index;
+
+    private TurSNSite site;
+
+    private TurSNSiteMergeProviders mergeProviders;
+
+    @BeforeEach
+    void setUp() {
+        index = new TurSNMergeRelationIndex(turSNSiteMergeProvidersRepository, turSolrInstanceProcess,
+                turSolr, true, 100);
+        site = new TurSNSite();
+        site.setId("site-id");
+        site.setName("site1");
+        mergeProviders = new TurSNSiteMergeProviders();
+        mergeProviders.setTurSNSite(site);
+        mergeProviders.setProviderFrom("A");
+        mergeProviders.setProviderTo("B");
+        mergeProviders.setRelationFrom("relFrom");
+        mergeProviders.setRelationTo("relTo");
+        TurSNSiteMergeProvidersField field = new TurSNSiteMergeProvidersField();
+        field.setName("field1");
+        mergeProviders.setOverwrittenFields(Set.of(field));
+    }
+
+    @Test
+    void testMergeProvidersAreReadOnceUntilInvalidated() {
+        when(turSNSiteMergeProvidersRepository.findWithOverwrittenFieldsByTurSNSite(site))
+                .thenReturn(List.of(mergeProviders));
+
+        assertThat(index.getMergeProviders(site)).containsExactly(mergeProviders);
+        assertThat(index.getMergeProviders(site)).containsExactly(mergeProviders);
+        index.invalidate(site);
+        index.getMergeProviders(site);
+
+        verify(turSNSiteMergeProvidersRepository, times(2)).findWithOverwrittenFieldsByTurSNSite(site);
+    }
+
+    @Test
+    void testRelationsAreLoadedFromSolr() {
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSolr.forEachDocument(eq(solrInstance), any(SolrQuery.class), eq(100), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<SolrDocument> consumer = invocation.getArgument(3);
+                    consumer.accept(document("to-1", List.of("B", "A"), "relTo", "r1", "merged value"));
+                    consumer.accept(document("to-2", List.of("B"), "relTo", "r2", null));
+                    consumer.accept(document("from-3", List.of("A"), "relFrom", "r3", "from value"));
+                    return true;
+                });
+
+        TurSNMergeRelations relations = index.getRelations(mergeProviders, Locale.US).orElseThrow();
+
+        assertThat(relations.to("r1", "to-1").values()).isEqualTo(Map.of("field1", "merged value"));
+        assertThat(relations.from("r2", "from-2", Map.of()).toId()).isEqualTo("to-2");
+        assertThat(relations.to("r3", "to-3").deIndexId()).isEqualTo("from-3");
+        assertThat(index.findRelations(site, Locale.US)).containsSame(relations);
+        assertThat(index.getRelations(mergeProviders, Locale.US)).containsSame(relations);
+        verify(turSolr, times(1)).forEachDocument(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void testIncompleteRelationsAreNotKept() {
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSolr.forEachDocument(eq(solrInstance), any(SolrQuery.class), eq(100), any())).thenReturn(false);
+
+        assertThat(index.getRelations(mergeProviders, Locale.US)).isEmpty();
+        assertThat(index.findRelations(site, Locale.US)).isEmpty();
+    }
+
+    @Test
+    void testInvalidateLocale() {
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        when(turSolr.forEachDocument(eq(solrInstance), any(SolrQuery.class), eq(100), any())).thenReturn(true);
+        index.getRelations(mergeProviders, Locale.US);
+
+        index.invalidate(site, Locale.US);
+
+        assertThat(index.findRelations(site, Locale.US)).isEmpty();
+    }
+
+    @Test
+    void testOnlyMergeFieldsAreRead() {
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        ArgumentCaptor<SolrQuery> query = ArgumentCaptor.forClass(SolrQuery.class);
+        when(turSolr.forEachDocument(eq(solrInstance), query.capture(), eq(100), any())).thenReturn(true);
+
+        index.getRelations(mergeProviders, Locale.US);
+
+        assertThat(query.getValue().getFields()).isEqualTo(String.join(",", TurSNFieldName.ID,
+                TurSNFieldName.SOURCE_APPS, "relFrom", "relTo", "field1"));
+    }
+
+    @Test
+    void testCoreIsReadOnceByConcurrentCalls() throws Exception {
+        TurSolrInstance solrInstance = mock(TurSolrInstance.class);
+        when(turSolrInstanceProcess.initIngestInstance("site1", Locale.US)).thenReturn(Optional.of(solrInstance));
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(turSolr.forEachDocument(eq(solrInstance), any(SolrQuery.class), eq(100), any()))
+                .thenAnswer(invocation -> {
+                    reading.countDown();
+                    return release.await(5, TimeUnit.SECONDS);
+                });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<TurSNMergeRelations>> first = executor
+                    .submit(() -> index.getRelations(mergeProviders, Locale.US));
+            assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Optional<TurSNMergeRelations>> second = executor
+                    .submit(() -> index.getRelations(mergeProviders, Locale.US));
+
+            assertThat(index.findRelations(site, Locale.US)).isEmpty();
+            release.countDown();
+
+            TurSNMergeRelations relations = first.get(5, TimeUnit.SECONDS).orElseThrow();
+            assertThat(second.get(5, TimeUnit.SECONDS)).containsSame(relations);
+            verify(turSolr, times(1)).forEachDocument(any(), any(), anyInt(), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static SolrDocument document(String id, List<String> providers, String relationField,
+            String relation, String field1) {
+        SolrDocument document = new SolrDocument();
+        document.setField(TurSNFieldName.ID, id);
+        document.setField(TurSNFieldName.SOURCE_APPS, providers);
+        document.setField(relationField, List.of(relation));
+        if (field1 != null) {
+            document.setField("field1", field1);
+        }
+        return document;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.merge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TurSNMergeRelations}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+class TurSNMergeRelationsTest {
+
+    private final TurSNMergeRelations relations = new TurSNMergeRelations();
+
+    @Test
+    void testFromWithoutPartnerIsStandalone() {
+        TurSNMergeRelations.FromMatch fromMatch = relations.from("r1", "from-1", Map.of("title", "A"));
+
+        assertThat(fromMatch.toId()).isNull();
+        assertThat(fromMatch.deIndexId()).isNull();
+        assertThat(relations.indexed(List.of("from-1"))).isEmpty();
+    }
+
+    @Test
+    void testToRemovesIndexedStandaloneFrom() {
+        relations.from("r1", "from-1", Map.of("title", "A"));
+        relations.indexed(List.of("from-1"));
+
+        TurSNMergeRelations.ToMatch toMatch = relations.to("r1", "to-1");
+
+        assertThat(toMatch.values()).containsEntry("title", "A");
+        assertThat(toMatch.deIndexId()).isEqualTo("from-1");
+        assertThat(relations.to("r1", "to-1").deIndexId()).isNull();
+    }
+
+    @Test
+    void testPendingFromIsRemovedWhenIndexed() {
+        relations.from("r1", "from-1", Map.of());
+
+        assertThat(relations.to("r1", "to-1").deIndexId()).isNull();
+        assertThat(relations.indexed(List.of("from-1"))).containsExactly("from-1");
+    }
+
+    @Test
+    void testFromFindsPartner() {
+        assertThat(relations.to("r1", "to-1")).isNull();
+
+        TurSNMergeRelations.FromMatch fromMatch = relations.from("r1", "from-1", Map.of());
+
+        assertThat(fromMatch.toId()).isEqualTo("to-1");
+        assertThat(fromMatch.deIndexId()).isNull();
+    }
+
+    @Test
+    void testRelationChangeMovesDocument() {
+        relations.to("r1", "to-1");
+        relations.to("r2", "to-1");
+
+        assertThat(relations.from("r1", "from-1", Map.of()).toId()).isNull();
+        assertThat(relations.from("r2", "from-2", Map.of()).toId()).isEqualTo("to-1");
+    }
+
+    @Test
+    void testDeIndexedToRemovesMergedFrom() {
+        relations.to("r1", "to-1");
+        relations.from("r1", "from-1", Map.of("title", "A"));
+
+        relations.deIndexed(List.of("to-1"));
+
+        assertThat(relations.size()).isZero();
+        assertThat(relations.to("r1", "to-2")).isNull();
+    }
+
+    @Test
+    void testDeIndexedStandaloneFrom() {
+        relations.from("r1", "from-1", Map.of());
+        relations.indexed(List.of("from-1"));
+
+        relations.deIndexed(List.of("from-1"));
+
+        assertThat(relations.to("r1", "to-1")).isNull();
+    }
+
+    @Test
+    void testNullValuesAreKept() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("title", null);
+        relations.from("r1", "from-1", values);
+
+        assertThat(relations.to("r1", "to-1").values()).containsEntry("title", null);
+    }
+}
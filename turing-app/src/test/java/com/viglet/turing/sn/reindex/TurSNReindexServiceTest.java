@@ -0,0 +1,305 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.reindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.viglet.turing.commons.se.field.TurSEFieldType;
+import com.viglet.turing.persistence.model.se.TurSEInstance;
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
+import com.viglet.turing.persistence.model.sn.locale.TurSNSiteLocale;
+import com.viglet.turing.persistence.model.sn.reindex.TurSNReindexState;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
+import com.viglet.turing.persistence.repository.sn.reindex.TurSNReindexStateRepository;
+import com.viglet.turing.properties.TurConfigProperties;
+import com.viglet.turing.properties.TurSolrProperty;
+import com.viglet.turing.sn.TurSNFieldType;
+import com.viglet.turing.sn.checksum.TurSNIndexChecksumService;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.sn.merge.TurSNMergeRelationIndex;
+import com.viglet.turing.sn.search.TurSNSearchCache;
+import com.viglet.turing.sn.template.TurSNTemplate;
+import com.viglet.turing.solr.TurSolr;
+import com.viglet.turing.solr.TurSolrFieldAction;
+import com.viglet.turing.solr.TurSolrInstance;
+import com.viglet.turing.solr.TurSolrInstanceProcess;
+import com.viglet.turing.solr.TurSolrUtils;
+
+/**
+ * Unit tests for {@link TurSNReindexService}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSNReindexServiceTest {
+    private static final String LIVE_CORE = "site_en_US";
+    private static final String SHADOW_CORE = "site_en_US_reindex";
+
+    @Mock
+    private TurSNSiteLocaleRepository turSNSiteLocaleRepository;
+
+    @Mock
+    private TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
+
+    @Mock
+    private TurSNTemplate turSNTemplate;
+
+    @Mock
+    private TurSolrInstanceProcess turSolrInstanceProcess;
+
+    @Mock
+    private TurSolr turSolr;
+
+    @Mock
+    private TurSNSchemaRegistry turSNSchemaRegistry;
+
+    @Mock
+    private TurSNIndexChecksumService turSNIndexChecksumService;
+
+    @Mock
+    private TurSNMergeRelationIndex turSNMergeRelationIndex;
+
+    @Mock
+    private TurSNReindexStateRepository turSNReindexStateRepository;
+
+    @Mock
+    private TurSNSearchCache turSNSearchCache;
+
+    @Mock
+    private TurSolrInstance liveInstance;
+
+    @Mock
+    private TurSolrInstance shadowInstance;
+
+    private final TurSolrProperty turSolrProperty = new TurSolrProperty();
+    private MockedStatic<TurSolrUtils> solrUtils;
+    private TurSEInstance turSEInstance;
+    private TurSNSite turSNSite;
+    private TurSNSiteLocale turSNSiteLocale;
+    private TurSNReindexService service;
+
+    @BeforeEach
+    void setUp() {
+        turSEInstance = new TurSEInstance();
+        turSNSite = new TurSNSite();
+        turSNSite.setId("site1");
+        turSNSite.setName("site");
+        turSNSite.setTurSEInstance(turSEInstance);
+        turSNSiteLocale = new TurSNSiteLocale();
+        turSNSiteLocale.setId("locale1");
+        turSNSiteLocale.setLanguage(Locale.US);
+        turSNSiteLocale.setCore(LIVE_CORE);
+        turSNSiteLocale.setTurSNSite(turSNSite);
+        TurConfigProperties turConfigProperties = new TurConfigProperties();
+        turConfigProperties.setSolr(turSolrProperty);
+
+        solrUtils = Mockito.mockStatic(TurSolrUtils.class);
+        solrUtils.when(() -> TurSolrUtils.getFieldNames(any(), any())).thenReturn(Optional.of(Set.of("id")));
+        solrUtils.when(() -> TurSolrUtils.swapCores(turSEInstance, LIVE_CORE, SHADOW_CORE)).thenReturn(true);
+        lenient().when(turSolrInstanceProcess.initSolrInstance(turSEInstance, LIVE_CORE))
+                .thenReturn(Optional.of(liveInstance));
+        lenient().when(turSolrInstanceProcess.initSolrInstance(turSEInstance, SHADOW_CORE))
+                .thenReturn(Optional.of(shadowInstance));
+        lenient().when(turSolr.hardCommit(shadowInstance)).thenReturn(true);
+
+        service = new TurSNReindexService(turSNSiteLocaleRepository, turSNSiteFieldExtRepository, turSNTemplate,
+                turSolrInstanceProcess, turSolr, turSNSchemaRegistry, turSNIndexChecksumService,
+                turSNMergeRelationIndex, turConfigProperties, turSNReindexStateRepository, turSNSearchCache,
+                "_reindex");
+    }
+
+    @AfterEach
+    void tearDown() {
+        solrUtils.close();
+    }
+
+    @Test
+    void testStartBuildsShadowCoreAndRoutesIngest() {
+        TurSNSiteFieldExt price = field("price", TurSNFieldType.SE);
+        when(turSNSiteFieldExtRepository.findByTurSNSite(any(), eq(turSNSite)))
+                .thenReturn(List.of(field("id", TurSNFieldType.SE), price, field("score", TurSNFieldType.NER)));
+        when(turSNSchemaRegistry.existsInCore(turSNSite, SHADOW_CORE, "id")).thenReturn(true);
+        when(turSolr.getDocumentTotal(liveInstance)).thenReturn(200L);
+        when(turSolr.getDocumentTotal(shadowInstance)).thenReturn(50L);
+
+        TurSNReindex turSNReindex = service.start(turSNSiteLocale).orElseThrow();
+
+        verify(turSNTemplate).createSolrCoreWithName(turSNSiteLocale, SHADOW_CORE);
+        solrUtils.verify(() -> TurSolrUtils.addOrUpdateField(TurSolrFieldAction.ADD, turSEInstance, SHADOW_CORE,
+                "price", TurSEFieldType.STRING, true, false));
+        solrUtils.verify(() -> TurSolrUtils.addOrUpdateField(any(), any(), any(), eq("id"), any(), anyBoolean(),
+                anyBoolean()), never());
+        verify(turSNIndexChecksumService).clear(turSNSite, Locale.US);
+        verify(turSolrInstanceProcess).routeIngest(turSNSiteLocale, SHADOW_CORE);
+        assertThat(turSNReindex.getStatus()).isEqualTo(TurSNReindexStatus.BUILDING);
+        assertThat(turSNReindex.getLiveCore()).isEqualTo(LIVE_CORE);
+        assertThat(turSNReindex.getShadowCore()).isEqualTo(SHADOW_CORE);
+        assertThat(service.get(turSNSiteLocale)).map(TurSNReindex::getProgress).contains(25);
+    }
+
+    @Test
+    void testStartFailsWhenReindexExists() {
+        assertThat(service.start(turSNSiteLocale)).isPresent();
+
+        assertThat(service.start(turSNSiteLocale)).isEmpty();
+        verify(turSNTemplate, times(1)).createSolrCoreWithName(any(), any());
+    }
+
+    @Test
+    void testStartFailsWhenShadowCoreIsNotCreated() {
+        solrUtils.when(() -> TurSolrUtils.getFieldNames(turSEInstance, SHADOW_CORE)).thenReturn(Optional.empty());
+
+        assertThat(service.start(turSNSiteLocale)).isEmpty();
+        verify(turSolrInstanceProcess, never()).routeIngest(any(), any());
+        assertThat(service.get(turSNSiteLocale)).isEmpty();
+    }
+
+    @Test
+    void testSwapAndRollbackExchangeCores() {
+        service.start(turSNSiteLocale);
+
+        TurSNReindex swapped = service.swap(turSNSiteLocale).orElseThrow();
+
+        verify(turSolr).hardCommit(shadowInstance);
+        verify(turSolrInstanceProcess).removeIngestRoute(turSNSiteLocale);
+        verify(turSNSearchCache).invalidate("site");
+        assertThat(swapped.getStatus()).isEqualTo(TurSNReindexStatus.SWAPPED);
+        assertThat(swapped.getProgress()).isEqualTo(100);
+        assertThat(service.swap(turSNSiteLocale)).isEmpty();
+
+        TurSNReindex rolledBack = service.rollback(turSNSiteLocale).orElseThrow();
+
+        solrUtils.verify(() -> TurSolrUtils.swapCores(turSEInstance, LIVE_CORE, SHADOW_CORE), times(2));
+        verify(turSNIndexChecksumService, times(2)).clear(turSNSite, Locale.US);
+        verify(turSNSearchCache, times(2)).invalidate("site");
+        assertThat(rolledBack.getStatus()).isEqualTo(TurSNReindexStatus.ROLLED_BACK);
+        assertThat(turSNSiteLocale.getCore()).isEqualTo(LIVE_CORE);
+        ArgumentCaptor<TurSNReindexState> states = ArgumentCaptor.captor();
+        verify(turSNReindexStateRepository, times(3)).save(states.capture());
+        assertThat(states.getAllValues()).extracting(TurSNReindexState::getStatus).containsExactly(
+                TurSNReindexStatus.BUILDING, TurSNReindexStatus.SWAPPED, TurSNReindexStatus.ROLLED_BACK);
+    }
+
+    @Test
+    void testSwapFailsWhenShadowCoreIsNotCommitted() {
+        when(turSolr.hardCommit(shadowInstance)).thenReturn(false);
+        service.start(turSNSiteLocale);
+
+        assertThat(service.swap(turSNSiteLocale)).isEmpty();
+
+        solrUtils.verify(() -> TurSolrUtils.swapCores(any(), any(), any()), never());
+        verify(turSNSearchCache, never()).invalidate(any());
+    }
+
+    @Test
+    void testRestoreRoutesIngestOfReindexBeingBuilt() {
+        TurSNReindexState state = new TurSNReindexState();
+        state.setSnSiteLocaleId("locale1");
+        state.setSiteName("site");
+        state.setLocale(Locale.US);
+        state.setLiveCore(LIVE_CORE);
+        state.setShadowCore(SHADOW_CORE);
+        state.setStatus(TurSNReindexStatus.BUILDING);
+        state.setStartedAt(Instant.now());
+        state.setLiveDocuments(200L);
+        when(turSNReindexStateRepository.findAll()).thenReturn(List.of(state));
+        when(turSNSiteLocaleRepository.findById("locale1")).thenReturn(Optional.of(turSNSiteLocale));
+
+        service.restore();
+
+        verify(turSolrInstanceProcess).routeIngest(turSNSiteLocale, SHADOW_CORE);
+        assertThat(service.get(turSNSiteLocale)).map(TurSNReindex::getShadowCore).contains(SHADOW_CORE);
+        assertThat(service.swap(turSNSiteLocale)).map(TurSNReindex::getStatus)
+                .contains(TurSNReindexStatus.SWAPPED);
+    }
+
+    @Test
+    void testFailedSwapKeepsBuilding() {
+        solrUtils.when(() -> TurSolrUtils.swapCores(turSEInstance, LIVE_CORE, SHADOW_CORE)).thenReturn(false);
+        service.start(turSNSiteLocale);
+
+        assertThat(service.swap(turSNSiteLocale)).isEmpty();
+
+        verify(turSolrInstanceProcess, never()).removeIngestRoute(any());
+        assertThat(service.get(turSNSiteLocale)).map(TurSNReindex::getStatus)
+                .contains(TurSNReindexStatus.BUILDING);
+    }
+
+    @Test
+    void testCloudSwapPointsLocaleToShadowCollection() {
+        turSolrProperty.setCloud(true);
+        service.start(turSNSiteLocale);
+
+        service.swap(turSNSiteLocale);
+
+        assertThat(turSNSiteLocale.getCore()).isEqualTo(SHADOW_CORE);
+        verify(turSNSiteLocaleRepository).save(turSNSiteLocale);
+        solrUtils.verify(() -> TurSolrUtils.swapCores(any(), any(), any()), never());
+
+        service.discard(turSNSiteLocale);
+
+        solrUtils.verify(() -> TurSolrUtils.deleteCollection(turSEInstance, LIVE_CORE));
+        // The next reindex builds back the collection without the suffix.
+        assertThat(service.start(turSNSiteLocale)).map(TurSNReindex::getShadowCore).contains(LIVE_CORE);
+    }
+
+    @Test
+    void testDiscardWhileBuildingDeletesShadowCore() {
+        service.start(turSNSiteLocale);
+
+        assertThat(service.discard(turSNSiteLocale)).isPresent();
+
+        verify(turSolrInstanceProcess).removeIngestRoute(turSNSiteLocale);
+        solrUtils.verify(() -> TurSolrUtils.deleteCore(turSEInstance, SHADOW_CORE));
+        verify(turSNReindexStateRepository).deleteById("locale1");
+        assertThat(service.get(turSNSiteLocale)).isEmpty();
+        assertThat(service.discard(turSNSiteLocale)).isEmpty();
+    }
+
+    private TurSNSiteFieldExt field(String name, TurSNFieldType snType) {
+        return TurSNSiteFieldExt.builder().name(name).snType(snType).type(TurSEFieldType.STRING).multiValued(0)
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.viglet.turing.commons.sn.bean.TurSNSiteSearchBean;
+import com.viglet.turing.commons.sn.search.TurSNSiteSearchContext;
+import com.viglet.turing.solr.TurSolrRoutingEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link TurSNSearchCache}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+class TurSNSearchCacheTest {
+    private static final long COMMIT_WITHIN = 10_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final AtomicInteger searches = new AtomicInteger();
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager();
+    private TurSNSearchCache searchCache;
+
+    @BeforeEach
+    void setUp() {
+        searchCache = node();
+    }
+
+    @Test
+    void testSameKeyIsSearchedOnceAndCounted() {
+        search(searchCache, "site1", Locale.US);
+        search(searchCache, "site1", Locale.US);
+
+        assertThat(searches).hasValue(1);
+        assertThat(searchCache.count("site1", TurSNSearchCache.HIT)).isEqualTo(1);
+        assertThat(searchCache.count("site1", TurSNSearchCache.MISS)).isEqualTo(1);
+        assertThat(searchCache.count("site2", TurSNSearchCache.HIT)).isZero();
+    }
+
+    @Test
+    void testChangedIndexIsSearchedAgainNowAndWhenCommitWithinElapses() {
+        search(searchCache, "site1", Locale.US);
+        search(searchCache, "site1", Locale.FRANCE);
+        searchCache.changed("site1", Locale.US);
+        search(searchCache, "site1", Locale.US);
+        search(searchCache, "site1", Locale.US);
+        search(searchCache, "site1", Locale.FRANCE);
+
+        assertThat(searches).hasValue(3);
+
+        clock.addAndGet(COMMIT_WITHIN);
+        search(searchCache, "site1", Locale.US);
+        search(searchCache, "site1", Locale.FRANCE);
+
+        assertThat(searches).hasValue(4);
+    }
+
+    @Test
+    void testChangeOnOneNodeIsSeenByTheOthers() {
+        TurSNSearchCache otherNode = node();
+        search(searchCache, "site1", Locale.US);
+        search(otherNode, "site1", Locale.US);
+
+        assertThat(searches).hasValue(1);
+
+        otherNode.changed("site1", Locale.US);
+        search(searchCache, "site1", Locale.US);
+
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void testRestartedNodeDoesNotReadResultsOfLostVersions() {
+        search(searchCache, "site1", Locale.US);
+        searchCache.changed("site1", Locale.US);
+        cacheManager.getCache(TurSNSearchCache.SEARCH_API_VERSIONS).clear();
+
+        search(node(), "site1", Locale.US);
+
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void testInvalidateDropsOnlyResultsOfTheSite() {
+        search(searchCache, "site1", Locale.US);
+        search(searchCache, "site2", Locale.US);
+
+        searchCache.invalidate("site1");
+        search(searchCache, "site1", Locale.US);
+        search(searchCache, "site2", Locale.US);
+
+        assertThat(searches).hasValue(3);
+        assertThat(searchCache.count("site2", TurSNSearchCache.HIT)).isEqualTo(1);
+    }
+
+    @Test
+    void testInvalidateInTransactionDropsResultsAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            searchCache.invalidate("site1");
+            // Searched before the commit, with the previous configuration.
+            search(searchCache, "site1", Locale.US);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        search(searchCache, "site1", Locale.US);
+
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void testRoutingChangeDropsResultsOfAllSites() {
+        search(searchCache, "site1", Locale.US);
+        search(searchCache, "site2", Locale.US);
+
+        searchCache.onRoutingChanged(new TurSolrRoutingEvent("test"));
+        search(searchCache, "site1", Locale.US);
+        search(searchCache, "site2", Locale.US);
+
+        assertThat(searches).hasValue(4);
+    }
+
+    private TurSNSearchCache node() {
+        return new TurSNSearchCache(cacheManager, new SimpleMeterRegistry(), COMMIT_WITHIN, clock::get);
+    }
+
+    private void search(TurSNSearchCache node, String siteName, Locale locale) {
+        TurSNSiteSearchContext context = new TurSNSiteSearchContext(siteName, null, null, locale, null);
+        node.get(siteName + "_q=java", context, () -> {
+            searches.incrementAndGet();
+            return new TurSNSiteSearchBean();
+        });
+    }
+}
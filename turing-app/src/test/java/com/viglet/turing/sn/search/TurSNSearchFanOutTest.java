@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.sn.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link TurSNSearchFanOut}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+class TurSNSearchFanOutTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testSubRequestsRunTogether() {
+        TurSNSearchFanOut fanOut = new TurSNSearchFanOut(true, 5000, meterRegistry, executor);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        try (TurSNSearchFanOut.Scope scope = fanOut.open("site")) {
+            var first = scope.fork(TurSNSearchStage.FACET, () -> awaitOther(bothStarted, "first"));
+            var second = scope.fork(TurSNSearchStage.SPOTLIGHT, () -> awaitOther(bothStarted, "second"));
+
+            assertThat(first.resultOr(() -> "fallback")).isEqualTo("first");
+            assertThat(second.resultOr(() -> "fallback")).isEqualTo("second");
+        }
+    }
+
+    @Test
+    void testFailureCancelsTheOtherSubRequests() throws Exception {
+        TurSNSearchFanOut fanOut = new TurSNSearchFanOut(true, 5000, meterRegistry, executor);
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch slowInterrupted = new CountDownLatch(1);
+
+        try (TurSNSearchFanOut.Scope scope = fanOut.open("site")) {
+            var slow = scope.fork(TurSNSearchStage.FACET, () -> {
+                slowStarted.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    slowInterrupted.countDown();
+                    throw e;
+                }
+                return "slow";
+            });
+            slowStarted.await(5, TimeUnit.SECONDS);
+            var failing = scope.fork(TurSNSearchStage.METRICS, () -> {
+                throw new IllegalStateException("database down");
+            });
+
+            assertThat(failing.resultOr(() -> "fallback")).isEqualTo("fallback");
+            assertThat(slow.resultOr(() -> "fallback")).isEqualTo("fallback");
+            assertThat(scope.fork(TurSNSearchStage.SPOTLIGHT, () -> "late").resultOr(() -> "fallback"))
+                    .isEqualTo("fallback");
+        }
+        // A cancelled task counts as done for the executor before its thread ends.
+        assertThat(slowInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void testSubRequestPastTheDeadlineUsesItsFallback() {
+        TurSNSearchFanOut fanOut = new TurSNSearchFanOut(true, 50, meterRegistry, executor);
+
+        try (TurSNSearchFanOut.Scope scope = fanOut.open("site")) {
+            var slow = scope.fork(TurSNSearchStage.FACET, () -> {
+                Thread.sleep(10_000);
+                return "slow";
+            });
+            var fast = scope.fork(TurSNSearchStage.SPOTLIGHT, () -> "fast");
+
+            scope.join();
+
+            assertThat(slow.resultOr(() -> "fallback")).isEqualTo("fallback");
+            assertThat(fast.resultOr(() -> "fallback")).isEqualTo("fast");
+        }
+    }
+
+    @Test
+    void testDisabledRunsOnTheCallerThread() {
+        TurSNSearchFanOut fanOut = new TurSNSearchFanOut(false, 5000, meterRegistry, executor);
+        Thread caller = Thread.currentThread();
+
+        try (TurSNSearchFanOut.Scope scope = fanOut.open("site")) {
+            var subtask = scope.fork(TurSNSearchStage.FACET, () -> Thread.currentThread() == caller);
+
+            assertThat(subtask.resultOr(() -> false)).isTrue();
+        }
+    }
+
+    @Test
+    void testStagesAreTimed() {
+        TurSNSearchFanOut fanOut = new TurSNSearchFanOut(true, 5000, meterRegistry, executor);
+
+        try (TurSNSearchFanOut.Scope scope = fanOut.open("site")) {
+            scope.fork(TurSNSearchStage.SPOTLIGHT, () -> "spotlight").resultOr(() -> "fallback");
+        }
+        assertThat(fanOut.time(TurSNSearchStage.MAIN, "site", () -> "main")).isEqualTo("main");
+
+        assertThat(count(TurSNSearchStage.SPOTLIGHT)).isEqualTo(1);
+        assertThat(count(TurSNSearchStage.MAIN)).isEqualTo(1);
+    }
+
+    private long count(TurSNSearchStage stage) {
+        return meterRegistry.get(TurSNSearchFanOut.STAGE)
+                .tag(TurSNSearchFanOut.STAGE_TAG, stage.getTag())
+                .tag(TurSNSearchFanOut.SITE_TAG, "site")
+                .timer().count();
+    }
+
+    private static String awaitOther(CountDownLatch bothStarted, String result) throws InterruptedException {
+        bothStarted.countDown();
+        // Only completes when the other sub-request runs at the same time.
+        if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("sub-requests did not run together");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link TurSolrCommitCoordinator}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSolrCommitCoordinatorTest {
+
+    @Mock
+    private TurSolr turSolr;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private TurSolrInstance core1;
+    private TurSolrInstance core2;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        core1 = new TurSolrInstance(null, URI.create("http://localhost:8983/solr").toURL(), "core1");
+        core2 = new TurSolrInstance(null, URI.create("http://localhost:8983/solr").toURL(), "core2");
+    }
+
+    @Test
+    void testFirstCommitIsSentAtOnce() {
+        when(turSolr.commit(core1)).thenReturn(true);
+        TurSolrCommitCoordinator coordinator = coordinator(true);
+
+        assertThat(coordinator.commit(core1)).isEqualTo(TurSolrCommitStatus.COMMITTED);
+
+        verify(turSolr).commit(core1);
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+        assertThat(count(TurSolrCommitCoordinator.COMMITTED)).isEqualTo(1);
+    }
+
+    @Test
+    void testCommitsWithinIntervalAreCoalesced() {
+        when(turSolr.commit(core1)).thenReturn(true);
+        TurSolrCommitCoordinator coordinator = coordinator(true);
+        coordinator.commit(core1);
+        clock.addAndGet(2_000L);
+
+        assertThat(coordinator.commit(core1)).isEqualTo(TurSolrCommitStatus.DEFERRED);
+        assertThat(coordinator.commit(core1)).isEqualTo(TurSolrCommitStatus.COALESCED);
+        assertThat(coordinator.commit(core1)).isEqualTo(TurSolrCommitStatus.COALESCED);
+
+        ArgumentCaptor<Runnable> deferredCommit = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(deferredCommit.capture(), eq(8_000L), eq(TimeUnit.MILLISECONDS));
+        verify(turSolr, times(1)).commit(core1);
+        assertThat(count(TurSolrCommitCoordinator.DEFERRED)).isEqualTo(1);
+        assertThat(count(TurSolrCommitCoordinator.COALESCED)).isEqualTo(2);
+        assertThat(meterRegistry.get(TurSolrCommitCoordinator.PENDING).gauge().value()).isEqualTo(1);
+
+        clock.addAndGet(8_000L);
+        deferredCommit.getValue().run();
+
+        verify(turSolr, times(2)).commit(core1);
+        assertThat(count(TurSolrCommitCoordinator.COMMITTED)).isEqualTo(2);
+        assertThat(meterRegistry.get(TurSolrCommitCoordinator.PENDING).gauge().value()).isZero();
+    }
+
+    @Test
+    void testCoresAreCoordinatedSeparately() {
+        when(turSolr.commit(any())).thenReturn(true);
+        TurSolrCommitCoordinator coordinator = coordinator(true);
+
+        coordinator.commit(core1);
+        coordinator.commit(core2);
+
+        verify(turSolr).commit(core1);
+        verify(turSolr).commit(core2);
+        assertThat(count(TurSolrCommitCoordinator.COMMITTED)).isEqualTo(2);
+    }
+
+    @Test
+    void testCommitAfterIntervalIsSentAtOnce() {
+        TurSolrCommitCoordinator coordinator = coordinator(true);
+        coordinator.commit(core1);
+        clock.addAndGet(10_000L);
+
+        coordinator.commit(core1);
+
+        verify(turSolr, times(2)).commit(core1);
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    void testDisabledCommitsAreNotSent() {
+        TurSolrCommitCoordinator coordinator = coordinator(false);
+
+        assertThat(coordinator.commit(core1)).isEqualTo(TurSolrCommitStatus.DISABLED);
+
+        verify(turSolr, never()).commit(any());
+        assertThat(count(TurSolrCommitCoordinator.DISABLED)).isEqualTo(1);
+    }
+
+    @Test
+    void testFailedCommitIsReported() {
+        TurSolrCommitCoordinator coordinator = coordinator(true);
+
+        assertThat(coordinator.commit(core1)).isEqualTo(TurSolrCommitStatus.FAILED);
+        assertThat(count(TurSolrCommitCoordinator.FAILED)).isEqualTo(1);
+        assertThat(count(TurSolrCommitCoordinator.COMMITTED)).isZero();
+    }
+
+    @Test
+    void testFailedDeferredCommitIsScheduledAgain() {
+        when(turSolr.commit(core1)).thenReturn(true, false, true);
+        TurSolrCommitCoordinator coordinator = coordinator(true);
+        coordinator.commit(core1);
+        clock.addAndGet(2_000L);
+        coordinator.commit(core1);
+        ArgumentCaptor<Runnable> deferredCommit = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(deferredCommit.capture(), eq(8_000L), eq(TimeUnit.MILLISECONDS));
+
+        clock.addAndGet(8_000L);
+        deferredCommit.getValue().run();
+
+        assertThat(count(TurSolrCommitCoordinator.FAILED)).isEqualTo(1);
+        verify(scheduler).schedule(deferredCommit.capture(), eq(10_000L), eq(TimeUnit.MILLISECONDS));
+        assertThat(meterRegistry.get(TurSolrCommitCoordinator.PENDING).gauge().value()).isEqualTo(1);
+
+        deferredCommit.getValue().run();
+
+        verify(turSolr, times(3)).commit(core1);
+        assertThat(count(TurSolrCommitCoordinator.COMMITTED)).isEqualTo(2);
+        assertThat(meterRegistry.get(TurSolrCommitCoordinator.PENDING).gauge().value()).isZero();
+    }
+
+    @Test
+    void testShutdownSendsDeferredCommits() {
+        TurSolrCommitCoordinator coordinator = coordinator(true);
+        coordinator.commit(core1);
+        clock.addAndGet(1_000L);
+        coordinator.commit(core1);
+
+        coordinator.shutdown();
+
+        verify(scheduler).shutdownNow();
+        verify(turSolr, times(2)).commit(core1);
+    }
+
+    private TurSolrCommitCoordinator coordinator(boolean enabled) {
+        return new TurSolrCommitCoordinator(turSolr, enabled, 10_000L, meterRegistry, scheduler,
+                clock::get);
+    }
+
+    private double count(String decision) {
+        return meterRegistry.get(TurSolrCommitCoordinator.COMMITS)
+                .tag(TurSolrCommitCoordinator.DECISION, decision).counter().count();
+    }
+}
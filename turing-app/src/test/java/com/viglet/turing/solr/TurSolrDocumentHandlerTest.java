@@ -22,6 +22,7 @@
 package com.viglet.turing.solr;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -38,6 +39,7 @@ import org.apache.solr.client.solrj.SolrRequest;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.client.solrj.impl.HttpJdkSolrClient;
 import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.common.SolrException;
 import org.apache.solr.common.SolrInputDocument;
 import org.apache.solr.common.util.NamedList;
 import org.json.JSONArray;
@@ -47,9 +49,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.viglet.turing.client.sn.job.TurSNJobUpdateOperation;
 import com.viglet.turing.commons.se.field.TurSEFieldType;
 import com.viglet.turing.persistence.model.sn.TurSNSite;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteField;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
 import com.viglet.turing.sn.field.TurSNSiteFieldService;
 
 /**
@@ -75,14 +79,18 @@ class TurSolrDocumentHandlerTest {
     @Mock
     private TurDecimalFieldNormalizer turDecimalFieldNormalizer;
 
+    @Mock
+    private TurSNSchemaRegistry turSNSchemaRegistry;
+
     private TurSolrDocumentHandler turSolrDocumentHandler;
     private CapturingSolrClient capturingSolrClient;
     private TurSolrInstance turSolrInstance;
 
     @BeforeEach
     void setUp() throws MalformedURLException {
-        turSolrDocumentHandler = new TurSolrDocumentHandler(1000, turSNSiteFieldService,
-                turDecimalFieldNormalizer);
+        lenient().when(turSNSite.getId()).thenReturn("site");
+        turSolrDocumentHandler = new TurSolrDocumentHandler(1000, 2,
+                new TurSolrFieldPlanCache(turSNSiteFieldService, turSNSchemaRegistry, turDecimalFieldNormalizer));
         capturingSolrClient = new CapturingSolrClient();
         turSolrInstance = new TurSolrInstance(httpJdkSolrClient, URI.create("http://localhost:8983/solr").toURL(),
                 "core");
@@ -156,16 +164,183 @@ class TurSolrDocumentHandlerTest {
                 .isEqualTo("150.00,BRL");
     }
 
+    @Test
+    void testBatchIndexingSplitsDocumentsByBatchSize() {
+        when(turSNSiteFieldService.toMap(turSNSite)).thenReturn(new HashMap<>());
+
+        List<Boolean> status = turSolrDocumentHandler.indexing(turSolrInstance, turSNSite,
+                List.of(document("1"), document("2"), document("3")));
+
+        assertThat(status).containsExactly(true, true, true);
+        assertThat(capturingSolrClient.getRequests()).hasSize(2);
+        assertThat(((UpdateRequest) capturingSolrClient.getRequests().get(0)).getDocuments())
+                .extracting(doc -> doc.getFieldValue("id")).containsExactly("1", "2");
+        assertThat(((UpdateRequest) capturingSolrClient.getRequests().get(1)).getDocuments())
+                .extracting(doc -> doc.getFieldValue("id")).containsExactly("3");
+    }
+
+    @Test
+    void testBatchIndexingRetriesRejectedBatchOneByOne() {
+        when(turSNSiteFieldService.toMap(turSNSite)).thenReturn(new HashMap<>());
+        capturingSolrClient.rejectDocument("bad");
+
+        List<Boolean> status = turSolrDocumentHandler.indexing(turSolrInstance, turSNSite,
+                List.of(document("good"), document("bad")));
+
+        assertThat(status).containsExactly(true, false);
+        assertThat(capturingSolrClient.getRequests()).hasSize(3);
+    }
+
+    @Test
+    void testBatchDeIndexingDeletesIdsByBatchSize() {
+        List<Boolean> status = turSolrDocumentHandler.deIndexing(turSolrInstance,
+                List.of("1", "2", "3"));
+
+        assertThat(status).containsExactly(true, true, true);
+        assertThat(capturingSolrClient.getRequests()).hasSize(2);
+        assertThat(((UpdateRequest) capturingSolrClient.getRequests().get(0)).getDeleteById())
+                .containsExactly("1", "2");
+        assertThat(((UpdateRequest) capturingSolrClient.getRequests().get(1)).getDeleteById())
+                .containsExactly("3");
+    }
+
+    @Test
+    void testUpdateSendsAtomicOperations() {
+        Map<String, TurSNSiteField> fieldMap = new HashMap<>();
+        fieldMap.put("tags", TurSNSiteField.builder().name("tags").multiValued(1).build());
+        when(turSNSiteFieldService.toMap(turSNSite)).thenReturn(fieldMap);
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(TurSolrConstants.ID, "1");
+        attributes.put("views", TurSNJobUpdateOperation.INC.of(1));
+        attributes.put("tags", TurSNJobUpdateOperation.ADD.of(new ArrayList<>(List.of("alpha", "beta"))));
+        attributes.put("old", TurSNJobUpdateOperation.REMOVE.of("gamma"));
+        attributes.put("title", "New title");
+        attributes.put("summary", TurSNJobUpdateOperation.SET.of(null));
+        attributes.put(TurSolrConstants.VERSION, 3);
+
+        List<Boolean> status = turSolrDocumentHandler.update(turSolrInstance, turSNSite, List.of(attributes));
+
+        assertThat(status).containsExactly(true);
+        SolrInputDocument document = ((UpdateRequest) capturingSolrClient.getLastRequest()).getDocuments()
+                .getFirst();
+        assertThat(document.getFieldValue(TurSolrConstants.ID)).isEqualTo("1");
+        assertThat(document.getFieldValue("views")).isEqualTo(Map.of("inc", 1));
+        assertThat(document.getFieldValue("tags")).isEqualTo(Map.of("add", List.of("alpha", "beta")));
+        assertThat(document.getFieldValue("old")).isEqualTo(Map.of("remove", "gamma"));
+        assertThat(document.getFieldValue("title")).isEqualTo(Map.of("set", "New title"));
+        assertThat(document.getFieldValue("summary")).isEqualTo(TurSNJobUpdateOperation.SET.of(null));
+        assertThat(document.getFieldValue(TurSolrConstants.VERSION)).isEqualTo(1L);
+    }
+
+    @Test
+    void testUpdateSendsNonIdempotentOperationsOneByOne() {
+        when(turSNSiteFieldService.toMap(turSNSite)).thenReturn(new HashMap<>());
+
+        List<Boolean> status = turSolrDocumentHandler.update(turSolrInstance, turSNSite, List.of(
+                Map.of(TurSolrConstants.ID, "1", "title", "One"),
+                Map.of(TurSolrConstants.ID, "2", "views", TurSNJobUpdateOperation.INC.of(1)),
+                Map.of(TurSolrConstants.ID, "3", "title", "Three"),
+                Map.of(TurSolrConstants.ID, "4", "title", "Four")));
+
+        assertThat(status).containsExactly(true, true, true, true);
+        assertThat(capturingSolrClient.getRequests())
+                .extracting(request -> ((UpdateRequest) request).getDocuments().stream()
+                        .map(doc -> doc.getFieldValue("id")).toList())
+                .containsExactly(List.of("1"), List.of("2"), List.of("3", "4"));
+    }
+
+    @Test
+    void testUpdateOfMissingDocumentFailsOnlyThatDocument() {
+        when(turSNSiteFieldService.toMap(turSNSite)).thenReturn(new HashMap<>());
+        capturingSolrClient.rejectDocument("missing");
+
+        List<Boolean> status = turSolrDocumentHandler.update(turSolrInstance, turSNSite, List.of(
+                Map.of(TurSolrConstants.ID, "1", "title", "One"),
+                Map.of(TurSolrConstants.ID, "missing", "views", TurSNJobUpdateOperation.INC.of(1))));
+
+        assertThat(status).containsExactly(true, false);
+        assertThat(capturingSolrClient.getRequests()).hasSize(2);
+    }
+
+    @Test
+    void testUpdateNormalizesValuesByFieldType() {
+        Map<String, TurSNSiteField> fieldMap = new HashMap<>();
+        fieldMap.put("preco_produto", TurSNSiteField.builder().name("preco_produto")
+                .type(TurSEFieldType.CURRENCY).multiValued(0).build());
+        when(turSNSiteFieldService.toMap(turSNSite)).thenReturn(fieldMap);
+        when(turDecimalFieldNormalizer.isDecimalFieldType(TurSEFieldType.CURRENCY)).thenReturn(true);
+        when(turDecimalFieldNormalizer.normalizeCanonicalDecimal("99.90")).thenReturn(Optional.of("99.90"));
+
+        turSolrDocumentHandler.update(turSolrInstance, turSNSite, List.of(Map.of(TurSolrConstants.ID, "1",
+                "preco_produto", TurSNJobUpdateOperation.SET.of("99.90,brl"))));
+
+        SolrInputDocument document = ((UpdateRequest) capturingSolrClient.getLastRequest()).getDocuments()
+                .getFirst();
+        assertThat(document.getFieldValue("preco_produto")).isEqualTo(Map.of("set", "99.90,BRL"));
+        assertThat(document.getFieldValue("preco_produto" + TurSolrUtils.CURRENCY_TXT_SUFFIX))
+                .isEqualTo(Map.of("set", "99.90,brl"));
+    }
+
+    @Test
+    void testUpdateAppliesOtherOperationsOnlyToTheField() {
+        Map<String, TurSNSiteField> fieldMap = new HashMap<>();
+        fieldMap.put("preco_produto", TurSNSiteField.builder().name("preco_produto")
+                .type(TurSEFieldType.CURRENCY).multiValued(1).build());
+        when(turSNSiteFieldService.toMap(turSNSite)).thenReturn(fieldMap);
+        when(turDecimalFieldNormalizer.isDecimalFieldType(TurSEFieldType.CURRENCY)).thenReturn(true);
+        when(turDecimalFieldNormalizer.normalizeCanonicalDecimal("99.90")).thenReturn(Optional.of("99.90"));
+
+        turSolrDocumentHandler.update(turSolrInstance, turSNSite, List.of(Map.of(TurSolrConstants.ID, "1",
+                "preco_produto", TurSNJobUpdateOperation.ADD.of("99.90,brl"))));
+        SolrInputDocument added = ((UpdateRequest) capturingSolrClient.getLastRequest()).getDocuments()
+                .getFirst();
+        turSolrDocumentHandler.update(turSolrInstance, turSNSite, List.of(Map.of(TurSolrConstants.ID, "1",
+                "preco_produto", TurSNJobUpdateOperation.INC.of("99.90,brl"), "views",
+                TurSNJobUpdateOperation.INC.of("2"))));
+        SolrInputDocument incremented = ((UpdateRequest) capturingSolrClient.getLastRequest()).getDocuments()
+                .getFirst();
+
+        assertThat(added.getFieldValue("preco_produto")).isEqualTo(Map.of("add", "99.90,BRL"));
+        assertThat(added.getFieldNames()).doesNotContain("preco_produto" + TurSolrUtils.CURRENCY_TXT_SUFFIX);
+        assertThat(incremented.getFieldNames()).containsExactlyInAnyOrder(TurSolrConstants.ID, "views",
+                TurSolrConstants.VERSION);
+        assertThat(incremented.getFieldValue("views")).isEqualTo(Map.of("inc", "2"));
+    }
+
+    private static Map<String, Object> document(String id) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("id", id);
+        return attributes;
+    }
+
     private static final class CapturingSolrClient extends SolrClient {
+        private final List<SolrRequest<?>> requests = new ArrayList<>();
         private SolrRequest<?> lastRequest;
+        private String rejectedId;
 
         @Override
         public NamedList<Object> request(SolrRequest<?> request, String collection)
                 throws SolrServerException, IOException {
             this.lastRequest = request;
+            this.requests.add(request);
+            if (rejectedId != null && request instanceof UpdateRequest updateRequest
+                    && updateRequest.getDocuments() != null
+                    && updateRequest.getDocuments().stream()
+                            .anyMatch(doc -> rejectedId.equals(doc.getFieldValue("id")))) {
+                throw new SolrException(SolrException.ErrorCode.BAD_REQUEST, "rejected");
+            }
             return new NamedList<>();
         }
 
+        public void rejectDocument(String id) {
+            this.rejectedId = id;
+        }
+
+        public List<SolrRequest<?>> getRequests() {
+            return requests;
+        }
+
         @Override
         public void close() {
             // No resources to close for this test stub.
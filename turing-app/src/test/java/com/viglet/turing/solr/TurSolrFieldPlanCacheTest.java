@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.solr.common.SolrInputDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.field.TurSNSiteField;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.sn.field.TurSNSiteFieldService;
+
+/**
+ * Unit tests for {@link TurSolrFieldPlanCache}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSolrFieldPlanCacheTest {
+
+    @Mock
+    private TurSNSiteFieldService turSNSiteFieldService;
+
+    @Mock
+    private TurSNSchemaRegistry turSNSchemaRegistry;
+
+    @Mock
+    private TurDecimalFieldNormalizer turDecimalFieldNormalizer;
+
+    private TurSNSite turSNSite;
+    private TurSolrFieldPlanCache cache;
+
+    @BeforeEach
+    void setUp() {
+        turSNSite = new TurSNSite();
+        turSNSite.setId("site");
+        cache = new TurSolrFieldPlanCache(turSNSiteFieldService, turSNSchemaRegistry, turDecimalFieldNormalizer);
+    }
+
+    @Test
+    void testPlanIsCompiledOncePerVersion() {
+        when(turSNSchemaRegistry.getVersion(turSNSite)).thenReturn(3L);
+        when(turSNSiteFieldService.toMap(turSNSite)).thenReturn(Map.of());
+
+        TurSolrFieldPlan plan = cache.get(turSNSite);
+
+        assertThat(cache.get(turSNSite)).isSameAs(plan);
+        assertThat(plan.getVersion()).isEqualTo(3L);
+        verify(turSNSiteFieldService, times(1)).toMap(turSNSite);
+    }
+
+    @Test
+    void testPlanIsCompiledAgainWhenFieldsChange() {
+        when(turSNSchemaRegistry.getVersion(turSNSite)).thenReturn(1L, 2L);
+        when(turSNSiteFieldService.toMap(turSNSite))
+                .thenReturn(Map.of())
+                .thenReturn(Map.of("tags", TurSNSiteField.builder().name("tags").multiValued(1).build()));
+
+        SolrInputDocument before = new SolrInputDocument();
+        cache.get(turSNSite).addField(before, "tags", new ArrayList<>(List.of("a", "b")));
+        SolrInputDocument after = new SolrInputDocument();
+        cache.get(turSNSite).addField(after, "tags", new ArrayList<>(List.of("a", "b")));
+
+        assertThat(before.getFieldValues("tags")).containsExactly("a" + System.lineSeparator() + "b");
+        assertThat(after.getFieldValues("tags")).containsExactly("a", "b");
+    }
+}
@@ -25,12 +25,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,7 +41,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.viglet.turing.persistence.model.se.TurSEInstance;
 import com.viglet.turing.persistence.model.sn.TurSNSite;
+import com.viglet.turing.persistence.model.sn.locale.TurSNSiteLocale;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
 import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
 import com.viglet.turing.properties.TurConfigProperties;
@@ -68,6 +73,7 @@ class TurSolrInstanceProcessTest {
     @Mock
     private TurSolrProperty solrProperties;
 
+    private final AtomicLong clock = new AtomicLong(1_000);
     private TurSolrInstanceProcess turSolrInstanceProcess;
 
     @BeforeEach
@@ -77,7 +83,9 @@ class TurSolrInstanceProcessTest {
 
         turSolrInstanceProcess = new TurSolrInstanceProcess(
                 turSNSiteLocaleRepository,
-                turSNSiteRepository);
+                turSNSiteRepository,
+                5_000,
+                clock::get);
     }
 
     @Test
@@ -125,4 +133,127 @@ class TurSolrInstanceProcessTest {
         verify(turSNSiteLocaleRepository).findByTurSNSiteAndLanguage(turSNSite, Locale.FRENCH);
         verify(turSNSiteLocaleRepository).findByTurSNSiteAndLanguage(turSNSite, Locale.GERMAN);
     }
+
+    @Test
+    void testInitIngestInstanceFollowsRoute() {
+        TurSNSiteLocale turSNSiteLocale = siteLocale("locale1", "site", Locale.US, "site_en_US");
+        TurSNSite turSNSite = turSNSiteLocale.getTurSNSite();
+        when(turSNSiteRepository.findByName("site")).thenReturn(Optional.of(turSNSite));
+        when(turSNSiteLocaleRepository.findByTurSNSiteAndLanguage(turSNSite, Locale.US))
+                .thenReturn(turSNSiteLocale);
+
+        assertThat(turSolrInstanceProcess.initIngestInstance("site", Locale.US))
+                .map(TurSolrInstance::getCore).contains("site_en_US");
+
+        turSolrInstanceProcess.routeIngest(turSNSiteLocale, "site_en_US_reindex");
+        assertThat(turSolrInstanceProcess.initIngestInstance("site", Locale.US))
+                .map(TurSolrInstance::getCore).contains("site_en_US_reindex");
+        assertThat(turSolrInstanceProcess.getIngestRoute(turSNSiteLocale)).contains("site_en_US_reindex");
+
+        turSolrInstanceProcess.removeIngestRoute(turSNSiteLocale);
+        assertThat(turSolrInstanceProcess.initIngestInstance("site", Locale.US))
+                .map(TurSolrInstance::getCore).contains("site_en_US");
+        turSolrInstanceProcess.shutdown();
+    }
+
+    @Test
+    void testLoadedRoutesDoNotReadDatabase() {
+        when(turSNSiteLocaleRepository.findAll())
+                .thenReturn(List.of(siteLocale("locale1", "site", Locale.US, "site_en_US")));
+
+        turSolrInstanceProcess.loadRoutes();
+
+        Optional<TurSolrInstance> first = turSolrInstanceProcess.initSolrInstance("site", Locale.US);
+        assertThat(first).map(TurSolrInstance::getCore).contains("site_en_US");
+        assertThat(turSolrInstanceProcess.initSolrInstance("site", Locale.US)).containsSame(first.get());
+        verify(turSNSiteRepository, never()).findByName(any());
+        turSolrInstanceProcess.shutdown();
+    }
+
+    @Test
+    void testMissingRouteIsReadOnce() {
+        TurSNSiteLocale turSNSiteLocale = siteLocale("locale1", "site", Locale.US, "site_en_US");
+        TurSNSite turSNSite = turSNSiteLocale.getTurSNSite();
+        when(turSNSiteRepository.findByName("site")).thenReturn(Optional.of(turSNSite));
+        when(turSNSiteLocaleRepository.findByTurSNSiteAndLanguage(turSNSite, Locale.US))
+                .thenReturn(turSNSiteLocale);
+
+        turSolrInstanceProcess.initSolrInstance("site", Locale.US);
+        turSolrInstanceProcess.initIngestInstance("site", Locale.US);
+
+        verify(turSNSiteRepository, times(1)).findByName("site");
+        turSolrInstanceProcess.shutdown();
+    }
+
+    @Test
+    void testRoutingEventReloadsRoutes() {
+        TurSNSiteLocale english = siteLocale("locale1", "site", Locale.US, "site_en_US");
+        TurSNSiteLocale french = siteLocale("locale2", "site", Locale.FRANCE, "site_fr_FR");
+        when(turSNSiteLocaleRepository.findAll())
+                .thenReturn(List.of(english, french))
+                .thenReturn(List.of(siteLocale("locale1", "site", Locale.US, "site_en_US_2")));
+        turSolrInstanceProcess.loadRoutes();
+
+        turSolrInstanceProcess.onRoutingChanged(new TurSolrRoutingEvent("test"));
+
+        assertThat(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
+                .map(TurSolrInstance::getCore).contains("site_en_US_2");
+        when(turSNSiteRepository.findByName("site")).thenReturn(Optional.empty());
+        assertThat(turSolrInstanceProcess.initSolrInstance("site", Locale.FRANCE)).isEmpty();
+        turSolrInstanceProcess.shutdown();
+    }
+
+    @Test
+    void testMissedRouteIsNotReadAgainUntilNegativeTtl() {
+        TurSNSiteLocale turSNSiteLocale = siteLocale("locale1", "site", Locale.US, "site_en_US");
+        TurSNSite turSNSite = turSNSiteLocale.getTurSNSite();
+        when(turSNSiteRepository.findByName("site"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(turSNSite));
+        when(turSNSiteLocaleRepository.findByTurSNSiteAndLanguage(turSNSite, Locale.US))
+                .thenReturn(turSNSiteLocale);
+
+        assertThat(turSolrInstanceProcess.initSolrInstance("site", Locale.US)).isEmpty();
+        clock.addAndGet(4_999);
+        assertThat(turSolrInstanceProcess.initSolrInstance("site", Locale.US)).isEmpty();
+        verify(turSNSiteRepository, times(1)).findByName("site");
+
+        clock.addAndGet(1);
+        assertThat(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
+                .map(TurSolrInstance::getCore).contains("site_en_US");
+        verify(turSNSiteRepository, times(2)).findByName("site");
+        turSolrInstanceProcess.shutdown();
+    }
+
+    @Test
+    void testExpiredRoutesAreReloaded() {
+        when(turSNSiteRepository.findByName("site")).thenReturn(Optional.empty());
+        when(turSNSiteLocaleRepository.findAll())
+                .thenReturn(List.of())
+                .thenReturn(List.of(siteLocale("locale1", "site", Locale.US, "site_en_US")));
+        turSolrInstanceProcess.loadRoutes();
+        assertThat(turSolrInstanceProcess.initSolrInstance("site", Locale.US)).isEmpty();
+
+        turSolrInstanceProcess.expireRoutes();
+
+        assertThat(turSolrInstanceProcess.initSolrInstance("site", Locale.US))
+                .map(TurSolrInstance::getCore).contains("site_en_US");
+        verify(turSNSiteRepository, times(1)).findByName("site");
+        turSolrInstanceProcess.shutdown();
+    }
+
+    private static TurSNSiteLocale siteLocale(String id, String siteName, Locale locale, String core) {
+        TurSEInstance turSEInstance = new TurSEInstance();
+        turSEInstance.setHost("localhost");
+        turSEInstance.setPort(8983);
+        TurSNSite turSNSite = new TurSNSite();
+        turSNSite.setName(siteName);
+        turSNSite.setTurSEInstance(turSEInstance);
+        TurSNSiteLocale turSNSiteLocale = new TurSNSiteLocale();
+        turSNSiteLocale.setId(id);
+        turSNSiteLocale.setLanguage(locale);
+        turSNSiteLocale.setCore(core);
+        turSNSiteLocale.setTurSNSite(turSNSite);
+        return turSNSiteLocale;
+    }
 }
@@ -61,11 +61,18 @@ import com.viglet.turing.persistence.model.sn.field.TurSNSiteFacetFieldSortEnum;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
 import com.viglet.turing.persistence.model.sn.ranking.TurSNRankingCondition;
 import com.viglet.turing.persistence.model.sn.ranking.TurSNRankingExpression;
+import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtFacetRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
 import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingConditionRepository;
 import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingExpressionRepository;
 import com.viglet.turing.sn.TurSNFieldType;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfig;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfigRegistry;
+import com.viglet.turing.sn.facet.TurSNFacetDefinitionFactory;
 import com.viglet.turing.sn.facet.TurSNFacetTypeContext;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
 import com.viglet.turing.sn.tr.TurSNTargetingRules;
 
 /**
@@ -89,10 +96,28 @@ class TurSolrQueryBuilderTest {
         @Mock
         private TurSNTargetingRules turSNTargetingRules;
 
+        @Mock
+        private TurSNSiteRepository turSNSiteRepository;
+
+        @Mock
+        private TurSNSiteLocaleRepository turSNSiteLocaleRepository;
+
+        @Mock
+        private TurSNSiteFieldExtFacetRepository turSNSiteFieldExtFacetRepository;
+
         private TurSolrQueryBuilder builder() {
-                return new TurSolrQueryBuilder(turSNSiteFieldExtRepository,
+                return new TurSolrQueryBuilder(turSNTargetingRules);
+        }
+
+        private TurSNSiteSearchConfig config(TurSNSite site) {
+                if (site.getName() == null) {
+                        site.setName("site");
+                }
+                return new TurSNSiteSearchConfigRegistry(turSNSiteRepository, turSNSiteLocaleRepository,
+                                turSNSiteFieldExtRepository, turSNSiteFieldExtFacetRepository,
                                 turSNRankingExpressionRepository, turSNRankingConditionRepository,
-                                turSNTargetingRules);
+                                new TurSNSchemaRegistry(turSNSiteFieldExtRepository, 0),
+                                new TurSNFacetDefinitionFactory()).get(site);
         }
 
         private TurSNSiteSearchContext contextFrom(TurSEParameters parameters,
@@ -105,8 +130,7 @@ class TurSolrQueryBuilderTest {
 
         @Test
         void testHasGroupWhenGroupIsPresent() {
-                TurSolrQueryBuilder builder = new TurSolrQueryBuilder(turSNSiteFieldExtRepository,
-                                turSNRankingExpressionRepository, turSNRankingConditionRepository, turSNTargetingRules);
+                TurSolrQueryBuilder builder = new TurSolrQueryBuilder(turSNTargetingRules);
                 TurSNSearchParams searchParams = new TurSNSearchParams();
                 searchParams.setGroup("group");
                 TurSEParameters parameters = new TurSEParameters(
@@ -117,8 +141,7 @@ class TurSolrQueryBuilderTest {
 
         @Test
         void testHasGroupWhenGroupIsMissing() {
-                TurSolrQueryBuilder builder = new TurSolrQueryBuilder(turSNSiteFieldExtRepository,
-                                turSNRankingExpressionRepository, turSNRankingConditionRepository, turSNTargetingRules);
+                TurSolrQueryBuilder builder = new TurSolrQueryBuilder(turSNTargetingRules);
                 TurSNSearchParams searchParams = new TurSNSearchParams();
                 TurSEParameters parameters = new TurSEParameters(
                                 searchParams);
@@ -128,8 +151,7 @@ class TurSolrQueryBuilderTest {
 
         @Test
         void testGetFqFieldsExtractsKeys() {
-                TurSolrQueryBuilder builder = new TurSolrQueryBuilder(turSNSiteFieldExtRepository,
-                                turSNRankingExpressionRepository, turSNRankingConditionRepository, turSNTargetingRules);
+                TurSolrQueryBuilder builder = new TurSolrQueryBuilder(turSNTargetingRules);
                 TurSNFilterParams params = TurSNFilterParams.builder()
                                 .defaultValues(List.of("category:books", "type:article"))
                                 .and(List.of("author:john"))
@@ -170,11 +192,8 @@ class TurSolrQueryBuilderTest {
                 when(turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(site, 1))
                                 .thenReturn(List.of(categoryFacet, typeFacet));
 
-                TurSolrQueryBuilder builder = new TurSolrQueryBuilder(turSNSiteFieldExtRepository,
-                                turSNRankingExpressionRepository, turSNRankingConditionRepository, turSNTargetingRules);
-                TurSNFacetTypeContext context = new TurSNFacetTypeContext(site, params);
-
-                List<String> fields = builder.getFacetFieldsInFilterQuery(context);
+                TurSolrQueryBuilder builder = new TurSolrQueryBuilder(turSNTargetingRules);
+                List<String> fields = builder.getFacetFieldsInFilterQuery(config(site), params);
 
                 assertThat(fields).containsExactly("category");
         }
@@ -195,7 +214,7 @@ class TurSolrQueryBuilderTest {
                 when(turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(site, 1))
                                 .thenReturn(List.of(idFacet));
 
-                List<String> fields = builder().getFacetFieldsInFilterQuery(new TurSNFacetTypeContext(site, params));
+                List<String> fields = builder().getFacetFieldsInFilterQuery(config(site), params);
 
                 assertThat(fields).containsExactly("price_range");
         }
@@ -218,7 +237,7 @@ class TurSolrQueryBuilderTest {
                 when(turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(site, 1))
                                 .thenReturn(List.of(nonFacetField));
 
-                List<String> fields = builder().getFacetFieldsInFilterQuery(new TurSNFacetTypeContext(site, params));
+                List<String> fields = builder().getFacetFieldsInFilterQuery(config(site), params);
 
                 assertThat(fields).containsExactly("price_range");
         }
@@ -231,13 +250,12 @@ class TurSolrQueryBuilderTest {
                 when(turSNSiteFieldExtRepository.findByTurSNSiteAndMltAndEnabled(site, 1, 1))
                                 .thenReturn(List.of(mltField));
 
-                TurSolrQueryBuilder builder = new TurSolrQueryBuilder(turSNSiteFieldExtRepository,
-                                turSNRankingExpressionRepository, turSNRankingConditionRepository, turSNTargetingRules);
+                TurSolrQueryBuilder builder = new TurSolrQueryBuilder(turSNTargetingRules);
                 SolrQuery query = new SolrQuery();
 
-                List<TurSNSiteFieldExt> result = builder.prepareQueryMLT(site, query);
+                List<TurSNSiteFieldExt> result = builder.prepareQueryMLT(config(site), query);
 
-                assertThat(result).containsExactly(mltField);
+                assertThat(result).extracting(TurSNSiteFieldExt::getName).containsExactly("body");
                 assertThat(query.getBool(MoreLikeThisParams.MLT)).isTrue();
                 assertThat(query.get(MoreLikeThisParams.SIMILARITY_FIELDS)).isEqualTo("body");
         }
@@ -250,7 +268,7 @@ class TurSolrQueryBuilderTest {
                                 .thenReturn(Collections.emptyList());
 
                 SolrQuery query = new SolrQuery();
-                List<TurSNSiteFieldExt> result = builder().prepareQueryMLT(site, query);
+                List<TurSNSiteFieldExt> result = builder().prepareQueryMLT(config(site), query);
 
                 assertThat(result).isEmpty();
                 assertThat(query.get(MoreLikeThisParams.MLT)).isNull();
@@ -273,7 +291,7 @@ class TurSolrQueryBuilderTest {
                                 parameters, Locale.US, URI.create("http://localhost/search"));
 
                 SolrQuery enabledQuery = new SolrQuery();
-                builder().prepareQueryHL(site, enabledQuery, enabledContext);
+                builder().prepareQueryHL(config(site), enabledQuery, enabledContext);
 
                 assertThat(enabledQuery.getBool(HighlightParams.HIGHLIGHT)).isTrue();
                 assertThat(enabledQuery.get(HighlightParams.FIELDS)).isEqualTo("content");
@@ -282,7 +300,7 @@ class TurSolrQueryBuilderTest {
                 TurSNSiteSearchContext disabledContext = new TurSNSiteSearchContext("site", config,
                                 parameters, Locale.US, URI.create("http://localhost/search"));
                 SolrQuery disabledQuery = new SolrQuery();
-                builder().prepareQueryHL(site, disabledQuery, disabledContext);
+                builder().prepareQueryHL(config(site), disabledQuery, disabledContext);
                 assertThat(disabledQuery.get(HighlightParams.FIELDS)).isNull();
         }
 
@@ -308,7 +326,7 @@ class TurSolrQueryBuilderTest {
 
                 SolrQuery query = new SolrQuery();
                 TurSNFilterParams params = TurSNFilterParams.builder().build();
-                List<TurSNSiteFieldExt> facets = builder().prepareQueryFacet(site, query, params);
+                List<TurSNSiteFieldExt> facets = builder().prepareQueryFacet(config(site), query, params, Set.of());
 
                 assertThat(facets).hasSize(1);
                 assertThat(query.getBool("facet")).isTrue();
@@ -344,8 +362,8 @@ class TurSolrQueryBuilderTest {
                                 .thenReturn(List.of(nonFacetField));
 
                 SolrQuery query = new SolrQuery();
-                List<TurSNSiteFieldExt> facets = builder().prepareQueryFacet(site, query,
-                                TurSNFilterParams.builder().build());
+                List<TurSNSiteFieldExt> facets = builder().prepareQueryFacet(config(site), query,
+                                TurSNFilterParams.builder().build(), Set.of());
 
                 assertThat(facets).hasSize(1);
                 assertThat(query.getFacetQuery()).isNotEmpty();
@@ -387,7 +405,9 @@ class TurSolrQueryBuilderTest {
                                 .itemOperator(TurSNFilterQueryOperator.NONE)
                                 .build();
 
-                builder().prepareQueryFacet(site, query, params);
+                TurSNSiteSearchConfig config = config(site);
+                builder().prepareQueryFacet(config, query, params,
+                                builder().getFacetsWithOwnFilterExcluded(config, params));
 
                 assertThat(query.getFacetQuery()).isNotEmpty();
                 assertThat(List.of(query.getFacetQuery()))
@@ -446,7 +466,7 @@ class TurSolrQueryBuilderTest {
                 TurSEParameters seParameters = new TurSEParameters(params, new TurSNSitePostParamsBean());
 
                 SolrQuery query = builder().prepareSolrQuery(
-                                contextFrom(seParameters, new TurSNSitePostParamsBean()), site,
+                                contextFrom(seParameters, new TurSNSitePostParamsBean()), config(site),
                                 seParameters, new TurSESpellCheckResult(false, ""));
 
                 assertThat(query.getFilterQueries()).hasSize(1);
@@ -483,7 +503,7 @@ class TurSolrQueryBuilderTest {
                                 eq(List.of("segment:vip"))))
                                 .thenReturn("segment:\"vip\"");
 
-                SolrQuery query = builder().prepareSolrQuery(contextFrom(parameters, post), site,
+                SolrQuery query = builder().prepareSolrQuery(contextFrom(parameters, post), config(site),
                                 parameters, spell);
 
                 assertThat(query.getQuery()).isEqualTo("title_exact:\"hello world\"");
@@ -518,7 +538,7 @@ class TurSolrQueryBuilderTest {
                 TurSESpellCheckResult spell = new TurSESpellCheckResult(true, "hello");
 
                 SolrQuery query = builder().prepareSolrQuery(
-                                contextFrom(parameters, new TurSNSitePostParamsBean()), site,
+                                contextFrom(parameters, new TurSNSitePostParamsBean()), config(site),
                                 parameters, spell);
 
                 assertThat(query.getQuery()).isEqualTo("hello");
@@ -556,7 +576,7 @@ class TurSolrQueryBuilderTest {
 
                 TurSEParameters parameters = new TurSEParameters(searchParams, post);
 
-                SolrQuery query = builder().prepareSolrQuery(contextFrom(parameters, post), site,
+                SolrQuery query = builder().prepareSolrQuery(contextFrom(parameters, post), config(site),
                                 parameters, new TurSESpellCheckResult(false, ""));
 
                 assertThat(query.getFilterQueries()).isNotEmpty();
@@ -583,7 +603,7 @@ class TurSolrQueryBuilderTest {
                 TurSEParameters first = new TurSEParameters(firstParams, new TurSNSitePostParamsBean());
 
                 SolrQuery firstQuery = builder().prepareSolrQuery(
-                                contextFrom(first, new TurSNSitePostParamsBean()), site,
+                                contextFrom(first, new TurSNSitePostParamsBean()), config(site),
                                 first, new TurSESpellCheckResult(false, ""));
 
                 assertThat(first.getRows()).isEqualTo(10);
@@ -596,7 +616,7 @@ class TurSolrQueryBuilderTest {
                 TurSEParameters newest = new TurSEParameters(newestParams, new TurSNSitePostParamsBean());
 
                 SolrQuery newestQuery = builder().prepareSolrQuery(
-                                contextFrom(newest, new TurSNSitePostParamsBean()), site,
+                                contextFrom(newest, new TurSNSitePostParamsBean()), config(site),
                                 newest, new TurSESpellCheckResult(false, ""));
 
                 assertThat(newestQuery.getSortField()).contains("publishedDate desc");
@@ -608,7 +628,7 @@ class TurSolrQueryBuilderTest {
                 TurSEParameters oldest = new TurSEParameters(oldestParams, new TurSNSitePostParamsBean());
 
                 SolrQuery oldestQuery = builder().prepareSolrQuery(
-                                contextFrom(oldest, new TurSNSitePostParamsBean()), site,
+                                contextFrom(oldest, new TurSNSitePostParamsBean()), config(site),
                                 oldest, new TurSESpellCheckResult(false, ""));
 
                 assertThat(oldestQuery.getSortField()).contains("publishedDate asc");
@@ -650,7 +670,7 @@ class TurSolrQueryBuilderTest {
                 TurSEParameters seParameters = new TurSEParameters(params, new TurSNSitePostParamsBean());
 
                 SolrQuery query = builder().prepareSolrQuery(
-                                contextFrom(seParameters, new TurSNSitePostParamsBean()), site,
+                                contextFrom(seParameters, new TurSNSitePostParamsBean()), config(site),
                                 seParameters, new TurSESpellCheckResult(false, ""));
 
                 assertThat(query.getFilterQueries()).hasSize(1);
@@ -700,7 +720,7 @@ class TurSolrQueryBuilderTest {
                 TurSEParameters seParameters = new TurSEParameters(params, new TurSNSitePostParamsBean());
 
                 SolrQuery query = builder().prepareSolrQuery(
-                                contextFrom(seParameters, new TurSNSitePostParamsBean()), site,
+                                contextFrom(seParameters, new TurSNSitePostParamsBean()), config(site),
                                 seParameters, new TurSESpellCheckResult(false, ""));
 
                 assertThat(query.getParams("bq")).isNotNull();
@@ -740,15 +760,107 @@ class TurSolrQueryBuilderTest {
                                 .thenReturn(List.of(dateFacet, entityFacet));
 
                 SolrQuery dateQuery = new SolrQuery();
-                builder().prepareQueryFacetWithOneFacet(site, dateQuery, TurSNFilterParams.builder().build(),
-                                "publishDate");
+                builder().prepareQueryFacetWithOneFacet(config(site), dateQuery, TurSNFilterParams.builder().build(),
+                                "publishDate", Set.of());
                 assertThat(dateQuery.getParams("facet.range")).isNotNull();
 
                 SolrQuery entityQuery = new SolrQuery();
-                builder().prepareQueryFacetWithOneFacet(site, entityQuery, TurSNFilterParams.builder().build(),
-                                "person");
+                builder().prepareQueryFacetWithOneFacet(config(site), entityQuery, TurSNFilterParams.builder().build(),
+                                "person", Set.of());
                 assertThat(entityQuery.getFacetFields()).isNotEmpty();
                 assertThat(String.join(",", entityQuery.getFacetFields())).contains("turing_entity_person");
                 assertThat(entityQuery.get("f.person.facet.sort")).isEqualTo("index");
         }
+
+        @Test
+        void testPrepareSolrQueryTagsFilterQueriesOfAndOrFacetsAndExcludesThemInFacets() {
+                TurSNSite site = andOrSite();
+                TurSNSiteFieldExt category = facetField("category", TurSNSiteFacetFieldEnum.DEFAULT);
+                TurSNSiteFieldExt type = facetField("type", TurSNSiteFacetFieldEnum.DEFAULT);
+                stubSearchConfig(site, List.of(category, type));
+
+                TurSEParameters seParameters = filterParameters(List.of("category:books", "type:news"));
+                TurSNSiteSearchConfig config = config(site);
+                Set<String> facetsWithOwnFilterExcluded = builder().getFacetsWithOwnFilterExcluded(config,
+                                seParameters.getTurSNFilterParams());
+                SolrQuery query = builder().prepareSolrQuery(
+                                contextFrom(seParameters, new TurSNSitePostParamsBean()), config,
+                                seParameters, new TurSESpellCheckResult(false, ""), facetsWithOwnFilterExcluded);
+                builder().prepareQueryFacet(config, query, seParameters.getTurSNFilterParams(),
+                                facetsWithOwnFilterExcluded);
+
+                assertThat(facetsWithOwnFilterExcluded).containsExactlyInAnyOrder("category", "type");
+                assertThat(query.getFilterQueries()).containsExactlyInAnyOrder(
+                                "{!tag='_all_,category'}(category:\"books\")",
+                                "{!tag='_all_,type'}(type:\"news\")");
+                assertThat(query.getFacetFields()).containsExactlyInAnyOrder("{!ex='category'}category",
+                                "{!ex='type'}type");
+        }
+
+        @Test
+        void testPrepareSolrQueryKeepsOneFilterQueryWhenAFacetIsCombinedWithOr() {
+                TurSNSite site = andOrSite();
+                TurSNSiteFieldExt category = facetField("category", TurSNSiteFacetFieldEnum.DEFAULT);
+                TurSNSiteFieldExt type = facetField("type", TurSNSiteFacetFieldEnum.OR);
+                stubSearchConfig(site, List.of(category, type));
+
+                TurSEParameters seParameters = filterParameters(List.of("category:books", "type:news"));
+                TurSNSiteSearchConfig config = config(site);
+                Set<String> facetsWithOwnFilterExcluded = builder().getFacetsWithOwnFilterExcluded(config,
+                                seParameters.getTurSNFilterParams());
+                SolrQuery query = builder().prepareSolrQuery(
+                                contextFrom(seParameters, new TurSNSitePostParamsBean()), config,
+                                seParameters, new TurSESpellCheckResult(false, ""), facetsWithOwnFilterExcluded);
+                builder().prepareQueryFacet(config, query, seParameters.getTurSNFilterParams(),
+                                facetsWithOwnFilterExcluded);
+
+                assertThat(facetsWithOwnFilterExcluded).isEmpty();
+                assertThat(query.getFilterQueries()).hasSize(1);
+                assertThat(query.getFilterQueries()[0]).startsWith("{!tag=_all_}");
+                assertThat(query.getFacetFields()).noneMatch(facetField -> facetField.contains("ex='"));
+        }
+
+        private static TurSNSite andOrSite() {
+                TurSNSite site = new TurSNSite();
+                site.setFacet(1);
+                site.setItemsPerFacet(5);
+                site.setFacetSort(null);
+                site.setFacetType(TurSNSiteFacetFieldEnum.AND);
+                site.setFacetItemType(TurSNSiteFacetFieldEnum.OR);
+                site.setRowsPerPage(10);
+                site.setSpellCheck(0);
+                site.setSpellCheckFixes(0);
+                return site;
+        }
+
+        private static TurSNSiteFieldExt facetField(String name, TurSNSiteFacetFieldEnum facetType) {
+                return TurSNSiteFieldExt.builder()
+                                .name(name)
+                                .facet(1)
+                                .enabled(1)
+                                .facetType(facetType)
+                                .facetItemType(TurSNSiteFacetFieldEnum.DEFAULT)
+                                .type(com.viglet.turing.commons.se.field.TurSEFieldType.STRING)
+                                .facetSort(TurSNSiteFacetFieldSortEnum.DEFAULT)
+                                .build();
+        }
+
+        private void stubSearchConfig(TurSNSite site, List<TurSNSiteFieldExt> fields) {
+                when(turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(site, 1)).thenReturn(fields);
+                when(turSNSiteFieldExtRepository.findByTurSNSiteAndFacetAndEnabledAndType(site, 1, 1,
+                                com.viglet.turing.commons.se.field.TurSEFieldType.DATE))
+                                .thenReturn(Collections.emptyList());
+                when(turSNSiteFieldExtRepository.findByTurSNSite(any(), eq(site)))
+                                .thenReturn(Collections.emptyList());
+                when(turSNRankingExpressionRepository.findByTurSNSite(any(), eq(site)))
+                                .thenReturn(Collections.emptySet());
+        }
+
+        private static TurSEParameters filterParameters(List<String> fq) {
+                TurSNSearchParams params = new TurSNSearchParams();
+                params.setQ("query");
+                params.setRows(10);
+                params.setFq(fq);
+                return new TurSEParameters(params, new TurSNSitePostParamsBean());
+        }
 }
@@ -25,6 +25,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
@@ -35,8 +37,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.response.FacetField;
 import org.apache.solr.client.solrj.response.GroupCommand;
 import org.apache.solr.client.solrj.response.GroupResponse;
 import org.apache.solr.client.solrj.response.QueryResponse;
@@ -56,12 +60,20 @@ import com.viglet.turing.persistence.model.sn.TurSNSite;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteCustomFacet;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteCustomFacetItem;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
+import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtFacetRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
+import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingConditionRepository;
+import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingExpressionRepository;
 import com.viglet.turing.se.facet.TurSEFacetResult;
 import com.viglet.turing.se.result.TurSEGroup;
 import com.viglet.turing.se.result.TurSEResult;
 import com.viglet.turing.se.result.TurSEResults;
-import com.viglet.turing.sn.TurSNFieldProcess;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfig;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfigRegistry;
+import com.viglet.turing.sn.facet.TurSNFacetDefinitionFactory;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
 
 /**
  * Unit tests for TurSolrResultProcessor.
@@ -73,16 +85,38 @@ import com.viglet.turing.sn.TurSNFieldProcess;
 class TurSolrResultProcessorTest {
 
         @Mock
-        private TurSNFieldProcess turSNFieldProcess;
+        private TurSNSiteRepository turSNSiteRepository;
+
+        @Mock
+        private TurSNSiteLocaleRepository turSNSiteLocaleRepository;
 
         @Mock
         private TurSNSiteFieldExtRepository turSNSiteFieldExtRepository;
 
+        @Mock
+        private TurSNSiteFieldExtFacetRepository turSNSiteFieldExtFacetRepository;
+
+        @Mock
+        private TurSNRankingExpressionRepository turSNRankingExpressionRepository;
+
+        @Mock
+        private TurSNRankingConditionRepository turSNRankingConditionRepository;
+
+        private TurSNSiteSearchConfig config(TurSNSite site) {
+                if (site.getName() == null) {
+                        site.setName("site");
+                }
+                return new TurSNSiteSearchConfigRegistry(turSNSiteRepository, turSNSiteLocaleRepository,
+                                turSNSiteFieldExtRepository, turSNSiteFieldExtFacetRepository,
+                                turSNRankingExpressionRepository, turSNRankingConditionRepository,
+                                new TurSNSchemaRegistry(turSNSiteFieldExtRepository, 0),
+                                new TurSNFacetDefinitionFactory()).get(site);
+        }
+
         @Test
         @SuppressWarnings("unchecked")
         void testSetFacetQueriesOrdersCustomFacetItemsByPosition() throws Exception {
-                TurSolrResultProcessor processor = new TurSolrResultProcessor(turSNFieldProcess,
-                                turSNSiteFieldExtRepository);
+                TurSolrResultProcessor processor = new TurSolrResultProcessor();
                 TurSNSite site = new TurSNSite();
 
                 TurSNSiteCustomFacetItem itemPosition3 = TurSNSiteCustomFacetItem.builder()
@@ -124,9 +158,9 @@ class TurSolrResultProcessorTest {
                 when(queryResponse.getFacetQuery()).thenReturn(facetQuery);
 
                 Method method = TurSolrResultProcessor.class.getDeclaredMethod(
-                                "setFacetQueries", TurSNSite.class, QueryResponse.class);
+                                "setFacetQueries", TurSNSiteSearchConfig.class, QueryResponse.class);
                 method.setAccessible(true);
-                List<TurSEFacetResult> facetResults = (List<TurSEFacetResult>) method.invoke(processor, site,
+                List<TurSEFacetResult> facetResults = (List<TurSEFacetResult>) method.invoke(processor, config(site),
                                 queryResponse);
 
                 assertThat(facetResults).hasSize(1);
@@ -138,8 +172,7 @@ class TurSolrResultProcessorTest {
 
         @Test
         void testCreateTurSEResultAppliesHighlightAndRequiredFields() {
-                TurSolrResultProcessor processor = new TurSolrResultProcessor(turSNFieldProcess,
-                                turSNSiteFieldExtRepository);
+                TurSolrResultProcessor processor = new TurSolrResultProcessor();
                 TurSNSiteFieldExt titleField = TurSNSiteFieldExt.builder()
                                 .name("title")
                                 .type(TurSEFieldType.TEXT)
@@ -163,8 +196,7 @@ class TurSolrResultProcessorTest {
 
         @Test
         void testTurSEResultsParametersFromResults() {
-                TurSolrResultProcessor processor = new TurSolrResultProcessor(turSNFieldProcess,
-                                turSNSiteFieldExtRepository);
+                TurSolrResultProcessor processor = new TurSolrResultProcessor();
 
                 TurSNSearchParams searchParams = new TurSNSearchParams();
                 searchParams.setRows(10);
@@ -195,8 +227,7 @@ class TurSolrResultProcessorTest {
 
         @Test
         void testTurSEResultsParametersFromGroupResponse() {
-                TurSolrResultProcessor processor = new TurSolrResultProcessor(turSNFieldProcess,
-                                turSNSiteFieldExtRepository);
+                TurSolrResultProcessor processor = new TurSolrResultProcessor();
 
                 TurSNSearchParams searchParams = new TurSNSearchParams();
                 searchParams.setRows(5);
@@ -226,8 +257,7 @@ class TurSolrResultProcessorTest {
 
         @Test
         void testGetFieldExtMapAndRequiredFields() {
-                TurSolrResultProcessor processor = new TurSolrResultProcessor(turSNFieldProcess,
-                                turSNSiteFieldExtRepository);
+                TurSolrResultProcessor processor = new TurSolrResultProcessor();
                 TurSNSite site = new TurSNSite();
 
                 TurSNSiteFieldExt f1 = TurSNSiteFieldExt.builder().name("title").required(0).build();
@@ -241,8 +271,9 @@ class TurSolrResultProcessorTest {
                 when(turSNSiteFieldExtRepository.findByTurSNSiteAndRequiredAndEnabled(site, 1, 1))
                                 .thenReturn(List.of(f2, f3));
 
-                Map<String, TurSNSiteFieldExt> fieldMap = processor.getFieldExtMap(site);
-                Map<String, Object> requiredMap = processor.getRequiredFields(site);
+                TurSNSiteSearchConfig config = config(site);
+                Map<String, TurSNSiteFieldExt> fieldMap = processor.getFieldExtMap(config);
+                Map<String, Object> requiredMap = processor.getRequiredFields(config);
 
                 assertThat(fieldMap).containsKeys("title", "type");
                 assertThat(requiredMap)
@@ -252,8 +283,7 @@ class TurSolrResultProcessorTest {
 
         @Test
         void testGetHLAndIsHLBranches() {
-                TurSolrResultProcessor processor = new TurSolrResultProcessor(turSNFieldProcess,
-                                turSNSiteFieldExtRepository);
+                TurSolrResultProcessor processor = new TurSolrResultProcessor();
 
                 TurSNSite site = new TurSNSite();
                 site.setHl(1);
@@ -279,8 +309,7 @@ class TurSolrResultProcessorTest {
 
         @Test
         void testGetResultsProcessesMltAndGroups() {
-                TurSolrResultProcessor processor = new TurSolrResultProcessor(turSNFieldProcess,
-                                turSNSiteFieldExtRepository);
+                TurSolrResultProcessor processor = new TurSolrResultProcessor();
                 TurSNSite site = new TurSNSite();
                 site.setMlt(1);
                 site.setFacet(0);
@@ -336,7 +365,7 @@ class TurSolrResultProcessorTest {
                 TurSolrQueryBuilder queryBuilder = mock(TurSolrQueryBuilder.class);
                 when(queryBuilder.hasGroup(parameters)).thenReturn(false);
 
-                TurSEResults seResults = processor.getResults(mock(TurSolrInstance.class), site,
+                TurSEResults seResults = processor.getResults(mock(TurSolrInstance.class), config(site),
                                 query, queryContext, queryResponse, queryBuilder);
 
                 assertThat(seResults.getResults()).hasSize(1);
@@ -344,10 +373,61 @@ class TurSolrResultProcessorTest {
                 assertThat(seResults.getGroups()).isNull();
         }
 
+        @Test
+        void testGetResultsMarksFacetsWithOwnFilterExcludedFromContext() {
+                TurSolrResultProcessor processor = new TurSolrResultProcessor();
+                TurSNSite site = new TurSNSite();
+                site.setFacet(1);
+                site.setItemsPerFacet(10);
+
+                TurSNSiteFieldExt category = TurSNSiteFieldExt.builder().name("category").facet(1).build();
+                TurSNSiteFieldExt type = TurSNSiteFieldExt.builder().name("type").facet(1).build();
+                when(turSNSiteFieldExtRepository.findByTurSNSiteAndEnabled(site, 1))
+                                .thenReturn(List.of(category, type));
+                when(turSNSiteFieldExtRepository.findByTurSNSiteAndRequiredAndEnabled(site, 1, 1))
+                                .thenReturn(Collections.emptyList());
+
+                FacetField categoryFacet = new FacetField("category");
+                categoryFacet.add("books", 3);
+                FacetField typeFacet = new FacetField("type");
+                typeFacet.add("news", 2);
+                QueryResponse queryResponse = mock(QueryResponse.class);
+                when(queryResponse.getResults()).thenReturn(new SolrDocumentList());
+                when(queryResponse.getFacetFields()).thenReturn(List.of(categoryFacet, typeFacet));
+
+                TurSNSearchParams searchParams = new TurSNSearchParams();
+                searchParams.setQ("*");
+                searchParams.setRows(10);
+                searchParams.setP(1);
+                TurSEParameters parameters = new TurSEParameters(searchParams);
+                SolrQuery query = new SolrQuery().setQuery("*");
+
+                TurSolrQueryContext queryContext = TurSolrQueryContext.builder()
+                                .query(query)
+                                .turSEParameters(parameters)
+                                .mltFieldExtList(Collections.emptyList())
+                                .facetFieldExtList(List.of(category, type))
+                                .hlFieldExtList(Collections.emptyList())
+                                .queryToRenderFacet(false)
+                                .facetsWithOwnFilterExcluded(Set.of("category"))
+                                .build();
+
+                TurSolrQueryBuilder queryBuilder = mock(TurSolrQueryBuilder.class);
+                when(queryBuilder.hasGroup(parameters)).thenReturn(false);
+
+                TurSEResults seResults = processor.getResults(mock(TurSolrInstance.class), config(site),
+                                query, queryContext, queryResponse, queryBuilder);
+
+                assertThat(seResults.getFacetResults())
+                                .filteredOn(TurSEFacetResult::isOwnFilterExcluded)
+                                .extracting(TurSEFacetResult::getFacet)
+                                .containsExactly("category");
+                verify(queryBuilder, never()).getFacetsWithOwnFilterExcluded(any(), any());
+        }
+
         @Test
         void testGetResultsEnrichesGroupsWithWildcardResponse() {
-                TurSolrResultProcessor processor = new TurSolrResultProcessor(turSNFieldProcess,
-                                turSNSiteFieldExtRepository);
+                TurSolrResultProcessor processor = new TurSolrResultProcessor();
                 TurSNSite site = new TurSNSite();
                 site.setMlt(0);
                 site.setFacet(0);
@@ -413,7 +493,7 @@ class TurSolrResultProcessorTest {
                 when(queryBuilder.hasGroup(parameters)).thenReturn(true);
 
                 try (MockedStatic<TurSolr> mockedTurSolr = mockStatic(TurSolr.class)) {
-                        mockedTurSolr.when(() -> TurSolr.enabledWildcardNoResults(site)).thenReturn(true);
+                        mockedTurSolr.when(() -> TurSolr.enabledWildcardNoResults(any(TurSNSite.class))).thenReturn(true);
                         mockedTurSolr.when(() -> TurSolr.isNotQueryExpression(query)).thenReturn(true);
                         mockedTurSolr.when(() -> TurSolr.addAWildcardInQuery(any(SolrQuery.class)))
                                         .thenAnswer(invocation -> null);
@@ -421,7 +501,7 @@ class TurSolrResultProcessorTest {
                                         any(SolrQuery.class)))
                                         .thenReturn(Optional.of(wildcardResponse));
 
-                        TurSEResults seResults = processor.getResults(mock(TurSolrInstance.class), site,
+                        TurSEResults seResults = processor.getResults(mock(TurSolrInstance.class), config(site),
                                         query, queryContext, originalResponse, queryBuilder);
 
                         assertThat(seResults.getGroups()).hasSize(1);
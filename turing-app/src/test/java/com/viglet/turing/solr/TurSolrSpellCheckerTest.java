@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.viglet.turing.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.client.solrj.response.SpellCheckResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.viglet.turing.commons.se.result.spellcheck.TurSESpellCheckResult;
+
+/**
+ * Unit tests for {@link TurSolrSpellChecker}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.1.10
+ */
+@ExtendWith(MockitoExtension.class)
+class TurSolrSpellCheckerTest {
+
+    @Mock
+    private SolrClient solrClient;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private TurSolrInstance turSolrInstance;
+    private TurSolrSpellChecker spellChecker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        turSolrInstance = new TurSolrInstance(null, URI.create("http://localhost:8983/solr").toURL(), "core");
+        turSolrInstance.setSolrClient(solrClient);
+        spellChecker = new TurSolrSpellChecker(1000, 100, clock::get);
+    }
+
+    @Test
+    void testCorrectionIsCachedUntilItExpires() throws Exception {
+        correction("hello");
+
+        assertThat(spellChecker.check(turSolrInstance, "site", Locale.US, "helo").getCorrectedText())
+                .isEqualTo("hello");
+        assertThat(spellChecker.check(turSolrInstance, "site", Locale.US, "helo").getCorrectedText())
+                .isEqualTo("hello");
+        verify(solrClient, times(1)).query(eq("core"), any(SolrQuery.class));
+
+        clock.addAndGet(1000);
+        spellChecker.check(turSolrInstance, "site", Locale.US, "helo");
+
+        verify(solrClient, times(2)).query(eq("core"), any(SolrQuery.class));
+    }
+
+    @Test
+    void testEachSearchGetsItsOwnResult() throws Exception {
+        correction("hello");
+
+        TurSESpellCheckResult first = spellChecker.check(turSolrInstance, "site", Locale.US, "helo");
+        first.setUsingCorrected(true);
+        TurSESpellCheckResult second = spellChecker.check(turSolrInstance, "site", Locale.US, "helo");
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.isUsingCorrected()).isFalse();
+    }
+
+    @Test
+    void testCorrectionsAreKeptPerSiteAndLocale() throws Exception {
+        correction("hello");
+
+        spellChecker.check(turSolrInstance, "site", Locale.US, "helo");
+        spellChecker.check(turSolrInstance, "site", Locale.FRANCE, "helo");
+        spellChecker.check(turSolrInstance, "other", Locale.US, "helo");
+
+        verify(solrClient, times(3)).query(eq("core"), any(SolrQuery.class));
+    }
+
+    @Test
+    void testFailedRequestIsNotCached() throws Exception {
+        when(solrClient.query(eq("core"), any(SolrQuery.class))).thenThrow(new SolrServerException("down"));
+
+        assertThat(spellChecker.check(turSolrInstance, "site", Locale.US, "helo").isCorrected()).isFalse();
+        spellChecker.check(turSolrInstance, "site", Locale.US, "helo");
+
+        verify(solrClient, times(2)).query(eq("core"), any(SolrQuery.class));
+    }
+
+    @Test
+    void testBlankTermIsNotSentToSolr() throws Exception {
+        assertThat(spellChecker.check(turSolrInstance, "site", Locale.US, " ").isCorrected()).isFalse();
+
+        verify(solrClient, never()).query(eq("core"), any(SolrQuery.class));
+    }
+
+    @Test
+    void testInvalidateDropsTheCorrectionsOfTheSite() throws Exception {
+        correction("hello");
+        spellChecker.check(turSolrInstance, "site", Locale.US, "helo");
+
+        spellChecker.invalidate("site");
+        spellChecker.check(turSolrInstance, "site", Locale.US, "helo");
+
+        verify(solrClient, times(2)).query(eq("core"), any(SolrQuery.class));
+    }
+
+    private void correction(String collated) throws Exception {
+        QueryResponse response = mock(QueryResponse.class);
+        SpellCheckResponse spellCheckResponse = mock(SpellCheckResponse.class);
+        when(spellCheckResponse.getCollatedResult()).thenReturn(collated);
+        when(response.getSpellCheckResponse()).thenReturn(spellCheckResponse);
+        when(solrClient.query(eq("core"), any(SolrQuery.class))).thenReturn(response);
+    }
+}
@@ -23,6 +23,7 @@ package com.viglet.turing.solr;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -32,6 +33,8 @@ import static org.mockito.Mockito.when;
 
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.solr.client.solrj.SolrClient;
@@ -42,6 +45,7 @@ import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.client.solrj.response.SpellCheckResponse;
 import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.params.SolrParams;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -56,14 +60,20 @@ import com.viglet.turing.commons.sn.search.TurSNSiteSearchContext;
 import com.viglet.turing.persistence.model.sn.TurSNSite;
 import com.viglet.turing.persistence.model.sn.field.TurSNSiteFieldExt;
 import com.viglet.turing.persistence.repository.sn.TurSNSiteRepository;
+import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtFacetRepository;
 import com.viglet.turing.persistence.repository.sn.field.TurSNSiteFieldExtRepository;
+import com.viglet.turing.persistence.repository.sn.locale.TurSNSiteLocaleRepository;
 import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingConditionRepository;
 import com.viglet.turing.persistence.repository.sn.ranking.TurSNRankingExpressionRepository;
 import com.viglet.turing.se.result.TurSEResult;
-import com.viglet.turing.sn.TurSNFieldProcess;
-import com.viglet.turing.sn.field.TurSNSiteFieldService;
+import com.viglet.turing.sn.config.TurSNSiteSearchConfigRegistry;
+import com.viglet.turing.sn.facet.TurSNFacetDefinitionFactory;
+import com.viglet.turing.sn.field.TurSNSchemaRegistry;
+import com.viglet.turing.sn.search.TurSNSearchFanOut;
 import com.viglet.turing.sn.tr.TurSNTargetingRules;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Unit tests for TurSolr.
  *
@@ -80,7 +90,7 @@ class TurSolrTest {
     private TurSNTargetingRules turSNTargetingRules;
 
     @Mock
-    private TurSNSiteFieldService turSNSiteFieldService;
+    private TurSolrFieldPlanCache turSolrFieldPlanCache;
 
     @Mock
     private TurSNRankingExpressionRepository turSNRankingExpressionRepository;
@@ -92,10 +102,10 @@ class TurSolrTest {
     private TurSNSiteRepository turSNSiteRepository;
 
     @Mock
-    private TurSNFieldProcess turSNFieldProcess;
+    private TurSNSiteLocaleRepository turSNSiteLocaleRepository;
 
     @Mock
-    private TurDecimalFieldNormalizer turDecimalFieldNormalizer;
+    private TurSNSiteFieldExtFacetRepository turSNSiteFieldExtFacetRepository;
 
     @Mock
     private HttpJdkSolrClient httpJdkSolrClient;
@@ -202,6 +212,42 @@ class TurSolrTest {
         assertThat(turSolr.getDocumentTotal(turSolrInstance)).isEqualTo(42L);
     }
 
+    @Test
+    void testForEachDocumentFollowsCursor() throws Exception {
+        SolrDocument first = new SolrDocument();
+        first.setField("id", "1");
+        SolrDocument second = new SolrDocument();
+        second.setField("id", "2");
+        SolrDocumentList firstPage = new SolrDocumentList();
+        firstPage.add(first);
+        SolrDocumentList secondPage = new SolrDocumentList();
+        secondPage.add(second);
+        QueryResponse firstResponse = mock(QueryResponse.class);
+        when(firstResponse.getResults()).thenReturn(firstPage);
+        when(firstResponse.getNextCursorMark()).thenReturn("next");
+        QueryResponse secondResponse = mock(QueryResponse.class);
+        when(secondResponse.getResults()).thenReturn(secondPage);
+        when(secondResponse.getNextCursorMark()).thenReturn("next");
+        when(solrClient.query(eq("core"), any(SolrQuery.class))).thenReturn(firstResponse, secondResponse);
+        List<Object> ids = new ArrayList<>();
+
+        boolean complete = buildTurSolr(false).forEachDocument(turSolrInstance, new SolrQuery("*:*"), 1,
+                document -> ids.add(document.getFieldValue("id")));
+
+        assertThat(complete).isTrue();
+        assertThat(ids).containsExactly("1", "2");
+        verify(solrClient, times(2)).query(eq("core"), any(SolrQuery.class));
+    }
+
+    @Test
+    void testForEachDocumentStopsWhenPageFails() throws Exception {
+        when(solrClient.query(eq("core"), any(SolrQuery.class))).thenThrow(new SolrServerException("error"));
+
+        assertThat(buildTurSolr(false).forEachDocument(turSolrInstance, new SolrQuery("*:*"), 10,
+                document -> {
+                })).isFalse();
+    }
+
     @Test
     void testSolrResultAndReturnsResults() throws Exception {
         QueryResponse response = mock(QueryResponse.class);
@@ -295,6 +341,7 @@ class TurSolrTest {
     void testFindByIdBuildsResultFromDocument() throws Exception {
         TurSolr turSolr = buildTurSolr(false);
         TurSNSite site = new TurSNSite();
+        site.setName("site");
         site.setHl(1);
         site.setHlPre("<em>");
         site.setHlPost("</em>");
@@ -331,6 +378,61 @@ class TurSolrTest {
         assertThat(result.getFields()).containsEntry("title", "<em>highlighted</em>");
     }
 
+    @Test
+    void testRetrieveSolrFromSNSkipsSpellCheckWhenDisabled() throws Exception {
+        TurSolr turSolr = buildTurSolr(false);
+        spellCheckSite(0, 0);
+        QueryResponse response = mainResponse();
+        when(solrClient.query(eq("core"), any(SolrQuery.class))).thenReturn(response);
+
+        var results = turSolr.retrieveSolrFromSN(turSolrInstance, searchContext("helo"));
+
+        assertThat(results).isPresent();
+        assertThat(results.get().getSpellCheck().isCorrected()).isFalse();
+        verify(solrClient, times(1)).query(eq("core"), any(SolrQuery.class));
+        verify(solrClient, never()).query(eq("core"), argThat(TurSolrTest::isSpellCheck));
+    }
+
+    @Test
+    void testRetrieveSolrFromSNReturnsDidYouMeanWithoutCorrectingQuery() throws Exception {
+        TurSolr turSolr = buildTurSolr(false);
+        spellCheckSite(1, 0);
+        QueryResponse main = mainResponse();
+        QueryResponse spell = spellResponse("hello");
+        when(solrClient.query(eq("core"), argThat(query -> !isSpellCheck(query)))).thenReturn(main);
+        when(solrClient.query(eq("core"), argThat(TurSolrTest::isSpellCheck))).thenReturn(spell);
+
+        var results = turSolr.retrieveSolrFromSN(turSolrInstance, searchContext("helo"));
+
+        assertThat(results).isPresent();
+        assertThat(results.get().getSpellCheck().getCorrectedText()).isEqualTo("hello");
+        assertThat(results.get().getSpellCheck().isUsingCorrected()).isFalse();
+        ArgumentCaptor<SolrQuery> queryCaptor = ArgumentCaptor.forClass(SolrQuery.class);
+        verify(solrClient, times(2)).query(eq("core"), queryCaptor.capture());
+        assertThat(queryCaptor.getAllValues()).filteredOn(query -> !isSpellCheck(query))
+                .extracting(SolrQuery::getQuery).containsExactly("helo");
+    }
+
+    @Test
+    void testRetrieveSolrFromSNSearchesCorrectionAndCachesIt() throws Exception {
+        TurSolr turSolr = buildTurSolr(false);
+        spellCheckSite(1, 1);
+        QueryResponse main = mainResponse();
+        QueryResponse spell = spellResponse("hello");
+        when(solrClient.query(eq("core"), argThat(query -> !isSpellCheck(query)))).thenReturn(main);
+        when(solrClient.query(eq("core"), argThat(TurSolrTest::isSpellCheck))).thenReturn(spell);
+
+        turSolr.retrieveSolrFromSN(turSolrInstance, searchContext("helo"));
+        var results = turSolr.retrieveSolrFromSN(turSolrInstance, searchContext("helo"));
+
+        assertThat(results).isPresent();
+        assertThat(results.get().getSpellCheck().isUsingCorrected()).isTrue();
+        verify(solrClient, times(1)).query(eq("core"), argThat(TurSolrTest::isSpellCheck));
+        ArgumentCaptor<SolrQuery> queryCaptor = ArgumentCaptor.forClass(SolrQuery.class);
+        verify(solrClient, times(3)).query(eq("core"), queryCaptor.capture());
+        assertThat(queryCaptor.getAllValues().getLast().getQuery()).isEqualTo("hello");
+    }
+
     @Test
     void testAutoCompleteReturnsNullWhenQueryFails() throws Exception {
         TurSolr turSolr = buildTurSolr(false);
@@ -340,14 +442,54 @@ class TurSolrTest {
     }
 
     private TurSolr buildTurSolr(boolean commitEnabled) {
-        return new TurSolr(commitEnabled, 500,
-                turSNSiteFieldExtRepository,
+        return new TurSolr(commitEnabled, 500, 500,
                 turSNTargetingRules,
-                turSNSiteFieldService,
-                turSNRankingExpressionRepository,
-                turSNRankingConditionRepository,
-                turSNSiteRepository,
-                turSNFieldProcess,
-                turDecimalFieldNormalizer);
+                turSolrFieldPlanCache,
+                new TurSNSiteSearchConfigRegistry(turSNSiteRepository, turSNSiteLocaleRepository,
+                        turSNSiteFieldExtRepository, turSNSiteFieldExtFacetRepository,
+                        turSNRankingExpressionRepository, turSNRankingConditionRepository,
+                        new TurSNSchemaRegistry(turSNSiteFieldExtRepository, 0),
+                        new TurSNFacetDefinitionFactory()),
+                new TurSolrSpellChecker(60000, 100, System::currentTimeMillis),
+                new TurSNSearchFanOut(true, 10000, new SimpleMeterRegistry()));
+    }
+
+    private TurSNSiteSearchContext searchContext(String q) {
+        TurSNSearchParams searchParams = new TurSNSearchParams();
+        searchParams.setQ(q);
+        searchParams.setP(1);
+        searchParams.setNfpr(0);
+        return new TurSNSiteSearchContext("site", new TurSNConfig(), new TurSEParameters(searchParams),
+                java.util.Locale.US, URI.create("http://localhost/search?q=" + q));
+    }
+
+    private TurSNSite spellCheckSite(int spellCheck, int spellCheckFixes) {
+        TurSNSite site = new TurSNSite();
+        site.setId("site-id");
+        site.setName("site");
+        site.setSpellCheck(spellCheck);
+        site.setSpellCheckFixes(spellCheckFixes);
+        when(turSNSiteRepository.findByName("site")).thenReturn(java.util.Optional.of(site));
+        return site;
+    }
+
+    private QueryResponse mainResponse() {
+        QueryResponse response = mock(QueryResponse.class);
+        SolrDocumentList docs = new SolrDocumentList();
+        docs.setNumFound(0);
+        when(response.getResults()).thenReturn(docs);
+        return response;
+    }
+
+    private QueryResponse spellResponse(String collated) {
+        QueryResponse response = mock(QueryResponse.class);
+        SpellCheckResponse spellCheckResponse = mock(SpellCheckResponse.class);
+        when(spellCheckResponse.getCollatedResult()).thenReturn(collated);
+        when(response.getSpellCheckResponse()).thenReturn(spellCheckResponse);
+        return response;
+    }
+
+    private static boolean isSpellCheck(SolrParams query) {
+        return query != null && TurSolrConstants.TUR_SPELL.equals(query.get("qt"));
     }
 }
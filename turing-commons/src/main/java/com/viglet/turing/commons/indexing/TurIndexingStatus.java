@@ -29,6 +29,8 @@ public enum TurIndexingStatus {
     INDEXED,
     DEINDEXED,
     IGNORED,
+    UNCHANGED,
+    SUPERSEDED,
     FINISHED, RECEIVED_FROM_QUEUE,
 
 }
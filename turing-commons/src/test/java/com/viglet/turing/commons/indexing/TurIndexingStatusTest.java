@@ -19,6 +19,8 @@ class TurIndexingStatusTest {
                 .contains(TurIndexingStatus.INDEXED)
                 .contains(TurIndexingStatus.DEINDEXED)
                 .contains(TurIndexingStatus.IGNORED)
+                .contains(TurIndexingStatus.UNCHANGED)
+                .contains(TurIndexingStatus.SUPERSEDED)
                 .contains(TurIndexingStatus.FINISHED)
                 .contains(TurIndexingStatus.RECEIVED_FROM_QUEUE);
     }
@@ -18,9 +18,13 @@ package com.viglet.turing.client.sn.job;
 
 /**
  * Job Action Types.
+ * <p>
+ * {@link #UPDATE} changes only the attributes sent in the job item, using the
+ * operations of {@link TurSNJobUpdateOperation}; the other attributes of the indexed
+ * document are kept.
  * 
  * @since 0.3.4
  */
 public enum TurSNJobAction {
-	CREATE, DELETE, COMMIT
+	CREATE, DELETE, COMMIT, UPDATE
 }
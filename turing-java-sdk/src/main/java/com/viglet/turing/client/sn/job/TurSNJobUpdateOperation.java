@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.viglet.turing.client.sn.job;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Operations of an {@link TurSNJobAction#UPDATE} job item. The attribute value is a map
+ * with one entry, from the operation name to its value, like {@code {"inc": 1}}. A
+ * value that is not a map replaces the attribute, as {@link #SET}.
+ * 
+ * @author Alexandre Oliveira
+ * 
+ * @since 2026.1.10
+ */
+public enum TurSNJobUpdateOperation {
+	/** Replaces the value, or removes the attribute when the value is null. */
+	SET,
+	/** Adds values to a multi-valued attribute. */
+	ADD,
+	/** Removes values from a multi-valued attribute. */
+	REMOVE,
+	/** Increments a numeric attribute. */
+	INC;
+
+	public String getName() {
+		return name().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Attribute value that applies this operation.
+	 */
+	public Map<String, Object> of(Object value) {
+		// HashMap, because "set" to null is allowed.
+		Map<String, Object> operation = new HashMap<>();
+		operation.put(getName(), value);
+		return operation;
+	}
+
+	public static Optional<TurSNJobUpdateOperation> fromName(String name) {
+		for (TurSNJobUpdateOperation operation : values()) {
+			if (operation.getName().equalsIgnoreCase(name)) {
+				return Optional.of(operation);
+			}
+		}
+		return Optional.empty();
+	}
+}
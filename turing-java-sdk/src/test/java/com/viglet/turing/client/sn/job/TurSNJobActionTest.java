@@ -9,6 +9,7 @@ class TurSNJobActionTest {
     @Test
     void shouldContainExpectedEnumValues() {
         assertThat(TurSNJobAction.values())
-                .containsExactly(TurSNJobAction.CREATE, TurSNJobAction.DELETE, TurSNJobAction.COMMIT);
+                .containsExactly(TurSNJobAction.CREATE, TurSNJobAction.DELETE, TurSNJobAction.COMMIT,
+                        TurSNJobAction.UPDATE);
     }
 }
@@ -0,0 +1,23 @@
+package com.viglet.turing.client.sn.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class TurSNJobUpdateOperationTest {
+
+    @Test
+    void shouldCreateOperationValue() {
+        assertThat(TurSNJobUpdateOperation.INC.of(1)).isEqualTo(Map.of("inc", 1));
+        assertThat(TurSNJobUpdateOperation.SET.of(null)).containsEntry("set", null);
+    }
+
+    @Test
+    void shouldFindOperationByName() {
+        assertThat(TurSNJobUpdateOperation.fromName("add")).contains(TurSNJobUpdateOperation.ADD);
+        assertThat(TurSNJobUpdateOperation.fromName("REMOVE")).contains(TurSNJobUpdateOperation.REMOVE);
+        assertThat(TurSNJobUpdateOperation.fromName("append")).isEmpty();
+    }
+}
@@ -11,6 +11,7 @@ import {
     IconDashboard,
     IconDatabase,
     IconFilter,
+    IconGauge,
     IconGitMerge,
     IconInbox,
     IconLanguage,
@@ -114,6 +115,11 @@ export default function SNSitePage() {
                     icon: IconDatabase,
                     count: snStatus?.documents ?? 0,
                 },
+                {
+                    title: "Docs/s",
+                    icon: IconGauge,
+                    count: Math.round((snStatus?.docsPerSecond ?? 0) * 10) / 10,
+                },
             ],
         };
     }, [isNew, snStatus]);
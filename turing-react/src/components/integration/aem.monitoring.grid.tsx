@@ -160,6 +160,16 @@ export const columns: ColumnDef<TurIntegrationIndexing>[] = [
                     icon: Ban,
                     className: "bg-zinc-500/10 text-zinc-600 border-zinc-500/20"
                 },
+                UNCHANGED: {
+                    label: "Unchanged",
+                    icon: Clock,
+                    className: "bg-slate-500/10 text-slate-600 border-slate-500/20"
+                },
+                SUPERSEDED: {
+                    label: "Superseded",
+                    icon: RefreshCcw,
+                    className: "bg-stone-500/10 text-stone-600 border-stone-500/20"
+                },
             };
 
             const config = statusConfig[status] || {
@@ -382,7 +382,8 @@ export const SNSiteFacetedFieldForm: React.FC<Props> = ({ snSiteId, snField, isN
                         <FormItemTwoColumns.Left>
                           <FormItemTwoColumns.Label>Operator between Facets</FormItemTwoColumns.Label>
                           <FormItemTwoColumns.Description>
-                            Specifies how multiple facets are combined in search.
+                            Specifies how multiple facets are combined in search. With OR, the
+                            counts of this facet need an extra search request when it is selected.
                           </FormItemTwoColumns.Description>
                         </FormItemTwoColumns.Left>
                         <FormItemTwoColumns.Right>
@@ -291,7 +291,8 @@ export const SNSiteBehaviorForm: React.FC<Props> = ({ value, isNew }) => {
                     <FormItemTwoColumns.Left>
                       <FormItemTwoColumns.Label>Facet Operator</FormItemTwoColumns.Label>
                       <FormItemTwoColumns.Description>
-                        Logical operator (AND/OR) between different facets.
+                        Logical operator (AND/OR) between different facets. With OR, the
+                        counts of each selected facet need an extra search request.
                       </FormItemTwoColumns.Description>
                     </FormItemTwoColumns.Left>
                     <FormItemTwoColumns.Right>
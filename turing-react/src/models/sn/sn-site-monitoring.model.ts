@@ -1,4 +1,5 @@
 export type TurSNSiteStatus = {
   queue: number;
   documents: number;
+  docsPerSecond: number;
 };